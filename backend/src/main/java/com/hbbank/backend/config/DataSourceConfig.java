@@ -0,0 +1,85 @@
+package com.hbbank.backend.config;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/*
+ * 읽기 복제본 라우팅 설정 (datasource.replica.enabled=true 일 때만)
+ * 이 설정이 없으면 Spring Boot 기본 DataSource(primary 하나)를 그대로 사용한다.
+ *
+ * datasource.replica.urls           복제본 JDBC URL 목록 (쉼표 구분)
+ * datasource.replica.username/password  기본값: spring.datasource.username/password
+ * datasource.replica.max-lag-seconds  허용 복제 지연, 초과하면 primary 에서 읽음
+ * datasource.replica.lag-check-ms     복제 지연 확인 주기
+ * datasource.replica.pool-size        복제본마다의 최대 커넥션 수
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    @Value("${datasource.replica.urls}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replica.username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${datasource.replica.password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${datasource.replica.max-lag-seconds:5}")
+    private long maxLagSeconds = 5;
+
+    @Value("${datasource.replica.lag-check-ms:5000}")
+    private long lagCheckMillis = 5000;
+
+    @Value("${datasource.replica.pool-size:10}")
+    private int replicaPoolSize = 10;
+
+    // 기존 spring.datasource.* / spring.datasource.hikari.* 설정을 그대로 사용하는 primary 풀
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + i);
+            replica.setJdbcUrl(replicaUrls.get(i).trim());
+            replica.setDriverClassName(properties.determineDriverClassName());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setReadOnly(true);
+            // 복제본이 응답하지 않으면 오래 기다리지 않고 primary 로 전환되도록 짧게
+            replica.setConnectionTimeout(3000);
+            replicas.put("replica-" + i, replica);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLagSeconds, lagCheckMillis);
+    }
+
+    // JPA/트랜잭션 매니저가 사용하는 DataSource
+    // 트랜잭션 시작 시가 아니라 첫 쿼리 시점에 커넥션을 가져와야 readOnly 여부로 라우팅할 수 있음
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
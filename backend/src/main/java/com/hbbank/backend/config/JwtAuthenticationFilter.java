@@ -3,15 +3,22 @@ package com.hbbank.backend.config;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.hbbank.backend.exception.token.InvalidTokenException;
+import com.hbbank.backend.service.TokenDenylistService;
 import com.hbbank.backend.util.JwtUtil;
+import com.hbbank.backend.util.VerifiedTokenCache;
+import com.hbbank.backend.util.VerifiedTokenCache.VerifiedToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -24,6 +31,12 @@ import lombok.RequiredArgsConstructor;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylistService tokenDenylistService;
+
+    // 관리자 API(핫 계좌 지정/해제 등)를 호출할 수 있는 사용자 ID 목록
+    @Value("${security.admin-user-ids:}")
+    private Set<Long> adminUserIds = Set.of();
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -40,17 +53,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         try {
             if (token != null) {
-                // 토큰 유효성 검사
-                if (!jwtUtil.validateToken(token)) {
-                    throw new InvalidTokenException("만료되거나 유효하지 않은 토큰입니다");
+                // 이미 검증한 토큰이면 캐시에서, 아니면 유효성 검사(한 번만 파싱) 후 캐시
+                VerifiedToken verified = verifiedTokenCache.get(token)
+                        .orElseGet(() -> verify(token));
+
+                // 로그아웃/폐기된 토큰 확인 (Bloom filter 에 없으면 Redis 조회 없이 통과)
+                if (tokenDenylistService.isRevoked(verified.tokenId(), verified.familyId())) {
+                    throw new InvalidTokenException("로그아웃되었거나 폐기된 토큰입니다");
                 }
-                
-                // 유저 ID 추출
-                Long userId = jwtUtil.getUserId(token);
+                Long userId = verified.userId();
                 
                 // SecurityContext에 인증 정보 설정
                 UsernamePasswordAuthenticationToken authentication = 
-                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
+                    new UsernamePasswordAuthenticationToken(userId, null, adminUserIds.contains(userId)
+                            ? List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                            : Collections.emptyList());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             }
             filterChain.doFilter(request, response);
@@ -62,6 +79,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
     }
     
+    // 액세스 토큰만 인증에 사용 (리프레시 토큰은 Bearer 로 받지 않으며 캐시에도 넣지 않음)
+    private VerifiedToken verify(String token) {
+        return jwtUtil.parseAndValidate(token)
+                .filter(claims -> "access".equals(claims.get("type")))
+                .map(claims -> {
+                    VerifiedToken verified = VerifiedToken.from(claims);
+                    verifiedTokenCache.put(token, verified);
+                    return verified;
+                })
+                .orElseThrow(() -> new InvalidTokenException("만료되거나 유효하지 않은 토큰입니다"));
+    }
+    
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -4,8 +4,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.hbbank.backend.service.AccountSummaryService;
+import com.hbbank.backend.service.TokenDenylistService;
+
 @Configuration
 public class RedisConfig {
 
@@ -17,4 +22,16 @@ public class RedisConfig {
         template.setValueSerializer(new StringRedisSerializer());
         return template;
     }
+
+    // 노드 간 로컬 캐시 무효화, 토큰 폐기 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AccountSummaryService accountSummaryService,
+                                                                       TokenDenylistService tokenDenylistService) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(accountSummaryService, new ChannelTopic(AccountSummaryService.INVALIDATION_CHANNEL));
+        container.addMessageListener(tokenDenylistService, new ChannelTopic(TokenDenylistService.REVOKED_CHANNEL));
+        return container;
+    }
 }
@@ -0,0 +1,189 @@
+package com.hbbank.backend.config;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 라우팅 DataSource
+ * - @Transactional(readOnly = true) 트랜잭션: 복제 지연이 허용치 이내인 복제본 중 하나 (라운드 로빈)
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 밖), 또는 사용 가능한 복제본이 없을 때: primary
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않았으므로 LazyConnectionDataSourceProxy 로 감싸
+ * 첫 쿼리 시점에 커넥션을 가져오도록 해야 한다. (DataSourceConfig 참고)
+ *
+ * 복제 지연은 lagCheckMillis 마다 각 복제본에서 SHOW REPLICA STATUS 의 Seconds_Behind_Source 로 확인하며,
+ * 복제가 멈췄거나(NULL) 조회에 실패하면 해당 복제본은 다음 확인 때까지 사용하지 않는다.
+ * (복제본 계정에 REPLICATION CLIENT 권한 필요, MySQL 8.0.22 이상)
+ *
+ * 트랜잭션 안에서 커넥션을 가져오면 라우팅 결과를 트랜잭션 리소스로 남겨,
+ * 캐시처럼 복제 지연된 값을 보관하면 안 되는 곳에서 isRoutedToReplica 로 확인할 수 있게 한다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String ROUTE_RESOURCE = ReplicaRoutingDataSource.class.getName() + ".route";
+
+    private static class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean available;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final long lagCheckMillis;
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "replica-lag-checker");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    long maxLagSeconds, long lagCheckMillis) {
+        this.replicas = replicas.entrySet().stream()
+                .map(e -> new Replica(e.getKey(), e.getValue()))
+                .toList();
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagCheckMillis = lagCheckMillis;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        // 시작 시 한 번 확인해 두어야 첫 읽기 요청부터 복제본을 사용할 수 있음
+        checkLag();
+        lagChecker.scheduleWithFixedDelay(this::checkLag, lagCheckMillis, lagCheckMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 현재 트랜잭션이 복제본 커넥션으로 읽고 있는지 (복제본 라우팅을 쓰지 않거나 primary 로 라우팅됐으면 false)
+    public static boolean isRoutedToReplica() {
+        Object key = TransactionSynchronizationManager.getResource(ROUTE_RESOURCE);
+        return key != null && !PRIMARY.equals(key);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String key = lookupKey();
+        remember(key);
+        return key;
+    }
+
+    private String lookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        int size = replicas.size();
+        int start = Math.floorMod(sequence.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    // 트랜잭션의 첫 커넥션 라우팅 결과를 트랜잭션이 끝날 때까지 보관 (REQUIRES_NEW 로 중단되면 함께 내렸다가 재개 시 복원)
+    private static void remember(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(ROUTE_RESOURCE)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(ROUTE_RESOURCE, key);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE_RESOURCE);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(ROUTE_RESOURCE, key);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE_RESOURCE);
+            }
+        });
+    }
+
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean available = isWithinLag(replica);
+            if (available != replica.available) {
+                if (available) {
+                    log.info("복제본 읽기 사용 시작 - 복제본: {}", replica.name);
+                } else {
+                    log.warn("복제본 읽기 중단 (primary 로 전환) - 복제본: {}", replica.name);
+                }
+            }
+            replica.available = available;
+        }
+    }
+
+    private boolean isWithinLag(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                log.warn("복제 상태 없음 (복제본이 아님) - 복제본: {}", replica.name);
+                return false;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            if (rs.wasNull()) {
+                log.warn("복제 중지 상태 - 복제본: {}", replica.name);
+                return false;
+            }
+            if (lag > maxLagSeconds) {
+                log.warn("복제 지연 허용치 초과 - 복제본: {}, 지연: {}초, 허용치: {}초", replica.name, lag, maxLagSeconds);
+                return false;
+            }
+            return true;
+        } catch (Exception e) {
+            log.error("복제 지연 확인 실패 - 복제본: {}, 사유: {}", replica.name, e.getMessage());
+            return false;
+        }
+    }
+
+    // 빈 소멸 시 호출 (close 메서드는 destroy 메서드로 자동 추론됨)
+    public void close() {
+        lagChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.error("복제본 커넥션 풀 종료 실패 - 복제본: {}, 사유: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -1,8 +1,19 @@
 package com.hbbank.backend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
-public class WebConfig {
+public class WebConfig implements WebMvcConfigurer {
 
+    // 거래내역 내보내기(StreamingResponseBody)는 수백만 건을 기록하는 동안 응답이 열려 있으므로 컨테이너 기본값(30초)보다 길게
+    @Value("${transaction.export.timeout-ms:1800000}")
+    private long asyncTimeoutMs = 1_800_000;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
 }
@@ -1,21 +1,30 @@
 package com.hbbank.backend.controller;
 
+import java.math.BigDecimal;
 import java.net.URI;
 import java.util.List;
+import java.util.Map;
 
 import com.hbbank.backend.domain.Account;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.hbbank.backend.domain.AccountType;
 import com.hbbank.backend.dto.AccountCreateDTO;
 import com.hbbank.backend.dto.AccountResponseDTO;
+import com.hbbank.backend.dto.AccountSummaryDTO;
 import com.hbbank.backend.service.AccountService;
+import com.hbbank.backend.service.AccountSummaryService;
+import com.hbbank.backend.service.HotAccountService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class AccountController {
 
     private final AccountService accountService;
+    private final HotAccountService hotAccountService;
+    private final AccountSummaryService accountSummaryService;
 
     // 모든 계좌 타입 조회
     @GetMapping("/account-types")
@@ -49,9 +60,12 @@ public class AccountController {
     // 특정 유저 pk 값으로 계좌 목록 조회
     @GetMapping("/accounts/{userId}")
     public ResponseEntity<List<AccountResponseDTO>> getAccounts(@PathVariable("userId") Long userId) {
+        List<Account> accounts = accountService.findAllByUser_Id(userId);
+        // 핫 계좌는 아직 합산되지 않은 버킷 잔액 포함 (목록 전체를 쿼리 한 번으로)
+        Map<Long, BigDecimal> balances = hotAccountService.getBalances(accounts);
         return ResponseEntity.ok(
-                        accountService.findAllByUser_Id(userId).stream()
-                                .map(AccountResponseDTO::from)
+                        accounts.stream()
+                                .map(a -> AccountResponseDTO.from(a, balances.get(a.getId())))
                                 .toList()
                 );
     }
@@ -59,15 +73,34 @@ public class AccountController {
     // 계좌 pk로 특정 계좌 조회
     @GetMapping("/{accountId}")
     public ResponseEntity<AccountResponseDTO> getAccount(@PathVariable("accountId") Long id) {
+        Account a = accountService.findById(id);
         return ResponseEntity
-                .ok(AccountResponseDTO.from(accountService.findById(id)));
+                .ok(AccountResponseDTO.from(a, hotAccountService.getBalance(a)));
     }
 
-    // 계좌 번호로 특정 계좌 조회
+    // 계좌 번호로 받는 분 계좌 요약 조회 (소유자 이름, 계좌 유형, 상태 - 캐시에서 응답)
     @GetMapping("/number/{accountNumber}")
-    public ResponseEntity<AccountResponseDTO> getAccount(@PathVariable("accountNumber") String accountNumber) {
+    public ResponseEntity<AccountSummaryDTO> getAccount(@PathVariable("accountNumber") String accountNumber) {
         return ResponseEntity
-                .ok(AccountResponseDTO.from(accountService.findByAccountNumber(accountNumber)));
+                .ok(accountSummaryService.getSummary(accountNumber));
+    }
+
+    // 핫 계좌 지정 (입금을 buckets 개의 잔액 버킷으로 분산), 관리자 전용
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{accountId}/hot")
+    public ResponseEntity<AccountResponseDTO> enableHotAccount(@PathVariable("accountId") Long id,
+                                                               @RequestParam(name = "buckets", defaultValue = "16") int buckets) {
+        Account a = hotAccountService.enable(id, buckets);
+        return ResponseEntity
+                .ok(AccountResponseDTO.from(a));
+    }
+
+    // 핫 계좌 해제 (버킷 잔액 합산 후 일반 계좌로 전환), 관리자 전용
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{accountId}/hot")
+    public ResponseEntity<AccountResponseDTO> disableHotAccount(@PathVariable("accountId") Long id) {
+        return ResponseEntity
+                .ok(AccountResponseDTO.from(hotAccountService.disable(id)));
     }
 
 }
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.hbbank.backend.domain.AutoTransfer;
 import com.hbbank.backend.dto.AutoTransferRequestDTO;
 import com.hbbank.backend.dto.AutoTransferResponseDTO;
+import com.hbbank.backend.dto.AutoTransferRunStatsDTO;
 import com.hbbank.backend.service.AutoTransferService;
 
 import jakarta.validation.Valid;
@@ -63,4 +64,11 @@ public class AutoTransferController {
         return ResponseEntity
                 .ok("자동이체가 성공적으로 삭제되었습니다.");
     }
+
+    // 마지막 자동이체 일괄 실행 결과 (실행 이력이 없으면 204)
+    @GetMapping("/execution-stats")
+    public ResponseEntity<AutoTransferRunStatsDTO> getLastRunStats() {
+        AutoTransferRunStatsDTO stats = autoTransferService.getLastRunStats();
+        return stats == null ? ResponseEntity.noContent().build() : ResponseEntity.ok(stats);
+    }
 }
@@ -63,7 +63,7 @@ public class ReserveTransferController {
 
     @DeleteMapping("/{reserveTransferId}")
     public ResponseEntity<String> deleteReserveTransfer(@PathVariable("reserveTransferId") Long id) {
-        reserveTransferService.delete(reserveTransferService.findById(id));
+        reserveTransferService.delete(id);
         return ResponseEntity
                 .ok("예약이체가 성공적으로 삭제되었습니다.");
     }
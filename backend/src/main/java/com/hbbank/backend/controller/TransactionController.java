@@ -1,21 +1,33 @@
 package com.hbbank.backend.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.domain.enums.ExportFormat;
+import com.hbbank.backend.dto.AccountRangeSummaryDTO;
+import com.hbbank.backend.dto.TransactionPageResponseDTO;
 import com.hbbank.backend.dto.TransactionResponseDTO;
 import com.hbbank.backend.dto.TransactionSearchDTO;
+import com.hbbank.backend.dto.TransactionSearchPageResponseDTO;
+import com.hbbank.backend.service.AccountDailySnapshotService;
+import com.hbbank.backend.service.TransactionExportService;
 import com.hbbank.backend.service.TransactionService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +41,8 @@ import org.springframework.web.servlet.DispatcherServlet;
 public class TransactionController {
 
     private final TransactionService transactionService;
+    private final TransactionExportService transactionExportService;
+    private final AccountDailySnapshotService accountDailySnapshotService;
 
     // 특정 계좌 거래내역 전체 조회
     @GetMapping("/transactions/{accountId}")
@@ -39,13 +53,40 @@ public class TransactionController {
                 );
     }
 
+    // 특정 계좌 거래내역 페이지 조회 (keyset 페이지네이션, 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지 조회)
+    @GetMapping("/transactions/{accountId}/page")
+    public ResponseEntity<TransactionPageResponseDTO> findPageByAccount_id(@PathVariable("accountId") Long id,
+                                                                          @RequestParam(name = "cursor", required = false) String cursor,
+                                                                          @RequestParam(name = "size", required = false) Integer size) {
+        return ResponseEntity.ok(transactionService.findPageByAccountId(id, cursor, size));
+    }
+
+    // 특정 계좌 거래내역 내보내기 (format: csv/ndjson, 기간은 yyyy-MM-dd 로 생략 가능), 응답 본문으로 바로 스트리밍
+    @GetMapping("/transactions/{accountId}/export")
+    public ResponseEntity<StreamingResponseBody> export(@PathVariable("accountId") Long id,
+                                                        @RequestParam(name = "format", defaultValue = "csv") String format,
+                                                        @RequestParam(name = "startDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                        @RequestParam(name = "endDate", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        StreamingResponseBody body = transactionExportService.export(id, exportFormat, startDate, endDate);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"transactions-" + id + "." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    // 특정 계좌 기간 요약 (기초/기말 잔액, 입출금 합계/건수, 기간은 yyyy-MM-dd) - 일별 스냅샷으로 계산
+    @GetMapping("/transactions/{accountId}/summary")
+    public ResponseEntity<AccountRangeSummaryDTO> summarize(@PathVariable("accountId") Long id,
+                                                            @RequestParam("startDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+                                                            @RequestParam("endDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
+        return ResponseEntity.ok(accountDailySnapshotService.summarize(id, startDate, endDate));
+    }
+
     // 검색 조건으로 거래내역 조회
     @PostMapping("/transactions/search")
-    public ResponseEntity<List<TransactionResponseDTO>> findAllByCondition(@RequestBody TransactionSearchDTO dto) {
-        return ResponseEntity.ok(transactionService.findAllByCondition(dto).stream()
-                        .map(TransactionResponseDTO::from)
-                        .toList()
-                );
-
+    public ResponseEntity<TransactionSearchPageResponseDTO> findAllByCondition(@RequestBody TransactionSearchDTO dto) {
+        return ResponseEntity.ok(transactionService.findAllByCondition(dto));
     }
 }
@@ -1,12 +1,17 @@
 package com.hbbank.backend.controller;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.hbbank.backend.dto.BatchTransferRequestDTO;
+import com.hbbank.backend.dto.BatchTransferResponseDTO;
+import com.hbbank.backend.dto.TransferLockStatsDTO;
 import com.hbbank.backend.dto.TransferRequestDTO;
+import com.hbbank.backend.service.AdaptiveTransferService;
 import com.hbbank.backend.service.TransferService;
 
 import jakarta.validation.Valid;
@@ -19,11 +24,24 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class TransferController {
 
+    private final AdaptiveTransferService adaptiveTransferService;
     private final TransferService transferService;
 
     @PostMapping("")
     public ResponseEntity<Boolean> transfer(@Valid @RequestBody TransferRequestDTO dto) {
-        return ResponseEntity.ok(transferService.transfer(dto));
+        return ResponseEntity.ok(adaptiveTransferService.transfer(dto));
+    }
+
+    // 대량 이체 (급여 지급 등), 건별 결과 반환
+    @PostMapping("/batch")
+    public ResponseEntity<BatchTransferResponseDTO> transferBatch(@Valid @RequestBody BatchTransferRequestDTO dto) {
+        return ResponseEntity.ok(BatchTransferResponseDTO.from(transferService.transferBatch(dto.getTransfers())));
+    }
+
+    // 낙관적 락 충돌/재시도 통계
+    @GetMapping("/lock-stats")
+    public ResponseEntity<TransferLockStatsDTO> getLockStats() {
+        return ResponseEntity.ok(adaptiveTransferService.getStats());
     }
 
 }
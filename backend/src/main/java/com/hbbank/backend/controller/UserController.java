@@ -61,28 +61,21 @@ public class UserController {
         User user = userService.login(loginRequest);
         TokenResponseDTO tokens = tokenService.createTokens(user.getId());
 
-        ResponseCookie refreshTokenCookie = ResponseCookie
-                .from("refreshToken", tokens.getRefreshToken())
-                .httpOnly(true) // 자바스크립트 접근 불가
-                .secure(true) // https 프로토콜에서만 전송(개발 단계에서는 주석 처리)
-                .path("/") // 모든 경로에서 접근 가능
-                .maxAge(60 * 60 * 24 * 14) // 2주
-                .sameSite("None") // https 필수
-                // .domain("fqdashboard.duckdns.org") // 도메인 설정(생기면 주석 해제)
-                .build();
-
         return ResponseEntity
                 .ok()
-                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie.toString())
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(tokens.getRefreshToken()).toString())
                 .body(LoginResponseDTO.from(tokens.getAccessToken(), user));
     }
 
-    // 토큰 갱신
+    // 토큰 갱신 (리프레시 토큰도 교체되므로 쿠키도 새 토큰으로 갱신)
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponseDTO> refreshToken(@RequestBody RefreshTokenDTO request) {
         tokenService.verifyRefreshToken(request);
+        TokenResponseDTO tokens = tokenService.refreshAccessToken(request.getRefreshToken());
         return ResponseEntity
-                .ok(tokenService.refreshAccessToken(request.getRefreshToken()));
+                .ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(tokens.getRefreshToken()).toString())
+                .body(tokens);
     }
 
     // 로그아웃
@@ -91,7 +84,7 @@ public class UserController {
         log.info("bearerToken: {}", bearerToken);
 
         String token = bearerToken.substring(7); // "Bearer " 제거
-        tokenService.revokeRefreshToken(jwtUtil.getUserId(token));
+        tokenService.logout(token);
 
         ResponseCookie clear = ResponseCookie.from("refreshToken", "")
                 .httpOnly(true)
@@ -131,4 +124,16 @@ public class UserController {
         return ResponseEntity
                 .ok(new AdditionalInfoResponseDTO("추가 정보가 성공적으로 저장되었습니다."));
     }
+
+    private ResponseCookie refreshTokenCookie(String refreshToken) {
+        return ResponseCookie
+                .from("refreshToken", refreshToken)
+                .httpOnly(true) // 자바스크립트 접근 불가
+                .secure(true) // https 프로토콜에서만 전송(개발 단계에서는 주석 처리)
+                .path("/") // 모든 경로에서 접근 가능
+                .maxAge(60 * 60 * 24 * 14) // 2주
+                .sameSite("None") // https 필수
+                // .domain("fqdashboard.duckdns.org") // 도메인 설정(생기면 주석 해제)
+                .build();
+    }
 }
@@ -22,6 +22,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -77,6 +78,21 @@ public class Account {
     @Column(nullable = false)
     private BigDecimal dailyTransferredAmount;
 
+    // 핫 계좌: 입금이 잔액 버킷(account_balance_bucket)에 분산 적재되는 계좌 (급여 지급, 가맹점 등)
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean hot;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private int balanceBucketCount;
+
+    // 낙관적 락 이체 모드에서 커밋 시점 충돌 감지용 (비관적 락 경로에서도 변경 시 함께 증가)
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private Long version;
+
     @PrePersist
     private void setDefaultValues() {
         this.status = AccountStatus.ACTIVE;
@@ -99,7 +115,27 @@ public class Account {
         this.balance = this.balance.add(amount);
     }
 
-    private void validateAccountStatus() {
+    // 버킷에 쌓인 입금액을 실제 잔액으로 합산 (계좌 상태와 무관하게 이미 입금된 금액)
+    public void consolidate(BigDecimal bucketBalance) {
+        this.balance = this.balance.add(bucketBalance);
+    }
+
+    public void enableHotMode(int bucketCount) {
+        this.hot = true;
+        this.balanceBucketCount = bucketCount;
+    }
+
+    public void disableHotMode() {
+        this.hot = false;
+        this.balanceBucketCount = 0;
+    }
+
+    // 행 락 없이 버킷으로 입금할 때 사용하는 입금 가능 여부 검증
+    public void validateDeposit() {
+        validateAccountStatus();
+    }
+
+    public void validateAccountStatus() {
         if (this.status != AccountStatus.ACTIVE) {
             throw new InvalidAccountStatusException("유효하지 않은 계좌 상태입니다: " + this.status);
         }
@@ -0,0 +1,57 @@
+package com.hbbank.backend.domain;
+
+import java.math.BigDecimal;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 핫 계좌의 입금 분산용 잔액 버킷
+ * 입금은 계좌 행 대신 버킷 중 하나의 행만 잠그므로 버킷 수만큼 동시에 입금을 처리할 수 있다.
+ * 실제 잔액 = account.balance + 모든 버킷 잔액의 합 이며, 주기적으로 account.balance 로 합산된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_balance_bucket",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "bucket_no"}))
+public class AccountBalanceBucket {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "account_id", nullable = false)
+    private Account account;
+
+    @Column(name = "bucket_no", nullable = false)
+    private int bucketNo;
+
+    @Column(nullable = false, columnDefinition = "DECIMAL(19,4)")
+    @ColumnDefault("0")
+    private BigDecimal balance;
+
+    // 버킷 잔액을 비우고 비우기 전 금액을 반환
+    public BigDecimal drain() {
+        BigDecimal drained = this.balance;
+        this.balance = BigDecimal.ZERO;
+        return drained;
+    }
+}
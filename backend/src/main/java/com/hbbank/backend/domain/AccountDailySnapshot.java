@@ -0,0 +1,70 @@
+package com.hbbank.backend.domain;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 계좌별 일별 잔액 스냅샷
+ * 거래내역이 생길 때마다 해당 계좌/일자 행에 누적(upsert)하고, 다음 날 자정 배치에서 거래내역으로 다시 계산(compaction)한다.
+ * 기간 요약/거래내역서 머리말은 거래내역 대신 이 테이블의 일자 수만큼의 행으로 계산한다.
+ * 거래가 없는 날은 행이 없다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "account_daily_snapshot",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"account_id", "snapshot_date"}))
+public class AccountDailySnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false, columnDefinition = "DECIMAL(19,4)")
+    private BigDecimal openingBalance;                // 그날 첫 거래 직전 잔액
+
+    @Column(nullable = false, columnDefinition = "DECIMAL(19,4)")
+    private BigDecimal closingBalance;                // 그날 마지막 거래 직후 잔액
+
+    @Column(nullable = false, columnDefinition = "DECIMAL(19,4)")
+    @ColumnDefault("0")
+    private BigDecimal depositTotal;
+
+    @Column(nullable = false, columnDefinition = "DECIMAL(19,4)")
+    @ColumnDefault("0")
+    private BigDecimal withdrawalTotal;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long depositCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long withdrawalCount;
+
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean compacted;                        // 자정 배치에서 거래내역으로 다시 계산했는지 여부
+}
@@ -7,6 +7,7 @@ import com.hbbank.backend.dto.AutoTransferRequestDTO;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,7 +19,10 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
-@Table(name = "auto_transfer")
+@Table(name = "auto_transfer", indexes = {
+        // 실행 예정 자동이체 keyset 청크 조회용
+        @Index(name = "idx_auto_transfer_status_next_date_id", columnList = "status, next_transfer_date, id")
+})
 public class AutoTransfer extends Transfer {
 
     @Column(nullable = false)
@@ -33,6 +37,8 @@ public class AutoTransfer extends Transfer {
     @Column(nullable = false)
     private LocalDate endDate;                       // 자동이체 종료일
 
+    private LocalDate lastExecutedDate;              // 마지막 실행(성공/실패 무관) 기준일, 재시작 시 중복 실행 방지
+
     public void update(Account fromAccount, AutoTransferRequestDTO dto) {
         this.user = fromAccount.getUser();
         this.fromAccount = fromAccount;
@@ -52,6 +58,14 @@ public class AutoTransfer extends Transfer {
                 .withDayOfMonth(this.transferDay);
     }
 
+    public void markExecuted(LocalDate date) {
+        this.lastExecutedDate = date;
+    }
+
+    public boolean isExecutedOn(LocalDate date) {      // 해당 기준일에 이미 실행했는지 확인
+        return date.equals(lastExecutedDate);
+    }
+
     public boolean isExpired() {                      // 자동이체 만료 여부 확인
         return endDate != null && LocalDate.now().isAfter(endDate);
     }
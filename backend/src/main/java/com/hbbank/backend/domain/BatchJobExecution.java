@@ -0,0 +1,79 @@
+package com.hbbank.backend.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.hbbank.backend.domain.enums.BatchStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 배치 작업 실행 이력
+ * 작업 이름 + 실행 기준일 당 한 행이며, 같은 기준일로 다시 실행하면 이 행을 이어서 사용(재시작)한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "batch_job_execution",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_name", "run_date"}))
+public class BatchJobExecution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_name", nullable = false, length = 50)
+    private String jobName;
+
+    @Column(name = "run_date", nullable = false)
+    private LocalDate runDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BatchStatus status;
+
+    @Column(nullable = false)
+    private int attempt;                              // 실행(재시작 포함) 횟수
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public static BatchJobExecution of(String jobName, LocalDate runDate) {
+        return BatchJobExecution.builder()
+                .jobName(jobName)
+                .runDate(runDate)
+                .status(BatchStatus.STARTED)
+                .build();
+    }
+
+    public void start() {
+        this.status = BatchStatus.STARTED;
+        this.attempt++;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public void finish(BatchStatus status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == BatchStatus.COMPLETED;
+    }
+}
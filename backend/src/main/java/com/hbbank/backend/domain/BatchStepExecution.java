@@ -0,0 +1,111 @@
+package com.hbbank.backend.domain;
+
+import java.time.LocalDateTime;
+
+import com.hbbank.backend.domain.enums.BatchStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * 배치 단계 실행 이력
+ * 파티션 단계는 파티션마다 한 행이며, 파티션이 없는 단계는 partition_no 0 한 행이다.
+ * checkpoint 는 단계가 청크를 커밋할 때마다 기록하는 재시작 위치(단계별 형식)이며,
+ * 재시작 시 단계는 이 위치 이후부터 처리한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "batch_step_execution",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"job_execution_id", "step_name", "partition_no"}))
+public class BatchStepExecution {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_execution_id", nullable = false)
+    private Long jobExecutionId;
+
+    @Column(name = "step_name", nullable = false, length = 50)
+    private String stepName;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(nullable = false)
+    private int jobAttempt;                           // 마지막으로 실행한 작업 실행 회차
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private BatchStatus status;
+
+    @Column(length = 100)
+    private String checkpoint;
+
+    @Column(nullable = false)
+    private long processedCount;
+
+    @Column(length = 255)
+    private String exitMessage;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    private LocalDateTime checkpointedAt;
+
+    public static BatchStepExecution of(Long jobExecutionId, String stepName, int partitionNo) {
+        return BatchStepExecution.builder()
+                .jobExecutionId(jobExecutionId)
+                .stepName(stepName)
+                .partitionNo(partitionNo)
+                .status(BatchStatus.STARTED)
+                .build();
+    }
+
+    public void start(int jobAttempt) {
+        this.status = BatchStatus.STARTED;
+        this.jobAttempt = jobAttempt;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+        this.exitMessage = null;
+    }
+
+    public void checkpoint(String checkpoint, long processed) {
+        this.checkpoint = checkpoint;
+        this.processedCount += processed;
+        this.checkpointedAt = LocalDateTime.now();
+    }
+
+    public void finish(int jobAttempt, BatchStatus status, String exitMessage) {
+        this.jobAttempt = jobAttempt;
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+        this.exitMessage = exitMessage == null || exitMessage.length() <= 255
+                ? exitMessage : exitMessage.substring(0, 255);
+    }
+
+    public boolean isCompleted() {
+        return status == BatchStatus.COMPLETED;
+    }
+
+    // 이번 작업 실행 회차에서 더 진행하지 않는 상태인지 (완료, 또는 이번 회차에서 실패/건너뜀)
+    public boolean isFinishedIn(int jobAttempt) {
+        return isCompleted() || (this.jobAttempt == jobAttempt
+                && (status == BatchStatus.FAILED || status == BatchStatus.SKIPPED));
+    }
+}
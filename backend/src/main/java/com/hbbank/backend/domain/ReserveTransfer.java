@@ -7,6 +7,7 @@ import com.hbbank.backend.dto.ReserveTransferRequestDTO;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,7 +19,8 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder(toBuilder = true)
-@Table(name = "reserve_transfer")
+@Table(name = "reserve_transfer",
+        indexes = @Index(name = "idx_reserve_transfer_status_next_attempt", columnList = "status, next_attempt_at"))
 public class ReserveTransfer extends Transfer {
 
     @Column(nullable = false)
@@ -26,6 +28,15 @@ public class ReserveTransfer extends Transfer {
 
     private LocalDateTime completedAt;                // 실행 완료 일시
 
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;              // 다음 실행 시도 일시 (예약 일시, 실패 시 재시도 일시)
+
+    @Column(length = 100)
+    private String claimedBy;                         // 선점한 워커의 선점 토큰
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;             // 선점 만료 일시 (지나면 다른 워커가 다시 선점 가능)
+
     public void update(Account fromAccount, ReserveTransferRequestDTO dto) {
         this.user = fromAccount.getUser();
         this.fromAccount = fromAccount;
@@ -35,6 +46,10 @@ public class ReserveTransfer extends Transfer {
         this.status = TransferStatus.ACTIVE;
 
         this.reservedAt = dto.getReservedAt();
+        this.nextAttemptAt = dto.getReservedAt();
+        // 선점 만료 후 남은 선점 정보 초기화 (실행 중인 예약이체는 서비스에서 수정을 거부함)
+        this.claimedBy = null;
+        this.leaseExpiresAt = null;
     }
 
     @Override
@@ -42,6 +57,50 @@ public class ReserveTransfer extends Transfer {
         return status == TransferStatus.ACTIVE && LocalDateTime.now().isAfter(reservedAt);
     }
 
+    // 다음 실행 시도 일시 (컬럼 추가 전에 등록된 예약이체는 예약 일시)
+    public LocalDateTime getDueAt() {
+        return nextAttemptAt != null ? nextAttemptAt : reservedAt;
+    }
+
+    // 실행 시각이 되었는지 (now 이전 또는 같은 시각)
+    public boolean isDue(LocalDateTime now) {
+        return status == TransferStatus.ACTIVE && !getDueAt().isAfter(now);
+    }
+
+    // 실행할 워커가 선점 (선점 만료 전까지 다른 워커는 가져가지 않음)
+    public void claim(String claimToken, LocalDateTime leaseExpiresAt) {
+        this.status = TransferStatus.IN_PROGRESS;
+        this.claimedBy = claimToken;
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    // claimToken 으로 선점한 상태가 유지되고 있는지 (만료 후 다른 워커가 가져갔거나 수정/삭제되면 false)
+    public boolean isClaimedBy(String claimToken) {
+        return status == TransferStatus.IN_PROGRESS && claimToken.equals(claimedBy);
+    }
+
+    // 선점 해제 후 실행 결과 반영, 실패 후 아직 실행 대상(ACTIVE)이면 retryAt 에 다시 시도
+    public void finishAttempt(boolean success, LocalDateTime retryAt) {
+        releaseClaim();
+        updateStatus(success);
+        if (status == TransferStatus.ACTIVE) {
+            this.nextAttemptAt = retryAt;
+        }
+    }
+
+    // 실행 중 예외로 결과를 반영하지 못했을 때 실패 횟수만 늘리고 retryAt 에 다시 시도
+    public void abortAttempt(LocalDateTime retryAt) {
+        releaseClaim();
+        increaseFailureCount();
+        this.nextAttemptAt = retryAt;
+    }
+
+    private void releaseClaim() {
+        this.status = TransferStatus.ACTIVE;
+        this.claimedBy = null;
+        this.leaseExpiresAt = null;
+    }
+
     @Override
     public void updateStatus(boolean success) {
         if (success) {
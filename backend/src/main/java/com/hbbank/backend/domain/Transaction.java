@@ -5,12 +5,14 @@ import java.time.LocalDateTime;
 
 import org.hibernate.annotations.ColumnDefault;
 
+import com.hbbank.backend.util.TimeOrderedId;
+import com.hbbank.backend.util.TimeOrderedIdGenerator;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -24,10 +26,18 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "transaction")
+@Table(name = "transaction", indexes = {
+        // 계좌별 거래내역 keyset 페이지네이션용
+        @Index(name = "idx_transaction_account_datetime_id", columnList = "account_id, transaction_date_time, id"),
+        // 계좌 + 거래유형(입금/출금) 기간 검색용
+        @Index(name = "idx_transaction_account_type_datetime", columnList = "account_id, transaction_type, transaction_date_time"),
+        // 일별 스냅샷 재계산(compact) 하루치 범위 조회용, account_id 를 포함해 파티션 조건(MOD)을 인덱스에서 거름
+        @Index(name = "idx_transaction_datetime_account", columnList = "transaction_date_time, account_id")
+})
 public class Transaction {
+    // IDENTITY 전략은 INSERT 마다 DB 왕복이 필요해 배치 삽입이 불가능하므로 애플리케이션에서 시간 순 ID 발급
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeOrderedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -54,8 +64,43 @@ public class Transaction {
     @ColumnDefault("0")
     private BigDecimal depositAmount;
 
-    @Column(nullable = false, columnDefinition = "DECIMAL(19,4)")
-    @ColumnDefault("0")
+    // 거래 후 잔액, 핫 계좌 버킷 입금은 여러 버킷이 동시에 바뀌어 정확한 값이 없으므로 null
+    @Column(columnDefinition = "DECIMAL(19,4)")
     private BigDecimal balance;
 
+    /*
+     * 출금 거래내역 (balance: 출금 후 출금 계좌 잔액)
+     * 보낸분/받는분 이름은 호출자가 락 획득 전에 조회해 넘김 (락 구간에서 사용자 지연 로딩 쿼리가 나가지 않도록)
+     */
+    public static Transaction withdrawal(Account fromAccount, String sender, String receiver, BigDecimal amount,
+                                         BigDecimal balance, LocalDateTime dateTime) {
+        return Transaction.builder()
+                .id(TimeOrderedIdGenerator.next())
+                .account(fromAccount)
+                .transactionDateTime(dateTime)
+                .transactionType("출금")
+                .sender(sender)
+                .receiver(receiver)
+                .withdrawalAmount(amount)
+                .depositAmount(BigDecimal.ZERO)
+                .balance(balance)
+                .build();
+    }
+
+    /* 입금 거래내역 (balance: 입금 후 입금 계좌 잔액) */
+    public static Transaction deposit(Account toAccount, String sender, String receiver, BigDecimal amount,
+                                      BigDecimal balance, LocalDateTime dateTime) {
+        return Transaction.builder()
+                .id(TimeOrderedIdGenerator.next())
+                .account(toAccount)
+                .transactionDateTime(dateTime)
+                .transactionType("입금")
+                .sender(sender)
+                .receiver(receiver)
+                .withdrawalAmount(BigDecimal.ZERO)
+                .depositAmount(amount)
+                .balance(balance)
+                .build();
+    }
+
 }
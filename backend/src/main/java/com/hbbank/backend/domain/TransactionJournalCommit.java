@@ -0,0 +1,33 @@
+package com.hbbank.backend.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/*
+ * WAL 저널 커밋 표시
+ * 이체 트랜잭션 안에서 WAL 키(미리 발급된 첫 거래내역 ID)로 한 행을 넣어, DB 커밋 여부를 DB 가 증명하도록 한다.
+ * 재시작 시 COMMIT 레코드 없이 남은 PREPARE 는 이 행이 있으면 커밋된 것으로 보고 삽입, 없으면 롤백된 것으로 본다.
+ * 거래내역이 transaction 테이블에 삽입되면 같은 트랜잭션에서 삭제된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "transaction_journal_commit")
+public class TransactionJournalCommit {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
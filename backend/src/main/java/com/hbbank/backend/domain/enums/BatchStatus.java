@@ -0,0 +1,8 @@
+package com.hbbank.backend.domain.enums;
+
+public enum BatchStatus {
+    STARTED,        // 실행 중 (또는 실행 중 비정상 종료)
+    COMPLETED,      // 완료
+    FAILED,         // 실패
+    SKIPPED         // 선행 단계 실패로 실행하지 않음
+}
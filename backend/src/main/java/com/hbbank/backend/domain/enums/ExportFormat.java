@@ -0,0 +1,33 @@
+package com.hbbank.backend.domain.enums;
+
+import com.hbbank.backend.exception.transaction.InvalidExportFormatException;
+
+public enum ExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),              // 엑셀용 CSV
+    NDJSON("application/x-ndjson; charset=UTF-8", "ndjson"); // 한 줄에 JSON 한 건
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new InvalidExportFormatException("지원하지 않는 내보내기 형식입니다: " + value);
+    }
+}
@@ -2,6 +2,7 @@ package com.hbbank.backend.domain.enums;
 
 public enum TransferStatus {
     ACTIVE,     // 활성 상태
+    IN_PROGRESS, // 실행 중 (워커가 선점, 선점 만료 시 ACTIVE 로 복구)
     PAUSED,     // 일시 정지
     COMPLETED,  // 종료됨
     FAILED,     // 실패
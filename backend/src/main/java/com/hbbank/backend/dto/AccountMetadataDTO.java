@@ -0,0 +1,36 @@
+package com.hbbank.backend.dto;
+
+import java.math.BigDecimal;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.enums.AccountStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 계좌 검증용 메타데이터 (상태, 소유자, 한도) - 잔액처럼 자주 바뀌는 값은 포함하지 않음
+@Getter
+@Builder
+public class AccountMetadataDTO {
+    private final Long accountId;
+    private final String accountNumber;
+    private final Long userId;
+    private final AccountStatus status;
+    private final BigDecimal transferLimit;
+    private final BigDecimal dailyTransferLimit;
+
+    public static AccountMetadataDTO from(Account account) {
+        return AccountMetadataDTO.builder()
+                .accountId(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .userId(account.getUser().getId())
+                .status(account.getStatus())
+                .transferLimit(account.getTransferLimit())
+                .dailyTransferLimit(account.getDailyTransferLimit())
+                .build();
+    }
+
+    public boolean isActive() {
+        return status == AccountStatus.ACTIVE;
+    }
+}
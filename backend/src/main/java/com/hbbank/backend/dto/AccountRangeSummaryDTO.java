@@ -0,0 +1,23 @@
+package com.hbbank.backend.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 계좌 기간 요약 (거래내역서 머리말: 기초/기말 잔액, 입출금 합계와 건수)
+@Getter
+@Builder
+public class AccountRangeSummaryDTO {
+    private final Long accountId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final BigDecimal openingBalance;
+    private final BigDecimal closingBalance;
+    private final BigDecimal depositTotal;
+    private final BigDecimal withdrawalTotal;
+    private final long depositCount;
+    private final long withdrawalCount;
+    private final int activeDays;                    // 거래가 있었던 일수
+}
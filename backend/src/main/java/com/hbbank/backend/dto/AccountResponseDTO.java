@@ -17,11 +17,16 @@ public class AccountResponseDTO {
     private final Double interestRate;
 
     public static AccountResponseDTO from(Account account) {
+        return from(account, account.getBalance());
+    }
+
+    // 핫 계좌는 아직 합산되지 않은 버킷 잔액을 더한 값을 잔액으로 응답
+    public static AccountResponseDTO from(Account account, BigDecimal balance) {
         return AccountResponseDTO.builder()
                 .id(account.getId())
                 .accountName(account.getAccountType().getName())
                 .accountNumber(formatAccountNumber(account.getAccountNumber()))
-                .balance(account.getBalance())
+                .balance(balance)
                 .interestRate(account.getAccountType().getInterestRate())
                 .build();
     }
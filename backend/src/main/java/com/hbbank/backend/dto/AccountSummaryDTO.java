@@ -0,0 +1,28 @@
+package com.hbbank.backend.dto;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.enums.AccountStatus;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+// 받는 분 확인용 계좌 요약 (잔액 등 소유자 외에 보여주면 안 되는 값은 포함하지 않음)
+@Getter
+@Builder
+@Jacksonized
+public class AccountSummaryDTO {
+    private final String accountNumber;
+    private final String ownerName;
+    private final String accountTypeName;
+    private final AccountStatus status;
+
+    public static AccountSummaryDTO from(Account account) {
+        return AccountSummaryDTO.builder()
+                .accountNumber(account.getAccountNumber())
+                .ownerName(account.getUser().getName())
+                .accountTypeName(account.getAccountType().getName())
+                .status(account.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package com.hbbank.backend.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 자동이체 일괄 실행 결과 (건수, 소요 시간, 처리량)
+@Getter
+@Builder
+public class AutoTransferRunStatsDTO {
+    private final LocalDate runDate;
+    private final int partition;       // 출금 계좌 기준 파티션 번호 (단독 실행이면 0)
+    private final int partitionCount;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+    private final int workerCount;
+    private final long totalCount;
+    private final long successCount;
+    private final long failCount;      // 이체 실패 (잔액 부족 등으로 transfer 가 false 반환)
+    private final long errorCount;     // 실행 중 예외 발생
+    private final long skippedCount;   // 재시작 시 이미 실행한 건
+    private final long elapsedMillis;
+    private final double throughputPerSecond;
+}
@@ -0,0 +1,20 @@
+package com.hbbank.backend.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Getter;
+
+/* 대량 이체 요청 DTO (급여 지급 등) */
+@Getter
+@Builder
+public class BatchTransferRequestDTO {
+
+    @NotEmpty(message = "이체 목록은 비어 있을 수 없습니다")
+    @Size(max = 10000, message = "한 번에 최대 10000건까지 이체할 수 있습니다")
+    private final List<@Valid TransferRequestDTO> transfers;
+
+}
@@ -0,0 +1,26 @@
+package com.hbbank.backend.dto;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/* 대량 이체 결과 */
+@Getter
+@Builder
+public class BatchTransferResponseDTO {
+    private final int totalCount;
+    private final int successCount;
+    private final int failCount;
+    private final List<BatchTransferResultDTO> results;
+
+    public static BatchTransferResponseDTO from(List<BatchTransferResultDTO> results) {
+        int success = (int) results.stream().filter(BatchTransferResultDTO::isSuccess).count();
+        return BatchTransferResponseDTO.builder()
+                .totalCount(results.size())
+                .successCount(success)
+                .failCount(results.size() - success)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.hbbank.backend.dto;
+
+import java.math.BigDecimal;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/* 대량 이체 건별 결과 */
+@Getter
+@Builder
+public class BatchTransferResultDTO {
+    private final int index; // 요청 목록에서의 순번
+    private final Long fromAccountId;
+    private final String toAccountNumber;
+    private final BigDecimal amount;
+    private final boolean success;
+    private final String message; // 실패 사유
+
+    public static BatchTransferResultDTO success(int index, TransferRequestDTO dto) {
+        return of(index, dto, true, null);
+    }
+
+    public static BatchTransferResultDTO fail(int index, TransferRequestDTO dto, String message) {
+        return of(index, dto, false, message);
+    }
+
+    private static BatchTransferResultDTO of(int index, TransferRequestDTO dto, boolean success, String message) {
+        return BatchTransferResultDTO.builder()
+                .index(index)
+                .fromAccountId(dto.getFromAccountId())
+                .toAccountNumber(dto.getToAccountNumber())
+                .amount(dto.getAmount())
+                .success(success)
+                .message(message)
+                .build();
+    }
+}
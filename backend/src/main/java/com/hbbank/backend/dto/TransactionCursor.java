@@ -0,0 +1,40 @@
+package com.hbbank.backend.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.exception.transaction.InvalidCursorException;
+
+/*
+ * 거래내역 keyset 페이지 커서 (마지막으로 조회한 거래내역의 거래일시, ID)
+ * 클라이언트에는 "거래일시|ID" 를 Base64url 로 인코딩한 불투명 문자열로 전달
+ */
+public record TransactionCursor(LocalDateTime transactionDateTime, Long id) {
+
+    public static TransactionCursor of(Transaction transaction) {
+        return new TransactionCursor(transaction.getTransactionDateTime(), transaction.getId());
+    }
+
+    public String encode() {
+        String raw = transactionDateTime + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TransactionCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            if (separator < 0) {
+                throw new InvalidCursorException();
+            }
+            return new TransactionCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.hbbank.backend.dto;
+
+import java.util.List;
+
+import com.hbbank.backend.domain.Transaction;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/* 거래내역 keyset 페이지 (nextCursor 로 다음 페이지 요청) */
+@Getter
+@Builder
+public class TransactionPageResponseDTO {
+    private final List<TransactionResponseDTO> transactions;
+    private final String nextCursor; // 다음 페이지가 없으면 null
+    private final boolean hasNext;
+
+    public static TransactionPageResponseDTO of(List<Transaction> transactions, boolean hasNext) {
+        return TransactionPageResponseDTO.builder()
+                .transactions(transactions.stream()
+                        .map(TransactionResponseDTO::from)
+                        .toList())
+                .nextCursor(hasNext ? TransactionCursor.of(transactions.get(transactions.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+}
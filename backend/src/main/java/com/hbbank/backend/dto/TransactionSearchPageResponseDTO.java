@@ -0,0 +1,27 @@
+package com.hbbank.backend.dto;
+
+import java.util.List;
+
+import com.hbbank.backend.domain.Transaction;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/* 거래내역 조건 검색 페이지 (hasNext 면 page + 1 로 다음 페이지 요청) */
+@Getter
+@Builder
+public class TransactionSearchPageResponseDTO {
+    private final List<TransactionResponseDTO> transactions;
+    private final int page;
+    private final boolean hasNext;
+
+    public static TransactionSearchPageResponseDTO of(List<Transaction> transactions, int page, boolean hasNext) {
+        return TransactionSearchPageResponseDTO.builder()
+                .transactions(transactions.stream()
+                        .map(TransactionResponseDTO::from)
+                        .toList())
+                .page(page)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,15 @@
+package com.hbbank.backend.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 이체 락 모드 통계 (낙관적 락 충돌/재시도/비관적 락 전환 횟수)
+@Getter
+@Builder
+public class TransferLockStatsDTO {
+    private final boolean optimisticEnabled;
+    private final long conflictCount;
+    private final long retryCount;
+    private final long fallbackCount;
+    private final long pessimisticAccountCount;
+}
@@ -6,18 +6,27 @@ import com.hbbank.backend.exception.account.*;
 import com.hbbank.backend.exception.autoTransfer.AutoTransferNotFoundException;
 import com.hbbank.backend.exception.autoTransfer.InvalidAutoTransferPasswordException;
 import com.hbbank.backend.exception.reserveTransfer.InvalidReserveTransferPasswordException;
+import com.hbbank.backend.exception.reserveTransfer.InvalidReserveTransferStatusException;
 import com.hbbank.backend.exception.reserveTransfer.ReserveTransferNotFoundException;
 import com.hbbank.backend.exception.token.InvalidTokenException;
+import com.hbbank.backend.exception.token.RefreshInProgressException;
+import com.hbbank.backend.exception.transaction.InvalidCursorException;
+import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.exception.transaction.InvalidExportFormatException;
+import com.hbbank.backend.exception.transaction.InvalidPageException;
 import com.hbbank.backend.exception.user.DuplicateUserException;
 import com.hbbank.backend.exception.user.InvalidUserPasswordException;
 import com.hbbank.backend.exception.user.UserNotFoundException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -51,6 +60,15 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(errorMessage));
     }
 
+    // 요청 파라미터 형식 오류 (날짜 형식 등), 처리하지 않으면 일반 예외로 500 응답됨
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        log.warn("요청 파라미터 형식 오류 - 파라미터: {}, 값: {}", e.getName(), e.getValue());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("요청 값의 형식이 올바르지 않습니다: " + e.getName()));
+    }
+
     // 일반적인 예외 처리
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
@@ -72,6 +90,25 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(e.getMessage()));
     }
 
+    // 동시 토큰 갱신, 토큰은 발급하지 않고 재시도 요청
+    @ExceptionHandler(RefreshInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleRefreshInProgressException(RefreshInProgressException e) {
+        log.info("동시 토큰 갱신 요청 - 재시도 응답");
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+    // 권한 부족 (관리자 전용 API 등), 처리하지 않으면 일반 예외로 500 응답됨
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException e) {
+        log.warn("권한 없는 요청: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(new ErrorResponse("권한이 없습니다."));
+    }
+
     /* 사용자 관련 예외 처리 */
     @ExceptionHandler({
             DuplicateUserException.class,
@@ -100,6 +137,7 @@ public class GlobalExceptionHandler {
             DailyTransferLimitExceededException.class,
             InvalidAccountPasswordException.class,
             InvalidAccountStatusException.class,
+            InvalidBucketCountException.class,
             OutofBalanceException.class,
             TransferLimitExceededException.class
     })
@@ -137,7 +175,8 @@ public class GlobalExceptionHandler {
     /* 예약이체 관련 예외 처리 */
     @ExceptionHandler({
             ReserveTransferNotFoundException.class,
-            InvalidReserveTransferPasswordException.class
+            InvalidReserveTransferPasswordException.class,
+            InvalidReserveTransferStatusException.class
     })
     public ResponseEntity<ErrorResponse> handleReserveTransferException(RuntimeException e) {
         HttpStatus status = HttpStatus.BAD_REQUEST;
@@ -152,4 +191,18 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse(e.getMessage()));
     }
 
-}
\ No newline at end of file
+    /* 거래내역 관련 예외 처리 */
+    @ExceptionHandler({
+            InvalidCursorException.class,
+            InvalidDateRangeException.class,
+            InvalidExportFormatException.class,
+            InvalidPageException.class
+    })
+    public ResponseEntity<ErrorResponse> handleTransactionException(RuntimeException e) {
+        log.error("거래내역 관련 오류 발생: ", e);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse(e.getMessage()));
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.hbbank.backend.exception.account;
+
+public class InvalidBucketCountException extends RuntimeException {
+
+    public InvalidBucketCountException(){
+        super("잔액 버킷 수가 올바르지 않습니다.");
+    }
+
+    public InvalidBucketCountException(String message){
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hbbank.backend.exception.reserveTransfer;
+
+public class InvalidReserveTransferStatusException extends RuntimeException {
+
+    public InvalidReserveTransferStatusException() {
+        super("수정하거나 삭제할 수 없는 예약이체 상태입니다.");
+    }
+
+    public InvalidReserveTransferStatusException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,11 @@
+package com.hbbank.backend.exception.token;
+
+// 같은 리프레시 토큰으로 동시에 갱신 요청 - 먼저 교체한 요청의 토큰을 사용하도록 재시도 요청 (409)
+public class RefreshInProgressException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public RefreshInProgressException() {
+        super("이미 토큰을 갱신 중입니다. 잠시 후 다시 시도해 주세요.");
+    }
+}
@@ -0,0 +1,12 @@
+package com.hbbank.backend.exception.transaction;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException() {
+        super("유효하지 않은 페이지 커서입니다.");
+    }
+
+    public InvalidCursorException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,12 @@
+package com.hbbank.backend.exception.transaction;
+
+public class InvalidExportFormatException extends RuntimeException {
+
+    public InvalidExportFormatException() {
+        super("지원하지 않는 내보내기 형식입니다.");
+    }
+
+    public InvalidExportFormatException(String msg) {
+        super(msg);
+    }
+}
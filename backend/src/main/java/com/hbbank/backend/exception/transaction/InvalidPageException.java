@@ -0,0 +1,12 @@
+package com.hbbank.backend.exception.transaction;
+
+public class InvalidPageException extends RuntimeException {
+
+    public InvalidPageException() {
+        super("유효하지 않은 페이지 번호입니다.");
+    }
+
+    public InvalidPageException(String msg) {
+        super(msg);
+    }
+}
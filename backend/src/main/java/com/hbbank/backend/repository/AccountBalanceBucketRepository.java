@@ -0,0 +1,47 @@
+package com.hbbank.backend.repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hbbank.backend.domain.AccountBalanceBucket;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface AccountBalanceBucketRepository extends JpaRepository<AccountBalanceBucket, Long> {
+
+    // 조회 없이 단일 UPDATE 문으로 버킷 하나만 잠그고 입금
+    @Modifying
+    @Query("update AccountBalanceBucket b set b.balance = b.balance + :amount " +
+            "where b.account.id = :accountId and b.bucketNo = :bucketNo")
+    int addToBucket(@Param("accountId") Long accountId,
+                    @Param("bucketNo") int bucketNo,
+                    @Param("amount") BigDecimal amount);
+
+    @Query("select coalesce(sum(b.balance), 0) from AccountBalanceBucket b where b.account.id = :accountId")
+    BigDecimal sumBalanceByAccountId(@Param("accountId") Long accountId);
+
+    // 여러 계좌의 버킷 잔액 합계를 한 번에 조회 (계좌 ID, 합계), 버킷이 없는 계좌는 결과에 없음
+    @Query("select b.account.id, sum(b.balance) from AccountBalanceBucket b " +
+            "where b.account.id in :accountIds group by b.account.id")
+    List<Object[]> sumBalanceByAccountIdIn(@Param("accountIds") Collection<Long> accountIds);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from AccountBalanceBucket b where b.account.id = :accountId order by b.bucketNo")
+    List<AccountBalanceBucket> findAllByAccountIdWithLock(@Param("accountId") Long accountId);
+
+    @Query("select distinct b.account.id from AccountBalanceBucket b where b.balance <> 0")
+    List<Long> findAccountIdsWithPendingBalance();
+
+    @Modifying
+    @Query("delete from AccountBalanceBucket b where b.account.id = :accountId")
+    void deleteAllByAccountId(@Param("accountId") Long accountId);
+}
@@ -0,0 +1,112 @@
+package com.hbbank.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hbbank.backend.domain.AccountDailySnapshot;
+
+@Repository
+public interface AccountDailySnapshotRepository extends JpaRepository<AccountDailySnapshot, Long> {
+
+    // 거래내역 누적: 첫 거래면 행 생성, 이미 있으면 합계/건수 누적 후 마감 잔액 갱신 (계좌 행 락 안에서 호출되므로 순서 보장)
+    @Modifying
+    @Query(value = "INSERT INTO account_daily_snapshot (account_id, snapshot_date, opening_balance, closing_balance, " +
+            "deposit_total, withdrawal_total, deposit_count, withdrawal_count, compacted) " +
+            "VALUES (:accountId, :snapshotDate, :openingBalance, :closingBalance, " +
+            ":depositTotal, :withdrawalTotal, :depositCount, :withdrawalCount, false) AS new " +
+            "ON DUPLICATE KEY UPDATE closing_balance = new.closing_balance, " +
+            "deposit_total = account_daily_snapshot.deposit_total + new.deposit_total, " +
+            "withdrawal_total = account_daily_snapshot.withdrawal_total + new.withdrawal_total, " +
+            "deposit_count = account_daily_snapshot.deposit_count + new.deposit_count, " +
+            "withdrawal_count = account_daily_snapshot.withdrawal_count + new.withdrawal_count",
+            nativeQuery = true)
+    int accumulate(@Param("accountId") Long accountId,
+                   @Param("snapshotDate") LocalDate snapshotDate,
+                   @Param("openingBalance") BigDecimal openingBalance,
+                   @Param("closingBalance") BigDecimal closingBalance,
+                   @Param("depositTotal") BigDecimal depositTotal,
+                   @Param("withdrawalTotal") BigDecimal withdrawalTotal,
+                   @Param("depositCount") long depositCount,
+                   @Param("withdrawalCount") long withdrawalCount);
+
+    // 하루치 거래내역으로 스냅샷 재계산 (파티션: 계좌 ID 기준), 누적 중 빠진 거래(핫 계좌 입금 등)까지 반영
+    // 하루치 범위는 idx_transaction_datetime_account 로 조회 (계좌 ID 선두 인덱스로는 파티션마다 전체 스캔)
+    // 기초 잔액 = 잔액이 기록된 첫 거래 후 잔액 - 그 거래까지의 순입금액 (없으면 직전 스냅샷 마감 잔액)
+    // 핫 계좌 입금은 잔액이 기록되지 않으므로(null) 마감 잔액 = 기초 잔액 + 입금 합계 - 출금 합계
+    @Modifying
+    @Query(value = "INSERT INTO account_daily_snapshot (account_id, snapshot_date, opening_balance, closing_balance, " +
+            "deposit_total, withdrawal_total, deposit_count, withdrawal_count, compacted) " +
+            "SELECT * FROM (SELECT o.account_id, :snapshotDate AS snapshot_date, o.opening, " +
+            "o.opening + o.deposits - o.withdrawals AS closing, o.deposits, o.withdrawals, " +
+            "o.deposit_cnt, o.withdrawal_cnt, true AS compacted " +
+            "FROM (SELECT d.account_id, " +
+            "COALESCE(MAX(CASE WHEN d.first_no = 1 THEN d.balance - d.running_flow END), " +
+            "(SELECT p.closing_balance FROM account_daily_snapshot p WHERE p.account_id = d.account_id " +
+            "AND p.snapshot_date < :snapshotDate ORDER BY p.snapshot_date DESC LIMIT 1), 0) AS opening, " +
+            "SUM(d.deposit_amount) AS deposits, SUM(d.withdrawal_amount) AS withdrawals, " +
+            "SUM(d.transaction_type = '입금') AS deposit_cnt, SUM(d.transaction_type = '출금') AS withdrawal_cnt " +
+            "FROM (SELECT t.account_id, t.balance, t.deposit_amount, t.withdrawal_amount, t.transaction_type, " +
+            "SUM(t.deposit_amount - t.withdrawal_amount) OVER (PARTITION BY t.account_id " +
+            "ORDER BY t.transaction_date_time, t.id) AS running_flow, " +
+            "ROW_NUMBER() OVER (PARTITION BY t.account_id ORDER BY t.balance IS NULL, t.transaction_date_time, t.id) AS first_no " +
+            "FROM transaction t WHERE t.transaction_date_time >= :from AND t.transaction_date_time < :to " +
+            "AND MOD(t.account_id, :partitionCount) = :partition) d " +
+            "GROUP BY d.account_id) o) s " +
+            "ON DUPLICATE KEY UPDATE opening_balance = s.opening, closing_balance = s.closing, " +
+            "deposit_total = s.deposits, withdrawal_total = s.withdrawals, " +
+            "deposit_count = s.deposit_cnt, withdrawal_count = s.withdrawal_cnt, compacted = true",
+            nativeQuery = true)
+    int compact(@Param("snapshotDate") LocalDate snapshotDate,
+                @Param("from") LocalDateTime from,
+                @Param("to") LocalDateTime to,
+                @Param("partitionCount") int partitionCount,
+                @Param("partition") int partition);
+
+    List<AccountDailySnapshot> findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(Long accountId,
+                                                                                         LocalDate from,
+                                                                                         LocalDate to);
+
+    // 스냅샷에 아직 반영되지 않은 기간(당일, 재계산 전 전날)의 거래내역 합계, 핫 계좌 입금 포함
+    interface TransactionTotals {
+        BigDecimal getOpeningBalance();     // 잔액이 기록된 거래가 없으면 null
+        BigDecimal getDepositTotal();
+        BigDecimal getWithdrawalTotal();
+        Long getDepositCount();
+        Long getWithdrawalCount();
+        Long getActiveDays();
+    }
+
+    // 기초 잔액 계산 방식은 재계산(compact)과 같음
+    @Query(value = "SELECT (SELECT d.balance - d.running_flow FROM (SELECT t.balance, t.transaction_date_time, t.id, " +
+            "SUM(t.deposit_amount - t.withdrawal_amount) OVER (ORDER BY t.transaction_date_time, t.id) AS running_flow " +
+            "FROM transaction t WHERE t.account_id = :accountId " +
+            "AND t.transaction_date_time >= :from AND t.transaction_date_time < :to) d " +
+            "WHERE d.balance IS NOT NULL ORDER BY d.transaction_date_time, d.id LIMIT 1) AS openingBalance, " +
+            "COALESCE(SUM(t.deposit_amount), 0) AS depositTotal, COALESCE(SUM(t.withdrawal_amount), 0) AS withdrawalTotal, " +
+            "COALESCE(SUM(t.transaction_type = '입금'), 0) AS depositCount, " +
+            "COALESCE(SUM(t.transaction_type = '출금'), 0) AS withdrawalCount, " +
+            "COUNT(DISTINCT DATE(t.transaction_date_time)) AS activeDays " +
+            "FROM transaction t WHERE t.account_id = :accountId " +
+            "AND t.transaction_date_time >= :from AND t.transaction_date_time < :to",
+            nativeQuery = true)
+    TransactionTotals sumTransactions(@Param("accountId") Long accountId,
+                                      @Param("from") LocalDateTime from,
+                                      @Param("to") LocalDateTime to);
+
+    // 스냅샷 백필 시작일 (가장 오래된 거래내역 일시, 거래내역이 없으면 null)
+    @Query(value = "SELECT MIN(t.transaction_date_time) FROM transaction t", nativeQuery = true)
+    LocalDateTime findFirstTransactionDateTime();
+
+    // 기간 안에 거래가 없을 때 기간 시작 잔액을 구하기 위한 직전 스냅샷
+    Optional<AccountDailySnapshot> findFirstByAccountIdAndSnapshotDateBeforeOrderBySnapshotDateDesc(Long accountId,
+                                                                                                  LocalDate date);
+}
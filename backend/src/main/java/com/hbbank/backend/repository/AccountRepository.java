@@ -1,5 +1,6 @@
 package com.hbbank.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,17 +29,37 @@ public interface AccountRepository extends JpaRepository<Account, Long> {
     @Query("select a from Account a join fetch a.user where a.accountNumber=:accountNumber")
     Optional<Account> findByAccountNumberWithUser(@Param("accountNumber") String accountNumber);
 
+    // 계좌 요약(소유자 이름, 계좌 유형) 조회용
+    @Query("select a from Account a join fetch a.user join fetch a.accountType where a.accountNumber=:accountNumber")
+    Optional<Account> findByAccountNumberWithUserAndType(@Param("accountNumber") String accountNumber);
+
+    @Query("select a.accountNumber from Account a where a.id=:id")
+    Optional<String> findAccountNumberById(@Param("id") Long id);
+
+    // 계좌번호별 소유자 이름 [계좌번호, 이름] (엔티티를 영속성 컨텍스트에 올리지 않는 projection)
+    @Query("select a.accountNumber, u.name from Account a join a.user u where a.accountNumber in :accountNumbers")
+    List<Object[]> findOwnerNamesByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 계좌번호 유니크 인덱스를 오름차순으로 훑으면서 락을 잡기 때문에 여러 계좌를 한 번의 쿼리로 정렬된 순서대로 잠글 수 있음
+    // 이체 처리에는 User가 필요 없으므로 fetch join 하지 않음
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     // @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
-    @Query("select a from Account a join fetch a.user where a.id=:id")
-    Optional<Account> findByIdWithLock(@Param("id") Long id);
+    @Query("select a from Account a where a.accountNumber in :accountNumbers order by a.accountNumber")
+    List<Account> findAllByAccountNumberInWithLock(@Param("accountNumbers") Collection<String> accountNumbers);
+
+    // 낙관적 락 이체용 락 없는 조회 (충돌은 커밋 시점에 version 컬럼으로 감지)
+    @Query("select a from Account a where a.accountNumber in :accountNumbers order by a.accountNumber")
+    List<Account> findAllByAccountNumberIn(@Param("accountNumbers") Collection<String> accountNumbers);
 
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    // @QueryHints({@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000")})
-    @Query("select a from Account a join fetch a.user where a.accountNumber=:accountNumber")
-    Optional<Account> findByAccountNumberWithLock(@Param("accountNumber") String accountNumber);
+    @Query("select a from Account a where a.id=:id")
+    Optional<Account> findByIdWithLock(@Param("id") Long id);
+
+    @Query("select a.accountNumber from Account a where a.hot = true")
+    List<String> findAllHotAccountNumbers();
 
-    @Query("update Account a set a.dailyTransferredAmount = 0")
+    // 벌크 연산은 @Version 을 자동으로 올리지 않으므로 직접 증가시켜 동시에 진행 중인 낙관적 락 이체가 초기화 값을 덮어쓰지 않게 함
+    @Query("update Account a set a.dailyTransferredAmount = 0, a.version = a.version + 1")
     @Modifying
     void resetAllDailyTransferredAmounts();
 }
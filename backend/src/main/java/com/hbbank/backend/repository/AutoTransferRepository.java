@@ -4,7 +4,10 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -15,11 +18,40 @@ import com.hbbank.backend.domain.enums.TransferStatus;
 public interface AutoTransferRepository extends JpaRepository<AutoTransfer, Long> {
 
     public Optional<List<AutoTransfer>> findAllByUserIdAndStatus(Long userId, TransferStatus status);
-    public Optional<List<AutoTransfer>> findAllByNextTransferDateLessThanEqualAndStatus(
-            @Param("date") LocalDate date,
-            @Param("status") TransferStatus status);
 
-    public Optional<List<AutoTransfer>> findAllByEndDateAndStatus(
+    // 실행 예정 자동이체 keyset 첫 청크 ((status, next_transfer_date, id) 인덱스 순서대로 읽음)
+    // 출금 계좌 ID 를 partitionCount 로 나눈 나머지가 partition 인 건만 조회 (노드별 파티션 분담)
+    @Query("SELECT at FROM AutoTransfer at WHERE at.status = :status AND at.nextTransferDate <= :date " +
+            "AND MOD(at.fromAccount.id, :partitionCount) = :partition " +
+            "ORDER BY at.nextTransferDate, at.id")
+    public List<AutoTransfer> findFirstDueChunk(@Param("date") LocalDate date,
+                                                @Param("status") TransferStatus status,
+                                                @Param("partitionCount") int partitionCount,
+                                                @Param("partition") int partition,
+                                                Limit limit);
+
+    // 실행 예정 자동이체 keyset 다음 청크: 직전 청크의 마지막 (이체 예정일, ID) 이후부터 OFFSET 없이 조회
+    @Query("SELECT at FROM AutoTransfer at WHERE at.status = :status AND at.nextTransferDate <= :date " +
+            "AND MOD(at.fromAccount.id, :partitionCount) = :partition " +
+            "AND (at.nextTransferDate > :lastDate OR (at.nextTransferDate = :lastDate AND at.id > :lastId)) " +
+            "ORDER BY at.nextTransferDate, at.id")
+    public List<AutoTransfer> findDueChunkAfter(@Param("date") LocalDate date,
+                                                @Param("status") TransferStatus status,
+                                                @Param("partitionCount") int partitionCount,
+                                                @Param("partition") int partition,
+                                                @Param("lastDate") LocalDate lastDate,
+                                                @Param("lastId") Long lastId,
+                                                Limit limit);
+
+    // 기준일 실행 선점: 아직 기준일에 실행하지 않은 경우에만 lastExecutedDate 를 기록 (갱신 건수 1 이면 선점 성공)
+    // 여러 노드/워커가 같은 자동이체를 동시에 읽어도 한 트랜잭션만 이체를 진행
+    @Modifying
+    @Query("UPDATE AutoTransfer at SET at.lastExecutedDate = :today WHERE at.id = :id " +
+            "AND (at.lastExecutedDate IS NULL OR at.lastExecutedDate < :today)")
+    public int claimExecution(@Param("id") Long id, @Param("today") LocalDate today);
+
+    // 종료일이 기준일 당일 또는 그 이전인 자동이체 (배치가 하루 이상 실행되지 않았어도 지난 종료일을 놓치지 않음)
+    public Optional<List<AutoTransfer>> findAllByEndDateLessThanEqualAndStatus(
             @Param("date") LocalDate date,
             @Param("status") TransferStatus status);
 
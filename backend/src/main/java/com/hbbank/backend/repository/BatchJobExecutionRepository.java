@@ -0,0 +1,17 @@
+package com.hbbank.backend.repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hbbank.backend.domain.BatchJobExecution;
+
+@Repository
+public interface BatchJobExecutionRepository extends JpaRepository<BatchJobExecution, Long> {
+
+    Optional<BatchJobExecution> findByJobNameAndRunDate(String jobName, LocalDate runDate);
+
+    Optional<BatchJobExecution> findFirstByJobNameOrderByRunDateDesc(String jobName);
+}
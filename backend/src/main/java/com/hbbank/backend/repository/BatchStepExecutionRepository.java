@@ -0,0 +1,18 @@
+package com.hbbank.backend.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.hbbank.backend.domain.BatchStepExecution;
+
+@Repository
+public interface BatchStepExecutionRepository extends JpaRepository<BatchStepExecution, Long> {
+
+    Optional<BatchStepExecution> findByJobExecutionIdAndStepNameAndPartitionNo(Long jobExecutionId, String stepName,
+                                                                                int partitionNo);
+
+    List<BatchStepExecution> findAllByJobExecutionIdAndStepName(Long jobExecutionId, String stepName);
+}
@@ -1,21 +1,16 @@
 package com.hbbank.backend.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.hbbank.backend.domain.RefreshToken;
 
+// 리프레시 토큰은 Redis(RefreshTokenStore)에 저장, 이 테이블은 이전(TokenService.migrateRefreshTokens)에만 사용
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
-    
-    RefreshToken findByUser_Id(Long userId);
-    
-    void deleteByUser_Id(Long userId);
-    
-    @Modifying
-    @Query("UPDATE RefreshToken r SET r.token = :#{#refreshToken.token}, r.expiryDate = :#{#refreshToken.expiryDate} WHERE r.user.id = :#{#refreshToken.user.id}")
-    void updateRefreshToken(@Param("refreshToken") RefreshToken refreshToken);
+
+    List<RefreshToken> findAllByExpiryDateAfter(LocalDateTime now);
 }
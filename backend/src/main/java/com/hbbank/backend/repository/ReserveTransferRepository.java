@@ -5,6 +5,8 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,11 +14,42 @@ import org.springframework.stereotype.Repository;
 import com.hbbank.backend.domain.ReserveTransfer;
 import com.hbbank.backend.domain.enums.TransferStatus;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface ReserveTransferRepository extends JpaRepository<ReserveTransfer, Long> {
 
     public Optional<List<ReserveTransfer>> findAllByUserIdAndStatus(Long userId, TransferStatus status);
 
-    @Query("select rt from ReserveTransfer rt where rt.reservedAt <= :reservedAt and rt.status='ACTIVE'")
-    public Optional<List<ReserveTransfer>> findAllPendingTransfers(@Param("reservedAt") LocalDateTime now);
+    // until 까지 실행할 예약이체 ((status, next_attempt_at) 인덱스 범위 조회, 지난 건 포함)
+    // 출금 계좌 ID 를 partitionCount 로 나눈 나머지가 partition 인 건만 조회 (노드별 파티션 분담)
+    // next_attempt_at 이 없는 건은 컬럼 추가 전에 등록된 예약이체
+    @Query("select rt from ReserveTransfer rt where rt.status = 'ACTIVE' " +
+            "and (rt.nextAttemptAt <= :until or (rt.nextAttemptAt is null and rt.reservedAt <= :until)) " +
+            "and mod(rt.fromAccount.id, :partitionCount) = :partition")
+    public List<ReserveTransfer> findAllDueUntil(@Param("until") LocalDateTime until,
+                                                 @Param("partitionCount") int partitionCount,
+                                                 @Param("partition") int partition);
+
+    /*
+     * 실행 시각이 된 예약이체를 limit 건까지 잠금 (선점용, MySQL 8 이상)
+     * 다른 워커가 선점 중(잠금)인 행은 기다리지 않고 건너뛰므로 여러 워커/노드가 겹치지 않는 행을 나눠 가져감
+     */
+    @Query(value = "SELECT * FROM reserve_transfer WHERE status = 'ACTIVE' " +
+            "AND (next_attempt_at <= :now OR (next_attempt_at IS NULL AND reserved_at <= :now)) " +
+            "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    public List<ReserveTransfer> lockDueForClaim(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 선점 만료된 예약이체를 다시 실행 대상으로 복구 (선점한 워커/노드가 실행 중 종료된 경우)
+    @Modifying
+    @Query("update ReserveTransfer rt set rt.status = :active, rt.claimedBy = null, rt.leaseExpiresAt = null " +
+            "where rt.status = :inProgress and rt.leaseExpiresAt < :now")
+    public int releaseExpiredClaims(@Param("now") LocalDateTime now,
+                                    @Param("active") TransferStatus active,
+                                    @Param("inProgress") TransferStatus inProgress);
+
+    // 실행 직전 행 잠금 (선점 토큰 확인 중 수정/삭제와 겹치지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select rt from ReserveTransfer rt where rt.id = :id")
+    public Optional<ReserveTransfer> findByIdForUpdate(@Param("id") Long id);
 }
@@ -0,0 +1,25 @@
+package com.hbbank.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.hbbank.backend.domain.TransactionJournalCommit;
+
+@Repository
+public interface TransactionJournalCommitRepository extends JpaRepository<TransactionJournalCommit, Long> {
+
+    // ID 를 미리 발급하므로 save(merge) 의 SELECT 없이 바로 INSERT
+    @Modifying
+    @Query(value = "INSERT INTO transaction_journal_commit (id, created_at) VALUES (:id, :createdAt)", nativeQuery = true)
+    void insertMarker(@Param("id") Long id, @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("SELECT c.id FROM TransactionJournalCommit c WHERE c.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
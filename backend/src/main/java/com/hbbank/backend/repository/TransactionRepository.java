@@ -1,30 +1,36 @@
 package com.hbbank.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.Transaction;
-import com.hbbank.backend.dto.TransactionSearchDTO;
 
 @Repository
-public interface TransactionRepository extends JpaRepository<Transaction, Long> {
+public interface TransactionRepository extends JpaRepository<Transaction, Long>, TransactionRepositoryCustom {
 
     Optional<List<Transaction>> findByAccountAndTransactionType(Account account, String transactionType);
 
     Optional<List<Transaction>> findAllByAccount_IdOrderByTransactionDateTimeDesc(Long accountId);
 
-    @Query("SELECT t FROM Transaction t " +
-            "WHERE (:#{#dto.accountId} = 0 OR :#{#dto.accountId} is null OR :#{#dto.accountId} = t.account.id) " +
-            "AND (:#{#dto.userId} = t.account.user.id) " +
-            "AND CAST(t.transactionDateTime AS date) BETWEEN CAST(:#{#dto.startDate} AS date) AND CAST(:#{#dto.endDate} AS date) " +
-            "AND (:#{#dto.transactionType} = 0 OR " +
-            "    (:#{#dto.transactionType} = 1 AND t.transactionType = '입금') OR " +
-            "    (:#{#dto.transactionType} = 2 AND t.transactionType = '출금')) " +
-            "ORDER BY t.transactionDateTime DESC")
-    Optional<List<Transaction>> findAllByCondition(TransactionSearchDTO dto);
+    // keyset 페이지네이션 첫 페이지 (account_id, transaction_date_time, id) 인덱스를 역순으로 읽음
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId " +
+            "ORDER BY t.transactionDateTime DESC, t.id DESC")
+    List<Transaction> findFirstPageByAccountId(@Param("accountId") Long accountId, Limit limit);
+
+    // keyset 페이지네이션 다음 페이지: 커서(마지막 거래일시, ID)보다 이전 거래내역만 조회하므로 OFFSET 없이 인덱스 탐색
+    @Query("SELECT t FROM Transaction t WHERE t.account.id = :accountId " +
+            "AND (t.transactionDateTime < :dateTime OR (t.transactionDateTime = :dateTime AND t.id < :id)) " +
+            "ORDER BY t.transactionDateTime DESC, t.id DESC")
+    List<Transaction> findPageByAccountIdBefore(@Param("accountId") Long accountId,
+                                                @Param("dateTime") LocalDateTime dateTime,
+                                                @Param("id") Long id,
+                                                Limit limit);
 }
@@ -0,0 +1,24 @@
+package com.hbbank.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.dto.TransactionResponseDTO;
+import com.hbbank.backend.dto.TransactionSearchDTO;
+
+public interface TransactionRepositoryCustom {
+
+    // 거래내역을 영속성 컨텍스트를 거치지 않고 JDBC 배치로 삽입 (ID 는 Transaction 생성 시 TimeOrderedIdGenerator 로 할당)
+    void batchInsert(List<Transaction> transactions);
+
+    // 이미 같은 ID 의 거래내역이 있으면 건너뜀 (WAL 재처리 시 중복 방지)
+    void batchInsertIgnoringDuplicates(List<Transaction> transactions);
+
+    // 검색 조건 중 값이 있는 조건만 WHERE 절에 추가해 offset 부터 limit 건 조회 (최신순)
+    List<Transaction> search(TransactionSearchDTO dto, long offset, int limit);
+
+    // 계좌 거래내역을 서버 측 커서로 한 행씩 읽어 action 에 전달 (거래일시 오름차순, from/to 는 null 이면 제한 없음)
+    void streamByAccountId(Long accountId, LocalDateTime from, LocalDateTime to, Consumer<TransactionResponseDTO> action);
+}
@@ -0,0 +1,186 @@
+package com.hbbank.backend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.dto.TransactionResponseDTO;
+import com.hbbank.backend.dto.TransactionSearchDTO;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+
+/*
+ * TransactionRepository 커스텀 구현 (Spring Data 가 Impl 접미사로 자동 연결)
+ * MySQL 에서 실제 다중 행 INSERT 로 묶이려면 JDBC URL 에 rewriteBatchedStatements=true 가 필요하다.
+ */
+@RequiredArgsConstructor
+public class TransactionRepositoryImpl implements TransactionRepositoryCustom {
+
+    private static final String COLUMNS =
+            "(id, account_id, transaction_date_time, transaction_type, sender, receiver, withdrawal_amount, deposit_amount, balance) " +
+            "values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SQL = "insert into transaction " + COLUMNS;
+    private static final String INSERT_IGNORE_SQL = "insert ignore into transaction " + COLUMNS;
+    private static final String EXPORT_SQL =
+            "select id, account_id, transaction_date_time, transaction_type, sender, receiver, " +
+            "withdrawal_amount, deposit_amount, balance from transaction where account_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // MySQL Connector/J 는 Integer.MIN_VALUE 일 때만 결과를 한 행씩 스트리밍 (useCursorFetch=true 면 양수 사용)
+    @Value("${transaction.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int exportFetchSize = Integer.MIN_VALUE;
+
+    @Value("${transfer.batch.jdbc-batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Override
+    public void batchInsert(List<Transaction> transactions) {
+        batchInsert(INSERT_SQL, transactions);
+    }
+
+    @Override
+    public void batchInsertIgnoringDuplicates(List<Transaction> transactions) {
+        batchInsert(INSERT_IGNORE_SQL, transactions);
+    }
+
+    /*
+     * 거래내역 조건 검색
+     * 기존 JPQL 은 CAST(거래일시 AS date) 비교와 OR 로 묶인 선택 조건, 사용자 조인 때문에 어떤 인덱스도 타지 못했음
+     * - 값이 있는 조건만 추가 (계좌 ID 0/null 이면 사용자의 전체 계좌)
+     * - 거래일시는 컬럼을 가공하지 않고 [시작일 00:00, 종료일 다음날 00:00) 반열림 구간으로 비교
+     * - 사용자 소유 여부는 account 테이블 서브쿼리로 확인해 거래내역은 account_id 인덱스로만 탐색
+     * 계좌 + 거래유형 검색은 (account_id, transaction_type, transaction_date_time),
+     * 계좌 전체 검색은 (account_id, transaction_date_time, id) 인덱스를 사용
+     */
+    @Override
+    public List<Transaction> search(TransactionSearchDTO dto, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Transaction> query = cb.createQuery(Transaction.class);
+        Root<Transaction> t = query.from(Transaction.class);
+        Path<Long> accountId = t.get("account").get("id");
+
+        Subquery<Long> userAccounts = query.subquery(Long.class);
+        Root<Account> a = userAccounts.from(Account.class);
+        userAccounts.select(a.get("id")).where(cb.equal(a.get("user").get("id"), dto.getUserId()));
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (dto.getAccountId() != null && dto.getAccountId() > 0) {
+            predicates.add(cb.equal(accountId, dto.getAccountId()));
+        }
+        predicates.add(accountId.in(userAccounts));
+        predicates.add(cb.greaterThanOrEqualTo(t.get("transactionDateTime"),
+                LocalDate.parse(dto.getStartDate()).atStartOfDay()));
+        predicates.add(cb.lessThan(t.get("transactionDateTime"),
+                LocalDate.parse(dto.getEndDate()).plusDays(1).atStartOfDay()));
+        String type = transactionTypeOf(dto.getTransactionType());
+        if (type != null) {
+            predicates.add(cb.equal(t.get("transactionType"), type));
+        }
+
+        query.select(t)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(t.get("transactionDateTime")), cb.desc(t.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /*
+     * 거래내역 내보내기용 스트리밍 조회
+     * 엔티티/영속성 컨텍스트를 거치지 않고 forward-only 커서에서 읽은 행을 바로 DTO 로 넘기므로
+     * 거래내역 건수와 무관하게 메모리 사용량이 일정함 ((account_id, transaction_date_time, id) 인덱스 순서대로 읽음)
+     */
+    @Override
+    public void streamByAccountId(Long accountId, LocalDateTime from, LocalDateTime to,
+                                  Consumer<TransactionResponseDTO> action) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        if (from != null) {
+            sql.append(" and transaction_date_time >= ?");
+        }
+        if (to != null) {
+            sql.append(" and transaction_date_time < ?");
+        }
+        sql.append(" order by transaction_date_time, id");
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(exportFetchSize);
+            int index = 1;
+            ps.setLong(index++, accountId);
+            if (from != null) {
+                ps.setTimestamp(index++, Timestamp.valueOf(from));
+            }
+            if (to != null) {
+                ps.setTimestamp(index, Timestamp.valueOf(to));
+            }
+            return ps;
+        }, (RowCallbackHandler) rs -> action.accept(toResponse(rs)));
+    }
+
+    private TransactionResponseDTO toResponse(ResultSet rs) throws SQLException {
+        return TransactionResponseDTO.builder()
+                .id(rs.getLong("id"))
+                .accountId(rs.getLong("account_id"))
+                .transactionDateTime(rs.getTimestamp("transaction_date_time").toLocalDateTime())
+                .transactionType(rs.getString("transaction_type"))
+                .sender(rs.getString("sender"))
+                .receiver(rs.getString("receiver"))
+                .withdrawalAmount(rs.getBigDecimal("withdrawal_amount"))
+                .depositAmount(rs.getBigDecimal("deposit_amount"))
+                .balance(rs.getBigDecimal("balance"))
+                .build();
+    }
+
+    // 검색 거래유형 코드 (0: 전체, 1: 입금, 2: 출금)
+    private String transactionTypeOf(Integer code) {
+        if (code == null) {
+            return null;
+        }
+        return switch (code) {
+            case 1 -> "입금";
+            case 2 -> "출금";
+            default -> null;
+        };
+    }
+
+    private void batchInsert(String sql, List<Transaction> transactions) {
+        jdbcTemplate.batchUpdate(sql, transactions, batchSize, (ps, t) -> {
+            ps.setLong(1, t.getId());
+            ps.setLong(2, t.getAccount().getId());
+            ps.setTimestamp(3, Timestamp.valueOf(t.getTransactionDateTime()));
+            ps.setString(4, t.getTransactionType());
+            ps.setString(5, t.getSender());
+            ps.setString(6, t.getReceiver());
+            ps.setBigDecimal(7, t.getWithdrawalAmount());
+            ps.setBigDecimal(8, t.getDepositAmount());
+            ps.setBigDecimal(9, t.getBalance());
+        });
+    }
+}
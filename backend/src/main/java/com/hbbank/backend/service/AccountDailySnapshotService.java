@@ -0,0 +1,213 @@
+package com.hbbank.backend.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.domain.AccountDailySnapshot;
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.dto.AccountRangeSummaryDTO;
+import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.repository.AccountDailySnapshotRepository;
+import com.hbbank.backend.repository.AccountDailySnapshotRepository.TransactionTotals;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 계좌별 일별 잔액 스냅샷 관리
+ * 1. 누적: 거래내역을 저장하는 트랜잭션 안에서 계좌/일자별로 합쳐 한 번씩 upsert (이체 1건당 계좌 2개 = 2행)
+ *    - 핫 계좌 입금은 계좌 행을 잠그지 않고 동시에 들어오므로, 스냅샷 행 하나에 몰려 직렬화되지 않도록 누적하지 않음
+ *      (자정 배치의 재계산에서 반영되며, 그 전까지 기간 요약은 전날/당일 거래내역을 직접 합산)
+ * 2. 재계산(compaction): 자정 배치에서 전날 거래내역으로 전날 스냅샷을 다시 계산해 누적 중 빠진 값을 보정
+ * 3. 백필: 스냅샷 도입 전 거래내역으로 과거 스냅샷을 한 번 생성 (기동 시 일회성 배치 작업)
+ * 4. 기간 요약: 거래내역 대신 스냅샷 행(거래가 있었던 일수만큼)으로 계산
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class AccountDailySnapshotService {
+
+    private final AccountDailySnapshotRepository snapshotRepository;
+    private final AccountService accountService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final class DailyDelta {
+        private BigDecimal openingBalance;
+        private BigDecimal closingBalance;
+        private BigDecimal depositTotal = BigDecimal.ZERO;
+        private BigDecimal withdrawalTotal = BigDecimal.ZERO;
+        private long depositCount;
+        private long withdrawalCount;
+
+        private void add(Transaction t) {
+            // 잔액이 기록되지 않은 거래(핫 계좌 입금)는 기초/기말 잔액 계산에서 제외하고 합계만 누적
+            if (t.getBalance() != null) {
+                if (openingBalance == null) {
+                    openingBalance = t.getBalance().subtract(t.getDepositAmount()).add(t.getWithdrawalAmount());
+                }
+                closingBalance = t.getBalance();
+            }
+            if (t.getDepositAmount().signum() > 0) {
+                depositTotal = depositTotal.add(t.getDepositAmount());
+                depositCount++;
+            }
+            if (t.getWithdrawalAmount().signum() > 0) {
+                withdrawalTotal = withdrawalTotal.add(t.getWithdrawalAmount());
+                withdrawalCount++;
+            }
+        }
+    }
+
+    private record SnapshotKey(Long accountId, LocalDate date) implements Comparable<SnapshotKey> {
+        @Override
+        public int compareTo(SnapshotKey o) {
+            int c = accountId.compareTo(o.accountId);
+            return c != 0 ? c : date.compareTo(o.date);
+        }
+    }
+
+    // 저장한 거래내역(거래 순서대로)을 스냅샷에 누적, 여러 트랜잭션이 같은 행을 잠그는 순서가 같도록 계좌 ID 순으로 upsert
+    public void accumulate(List<Transaction> transactions) {
+        Map<SnapshotKey, DailyDelta> deltas = new TreeMap<>();
+        for (Transaction t : transactions) {
+            if (t.getAccount().isHot() && t.getDepositAmount().signum() > 0) {
+                continue;
+            }
+            deltas.computeIfAbsent(new SnapshotKey(t.getAccount().getId(), t.getTransactionDateTime().toLocalDate()),
+                    k -> new DailyDelta()).add(t);
+        }
+        deltas.forEach((key, d) -> snapshotRepository.accumulate(key.accountId(), key.date(),
+                d.openingBalance, d.closingBalance, d.depositTotal, d.withdrawalTotal, d.depositCount, d.withdrawalCount));
+    }
+
+    // 자정 배치 단계: date 하루치 거래내역으로 담당 파티션의 스냅샷 재계산
+    public void compact(LocalDate date, BatchStepContext context) {
+        int compacted = snapshotRepository.compact(date, date.atStartOfDay(), date.plusDays(1).atStartOfDay(),
+                context.getPartitionCount(), context.getPartition());
+        log.info("일별 잔액 스냅샷 재계산 완료 - 기준일: {}, 파티션: {}/{}, 반영 행: {}",
+                date, context.getPartition(), context.getPartitionCount(), compacted);
+    }
+
+    /*
+     * 일회성 백필 단계: 스냅샷 도입 전 거래내역으로 가장 오래된 거래일부터 until 까지 담당 파티션의 스냅샷 생성
+     * 재계산은 직전 스냅샷의 마감 잔액을 쓰므로 날짜 순으로, 하루씩 별도 트랜잭션으로 반영하고 날짜를 checkpoint 로 기록
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfill(LocalDate until, BatchStepContext context) {
+        LocalDate date;
+        if (context.getRestartCheckpoint() != null) {
+            date = LocalDate.parse(context.getRestartCheckpoint()).plusDays(1);
+        } else {
+            LocalDateTime first = snapshotRepository.findFirstTransactionDateTime();
+            if (first == null) {
+                log.info("일별 잔액 스냅샷 백필 대상 없음 - 파티션: {}/{}", context.getPartition(), context.getPartitionCount());
+                return;
+            }
+            date = first.toLocalDate();
+        }
+
+        long days = 0;
+        for (; !date.isAfter(until); date = date.plusDays(1)) {
+            if (!context.isLeaseHeld()) {
+                log.warn("일별 잔액 스냅샷 백필 중단(lease 상실) - 파티션: {}/{}, 다음 날짜: {}",
+                        context.getPartition(), context.getPartitionCount(), date);
+                return;
+            }
+            LocalDate day = date;
+            Integer rows = transactionTemplate.execute(status -> snapshotRepository.compact(day, day.atStartOfDay(),
+                    day.plusDays(1).atStartOfDay(), context.getPartitionCount(), context.getPartition()));
+            context.checkpoint(day.toString(), rows == null ? 0 : rows);
+            days++;
+        }
+        log.info("일별 잔액 스냅샷 백필 완료 - 파티션: {}/{}, 처리 일수: {}, 종료일: {}",
+                context.getPartition(), context.getPartitionCount(), days, until);
+    }
+
+    /*
+     * 기간 요약 (거래내역서 머리말)
+     * 전날까지는 스냅샷 행으로 계산하되, 전날(자정 재계산 전일 수 있음)과 당일은 핫 계좌 입금이 스냅샷에 없으므로
+     * 해당 계좌의 거래내역을 직접 합산 (최대 이틀치라 인덱스 범위 조회로 충분함)
+     */
+    @Transactional(readOnly = true)
+    public AccountRangeSummaryDTO summarize(Long accountId, LocalDate startDate, LocalDate endDate) {
+        if (startDate.isAfter(endDate)) {
+            throw new InvalidDateRangeException("종료일이 시작일보다 앞설 수 없습니다.");
+        }
+        accountService.verifyAccount(accountId);
+
+        LocalDate rawFrom = LocalDate.now().minusDays(1);
+        LocalDate snapshotEnd = endDate.isBefore(rawFrom) ? endDate : rawFrom.minusDays(1);
+        List<AccountDailySnapshot> snapshots = startDate.isAfter(snapshotEnd) ? List.of() : snapshotRepository
+                .findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(accountId, startDate, snapshotEnd);
+
+        BigDecimal depositTotal = BigDecimal.ZERO;
+        BigDecimal withdrawalTotal = BigDecimal.ZERO;
+        long depositCount = 0;
+        long withdrawalCount = 0;
+        int activeDays = snapshots.size();
+        for (AccountDailySnapshot s : snapshots) {
+            depositTotal = depositTotal.add(s.getDepositTotal());
+            withdrawalTotal = withdrawalTotal.add(s.getWithdrawalTotal());
+            depositCount += s.getDepositCount();
+            withdrawalCount += s.getWithdrawalCount();
+        }
+
+        BigDecimal openingBalance = snapshots.isEmpty() ? null : snapshots.get(0).getOpeningBalance();
+        BigDecimal closingBalance = snapshots.isEmpty() ? null : snapshots.get(snapshots.size() - 1).getClosingBalance();
+
+        if (endDate.isAfter(snapshotEnd)) {
+            LocalDate tailStart = startDate.isAfter(rawFrom) ? startDate : rawFrom;
+            TransactionTotals tail = snapshotRepository.sumTransactions(accountId, tailStart.atStartOfDay(),
+                    endDate.plusDays(1).atStartOfDay());
+            depositTotal = depositTotal.add(tail.getDepositTotal());
+            withdrawalTotal = withdrawalTotal.add(tail.getWithdrawalTotal());
+            depositCount += tail.getDepositCount();
+            withdrawalCount += tail.getWithdrawalCount();
+            activeDays += tail.getActiveDays().intValue();
+
+            // 잔액이 기록된 거래가 없으면(핫 계좌 입금뿐이거나 거래 없음) 직전 마감 잔액에서 시작
+            BigDecimal tailOpening = tail.getOpeningBalance() != null ? tail.getOpeningBalance()
+                    : closingBalance != null ? closingBalance : previousClosingBalance(accountId, tailStart);
+            if (openingBalance == null) {
+                openingBalance = tailOpening;
+            }
+            closingBalance = tailOpening.add(tail.getDepositTotal()).subtract(tail.getWithdrawalTotal());
+        }
+
+        // 기간 안에 거래가 없으면 기초/기말 잔액은 직전 거래일의 마감 잔액 (거래 이력이 없으면 0)
+        if (openingBalance == null) {
+            openingBalance = previousClosingBalance(accountId, startDate);
+            closingBalance = openingBalance;
+        }
+
+        log.info("계좌 기간 요약 조회 - 계좌ID: {}, 기간: {} ~ {}, 스냅샷: {} 행", accountId, startDate, endDate, snapshots.size());
+        return AccountRangeSummaryDTO.builder()
+                .accountId(accountId)
+                .startDate(startDate)
+                .endDate(endDate)
+                .openingBalance(openingBalance)
+                .closingBalance(closingBalance)
+                .depositTotal(depositTotal)
+                .withdrawalTotal(withdrawalTotal)
+                .depositCount(depositCount)
+                .withdrawalCount(withdrawalCount)
+                .activeDays(activeDays)
+                .build();
+    }
+
+    private BigDecimal previousClosingBalance(Long accountId, LocalDate date) {
+        return snapshotRepository.findFirstByAccountIdAndSnapshotDateBeforeOrderBySnapshotDateDesc(accountId, date)
+                .map(AccountDailySnapshot::getClosingBalance)
+                .orElse(BigDecimal.ZERO);
+    }
+}
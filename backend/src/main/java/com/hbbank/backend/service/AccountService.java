@@ -1,25 +1,33 @@
 package com.hbbank.backend.service;
 
+import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 import com.hbbank.backend.exception.account.AccountTypeNotFoundException;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.hbbank.backend.config.ReplicaRoutingDataSource;
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.AccountType;
 import com.hbbank.backend.domain.User;
-import com.hbbank.backend.domain.enums.AccountStatus;
 import com.hbbank.backend.dto.AccountCreateDTO;
+import com.hbbank.backend.dto.AccountMetadataDTO;
 import com.hbbank.backend.exception.account.InvalidAccountStatusException;
 import com.hbbank.backend.repository.AccountRepository;
 import com.hbbank.backend.repository.AccountTypeRepository;
 import com.hbbank.backend.util.AccountNumberGenerator;
 
-import jakarta.transaction.Transactional;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -35,6 +43,25 @@ public class AccountService {
     private final PasswordEncoder passwordEncoder;
     private final AccountNumberGenerator numGen;
 
+    // 계좌번호는 개설 이후 바뀌지 않으므로 계좌 ID -> 계좌번호 매핑은 만료 없이 캐시해도 안전
+    private final Cache<Long, String> accountNumberCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    // 계좌 상태/소유자/한도는 거의 바뀌지 않으므로 검증 시 매번 조회하지 않도록 캐시
+    // 상태/소유자/한도를 바꾸는 서비스 경로가 없어 명시적 무효화는 하지 않으며, 변경(DB 직접 수정 등)은 1분 TTL 로만 반영
+    private final Cache<Long, AccountMetadataDTO> metadataCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    // 계좌번호 -> 소유자 이름 (이체 거래내역의 보낸분/받는분), 이름 변경은 TTL 로 반영
+    private final Cache<String, String> ownerNameCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+
+    @Transactional(readOnly = true)
     public List<AccountType> getAccountTypes() {
         return accountTypeRepository.findAll();
     }
@@ -69,6 +96,7 @@ public class AccountService {
         return savedAccount;
     }
 
+    @Transactional(readOnly = true)
     public List<Account> findAllByUser_Id(Long userId) {
         userService.findById(userId);
 
@@ -92,19 +120,53 @@ public class AccountService {
                 });
     }
 
-    @Scheduled(cron = "0 0 0 * * *")
+    public String getAccountNumber(Long accountId) {
+        return accountNumberCache.get(accountId, id -> accountRepository.findAccountNumberById(id)
+                .orElseThrow(() -> {
+                    log.error("계좌번호 조회 실패 - 존재하지 않는 계좌 (계좌 ID: {})", id);
+                    return new AccountNotFoundException("존재하지 않는 계좌입니다.");
+                }));
+    }
+
+    /*
+     * 계좌번호별 소유자 이름 조회 (존재하지 않는 계좌는 결과에서 빠짐)
+     * 이체는 락 획득 전에 호출해, 락을 쥔 채 거래내역을 만들면서 사용자를 지연 로딩하지 않도록 함
+     * 캐시 미스인 계좌만 이름 projection 으로 한 번에 조회하므로, 이후 락 쿼리가 영속성 컨텍스트의 락 전 엔티티를 돌려받지 않음
+     */
+    public Map<String, String> getOwnerNames(Collection<String> accountNumbers) {
+        return ownerNameCache.getAll(accountNumbers, this::loadOwnerNames);
+    }
+
+    private Map<String, String> loadOwnerNames(Set<? extends String> accountNumbers) {
+        return accountRepository.findOwnerNamesByAccountNumberIn(List.copyOf(accountNumbers)).stream()
+                .collect(Collectors.toMap(row -> (String) row[0], row -> (String) row[1]));
+    }
+
+    // 일일 이체 한도 초기화 (일일 배치 작업의 첫 단계, 자동이체 실행 전)
     public void resetDailyTransferAmount() {
         log.info("일일 이체 한도 초기화 시작");
         accountRepository.resetAllDailyTransferredAmounts();
         log.info("일일 이체 한도 초기화 완료");
     }
 
-    public void verifyAccount(Long accountId) {
-        Account a = findById(accountId);
-
-        userService.findById(a.getUser().getId());
+    // 계좌 메타데이터 조회 (캐시 미스일 때만 계좌 + 사용자 fetch join 조회)
+    // 복제본에서 읽은 값은 복제 지연 중이면 무효화 직후 다시 캐시되어 변경 전 상태가 TTL 동안 남으므로,
+    // 복제본 라우팅이 켜져 있고 이번 조회가 실제로 복제본으로 간 경우에만 캐시하지 않음
+    public AccountMetadataDTO getMetadata(Long accountId) {
+        AccountMetadataDTO cached = metadataCache.getIfPresent(accountId);
+        if (cached != null) {
+            return cached;
+        }
+        AccountMetadataDTO metadata = AccountMetadataDTO.from(findById(accountId));
+        if (!ReplicaRoutingDataSource.isRoutedToReplica()) {
+            metadataCache.put(accountId, metadata);
+        }
+        return metadata;
+    }
 
-        if (!a.getStatus().equals(AccountStatus.ACTIVE)) {
+    // 계좌 존재 및 상태 검증 (사용자는 계좌 조회 시 fetch join 으로 함께 확인됨)
+    public void verifyAccount(Long accountId) {
+        if (!getMetadata(accountId).isActive()) {
             throw new InvalidAccountStatusException("유효하지 않은 계좌 상태입니다.");
         }
     }
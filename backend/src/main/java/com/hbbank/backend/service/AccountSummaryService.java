@@ -0,0 +1,127 @@
+package com.hbbank.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hbbank.backend.dto.AccountSummaryDTO;
+import com.hbbank.backend.exception.account.AccountNotFoundException;
+import com.hbbank.backend.repository.AccountRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 계좌번호 -> 계좌 요약(소유자 이름, 계좌 유형, 상태) 2단계 캐시
+ * 받는 분 계좌번호를 입력할 때마다 조회되므로 DB 조회(계좌 + 사용자 + 계좌 유형 join) 없이 응답하도록 캐시
+ * 1. 로컬(near) 캐시: 노드 메모리 (Caffeine)
+ * 2. Redis: 모든 노드가 공유, 한 노드가 DB 에서 읽은 값을 다른 노드가 재사용
+ * 3. DB: 두 캐시 모두 미스일 때만 조회 후 Redis 에 저장
+ * 무효화: Redis 키 삭제 후 pub/sub 채널로 계좌번호를 발행하면 모든 노드(자신 포함)가 로컬 캐시에서 제거
+ * 발행을 놓친 노드를 위해 로컬 캐시도 짧은 TTL 로 만료시킨다.
+ * Redis 장애 시에는 로컬 캐시 -> DB 로 동작 (조회 실패로 이어지지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AccountSummaryService implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "account:summary:invalidate";
+    private static final String KEY_PREFIX = "account:summary:";
+
+    private final AccountRepository accountRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${account.summary-cache.redis-ttl-ms:600000}")
+    private long redisTtlMillis = 600000;
+
+    private final Cache<String, AccountSummaryDTO> nearCache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofMinutes(5))
+            .build();
+
+    public AccountSummaryDTO getSummary(String accountNumber) {
+        return nearCache.get(accountNumber, this::load);
+    }
+
+    // 계좌 요약 변경 시 호출, 트랜잭션 안이면 커밋 후 무효화 (커밋 전 값이 다시 캐시되지 않도록)
+    // 현재는 소유자 이름/계좌 상태를 바꾸는 서비스 경로가 없어 호출하는 곳이 없고, 변경은 TTL 로만 반영됨
+    public void evict(String accountNumber) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(accountNumber);
+                }
+            });
+            return;
+        }
+        evictNow(accountNumber);
+    }
+
+    // 다른 노드(또는 자신)가 발행한 무효화 메시지 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String accountNumber = new String(message.getBody(), StandardCharsets.UTF_8);
+        nearCache.invalidate(accountNumber);
+        log.debug("계좌 요약 로컬 캐시 무효화 - 계좌번호: {}", accountNumber);
+    }
+
+    private AccountSummaryDTO load(String accountNumber) {
+        AccountSummaryDTO cached = readRedis(accountNumber);
+        if (cached != null) {
+            return cached;
+        }
+        AccountSummaryDTO summary = AccountSummaryDTO.from(accountRepository.findByAccountNumberWithUserAndType(accountNumber)
+                .orElseThrow(() -> {
+                    log.error("계좌 요약 조회 실패 - 존재하지 않는 계좌 (계좌 번호: {})", accountNumber);
+                    return new AccountNotFoundException("존재하지 않는 계좌입니다.");
+                }));
+        writeRedis(summary);
+        return summary;
+    }
+
+    private AccountSummaryDTO readRedis(String accountNumber) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + accountNumber);
+            return json == null ? null : objectMapper.readValue(json, AccountSummaryDTO.class);
+        } catch (Exception e) {
+            log.warn("계좌 요약 Redis 조회 실패 - 계좌번호: {}, 사유: {}", accountNumber, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(AccountSummaryDTO summary) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + summary.getAccountNumber(),
+                    objectMapper.writeValueAsString(summary), Duration.ofMillis(redisTtlMillis));
+        } catch (JsonProcessingException e) {
+            log.error("계좌 요약 직렬화 실패 - 계좌번호: {}, 사유: {}", summary.getAccountNumber(), e.getMessage());
+        } catch (Exception e) {
+            log.warn("계좌 요약 Redis 저장 실패 - 계좌번호: {}, 사유: {}", summary.getAccountNumber(), e.getMessage());
+        }
+    }
+
+    private void evictNow(String accountNumber) {
+        nearCache.invalidate(accountNumber);
+        try {
+            redisTemplate.delete(KEY_PREFIX + accountNumber);
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, accountNumber);
+        } catch (Exception e) {
+            // 다른 노드의 로컬 캐시는 TTL 이 지나면 만료됨
+            log.error("계좌 요약 캐시 무효화 실패 - 계좌번호: {}, 사유: {}", accountNumber, e.getMessage());
+        }
+    }
+}
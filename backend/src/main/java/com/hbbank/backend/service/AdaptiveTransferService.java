@@ -0,0 +1,168 @@
+package com.hbbank.backend.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.hbbank.backend.dto.TransferLockStatsDTO;
+import com.hbbank.backend.dto.TransferRequestDTO;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 낙관적/비관적 락 이체 선택
+ * 1. 평소에는 락 없이 이체하고(TransferService.transferOptimistic) 커밋 시점 version 충돌 시 지터를 둔 지수 백오프로 재시도
+ * 2. 재시도 횟수를 모두 소진하면 해당 이체는 비관적 락 이체(TransferService.transfer)로 처리
+ * 3. 짧은 시간 안에 충돌이 반복된 계좌는 일정 시간 동안 처음부터 비관적 락으로 처리
+ * 재시도는 트랜잭션 밖에서 돌아야 하므로 이 클래스에는 @Transactional 을 붙이지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdaptiveTransferService {
+
+    private final TransferService transferService;
+    private final AccountService accountService;
+    private final HotAccountService hotAccountService;
+
+    @Value("${transfer.optimistic.enabled:false}")
+    private boolean optimisticEnabled;
+
+    @Value("${transfer.optimistic.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${transfer.optimistic.backoff-ms:10}")
+    private long backoffMillis = 10;
+
+    // contention-window-ms 안에 충돌이 fallback-threshold 번 이상 나면 pessimistic-ttl-ms 동안 비관적 락 사용
+    @Value("${transfer.optimistic.fallback-threshold:3}")
+    private int fallbackThreshold = 3;
+
+    @Value("${transfer.optimistic.contention-window-ms:10000}")
+    private long contentionWindowMillis = 10_000;
+
+    @Value("${transfer.optimistic.pessimistic-ttl-ms:300000}")
+    private long pessimisticTtlMillis = 300_000;
+
+    private final AtomicLong conflictCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong fallbackCount = new AtomicLong();
+
+    // 계좌번호별 충돌 이력, 마지막 충돌 후 contention-window-ms 와 비관적 락 유지 시각 중 늦은 시점에 만료
+    // 충돌한 계좌가 계속 늘어도 메모리가 무한히 커지지 않도록 개수도 제한
+    private final Cache<String, Contention> contentions = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(new Expiry<String, Contention>() {
+                @Override
+                public long expireAfterCreate(String accountNumber, Contention c, long currentTime) {
+                    return remainingNanos(c);
+                }
+
+                @Override
+                public long expireAfterUpdate(String accountNumber, Contention c, long currentTime, long currentDuration) {
+                    return remainingNanos(c);
+                }
+
+                @Override
+                public long expireAfterRead(String accountNumber, Contention c, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    public boolean transfer(TransferRequestDTO dto) {
+        if (!optimisticEnabled) {
+            return transferService.transfer(dto);
+        }
+
+        String fromAccountNumber = accountService.getAccountNumber(dto.getFromAccountId());
+        String toAccountNumber = dto.getToAccountNumber();
+        // 핫 계좌는 버킷 입금 경로를 타야 하므로 비관적 락 이체로 처리
+        if (hotAccountService.isHot(toAccountNumber) || hotAccountService.isHot(fromAccountNumber)
+                || isPessimistic(fromAccountNumber) || isPessimistic(toAccountNumber)) {
+            return transferService.transfer(dto);
+        }
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return transferService.transferOptimistic(dto);
+            } catch (OptimisticLockingFailureException e) {
+                conflictCount.incrementAndGet();
+                recordConflict(fromAccountNumber);
+                recordConflict(toAccountNumber);
+                log.warn("낙관적 락 이체 충돌 - 출금계좌: {}, 입금계좌: {}, 시도: {}/{}",
+                        fromAccountNumber, toAccountNumber, attempt, maxAttempts);
+
+                if (attempt == maxAttempts || !backoff(attempt)) {
+                    break;
+                }
+                retryCount.incrementAndGet();
+            }
+        }
+
+        fallbackCount.incrementAndGet();
+        log.warn("낙관적 락 재시도 소진 - 비관적 락 이체로 전환 (출금계좌: {}, 입금계좌: {})", fromAccountNumber, toAccountNumber);
+        return transferService.transfer(dto);
+    }
+
+    public TransferLockStatsDTO getStats() {
+        long now = System.currentTimeMillis();
+        return TransferLockStatsDTO.builder()
+                .optimisticEnabled(optimisticEnabled)
+                .conflictCount(conflictCount.get())
+                .retryCount(retryCount.get())
+                .fallbackCount(fallbackCount.get())
+                .pessimisticAccountCount(contentions.asMap().values().stream()
+                        .filter(c -> c.pessimisticUntil > now)
+                        .count())
+                .build();
+    }
+
+    // 지수 백오프 + full jitter: 같은 계좌를 두고 충돌한 요청들이 같은 시점에 다시 부딪히지 않도록 분산
+    private boolean backoff(int attempt) {
+        long ceiling = backoffMillis << (attempt - 1);
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isPessimistic(String accountNumber) {
+        Contention c = contentions.getIfPresent(accountNumber);
+        return c != null && c.pessimisticUntil > System.currentTimeMillis();
+    }
+
+    private void recordConflict(String accountNumber) {
+        long now = System.currentTimeMillis();
+        contentions.asMap().compute(accountNumber, (k, c) -> {
+            Contention next = (c == null || now - c.lastConflictAt > contentionWindowMillis)
+                    ? new Contention(1, now, 0)
+                    : new Contention(c.conflicts + 1, now, c.pessimisticUntil);
+            if (next.conflicts >= fallbackThreshold && next.pessimisticUntil <= now) {
+                log.warn("충돌 반복 계좌 비관적 락 전환 - 계좌번호: {}, 유지시간: {}ms", accountNumber, pessimisticTtlMillis);
+                return new Contention(0, now, now + pessimisticTtlMillis);
+            }
+            return next;
+        });
+    }
+
+    // 충돌 이력이 더 이상 필요 없어지는 시점(충돌 창 종료, 비관적 락 해제 중 늦은 쪽)까지 남은 시간
+    private long remainingNanos(Contention c) {
+        long expiresAt = Math.max(c.lastConflictAt + contentionWindowMillis, c.pessimisticUntil);
+        return Duration.ofMillis(Math.max(0, expiresAt - System.currentTimeMillis())).toNanos();
+    }
+
+    private record Contention(int conflicts, long lastConflictAt, long pessimisticUntil) {
+    }
+}
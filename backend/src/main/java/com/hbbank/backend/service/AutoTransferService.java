@@ -1,28 +1,42 @@
 package com.hbbank.backend.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import com.hbbank.backend.domain.User;
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 import com.hbbank.backend.exception.autoTransfer.AutoTransferNotFoundException;
 import com.hbbank.backend.exception.autoTransfer.InvalidAutoTransferPasswordException;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.AutoTransfer;
 import com.hbbank.backend.domain.enums.TransferStatus;
 import com.hbbank.backend.domain.enums.TransferType;
 import com.hbbank.backend.dto.AutoTransferRequestDTO;
+import com.hbbank.backend.dto.AutoTransferRunStatsDTO;
 import com.hbbank.backend.dto.TransferRequestDTO;
 import com.hbbank.backend.repository.AccountRepository;
 import com.hbbank.backend.repository.AutoTransferRepository;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,6 +51,23 @@ public class AutoTransferService {
     private final UserService userService;
     private final TransferService transferService;
     private final PasswordEncoder encoder;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final String CHECKPOINT_DELIMITER = ":";
+
+    // 자동이체 실행 워커 수 (출금 계좌 기준 파티션 수)
+    @Value("${auto-transfer.execution.workers:8}")
+    private int workers = 8;
+
+    // 진행 로그 간격 (처리 건수)
+    @Value("${auto-transfer.execution.progress-log-interval:10000}")
+    private int progressLogInterval = 10000;
+
+    // 한 번에 읽어 처리할 자동이체 건수
+    @Value("${auto-transfer.execution.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    private volatile AutoTransferRunStatsDTO lastRunStats;
 
     // 자동 이체 등록
     public AutoTransfer register(AutoTransferRequestDTO dto) {
@@ -81,6 +112,7 @@ public class AutoTransferService {
     }
 
     // 자동 이체 목록 조회
+    @Transactional(readOnly = true)
     public List<AutoTransfer> findAllByUserId(Long userId) {
         userService.findById(userId);
 
@@ -130,60 +162,244 @@ public class AutoTransferService {
         log.info("자동이체 삭제 완료 - ID: {}", at.getId());
     }
 
-    // 자동 이체 실행(매일 00:00)
-    // 매일매일 해당 날짜에 startDate가 해당하는 모든 자동 이체 내역들에 대해 00:00 에 실행
-    // 성능 및 정합성 테스트 필수!!!!!(대량의 자동 이체 내역 확인 필요하기 때문)
-    @Scheduled(cron = "0 0 0 * * *")
+    /*
+     * 자동 이체 실행 (일일 배치 작업의 auto-transfer 단계)
+     * 예정일이 된 자동이체를 (이체 예정일, ID) keyset 으로 chunk-size 건씩 읽어 처리
+     * - 청크 조회는 조회 쿼리 하나짜리 트랜잭션에서 끝나므로 엔티티가 영속성 컨텍스트에 쌓이지 않고,
+     *   한 청크를 모두 처리한 뒤 다음 청크를 읽어 메모리에는 항상 한 청크만 유지됨
+     * - 청크는 출금 계좌 기준으로 파티션을 나눠 워커 스레드에서 병렬 실행
+     *   같은 출금 계좌의 자동이체는 같은 파티션에서 순서대로 실행되어 계좌 락을 두고 경합하지 않음
+     * - 자동이체 1건마다 별도 트랜잭션을 사용하므로 한 건의 실패가 다른 건의 영속성 컨텍스트/커밋에 영향을 주지 않음
+     * - 청크를 모두 처리하면 마지막 (이체 예정일, ID)를 checkpoint 로 기록하고, 재시작 시 그 이후부터 조회
+     *   checkpoint 이후 중단된 청크의 자동이체는 lastExecutedDate 로 이미 실행한 건을 건너뜀
+     * - 이체 전에 같은 트랜잭션에서 lastExecutedDate 조건부 UPDATE 로 기준일 실행을 선점하고,
+     *   선점하지 못하면(다른 노드/워커가 이미 실행) 건너뜀. 파티션 lease 를 잃었으면 남은 건은 실행하지 않음
+     * - 일일 배치 작업에서는 출금 계좌 ID 기준 파티션 하나씩 호출되며(context), 파티션은 여러 노드가 나눠 실행
+     * 실행 결과(건수, 처리량)는 getLastRunStats 로 조회
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void executeAutoTransfer() {
+        executeAutoTransfer(BatchStepContext.none());
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void executeAutoTransfer(BatchStepContext context) {
         LocalDate today = LocalDate.now();
-        log.info("자동이체 실행 시작: {}", today);
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        log.info("자동이체 실행 시작: {}, 파티션: {}/{}, checkpoint: {}",
+                today, context.getPartition(), context.getPartitionCount(), context.getRestartCheckpoint());
 
-        List<AutoTransfer> list = autoTransferRepository
-                .findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE)
-                .orElse(Collections.emptyList());
+        RunCounter counter = new RunCounter();
+        ExecutorService executor = Executors.newFixedThreadPool(workers, workerThreadFactory());
+        try {
+            String checkpoint = context.getRestartCheckpoint();
+            List<AutoTransfer> chunk = checkpoint == null
+                    ? autoTransferRepository.findFirstDueChunk(today, TransferStatus.ACTIVE,
+                            context.getPartitionCount(), context.getPartition(), Limit.of(chunkSize))
+                    : findChunkAfter(today, context, checkpoint);
+            while (!chunk.isEmpty()) {
+                // 실행하면 다음 이체 예정일이 바뀌므로 커서는 실행 전에 기록
+                AutoTransfer last = chunk.get(chunk.size() - 1);
+                checkpoint = last.getNextTransferDate() + CHECKPOINT_DELIMITER + last.getId();
+
+                counter.total.addAndGet(chunk.size());
+                executeChunk(executor, chunk, today, context, counter);
+                context.checkpoint(checkpoint, chunk.size());
+                if (chunk.size() < chunkSize) {
+                    break;
+                }
+                chunk = findChunkAfter(today, context, checkpoint);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("자동이체 실행 중단 - 처리 완료: {}건", counter.completed());
+            throw new IllegalStateException("자동이체 실행이 중단되었습니다.", e);
+        } finally {
+            executor.shutdownNow();
+        }
 
-        int totalCount = list.size();
-        int successCount = 0;
-        int failCount = 0;
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        lastRunStats = AutoTransferRunStatsDTO.builder()
+                .runDate(today)
+                .partition(context.getPartition())
+                .partitionCount(context.getPartitionCount())
+                .startedAt(startedAt)
+                .finishedAt(LocalDateTime.now())
+                .workerCount(workers)
+                .totalCount(counter.total.get())
+                .successCount(counter.success.get())
+                .failCount(counter.fail.get())
+                .errorCount(counter.error.get())
+                .skippedCount(counter.skipped.get())
+                .elapsedMillis(elapsedMillis)
+                .throughputPerSecond(throughput(counter.completed(), elapsedMillis))
+                .build();
+        log.info("자동이체 실행 완료 - 파티션: {}/{}, 총 {}건 중 성공: {}건, 실패: {}건, 오류: {}건, 워커: {}개, 소요: {}ms, 처리량: {}건/초",
+                context.getPartition(), context.getPartitionCount(), counter.total.get(), counter.success.get(), counter.fail.get(), counter.error.get(),
+                workers, elapsedMillis, String.format("%.1f", lastRunStats.getThroughputPerSecond()));
+    }
 
-        for (AutoTransfer at : list) {
+    // 이 노드의 마지막 자동이체 실행 결과 (파티션 단위, 실행 전이면 null)
+    public AutoTransferRunStatsDTO getLastRunStats() {
+        return lastRunStats;
+    }
+
+    // checkpoint("이체 예정일:ID") 이후 청크 조회
+    private List<AutoTransfer> findChunkAfter(LocalDate today, BatchStepContext context, String checkpoint) {
+        int delimiter = checkpoint.indexOf(CHECKPOINT_DELIMITER);
+        return autoTransferRepository.findDueChunkAfter(today, TransferStatus.ACTIVE,
+                context.getPartitionCount(), context.getPartition(),
+                LocalDate.parse(checkpoint.substring(0, delimiter)),
+                Long.parseLong(checkpoint.substring(delimiter + 1)),
+                Limit.of(chunkSize));
+    }
+
+    // 한 청크를 출금 계좌 기준 파티션으로 나눠 실행하고 모두 끝날 때까지 대기
+    private void executeChunk(ExecutorService executor, List<AutoTransfer> chunk, LocalDate today,
+                              BatchStepContext context, RunCounter counter) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>();
+        for (List<AutoTransfer> partition : partitionByFromAccount(chunk, workers)) {
+            futures.add(executor.submit(() -> partition.forEach(at -> execute(at, today, context, counter))));
+        }
+        for (Future<?> future : futures) {
             try {
-                boolean success = transferService.transfer(TransferRequestDTO.builder()
+                future.get();
+            } catch (ExecutionException e) {
+                log.error("자동이체 워커 오류 - 사유: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    // 자동이체 1건 실행 (이체 + 상태 갱신을 한 트랜잭션으로), 예외 발생 시 실패 횟수만 별도 트랜잭션으로 기록
+    private void execute(AutoTransfer at, LocalDate today, BatchStepContext context, RunCounter counter) {
+        Long fromAccountId = at.getFromAccount().getId();
+        if (!context.isLeaseHeld()) {
+            log.warn("자동이체 건너뜀 (파티션 lease 상실) - ID: {}, 기준일: {}", at.getId(), today);
+            return;
+        }
+        if (at.isExecutedOn(today)) {
+            skip(at, today, counter);
+            return;
+        }
+        try {
+            Boolean success = transactionTemplate.execute(status -> {
+                if (autoTransferRepository.claimExecution(at.getId(), today) != 1) {
+                    return null;
+                }
+                boolean result = transferService.transfer(TransferRequestDTO.builder()
                         .type(TransferType.AUTO)
-                        .fromAccountId(at.getFromAccount().getId())
+                        .fromAccountId(fromAccountId)
                         .toAccountNumber(at.getToAccountNumber())
                         .amount(at.getAmount())
                         .build());
-                at.updateStatus(success);
-                if (success) {
-                    successCount++;
-                    log.info("자동이체 성공 - ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}",
-                            at.getId(), at.getFromAccount().getId(), at.getToAccountNumber(), at.getAmount());
-                } else {
-                    failCount++;
-                    log.warn("자동이체 실패 - ID: {}, 출금계좌: {}", at.getId(), at.getFromAccount().getId());
+                at.updateStatus(result);
+                at.markExecuted(today);
+                autoTransferRepository.save(at);
+                return result;
+            });
+            if (success == null) {
+                skip(at, today, counter);
+                return;
+            }
+            if (success) {
+                counter.success.incrementAndGet();
+                log.info("자동이체 성공 - ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}",
+                        at.getId(), fromAccountId, at.getToAccountNumber(), at.getAmount());
+            } else {
+                counter.fail.incrementAndGet();
+                log.warn("자동이체 실패 - ID: {}, 출금계좌: {}", at.getId(), fromAccountId);
+            }
+        } catch (Exception e) {
+            counter.error.incrementAndGet();
+            log.error("자동이체 실행 중 오류 발생 - ID: {}, 출금계좌: {}, 사유: {}",
+                    at.getId(), fromAccountId, e.getMessage());
+            recordFailure(at, today);
+        }
+        counter.onCompleted(progressLogInterval);
+    }
+
+    private void skip(AutoTransfer at, LocalDate today, RunCounter counter) {
+        counter.skipped.incrementAndGet();
+        log.info("자동이체 건너뜀 (이미 실행됨) - ID: {}, 기준일: {}", at.getId(), today);
+        counter.onCompleted(progressLogInterval);
+    }
+
+    // 실패 기록도 선점한 경우에만 (그 사이 다른 노드가 실행했다면 실패 횟수를 올리지 않음)
+    private void recordFailure(AutoTransfer at, LocalDate today) {
+        try {
+            transactionTemplate.execute(status -> {
+                if (autoTransferRepository.claimExecution(at.getId(), today) != 1) {
+                    return null;
                 }
-            } catch (Exception e) {
                 at.increaseFailureCount();
-                failCount++;
-                log.error("자동이체 실행 중 오류 발생 - ID: {}, 출금계좌: {}, 사유: {}",
-                        at.getId(), at.getFromAccount().getId(), e.getMessage());
-            } finally {
-                autoTransferRepository.save(at);
+                at.markExecuted(today);
+                return autoTransferRepository.save(at);
+            });
+        } catch (Exception e) {
+            log.error("자동이체 실패 횟수 기록 실패 - ID: {}, 사유: {}", at.getId(), e.getMessage());
+        }
+    }
+
+    // 출금 계좌 ID 해시로 파티션 분배 (빈 파티션 제외, 파티션 내부는 조회 순서 유지)
+    private List<List<AutoTransfer>> partitionByFromAccount(List<AutoTransfer> list, int partitionCount) {
+        int count = Math.max(1, partitionCount);
+        List<List<AutoTransfer>> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (AutoTransfer at : list) {
+            partitions.get(Math.floorMod(Long.hashCode(at.getFromAccount().getId()), count)).add(at);
+        }
+        partitions.removeIf(List::isEmpty);
+        return partitions;
+    }
+
+    private ThreadFactory workerThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, "auto-transfer-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static double throughput(long count, long elapsedMillis) {
+        return elapsedMillis == 0 ? count : count * 1000.0 / elapsedMillis;
+    }
+
+    // 워커 스레드들이 공유하는 실행 건수 집계
+    private static class RunCounter {
+        private final long startNanos = System.nanoTime();
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong success = new AtomicLong();
+        private final AtomicLong fail = new AtomicLong();
+        private final AtomicLong error = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong completed = new AtomicLong();
+
+        private long completed() {
+            return completed.get();
+        }
+
+        private void onCompleted(int logInterval) {
+            long done = completed.incrementAndGet();
+            if (logInterval > 0 && done % logInterval == 0) {
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+                log.info("자동이체 진행 - {}/{}건, 처리량: {}건/초", done, total.get(),
+                        String.format("%.1f", throughput(done, elapsedMillis)));
             }
         }
-        log.info("자동이체 실행 완료 - 총 {}건 중 성공: {}건, 실패: {}건", totalCount, successCount, failCount);
     }
 
-    // 자동 이체 만료(매일 00:00)
+    // 자동 이체 만료 (일일 배치 작업의 finish-auto-transfer 단계, 당일 자동이체 실행 후)
     // 마찬가지로 성능/정합성 테스트 필수
-    @Scheduled(cron = "0 0 0 * * *")
     public void finishAutoTransfer() {
         LocalDate today = LocalDate.now();
         log.info("자동이체 만료 시작: {}", today);
 
         List<AutoTransfer> list = autoTransferRepository
-                .findAllByEndDateAndStatus(today, TransferStatus.ACTIVE)
+                .findAllByEndDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE)
                 .orElse(Collections.emptyList());
 
         int expiredCount = 0;
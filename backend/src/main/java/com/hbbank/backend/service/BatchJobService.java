@@ -0,0 +1,355 @@
+package com.hbbank.backend.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.domain.BatchJobExecution;
+import com.hbbank.backend.domain.BatchStepExecution;
+import com.hbbank.backend.domain.enums.BatchStatus;
+import com.hbbank.backend.repository.BatchJobExecutionRepository;
+import com.hbbank.backend.repository.BatchStepExecutionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 재시작 가능한 배치 작업 실행기
+ * 1. (작업 이름, 기준일) 실행 이력을 조회하거나 생성. 이미 완료된 작업이면 실행하지 않음
+ *    다른 노드가 실행 중인 작업(STARTED)이면 새 회차를 시작하지 않고 같은 회차에 합류
+ * 2. 단계를 의존 관계 순서로 정렬해 하나씩 실행
+ *    - 단계(파티션 단계는 파티션 하나)는 Redis lease 를 획득한 노드 하나만 실행하고,
+ *      다른 노드는 남은 파티션을 가져가거나 단계가 끝날 때까지 기다린 뒤 다음 단계로 진행
+ *      -> 노드를 늘리면 파티션 단계(자동이체)를 나눠 처리해 배치 시간이 줄어듦
+ *    - 이미 완료된 단계는 건너뜀 (재시작)
+ *    - 실패했거나 실행 중 중단된 단계는 마지막 checkpoint 를 넘겨 이어서 실행
+ *      (실행 노드가 죽으면 lease 가 만료된 뒤 다른 노드가 checkpoint 부터 이어받음)
+ *    - 선행 단계가 실패해 완료되지 않은 단계는 SKIPPED 로 기록하고 실행하지 않음
+ *    - 다른 노드가 실행 중인 단계를 max-wait 동안 기다려도 끝나지 않으면 이 노드는 대기를 포기하고,
+ *      그 단계와 후속 단계에는 아무 상태도 기록하지 않음 (실행 중인 노드가 이어서 진행)
+ * 3. 모든 단계가 완료되면 작업을 COMPLETED, 아니면 FAILED 로 기록 (대기를 포기한 노드는 기록하지 않음)
+ * 실행 이력/checkpoint 기록은 단계 트랜잭션과 분리해 즉시 커밋하므로 JVM 이 중간에 종료되어도 남는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchJobService {
+
+    private static final String LEASE_PREFIX = "batch:";
+
+    private final BatchJobExecutionRepository jobExecutionRepository;
+    private final BatchStepExecutionRepository stepExecutionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SchedulerLeaseService leaseService;
+
+    // 다른 노드가 실행 중인 단계가 끝났는지 확인하는 간격
+    @Value("${batch.lease.poll-interval-ms:1000}")
+    private long pollIntervalMillis = 1000;
+
+    // 다른 노드가 실행 중인 단계를 기다리는 최대 시간
+    @Value("${batch.lease.max-wait-ms:3600000}")
+    private long maxWaitMillis = 3600000;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BatchStatus run(String jobName, LocalDate runDate, List<BatchStep> steps) {
+        List<BatchStep> ordered = orderByDependency(steps);
+
+        BatchJobExecution job = startOrJoin(jobName, runDate);
+        if (job.isCompleted()) {
+            log.info("배치 작업 이미 완료 - 작업: {}, 기준일: {}", jobName, runDate);
+            return BatchStatus.COMPLETED;
+        }
+
+        Set<String> completed = new HashSet<>();
+        Set<String> abandoned = new HashSet<>();
+        for (BatchStep step : ordered) {
+            if (step.dependsOn().stream().anyMatch(abandoned::contains)) {
+                abandoned.add(step.name());
+                continue;
+            }
+            StepResult stepResult = runStep(job, step, completed);
+            if (stepResult == StepResult.COMPLETED) {
+                completed.add(step.name());
+            } else if (stepResult == StepResult.ABANDONED) {
+                abandoned.add(step.name());
+            }
+        }
+
+        if (!abandoned.isEmpty()) {
+            log.warn("배치 작업 대기 포기, 결과 기록 생략 - 작업: {}, 기준일: {}, 회차: {}, 미확인 단계: {}",
+                    jobName, runDate, job.getAttempt(), abandoned);
+            return BatchStatus.STARTED;
+        }
+
+        BatchStatus result = completed.size() == ordered.size() ? BatchStatus.COMPLETED : BatchStatus.FAILED;
+        job.finish(result);
+        save(job);
+        log.info("배치 작업 종료 - 작업: {}, 기준일: {}, 회차: {}, 결과: {}, 완료 단계: {}/{}",
+                jobName, runDate, job.getAttempt(), result, completed.size(), ordered.size());
+        return result;
+    }
+
+    // 기준일 실행 이력이 있지만 완료되지 않은 작업인지 (기동 시 재시작 판단용)
+    @Transactional(readOnly = true)
+    public boolean isIncomplete(String jobName, LocalDate runDate) {
+        return jobExecutionRepository.findByJobNameAndRunDate(jobName, runDate)
+                .map(job -> !job.isCompleted())
+                .orElse(false);
+    }
+
+    // 가장 최근 실행 이력의 기준일 (일회성 작업을 처음 시작한 기준일로 이어서 실행할 때 사용)
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> findLatestRunDate(String jobName) {
+        return jobExecutionRepository.findFirstByJobNameOrderByRunDateDesc(jobName)
+                .map(BatchJobExecution::getRunDate);
+    }
+
+    // 작업 lease 를 잡은 상태에서 실행 이력을 조회해, 진행 중인 회차가 없으면 새 회차 시작
+    private BatchJobExecution startOrJoin(String jobName, LocalDate runDate) {
+        try (SchedulerLease lease = awaitLease(LEASE_PREFIX + jobName + ":" + runDate)) {
+            BatchJobExecution job = transactionTemplate.execute(status -> jobExecutionRepository
+                    .findByJobNameAndRunDate(jobName, runDate)
+                    .orElseGet(() -> BatchJobExecution.of(jobName, runDate)));
+            if (job.isCompleted()) {
+                return job;
+            }
+            if (job.getId() == null || job.getStatus() != BatchStatus.STARTED) {
+                job.start();
+                save(job);
+                log.info("배치 작업 시작 - 작업: {}, 기준일: {}, 회차: {}, 노드: {}",
+                        jobName, runDate, job.getAttempt(), leaseService.getNodeId());
+            } else {
+                log.info("배치 작업 합류 - 작업: {}, 기준일: {}, 회차: {}, 노드: {}",
+                        jobName, runDate, job.getAttempt(), leaseService.getNodeId());
+            }
+            return job;
+        }
+    }
+
+    /*
+     * 단계의 남은 파티션을 lease 를 획득하는 대로 실행하고, 다른 노드가 실행 중인 파티션은 끝날 때까지 대기
+     * 모든 파티션이 완료(이전 실행에서 완료 포함)되면 COMPLETED, 대기 시간을 넘기면 ABANDONED
+     */
+    private StepResult runStep(BatchJobExecution job, BatchStep step, Set<String> completed) {
+        List<String> pending = step.dependsOn().stream()
+                .filter(d -> !completed.contains(d))
+                .toList();
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+
+        while (true) {
+            List<BatchStepExecution> executions = transactionTemplate.execute(status -> stepExecutionRepository
+                    .findAllByJobExecutionIdAndStepName(job.getId(), step.name()));
+            List<Integer> remaining = remainingPartitions(step, executions, job.getAttempt());
+            if (remaining.isEmpty()) {
+                return executions.stream()
+                        .filter(e -> e.getPartitionNo() < step.partitions())
+                        .allMatch(BatchStepExecution::isCompleted) ? StepResult.COMPLETED : StepResult.NOT_COMPLETED;
+            }
+
+            boolean progressed = false;
+            for (int partition : rotate(remaining)) {
+                Optional<SchedulerLease> lease = leaseService.tryAcquire(leaseName(job, step, partition));
+                if (lease.isPresent()) {
+                    try (SchedulerLease held = lease.get()) {
+                        runPartition(job, step, partition, pending, held);
+                    }
+                    progressed = true;
+                }
+            }
+            if (progressed) {
+                continue;
+            }
+
+            if (System.currentTimeMillis() > deadline) {
+                log.error("배치 단계 대기 시간 초과 - 단계: {}, 남은 파티션: {}", step.name(), remaining);
+                return StepResult.ABANDONED;
+            }
+            log.debug("다른 노드의 배치 단계 실행 대기 - 단계: {}, 남은 파티션: {}", step.name(), remaining);
+            sleep(pollIntervalMillis);
+        }
+    }
+
+    // 파티션 하나 실행 (lease 보유 중), lease 를 잃으면 다른 노드가 이어받으므로 결과를 기록하지 않음
+    private void runPartition(BatchJobExecution job, BatchStep step, int partition, List<String> pending,
+                              SchedulerLease lease) {
+        String unit = unitName(step, partition);
+        BatchStepExecution execution = transactionTemplate.execute(status -> stepExecutionRepository
+                .findByJobExecutionIdAndStepNameAndPartitionNo(job.getId(), step.name(), partition)
+                .orElseGet(() -> BatchStepExecution.of(job.getId(), step.name(), partition)));
+        if (execution.isCompleted()) {
+            log.info("배치 단계 건너뜀 (이전 실행에서 완료) - 단계: {}", unit);
+            return;
+        }
+        if (execution.isFinishedIn(job.getAttempt())) {
+            return;
+        }
+
+        if (!pending.isEmpty()) {
+            execution.finish(job.getAttempt(), BatchStatus.SKIPPED, "선행 단계 미완료: " + pending);
+            save(execution);
+            log.warn("배치 단계 건너뜀 - 단계: {}, 미완료 선행 단계: {}", unit, pending);
+            return;
+        }
+
+        execution.start(job.getAttempt());
+        save(execution);
+        if (execution.getCheckpoint() != null) {
+            log.info("배치 단계 재시작 - 단계: {}, checkpoint: {}, 처리 건수: {}",
+                    unit, execution.getCheckpoint(), execution.getProcessedCount());
+        }
+
+        try {
+            step.task().accept(new BatchStepContext(execution.getCheckpoint(), partition, step.partitions(),
+                    (checkpoint, processed) -> writeCheckpoint(execution, lease, checkpoint, processed),
+                    lease::isHeld));
+            if (!lease.isHeld()) {
+                log.error("배치 단계 lease 상실, 결과 기록 생략 - 단계: {}", unit);
+                return;
+            }
+            execution.finish(job.getAttempt(), BatchStatus.COMPLETED, null);
+            save(execution);
+            log.info("배치 단계 완료 - 단계: {}, 처리 건수: {}, 노드: {}",
+                    unit, execution.getProcessedCount(), leaseService.getNodeId());
+        } catch (Exception e) {
+            if (!lease.isHeld()) {
+                log.error("배치 단계 lease 상실로 중단 - 단계: {}, checkpoint: {}", unit, execution.getCheckpoint());
+                return;
+            }
+            execution.finish(job.getAttempt(), BatchStatus.FAILED, e.getMessage());
+            save(execution);
+            log.error("배치 단계 실패 - 단계: {}, checkpoint: {}, 사유: {}",
+                    unit, execution.getCheckpoint(), e.getMessage());
+        }
+    }
+
+    // lease 를 잃은 뒤에는 다른 노드가 같은 파티션을 실행 중일 수 있으므로 checkpoint 를 덮어쓰지 않고 중단
+    private void writeCheckpoint(BatchStepExecution execution, SchedulerLease lease, String checkpoint, long processed) {
+        if (!lease.isHeld()) {
+            throw new IllegalStateException("배치 단계 lease 를 잃었습니다: " + lease.getName());
+        }
+        execution.checkpoint(checkpoint, processed);
+        save(execution);
+        log.debug("배치 checkpoint 기록 - 단계: {}, checkpoint: {}, 처리 건수: {}",
+                execution.getStepName(), checkpoint, execution.getProcessedCount());
+    }
+
+    // 이번 회차에서 아직 끝나지 않은 파티션 번호
+    private List<Integer> remainingPartitions(BatchStep step, List<BatchStepExecution> executions, int attempt) {
+        Set<Integer> finished = new HashSet<>();
+        for (BatchStepExecution execution : executions) {
+            if (execution.isFinishedIn(attempt)) {
+                finished.add(execution.getPartitionNo());
+            }
+        }
+        List<Integer> remaining = new ArrayList<>();
+        for (int partition = 0; partition < step.partitions(); partition++) {
+            if (!finished.contains(partition)) {
+                remaining.add(partition);
+            }
+        }
+        return remaining;
+    }
+
+    // 노드마다 다른 파티션부터 시도해 lease 경합을 줄임
+    private List<Integer> rotate(List<Integer> partitions) {
+        List<Integer> rotated = new ArrayList<>(partitions);
+        Collections.rotate(rotated, Math.floorMod(Objects.hashCode(leaseService.getNodeId()), rotated.size()));
+        return rotated;
+    }
+
+    private SchedulerLease awaitLease(String name) {
+        long deadline = System.currentTimeMillis() + maxWaitMillis;
+        while (true) {
+            Optional<SchedulerLease> lease = leaseService.tryAcquire(name);
+            if (lease.isPresent()) {
+                return lease.get();
+            }
+            if (System.currentTimeMillis() > deadline) {
+                throw new IllegalStateException("배치 작업 lease 를 획득하지 못했습니다: " + name);
+            }
+            sleep(pollIntervalMillis);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("배치 작업 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private enum StepResult {
+        COMPLETED,      // 모든 파티션 완료
+        NOT_COMPLETED,  // 실패 또는 SKIPPED 파티션이 있음
+        ABANDONED       // 다른 노드의 실행을 기다리다 포기 (결과 미확인)
+    }
+
+    private static String leaseName(BatchJobExecution job, BatchStep step, int partition) {
+        return LEASE_PREFIX + job.getJobName() + ":" + job.getRunDate() + ":" + step.name() + ":" + partition;
+    }
+
+    private static String unitName(BatchStep step, int partition) {
+        return step.partitions() == 1 ? step.name() : step.name() + "#" + partition;
+    }
+
+    // 신규 이력은 persist 로 같은 인스턴스에 ID 가 채워지고, 이후에는 병합(merge)되므로 같은 인스턴스를 계속 사용
+    private void save(BatchJobExecution job) {
+        transactionTemplate.execute(status -> jobExecutionRepository.save(job));
+    }
+
+    private void save(BatchStepExecution execution) {
+        transactionTemplate.execute(status -> stepExecutionRepository.save(execution));
+    }
+
+    // 의존 관계 순서로 정렬 (선언 순서 유지), 없는 단계를 참조하거나 순환이 있으면 예외
+    private List<BatchStep> orderByDependency(List<BatchStep> steps) {
+        Map<String, BatchStep> byName = new LinkedHashMap<>();
+        for (BatchStep step : steps) {
+            if (byName.put(step.name(), step) != null) {
+                throw new IllegalStateException("중복된 배치 단계입니다: " + step.name());
+            }
+        }
+        List<BatchStep> ordered = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        Set<String> visiting = new HashSet<>();
+        for (BatchStep step : steps) {
+            visit(step, byName, visited, visiting, ordered);
+        }
+        return ordered;
+    }
+
+    private void visit(BatchStep step, Map<String, BatchStep> byName, Set<String> visited,
+                       Set<String> visiting, List<BatchStep> ordered) {
+        if (visited.contains(step.name())) {
+            return;
+        }
+        if (!visiting.add(step.name())) {
+            throw new IllegalStateException("배치 단계 의존 관계에 순환이 있습니다: " + step.name());
+        }
+        for (String dependency : step.dependsOn()) {
+            BatchStep required = byName.get(dependency);
+            if (required == null) {
+                throw new IllegalStateException("존재하지 않는 선행 단계입니다: " + dependency);
+            }
+            visit(required, byName, visited, visiting, ordered);
+        }
+        visiting.remove(step.name());
+        visited.add(step.name());
+        ordered.add(step);
+    }
+}
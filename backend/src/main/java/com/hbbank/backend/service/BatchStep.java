@@ -0,0 +1,34 @@
+package com.hbbank.backend.service;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/*
+ * 배치 작업의 한 단계
+ * dependsOn 에 지정한 단계가 모두 완료된 뒤에만 실행된다.
+ * 재시작 시 같은 단계가 다시 실행될 수 있으므로, 단계는 context 의 checkpoint 이후부터 처리하고
+ * 이미 처리한 대상을 다시 만나도 결과가 달라지지 않아야 한다(멱등).
+ * partitions 가 2 이상이면 단계를 그 수만큼 파티션으로 나눠 여러 노드가 하나씩 가져가 실행하며,
+ * task 는 context 의 파티션 번호에 해당하는 대상만 처리해야 한다.
+ */
+public record BatchStep(String name, List<String> dependsOn, int partitions, Consumer<BatchStepContext> task) {
+
+    public BatchStep {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("파티션 수는 1 이상이어야 합니다: " + name);
+        }
+    }
+
+    public static BatchStep of(String name, Consumer<BatchStepContext> task) {
+        return new BatchStep(name, List.of(), 1, task);
+    }
+
+    public static BatchStep of(String name, List<String> dependsOn, Consumer<BatchStepContext> task) {
+        return new BatchStep(name, List.copyOf(dependsOn), 1, task);
+    }
+
+    public static BatchStep partitioned(String name, List<String> dependsOn, int partitions,
+                                        Consumer<BatchStepContext> task) {
+        return new BatchStep(name, List.copyOf(dependsOn), partitions, task);
+    }
+}
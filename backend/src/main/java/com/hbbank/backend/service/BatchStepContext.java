@@ -0,0 +1,69 @@
+package com.hbbank.backend.service;
+
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+
+/*
+ * 배치 단계 실행 컨텍스트
+ * 단계는 청크를 커밋할 때마다 checkpoint 를 호출해 재시작 위치를 기록한다.
+ * 기록은 단계의 트랜잭션과 별개로 즉시 커밋된다.
+ * 파티션 단계라면 partition(0 ~ partitionCount-1)에 해당하는 대상만 처리한다.
+ * 실행 중인 노드가 파티션 lease 를 잃으면 checkpoint 기록 시 예외가 발생해 단계가 중단된다.
+ * 청크 안에서도 대상 1건마다 isLeaseHeld 를 확인해, lease 를 잃은 뒤에는 남은 대상을 처리하지 않는다.
+ */
+public class BatchStepContext {
+
+    private static final BatchStepContext NONE = new BatchStepContext(null, (checkpoint, processed) -> { });
+
+    private final String restartCheckpoint;
+    private final int partition;
+    private final int partitionCount;
+    private final BiConsumer<String, Long> checkpointWriter;
+    private final BooleanSupplier leaseHeld;
+
+    public BatchStepContext(String restartCheckpoint, BiConsumer<String, Long> checkpointWriter) {
+        this(restartCheckpoint, 0, 1, checkpointWriter);
+    }
+
+    public BatchStepContext(String restartCheckpoint, int partition, int partitionCount,
+                            BiConsumer<String, Long> checkpointWriter) {
+        this(restartCheckpoint, partition, partitionCount, checkpointWriter, () -> true);
+    }
+
+    public BatchStepContext(String restartCheckpoint, int partition, int partitionCount,
+                            BiConsumer<String, Long> checkpointWriter, BooleanSupplier leaseHeld) {
+        this.restartCheckpoint = restartCheckpoint;
+        this.partition = partition;
+        this.partitionCount = partitionCount;
+        this.checkpointWriter = checkpointWriter;
+        this.leaseHeld = leaseHeld;
+    }
+
+    // 배치 작업 밖에서 단독 실행할 때 사용 (처음부터 실행, checkpoint 기록 안 함)
+    public static BatchStepContext none() {
+        return NONE;
+    }
+
+    // 이전 실행이 마지막으로 기록한 재시작 위치 (처음 실행이면 null)
+    public String getRestartCheckpoint() {
+        return restartCheckpoint;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    // 이 파티션의 lease 를 아직 보유 중인지 (단독 실행이면 항상 true)
+    public boolean isLeaseHeld() {
+        return leaseHeld.getAsBoolean();
+    }
+
+    // checkpoint 까지 처리 완료, processed 는 직전 checkpoint 이후 처리 건수
+    public void checkpoint(String checkpoint, long processed) {
+        checkpointWriter.accept(checkpoint, processed);
+    }
+}
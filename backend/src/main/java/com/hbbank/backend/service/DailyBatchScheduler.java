@@ -0,0 +1,118 @@
+package com.hbbank.backend.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 자정 일괄 작업 스케줄러
+ * 기존에는 일일 한도 초기화/자동이체 실행/자동이체 만료가 각자 같은 cron 으로 순서 없이 실행되었으나,
+ * 하나의 배치 작업으로 묶어 아래 순서를 보장하고 실행 이력과 checkpoint 를 남긴다.
+ * reset-daily-limit -> auto-transfer -> finish-auto-transfer -> compact-daily-snapshot
+ * 기동 시 당일 작업이 완료되지 않은 상태면(실행 중 종료 등) 이어서 실행한다.
+ * 모든 노드에서 실행되며, 단계는 lease 를 잡은 노드 하나만 실행하고 자동이체는 파티션을 나눠 실행한다.
+ * 일별 잔액 스냅샷 도입 전 거래내역은 기동 시 일회성 백필 작업(snapshot-backfill)으로 스냅샷을 만든다.
+ * 기동 시 작업(미완료 일일 배치 재실행, 백필)은 오래 걸릴 수 있으므로 기동(ApplicationReadyEvent) 스레드를 막지 않도록
+ * 별도 스레드에서 실행하며, 다른 노드와의 중복 실행은 단계별 lease 가 막는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DailyBatchScheduler {
+
+    public static final String JOB_NAME = "daily-midnight";
+    public static final String RESET_DAILY_LIMIT = "reset-daily-limit";
+    public static final String AUTO_TRANSFER = "auto-transfer";
+    public static final String FINISH_AUTO_TRANSFER = "finish-auto-transfer";
+    public static final String COMPACT_DAILY_SNAPSHOT = "compact-daily-snapshot";
+    public static final String SNAPSHOT_BACKFILL_JOB = "snapshot-backfill";
+    public static final String BACKFILL_DAILY_SNAPSHOT = "backfill-daily-snapshot";
+
+    private final BatchJobService batchJobService;
+    private final AccountService accountService;
+    private final AutoTransferService autoTransferService;
+    private final AccountDailySnapshotService accountDailySnapshotService;
+
+    // 자동이체 단계 파티션 수 (동시에 나눠 실행할 수 있는 최대 노드 수)
+    @Value("${batch.daily.auto-transfer-partitions:16}")
+    private int autoTransferPartitions = 16;
+
+    // 일별 잔액 스냅샷 재계산 단계 파티션 수
+    @Value("${batch.daily.snapshot-partitions:4}")
+    private int snapshotPartitions = 4;
+
+    // 재실행과 백필이 서로 기다리지 않도록 작업별 스레드
+    private final ExecutorService startupExecutor = Executors.newFixedThreadPool(2, r -> {
+        Thread thread = new Thread(r, "daily-batch-startup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Scheduled(cron = "0 0 0 * * *")
+    public void runDaily() {
+        LocalDate today = LocalDate.now();
+        batchJobService.run(JOB_NAME, today, steps(today));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeIncomplete() {
+        startupExecutor.execute(() -> {
+            LocalDate today = LocalDate.now();
+            try {
+                if (batchJobService.isIncomplete(JOB_NAME, today)) {
+                    log.warn("완료되지 않은 일일 배치 작업 재시작 - 기준일: {}", today);
+                    batchJobService.run(JOB_NAME, today, steps(today));
+                }
+            } catch (Exception e) {
+                log.error("일일 배치 작업 재시작 실패 - 기준일: {}", today, e);
+            }
+        });
+    }
+
+    // 처음 시작한 기준일 전날까지 백필 (기준일 이후는 자정 재계산이 담당), 이미 완료된 작업이면 바로 반환
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSnapshots() {
+        startupExecutor.execute(() -> {
+            try {
+                LocalDate runDate = batchJobService.findLatestRunDate(SNAPSHOT_BACKFILL_JOB).orElseGet(LocalDate::now);
+                batchJobService.run(SNAPSHOT_BACKFILL_JOB, runDate, backfillSteps(runDate));
+            } catch (Exception e) {
+                log.error("일별 잔액 스냅샷 백필 실패 - 다음 기동 시 checkpoint 부터 재시작", e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        startupExecutor.shutdownNow();
+    }
+
+    // 스냅샷 재계산은 전날 거래내역 대상
+    // WAL 모드에서 자정 직전 거래가 아직 삽입되지 않은 채 재계산하지 않도록 자동이체 단계들 뒤에 실행 (drain 주기보다 충분히 늦음)
+    List<BatchStep> steps(LocalDate businessDate) {
+        return List.of(
+                BatchStep.of(RESET_DAILY_LIMIT, context -> accountService.resetDailyTransferAmount()),
+                BatchStep.partitioned(AUTO_TRANSFER, List.of(RESET_DAILY_LIMIT), autoTransferPartitions,
+                        autoTransferService::executeAutoTransfer),
+                BatchStep.of(FINISH_AUTO_TRANSFER, List.of(AUTO_TRANSFER), context -> autoTransferService.finishAutoTransfer()),
+                BatchStep.partitioned(COMPACT_DAILY_SNAPSHOT, List.of(FINISH_AUTO_TRANSFER), snapshotPartitions,
+                        context -> accountDailySnapshotService.compact(businessDate.minusDays(1), context))
+        );
+    }
+
+    List<BatchStep> backfillSteps(LocalDate runDate) {
+        return List.of(BatchStep.partitioned(BACKFILL_DAILY_SNAPSHOT, List.of(), snapshotPartitions,
+                context -> accountDailySnapshotService.backfill(runDate.minusDays(1), context)));
+    }
+}
@@ -0,0 +1,187 @@
+package com.hbbank.backend.service;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountBalanceBucket;
+import com.hbbank.backend.exception.account.AccountNotFoundException;
+import com.hbbank.backend.exception.account.InvalidBucketCountException;
+import com.hbbank.backend.repository.AccountBalanceBucketRepository;
+import com.hbbank.backend.repository.AccountRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 핫 계좌 입금 분산 처리
+ * 급여 지급 계좌, 가맹점 계좌처럼 입금이 몰리는 계좌는 모든 이체가 하나의 계좌 행 락에서 직렬화된다.
+ * 핫 계좌로 지정하면 입금은 계좌 행을 잠그지 않고 N개의 잔액 버킷 중 하나에만 더해지므로
+ * 입금 처리량이 버킷 수에 비례해 늘어난다.
+ * 1. 입금: 출금 계좌 ID 해시로 버킷 선택 -> 버킷 행 하나만 UPDATE
+ * 2. 출금: 계좌 행 락 획득 후 버킷을 잠가 합산(consolidate)한 다음 출금
+ * 3. 주기적 합산: 버킷에 쌓인 금액을 account.balance 로 옮김
+ * 락 순서는 항상 계좌 행 -> 버킷 행 이므로 입금/출금/합산 사이에 데드락이 생기지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+@Slf4j
+public class HotAccountService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceBucketRepository bucketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${account.hot.max-bucket-count:64}")
+    private int maxBucketCount = 64;
+
+    // 핫 계좌는 소수이므로 계좌번호 목록을 메모리에 두고 주기적으로 갱신
+    private volatile Set<String> hotAccountNumbers = Set.of();
+
+    public boolean isHot(String accountNumber) {
+        return hotAccountNumbers.contains(accountNumber);
+    }
+
+    @Scheduled(fixedDelayString = "${account.hot.registry-refresh-ms:60000}")
+    @Transactional(readOnly = true)
+    public void refreshHotAccounts() {
+        hotAccountNumbers = Set.copyOf(accountRepository.findAllHotAccountNumbers());
+    }
+
+    // 핫 계좌 지정 (이미 핫 계좌라면 버킷을 합산한 뒤 버킷 수를 다시 설정)
+    public Account enable(Long accountId, int bucketCount) {
+        if (bucketCount < 2 || bucketCount > maxBucketCount) {
+            throw new InvalidBucketCountException("버킷 수는 2 이상 " + maxBucketCount + " 이하여야 합니다.");
+        }
+        Account account = lockAccount(accountId);
+        if (account.isHot()) {
+            consolidate(account);
+            bucketRepository.deleteAllByAccountId(accountId);
+            bucketRepository.flush();
+        }
+
+        bucketRepository.saveAll(IntStream.range(0, bucketCount)
+                .mapToObj(n -> AccountBalanceBucket.builder()
+                        .account(account)
+                        .bucketNo(n)
+                        .balance(BigDecimal.ZERO)
+                        .build())
+                .toList());
+        account.enableHotMode(bucketCount);
+        registerLocally(account.getAccountNumber(), true);
+
+        log.info("핫 계좌 지정 - 계좌번호: {}, 버킷 수: {}", account.getAccountNumber(), bucketCount);
+        return account;
+    }
+
+    // 핫 계좌 해제 (버킷 잔액을 모두 합산 후 버킷 삭제)
+    public Account disable(Long accountId) {
+        Account account = lockAccount(accountId);
+        consolidate(account);
+        bucketRepository.deleteAllByAccountId(accountId);
+        account.disableHotMode();
+        registerLocally(account.getAccountNumber(), false);
+
+        log.info("핫 계좌 해제 - 계좌번호: {}", account.getAccountNumber());
+        return account;
+    }
+
+    // 버킷 입금: 계좌 행은 잠그지 않고 버킷 행 하나만 잠금
+    public void credit(Account fromAccount, Account toAccount, BigDecimal amount) {
+        toAccount.validateDeposit();
+        int bucketNo = Math.floorMod(fromAccount.getId().hashCode(), toAccount.getBalanceBucketCount());
+        if (bucketRepository.addToBucket(toAccount.getId(), bucketNo, amount) != 1) {
+            // 다른 노드에서 핫 계좌가 해제되어 버킷이 사라진 경우
+            log.error("핫 계좌 버킷 입금 실패 - 계좌번호: {}, 버킷: {}", toAccount.getAccountNumber(), bucketNo);
+            throw new IllegalStateException("핫 계좌 버킷을 찾을 수 없습니다.");
+        }
+    }
+
+    // 버킷 잔액 합산: 호출 전에 계좌 행 락을 획득하고 있어야 함
+    public BigDecimal consolidate(Account lockedAccount) {
+        BigDecimal total = bucketRepository.findAllByAccountIdWithLock(lockedAccount.getId()).stream()
+                .map(AccountBalanceBucket::drain)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.signum() != 0) {
+            lockedAccount.consolidate(total);
+        }
+        return total;
+    }
+
+    // 실제 잔액 = 계좌 잔액 + 아직 합산되지 않은 버킷 잔액
+    @Transactional(readOnly = true)
+    public BigDecimal getBalance(Account account) {
+        if (!account.isHot()) {
+            return account.getBalance();
+        }
+        return account.getBalance().add(bucketRepository.sumBalanceByAccountId(account.getId()));
+    }
+
+    // 계좌 목록의 실제 잔액 (계좌 ID -> 잔액), 핫 계좌의 버킷 잔액은 쿼리 한 번으로 합산
+    @Transactional(readOnly = true)
+    public Map<Long, BigDecimal> getBalances(List<Account> accounts) {
+        List<Long> hotAccountIds = accounts.stream()
+                .filter(Account::isHot)
+                .map(Account::getId)
+                .toList();
+        Map<Long, BigDecimal> pending = new HashMap<>();
+        if (!hotAccountIds.isEmpty()) {
+            for (Object[] row : bucketRepository.sumBalanceByAccountIdIn(hotAccountIds)) {
+                pending.put((Long) row[0], (BigDecimal) row[1]);
+            }
+        }
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        for (Account account : accounts) {
+            balances.put(account.getId(), account.getBalance().add(pending.getOrDefault(account.getId(), BigDecimal.ZERO)));
+        }
+        return balances;
+    }
+
+    // 버킷에 쌓인 입금액을 계좌별로 짧은 트랜잭션에서 합산
+    @Scheduled(fixedDelayString = "${account.hot.consolidate-interval-ms:5000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void consolidatePending() {
+        List<Long> accountIds = bucketRepository.findAccountIdsWithPendingBalance();
+        for (Long accountId : accountIds) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> consolidate(lockAccount(accountId)));
+            } catch (Exception e) {
+                log.error("핫 계좌 잔액 합산 실패 - 계좌ID: {}, 사유: {}", accountId, e.getMessage());
+            }
+        }
+        if (!accountIds.isEmpty()) {
+            log.debug("핫 계좌 잔액 합산 완료 - {}개 계좌", accountIds.size());
+        }
+    }
+
+    private Account lockAccount(Long accountId) {
+        return accountRepository.findByIdWithLock(accountId)
+                .orElseThrow(() -> {
+                    log.error("계좌 락 획득 실패 - 계좌ID: {}", accountId);
+                    return new AccountNotFoundException("존재하지 않는 계좌입니다.");
+                });
+    }
+
+    private synchronized void registerLocally(String accountNumber, boolean hot) {
+        Set<String> updated = new HashSet<>(hotAccountNumbers);
+        if (hot) {
+            updated.add(accountNumber);
+        } else {
+            updated.remove(accountNumber);
+        }
+        hotAccountNumbers = Set.copyOf(updated);
+    }
+}
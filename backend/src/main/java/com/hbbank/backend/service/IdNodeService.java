@@ -0,0 +1,83 @@
+package com.hbbank.backend.service;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hbbank.backend.util.TimeOrderedIdGenerator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 시간 순 ID 생성기(TimeOrderedIdGenerator) 노드 ID 배정
+ * 노드 ID 가 같은 인스턴스가 둘 이상이면 같은 ID 가 발급되어, 직접 저장하는 이체는 중복 키로 롤백되고
+ * WAL drain 의 INSERT IGNORE 는 거래내역을 조용히 버린다. 그래서 노드 ID 0 으로 조용히 동작하지 않는다.
+ * 1. hbbank.node-id(HBBANK_NODE_ID)로 고정했으면 그 값을 사용
+ * 2. 없으면 기동 시 Redis lease(id-node:0 ~ id-node:1023)를 차례로 시도해 처음 획득한 번호를 사용
+ * 3. 배정하지 못하면 기동 실패
+ * lease 는 SchedulerLeaseService 가 연장하며, 연장에 실패하면 생성기가 바로 발급을 멈추고 다음 점검에서 새 번호를 배정받는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdNodeService {
+
+    private static final String LEASE_PREFIX = "id-node:";
+
+    private final SchedulerLeaseService leaseService;
+
+    private volatile SchedulerLease lease;
+
+    @PostConstruct
+    public void assign() {
+        OptionalLong configured = TimeOrderedIdGenerator.configuredNodeId();
+        if (configured.isPresent()) {
+            log.info("ID 생성기 노드 ID - 설정값 사용: {}", configured.getAsLong());
+            return;
+        }
+        acquire();
+    }
+
+    // lease 를 잃었으면 새 노드 ID 배정 (배정 전까지 ID 발급은 실패)
+    @Scheduled(fixedDelayString = "${id.node-lease.check-interval-ms:5000}")
+    public void checkLease() {
+        SchedulerLease current = lease;
+        if (current == null || current.isHeld()) {
+            return;
+        }
+        log.error("ID 생성기 노드 lease 상실 - lease: {}, 새 노드 ID 배정 시도", current.getName());
+        try {
+            acquire();
+        } catch (IllegalStateException e) {
+            log.error("ID 생성기 노드 ID 재배정 실패 - 사유: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void acquire() {
+        for (long nodeId = 0; nodeId <= TimeOrderedIdGenerator.MAX_NODE_ID; nodeId++) {
+            Optional<SchedulerLease> acquired = leaseService.tryAcquire(LEASE_PREFIX + nodeId);
+            if (acquired.isPresent()) {
+                SchedulerLease held = acquired.get();
+                lease = held;
+                TimeOrderedIdGenerator.assign(nodeId, held::isHeld);
+                log.info("ID 생성기 노드 ID 배정 - 노드 ID: {}, 노드: {}", nodeId, leaseService.getNodeId());
+                return;
+            }
+        }
+        throw new IllegalStateException("배정할 수 있는 ID 생성기 노드 ID가 없습니다. (Redis 장애 또는 "
+                + (TimeOrderedIdGenerator.MAX_NODE_ID + 1) + "개 모두 사용 중)");
+    }
+
+    @PreDestroy
+    public void release() {
+        SchedulerLease current = lease;
+        if (current != null) {
+            current.close();
+        }
+    }
+}
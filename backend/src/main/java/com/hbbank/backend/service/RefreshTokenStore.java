@@ -0,0 +1,166 @@
+package com.hbbank.backend.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.hbbank.backend.util.TokenHasher;
+
+import lombok.RequiredArgsConstructor;
+
+/*
+ * 리프레시 토큰 저장소 (Redis, 로그인 세션(기기)별 토큰 family)
+ * - family: refresh-family:{<사용자ID>}:<familyId> -> 현재 유효한 토큰의 SHA-256 해시 (원문은 저장하지 않음)
+ * - 세션 목록: refresh-sessions:{<사용자ID>} -> familyId Set (전체 로그아웃용)
+ *   두 키는 {사용자ID} 해시 태그로 같은 슬롯에 두어 Lua 스크립트 하나로 처리
+ * - 만료: 리프레시 토큰 유효기간(14일)과 같은 TTL, 갱신할 때마다 연장
+ * - 갱신(1회용): family 의 현재 해시가 제시한 토큰과 같을 때만 새 토큰으로 교체
+ *   이미 교체된(사용된) 토큰이 다시 오면 탈취로 보고 family 전체를 삭제해 정상 사용자 토큰까지 무효화
+ * - 동시 갱신 유예: 교체 직후 reuse-grace-ms 동안은 직전 토큰이 다시 와도 재사용으로 보지 않고 (여러 요청이 동시에 갱신하는 경우)
+ *   토큰 없이 GRACE 만 알려줌 -> 호출자는 재시도 가능한 충돌로 응답하고, 클라이언트는 먼저 교체한 응답의 토큰을 사용
+ *   유예 키 refresh-grace:{<사용자ID>}:<familyId> 에 직전 토큰의 해시만 유예 시간 동안 보관 (발급한 토큰은 저장하지 않음)
+ * 로그인/갱신/검증 모두 키 1~2개에 대한 O(1) 연산이며 DB 는 사용하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    // JwtUtil 의 리프레시 토큰 유효기간과 같음
+    public static final Duration REFRESH_TOKEN_TTL = Duration.ofDays(14);
+
+    public enum Rotation {
+        ROTATED,   // 교체 성공
+        GRACE,     // 유예 시간 안에 직전 토큰으로 다시 갱신 -> 토큰 발급 없이 재시도 요청
+        REUSED,    // 이미 사용된 토큰 재사용 -> family 폐기
+        NOT_FOUND  // family 없음 (만료/로그아웃/재사용으로 폐기)
+    }
+
+    private static final String FAMILY_PREFIX = "refresh-family:";
+    private static final String SESSIONS_PREFIX = "refresh-sessions:";
+    private static final String GRACE_PREFIX = "refresh-grace:";
+    // family 도입 전(family ID 없는 토큰) 사용자당 1개 저장하던 키
+    private static final String LEGACY_PREFIX = "refresh-token:";
+
+    // 새 family 등록, 만료된 family 는 세션 목록에서 정리
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>(
+            "for _, fid in ipairs(redis.call('smembers', KEYS[2])) do " +
+                    "if redis.call('exists', ARGV[4] .. fid) == 0 then redis.call('srem', KEYS[2], fid) end end " +
+                    "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "redis.call('sadd', KEYS[2], ARGV[3]) " +
+                    "redis.call('pexpire', KEYS[2], ARGV[2]) " +
+                    "return 1", Long.class);
+
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('get', KEYS[1]) " +
+                    "if not current then return 'NOT_FOUND' end " +
+                    "if current == ARGV[1] then " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+                    "redis.call('pexpire', KEYS[2], ARGV[3]) " +
+                    "if tonumber(ARGV[5]) > 0 then redis.call('set', KEYS[3], ARGV[1], 'PX', ARGV[5]) end " +
+                    "return 'ROTATED' end " +
+                    "if redis.call('get', KEYS[3]) == ARGV[1] then return 'GRACE' end " +
+                    "redis.call('del', KEYS[1], KEYS[3]) " +
+                    "redis.call('srem', KEYS[2], ARGV[4]) " +
+                    "return 'REUSED'", String.class);
+
+    private static final RedisScript<Long> REVOKE_FAMILY_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('srem', KEYS[2], ARGV[1]) " +
+                    "return redis.call('del', KEYS[1])", Long.class);
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<String>> REVOKE_ALL_SCRIPT = (RedisScript) new DefaultRedisScript<List>(
+            "local fids = redis.call('smembers', KEYS[1]) " +
+                    "for _, fid in ipairs(fids) do redis.call('del', ARGV[1] .. fid) end " +
+                    "redis.call('del', KEYS[1]) " +
+                    "return fids", List.class);
+
+    private static final RedisScript<Long> CONSUME_LEGACY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 교체 직후 직전 토큰으로 다시 갱신해도 재사용으로 보지 않는 시간 (0 이면 유예 없음)
+    @Value("${token.refresh.reuse-grace-ms:10000}")
+    private long reuseGraceMillis = 10000;
+
+    // 로그인: 기존 세션(다른 기기)은 그대로 두고 새 family 추가
+    public void createFamily(Long userId, String familyId, String refreshToken) {
+        redisTemplate.execute(CREATE_SCRIPT, List.of(familyKey(userId, familyId), sessionsKey(userId)),
+                TokenHasher.sha256(refreshToken), ttlMillis(), familyId, familyKeyPrefix(userId));
+    }
+
+    // family 의 현재 토큰인지 확인 (사용 처리하지 않음)
+    public boolean isCurrent(Long userId, String familyId, String refreshToken) {
+        return TokenHasher.sha256(refreshToken).equals(redisTemplate.opsForValue().get(familyKey(userId, familyId)));
+    }
+
+    // 제시한 토큰이 family 의 현재 토큰이면 새 토큰으로 교체, 유예 시간 안의 직전 토큰이면 GRACE,
+    // 그 외 이미 사용된 토큰이면 family 폐기
+    public Rotation rotate(Long userId, String familyId, String current, String nextRefresh) {
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(familyKey(userId, familyId), sessionsKey(userId), graceKey(userId, familyId)),
+                TokenHasher.sha256(current), TokenHasher.sha256(nextRefresh), ttlMillis(), familyId,
+                String.valueOf(reuseGraceMillis));
+        return result == null ? Rotation.NOT_FOUND : Rotation.valueOf(result);
+    }
+
+    // 한 기기(로그인 세션) 로그아웃
+    public void revokeFamily(Long userId, String familyId) {
+        redisTemplate.execute(REVOKE_FAMILY_SCRIPT, List.of(familyKey(userId, familyId), sessionsKey(userId)), familyId);
+    }
+
+    // 사용자의 모든 세션 폐기, 폐기한 familyId 목록 반환 (해당 세션의 액세스 토큰 폐기용)
+    public List<String> revokeAll(Long userId) {
+        List<String> familyIds = redisTemplate.execute(REVOKE_ALL_SCRIPT, List.of(sessionsKey(userId)),
+                familyKeyPrefix(userId));
+        redisTemplate.delete(legacyKey(userId));
+        return familyIds == null ? List.of() : familyIds;
+    }
+
+    // refresh_token 테이블에서 옮길 때 사용 (family ID 없는 토큰), 이미 Redis 에 토큰이 있으면 유지
+    public boolean saveLegacyIfAbsent(Long userId, String refreshToken, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(legacyKey(userId), TokenHasher.sha256(refreshToken), ttl));
+    }
+
+    public boolean matchesLegacy(Long userId, String refreshToken) {
+        return TokenHasher.sha256(refreshToken).equals(redisTemplate.opsForValue().get(legacyKey(userId)));
+    }
+
+    // family ID 없는 토큰은 한 번만 사용 가능, 일치하면 삭제하고 true (이후 새 family 로 발급)
+    public boolean consumeLegacy(Long userId, String refreshToken) {
+        Long result = redisTemplate.execute(CONSUME_LEGACY_SCRIPT, List.of(legacyKey(userId)),
+                TokenHasher.sha256(refreshToken));
+        return result != null && result == 1L;
+    }
+
+    private static String ttlMillis() {
+        return String.valueOf(REFRESH_TOKEN_TTL.toMillis());
+    }
+
+    private static String familyKeyPrefix(Long userId) {
+        return FAMILY_PREFIX + "{" + userId + "}:";
+    }
+
+    private static String familyKey(Long userId, String familyId) {
+        return familyKeyPrefix(userId) + familyId;
+    }
+
+    private static String graceKey(Long userId, String familyId) {
+        return GRACE_PREFIX + "{" + userId + "}:" + familyId;
+    }
+
+    private static String sessionsKey(Long userId) {
+        return SESSIONS_PREFIX + "{" + userId + "}";
+    }
+
+    private static String legacyKey(Long userId) {
+        return LEGACY_PREFIX + userId;
+    }
+}
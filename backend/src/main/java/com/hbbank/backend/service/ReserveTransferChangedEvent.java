@@ -0,0 +1,15 @@
+package com.hbbank.backend.service;
+
+import java.time.LocalDateTime;
+
+/*
+ * 예약이체 등록/수정/삭제/실행 이벤트
+ * 커밋 후 ReserveTransferDispatcher 가 받아 타이밍 휠 등록을 갱신한다.
+ * active 가 false 면(삭제, 완료, 일시정지) 휠에서 제거한다.
+ */
+public record ReserveTransferChangedEvent(Long id, Long fromAccountId, LocalDateTime dueAt, boolean active) {
+
+    public static ReserveTransferChangedEvent removed(Long id, Long fromAccountId) {
+        return new ReserveTransferChangedEvent(id, fromAccountId, null, false);
+    }
+}
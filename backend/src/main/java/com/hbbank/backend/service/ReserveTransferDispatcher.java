@@ -0,0 +1,230 @@
+package com.hbbank.backend.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.hbbank.backend.domain.ReserveTransfer;
+import com.hbbank.backend.repository.ReserveTransferRepository;
+import com.hbbank.backend.util.HashedTimingWheel;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 예약이체 실행 디스패처
+ * 매 분 DB 를 조회해 실행하면 최대 60초 늦게 실행되므로, 앞으로 window 안에 실행할 예약이체를
+ * 메모리 타이밍 휠에 올려두고 tick(기본 100ms) 마다 실행 시각이 된 건을 워커 스레드에서 실행한다.
+ * 1. 재조정(reconcile): 주기적으로 담당 파티션의 (지난 건 포함) window 내 예약이체를 DB 에서 읽어 휠에 등록
+ *    - 파티션(출금 계좌 ID 기준)은 lease 를 획득한 노드가 담당하며, 노드가 죽으면 lease 가 만료되어 다른 노드가 이어받음
+ * 2. 등록/수정/삭제: 커밋 후 이벤트로 이 노드의 휠을 바로 갱신 (다른 노드가 담당하는 파티션이면 담당 노드는 재조정 때 반영)
+ * 3. 실행: 휠에서 실행 시각이 된 건이 나오면 워커들을 깨워 실행 대기열을 비움(drain)
+ *    - 워커는 ReserveTransferService.claimDue 로 실행 시각이 된 예약이체를 SKIP LOCKED 로 선점(IN_PROGRESS)한 뒤 실행
+ *    - 여러 워커/노드가 동시에 비워도 선점한 워커만 실행하므로 중복 실행되지 않음
+ *    - 실패 시 재시도 일시로 휠에 다시 등록, 선점 후 죽은 워커의 건은 재조정 때 선점 만료로 복구
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReserveTransferDispatcher {
+
+    private static final String LEASE_PREFIX = "reserve-transfer:";
+
+    private final ReserveTransferRepository reserveTransferRepository;
+    private final ReserveTransferService reserveTransferService;
+    private final SchedulerLeaseService leaseService;
+
+    // 휠 한 칸의 시간 (실행 시각 정밀도)
+    @Value("${reserve-transfer.dispatch.tick-ms:100}")
+    private long tickMillis = 100;
+
+    @Value("${reserve-transfer.dispatch.wheel-size:1024}")
+    private int wheelSize = 1024;
+
+    // 휠에 미리 올려둘 기간 (재조정 주기보다 길어야 함)
+    @Value("${reserve-transfer.dispatch.window-ms:600000}")
+    private long windowMillis = 600000;
+
+    // 파티션 수 (출금 계좌 ID 기준, 동시에 나눠 담당할 수 있는 최대 노드 수)
+    @Value("${reserve-transfer.dispatch.partitions:4}")
+    private int partitions = 4;
+
+    @Value("${reserve-transfer.dispatch.workers:4}")
+    private int workers = 4;
+
+    // 워커가 한 번에 선점할 건수
+    @Value("${reserve-transfer.dispatch.claim-batch-size:50}")
+    private int claimBatchSize = 50;
+
+    private final Map<Integer, SchedulerLease> ownedPartitions = new ConcurrentHashMap<>();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicInteger activeDrainers = new AtomicInteger();
+
+    private HashedTimingWheel<Long> wheel;
+    private ScheduledExecutorService ticker;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        wheel = new HashedTimingWheel<>(tickMillis, wheelSize, System.currentTimeMillis());
+        ticker = Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("reserve-transfer-ticker"));
+        executor = Executors.newFixedThreadPool(workers, daemonThreadFactory("reserve-transfer-worker"));
+        ticker.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdownNow();
+        executor.shutdown();
+        ownedPartitions.values().forEach(SchedulerLease::close);
+        ownedPartitions.clear();
+    }
+
+    // 재조정: 선점 만료 복구, 담당 파티션 확보 후 window 내 실행 예정 예약이체를 휠에 (재)등록
+    @Scheduled(fixedDelayString = "${reserve-transfer.dispatch.reconcile-ms:60000}")
+    public void reconcile() {
+        reserveTransferService.releaseExpiredClaims();
+        LocalDateTime until = LocalDateTime.now().plus(Duration.ofMillis(windowMillis));
+        int loaded = 0;
+        for (int partition = 0; partition < partitions; partition++) {
+            if (!ownPartition(partition)) {
+                continue;
+            }
+            List<ReserveTransfer> due = reserveTransferRepository.findAllDueUntil(until, partitions, partition);
+            for (ReserveTransfer rt : due) {
+                wheel.schedule(rt.getId(), toEpochMillis(rt.getDueAt()));
+            }
+            loaded += due.size();
+        }
+        log.debug("예약이체 재조정 완료 - 담당 파티션: {}, 조회: {}건, 휠 대기: {}건",
+                ownedPartitions.keySet(), loaded, wheel.size());
+    }
+
+    // 등록/수정/삭제 커밋 후 휠 갱신 (트랜잭션 밖에서 발행되면 즉시)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChanged(ReserveTransferChangedEvent event) {
+        if (event.active() && isInWindow(event.dueAt())) {
+            wheel.schedule(event.id(), toEpochMillis(event.dueAt()));
+        } else {
+            wheel.cancel(event.id());
+        }
+    }
+
+    // 이미 담당 중이면 true, 아니면 lease 획득 시도 (이전에 담당했지만 lease 를 잃었으면 다시 시도)
+    private boolean ownPartition(int partition) {
+        SchedulerLease lease = ownedPartitions.get(partition);
+        if (lease != null && lease.isHeld()) {
+            return true;
+        }
+        if (lease != null) {
+            log.warn("예약이체 파티션 담당 해제 (lease 상실) - 파티션: {}", partition);
+            ownedPartitions.remove(partition);
+        }
+        Optional<SchedulerLease> acquired = leaseService.tryAcquire(LEASE_PREFIX + partition);
+        acquired.ifPresent(l -> {
+            ownedPartitions.put(partition, l);
+            log.info("예약이체 파티션 담당 시작 - 파티션: {}, 노드: {}", partition, leaseService.getNodeId());
+        });
+        return acquired.isPresent();
+    }
+
+    private void tick() {
+        try {
+            // 휠의 항목은 깨우는 신호로만 사용하고, 실제 실행 대상은 워커가 DB 에서 선점
+            if (!wheel.advance(System.currentTimeMillis()).isEmpty()) {
+                requestDrain();
+            }
+        } catch (Exception e) {
+            // 예외가 전파되면 scheduleAtFixedRate 가 이후 tick 을 멈추므로 여기서 처리
+            log.error("예약이체 디스패처 tick 오류 - 사유: {}", e.getMessage());
+        }
+    }
+
+    // 실행 중인 워커가 workers 보다 적으면 워커 추가, 이미 모두 실행 중이면 현재 워커가 한 번 더 비우도록 표시
+    public void requestDrain() {
+        drainRequested.set(true);
+        int active;
+        while ((active = activeDrainers.get()) < workers) {
+            if (activeDrainers.compareAndSet(active, active + 1)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    // 선점할 건이 없을 때까지 선점 -> 실행 반복
+    private void drain() {
+        try {
+            do {
+                drainRequested.set(false);
+                List<Long> claimed;
+                String claimToken = leaseService.getNodeId() + ":" + UUID.randomUUID();
+                while (!(claimed = claimSafely(claimToken)).isEmpty()) {
+                    for (Long id : claimed) {
+                        execute(id, claimToken);
+                    }
+                }
+            } while (drainRequested.get());
+        } finally {
+            activeDrainers.decrementAndGet();
+        }
+        // 종료 직전에 들어온 요청을 놓치지 않도록 다시 확인
+        if (drainRequested.get()) {
+            requestDrain();
+        }
+    }
+
+    private List<Long> claimSafely(String claimToken) {
+        try {
+            return reserveTransferService.claimDue(claimToken, claimBatchSize);
+        } catch (Exception e) {
+            log.error("예약이체 선점 실패 - 사유: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void execute(Long id, String claimToken) {
+        try {
+            reserveTransferService.executeClaimed(id, claimToken)
+                    .filter(this::isInWindow)
+                    .ifPresent(next -> wheel.schedule(id, toEpochMillis(next)));
+        } catch (Exception e) {
+            log.error("예약이체 디스패치 실패 - ID: {}, 사유: {}", id, e.getMessage());
+        }
+    }
+
+    private boolean isInWindow(LocalDateTime dueAt) {
+        return dueAt != null && toEpochMillis(dueAt) <= System.currentTimeMillis() + windowMillis;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static ThreadFactory daemonThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return r -> {
+            Thread thread = new Thread(r, prefix + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
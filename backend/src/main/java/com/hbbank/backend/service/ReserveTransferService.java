@@ -1,5 +1,6 @@
 package com.hbbank.backend.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -7,11 +8,15 @@ import java.util.Optional;
 
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 import com.hbbank.backend.exception.reserveTransfer.InvalidReserveTransferPasswordException;
+import com.hbbank.backend.exception.reserveTransfer.InvalidReserveTransferStatusException;
 import com.hbbank.backend.exception.reserveTransfer.ReserveTransferNotFoundException;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.ReserveTransfer;
@@ -35,6 +40,16 @@ public class ReserveTransferService {
     private final AccountRepository accountRepository;
     private final TransferService transferService;
     private final PasswordEncoder encoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 이체 실패 후 다시 시도하기까지의 간격 (3회 실패 시 일시정지)
+    @Value("${reserve-transfer.execution.retry-interval-ms:60000}")
+    private long retryIntervalMillis = 60000;
+
+    // 선점 후 실행 결과를 기록하기까지 허용하는 시간, 지나면 다른 워커가 다시 선점할 수 있음
+    @Value("${reserve-transfer.execution.claim-lease-ms:300000}")
+    private long claimLeaseMillis = 300000;
 
     // 예약이체 등록
     public ReserveTransfer register(ReserveTransferRequestDTO dto) {
@@ -57,6 +72,7 @@ public class ReserveTransferService {
         ReserveTransfer rt = new ReserveTransfer();
         rt.update(fa, dto);
         ReserveTransfer srt = reserveTransferRepository.save(rt);
+        publishChanged(srt);
 
         log.info("예약이체 등록 완료 - ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}",
                 srt.getId(), dto.getFromAccountId(), dto.getToAccountNumber(), dto.getAmount());
@@ -74,6 +90,7 @@ public class ReserveTransferService {
     }
 
     // 예약이체 목록 조회
+    @Transactional(readOnly = true)
     public List<ReserveTransfer> findAllByUserId(Long userId) {
         return reserveTransferRepository
                 .findAllByUserIdAndStatus(userId, TransferStatus.ACTIVE)
@@ -88,11 +105,13 @@ public class ReserveTransferService {
                 dto.getToAccountNumber(),
                 dto.getAmount());
 
-        ReserveTransfer rt = reserveTransferRepository.findById(id)
+        // 워커의 선점/실행 결과 기록과 같은 행 락으로 직렬화 (완료된 예약이체를 ACTIVE 로 되돌리지 않도록)
+        ReserveTransfer rt = reserveTransferRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> {
                     log.error("예약이체 수정 실패 - 예약이체 없음 (ID: {})", id);
                     return new ReserveTransferNotFoundException("존재하지 않는 예약 이체입니다.");
                 });
+        checkModifiable(rt, "수정");
 
         Account fa = accountRepository.findByIdWithUser(dto.getFromAccountId())
                 .orElseThrow(() -> {
@@ -107,34 +126,78 @@ public class ReserveTransferService {
 
         rt.update(fa, dto);
         ReserveTransfer srt = reserveTransferRepository.save(rt);
+        publishChanged(srt);
         log.info("예약이체 수정 완료 - ID: {}", id);
 
         return srt;
     }
 
     // 예약이체 삭제
-    public void delete(ReserveTransfer rt) {
+    public void delete(Long id) {
+        ReserveTransfer rt = reserveTransferRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> {
+                    log.error("예약이체 삭제 실패 - 예약이체 없음 (ID: {})", id);
+                    return new ReserveTransferNotFoundException("존재하지 않는 예약 이체입니다.");
+                });
+        checkModifiable(rt, "삭제");
         log.info("예약이체 삭제 - ID: {}, 출금계좌: {}, 입금계좌: {}", rt.getId(), rt.getFromAccount().getId(), rt.getToAccountNumber());
         reserveTransferRepository.delete(rt);
+        eventPublisher.publishEvent(ReserveTransferChangedEvent.removed(rt.getId(), rt.getFromAccount().getId()));
         log.info("예약이체 삭제 완료 - ID: {}", rt.getId());
     }
 
-    // 예약 이체 실행(매 분마다)
-    // 테스트 필수
-    @Scheduled(cron = "0 * * * * *")
-    public void executeReserveTransfers() {
-        LocalDateTime now = LocalDateTime.now();
-        log.info("예약이체 실행 시작: {}", now);
+    // 실행 중(IN_PROGRESS)/완료(COMPLETED)/일시정지(PAUSED)된 예약이체는 수정/삭제 불가
+    private void checkModifiable(ReserveTransfer rt, String action) {
+        TransferStatus status = rt.getStatus();
+        if (status == TransferStatus.IN_PROGRESS || status == TransferStatus.COMPLETED || status == TransferStatus.PAUSED) {
+            log.error("예약이체 {} 실패 - {} 상태 (ID: {})", action, status, rt.getId());
+            throw new InvalidReserveTransferStatusException(status == TransferStatus.IN_PROGRESS
+                    ? "실행 중인 예약이체는 " + action + "할 수 없습니다."
+                    : "완료되었거나 일시정지된 예약이체는 " + action + "할 수 없습니다.");
+        }
+    }
 
-        List<ReserveTransfer> list = reserveTransferRepository.findAllPendingTransfers(now)
-                .orElse(Collections.emptyList());
+    // 커밋 후 타이밍 휠 등록 갱신
+    private void publishChanged(ReserveTransfer rt) {
+        eventPublisher.publishEvent(new ReserveTransferChangedEvent(rt.getId(), rt.getFromAccount().getId(),
+                rt.getDueAt(), rt.getStatus() == TransferStatus.ACTIVE));
+    }
 
-        int totalCount = list.size();
-        int successCount = 0;
-        int failCount = 0;
+    /*
+     * 실행 시각이 된 예약이체를 limit 건까지 선점 (ReserveTransferDispatcher 의 워커에서 호출)
+     * FOR UPDATE SKIP LOCKED 로 다른 워커가 선점 중인 행은 건너뛰고, 가져간 행은 IN_PROGRESS 와 선점 만료 일시를
+     * 기록해 커밋하므로 워커/노드 수와 관계없이 한 예약이체는 한 워커만 실행한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<Long> claimDue(String claimToken, int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseExpiresAt = now.plus(Duration.ofMillis(claimLeaseMillis));
+        return transactionTemplate.execute(status -> {
+            List<ReserveTransfer> due = reserveTransferRepository.lockDueForClaim(now, limit);
+            due.forEach(rt -> rt.claim(claimToken, leaseExpiresAt));
+            reserveTransferRepository.saveAll(due);
+            return due.stream().map(ReserveTransfer::getId).toList();
+        });
+    }
+
+    /*
+     * 선점한 예약이체 1건 실행
+     * 선점 만료 후 다른 워커가 가져갔거나 실행 전에 수정/삭제되었으면 실행하지 않는다.
+     * 실패 후 아직 ACTIVE 면 retryInterval 뒤로 다음 시도 일시를 지정한다.
+     * 반환값: 다음 실행 시도 일시 (완료/일시정지/삭제/선점 상실이면 empty)
+     * 테스트 필수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<LocalDateTime> executeClaimed(Long id, String claimToken) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            return transactionTemplate.execute(status -> {
+                ReserveTransfer rt = reserveTransferRepository.findByIdForUpdate(id).orElse(null);
+                if (rt == null || !rt.isClaimedBy(claimToken)) {
+                    log.warn("예약이체 실행 건너뜀 (선점 상실) - ID: {}", id);
+                    return Optional.<LocalDateTime>empty();
+                }
 
-        for (ReserveTransfer rt : list) {
-            try {
                 boolean success = transferService.transfer(TransferRequestDTO.builder()
                         .type(TransferType.RESERVE)
                         .fromAccountId(rt.getFromAccount().getId())
@@ -142,24 +205,53 @@ public class ReserveTransferService {
                         .amount(rt.getAmount())
                         .build());
 
-                rt.updateStatus(success);
+                rt.finishAttempt(success, now.plus(Duration.ofMillis(retryIntervalMillis)));
                 if (success) {
-                    successCount++;
-                    log.info("예약이체 성공 - ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}",
-                            rt.getId(), rt.getFromAccount().getId(), rt.getToAccountNumber(), rt.getAmount());
+                    log.info("예약이체 성공 - ID: {}, 출금계좌: {}, 입금계좌: {}, 금액: {}, 지연: {}ms",
+                            rt.getId(), rt.getFromAccount().getId(), rt.getToAccountNumber(), rt.getAmount(),
+                            Duration.between(rt.getReservedAt(), now).toMillis());
                 } else {
-                    failCount++;
-                    log.warn("예약이체 실패 - ID: {}, 출금계좌: {}", rt.getId(), rt.getFromAccount().getId());
+                    log.warn("예약이체 실패 - ID: {}, 출금계좌: {}, 실패 횟수: {}",
+                            rt.getId(), rt.getFromAccount().getId(), rt.getFailureCount());
                 }
-            } catch (Exception e) {
-                rt.increaseFailureCount();
-                failCount++;
-                log.error("예약이체 실행 중 오류 발생 - ID: {}, 출금계좌: {}, 사유: {}", rt.getId(), rt.getFromAccount().getId(), e.getMessage());
-            } finally {
                 reserveTransferRepository.save(rt);
-            }
+                return nextDue(rt);
+            });
+        } catch (Exception e) {
+            log.error("예약이체 실행 중 오류 발생 - ID: {}, 사유: {}", id, e.getMessage());
+            return recordFailure(id, claimToken, now);
+        }
+    }
+
+    // 선점 만료된 예약이체를 다시 실행 대상으로 복구, 복구 건수 반환
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int releaseExpiredClaims() {
+        Integer released = transactionTemplate.execute(status -> reserveTransferRepository
+                .releaseExpiredClaims(LocalDateTime.now(), TransferStatus.ACTIVE, TransferStatus.IN_PROGRESS));
+        if (released != null && released > 0) {
+            log.warn("예약이체 선점 만료 복구 - {}건", released);
         }
-        log.info("예약이체 실행 완료 - 총 {}건 중 성공: {}건, 실패: {}건", totalCount, successCount, failCount);
+        return released == null ? 0 : released;
+    }
+
+    // 이체 트랜잭션이 롤백된 뒤 실패 횟수와 재시도 일시만 별도 트랜잭션으로 기록
+    private Optional<LocalDateTime> recordFailure(Long id, String claimToken, LocalDateTime now) {
+        try {
+            return transactionTemplate.execute(status -> reserveTransferRepository.findByIdForUpdate(id)
+                    .filter(rt -> rt.isClaimedBy(claimToken))
+                    .flatMap(rt -> {
+                        rt.abortAttempt(now.plus(Duration.ofMillis(retryIntervalMillis)));
+                        reserveTransferRepository.save(rt);
+                        return nextDue(rt);
+                    }));
+        } catch (Exception e) {
+            log.error("예약이체 실패 횟수 기록 실패 - ID: {}, 사유: {}", id, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<LocalDateTime> nextDue(ReserveTransfer rt) {
+        return rt.getStatus() == TransferStatus.ACTIVE ? Optional.of(rt.getDueAt()) : Optional.empty();
     }
 
 }
@@ -0,0 +1,51 @@
+package com.hbbank.backend.service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/*
+ * 획득한 스케줄러 lease
+ * 보유 중에는 SchedulerLeaseService 가 주기적으로 만료 시간을 연장하며,
+ * 연장에 실패하면(Redis 장애, 만료 후 다른 노드가 획득) isHeld 가 false 가 된다.
+ * 작업은 청크 사이에 isHeld 를 확인해 lease 를 잃었으면 중단해야 한다.
+ */
+public class SchedulerLease implements AutoCloseable {
+
+    private final String name;
+    private final String token;
+    private final Consumer<SchedulerLease> releaser;
+    private final AtomicBoolean held = new AtomicBoolean(true);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    public SchedulerLease(String name, String token, Consumer<SchedulerLease> releaser) {
+        this.name = name;
+        this.token = token;
+        this.releaser = releaser;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    public boolean isHeld() {
+        return held.get();
+    }
+
+    // 연장 실패 시 호출
+    void lost() {
+        held.set(false);
+    }
+
+    // 반납, 여러 번 호출해도 한 번만 반납 (반납은 토큰이 일치할 때만 삭제하므로 다른 노드의 lease 는 지우지 않음)
+    @Override
+    public void close() {
+        held.set(false);
+        if (!closed.getAndSet(true)) {
+            releaser.accept(this);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hbbank.backend.service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 여러 백엔드 노드가 스케줄 작업을 나눠 실행하기 위한 Redis lease
+ * 1. 획득: SET key token NX PX ttl (없을 때만 설정, 토큰은 노드 ID + UUID)
+ * 2. 보유 중: ttl/3 마다 토큰이 일치할 때만 만료 시간 연장 (Lua)
+ * 3. 반납: 토큰이 일치할 때만 삭제 (Lua), 만료 후 다른 노드가 가져간 lease 는 지우지 않음
+ * 노드가 죽으면 연장이 멈춰 ttl 후 lease 가 풀리고 다른 노드가 이어서 가져간다.
+ * Redis 장애 시에는 획득하지 못한 것으로 처리하므로, 작업이 중복 실행되는 대신 실행되지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulerLeaseService {
+
+    private static final String KEY_PREFIX = "scheduler:lease:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // lease 만료 시간, 보유 노드가 죽었을 때 다른 노드가 이어받기까지 걸리는 최대 시간
+    @Value("${scheduler.lease.ttl-ms:30000}")
+    private long ttlMillis = 30000;
+
+    // 노드 식별자 (기본값: pid@hostname)
+    @Value("${scheduler.node-id:}")
+    private String nodeId = "";
+
+    private final Map<SchedulerLease, ScheduledFuture<?>> heartbeats = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "scheduler-lease-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // lease 획득 시도, 이미 다른 노드가 보유 중이거나 Redis 오류면 empty
+    public Optional<SchedulerLease> tryAcquire(String name) {
+        String token = getNodeId() + ":" + UUID.randomUUID();
+        try {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(KEY_PREFIX + name, token, Duration.ofMillis(ttlMillis));
+            if (!Boolean.TRUE.equals(acquired)) {
+                return Optional.empty();
+            }
+        } catch (Exception e) {
+            log.error("스케줄러 lease 획득 실패 - lease: {}, 사유: {}", name, e.getMessage());
+            return Optional.empty();
+        }
+
+        SchedulerLease lease = new SchedulerLease(name, token, this::release);
+        long interval = Math.max(1, ttlMillis / 3);
+        heartbeats.put(lease, heartbeat.scheduleAtFixedRate(() -> renew(lease), interval, interval, TimeUnit.MILLISECONDS));
+        log.debug("스케줄러 lease 획득 - lease: {}, 노드: {}", name, getNodeId());
+        return Optional.of(lease);
+    }
+
+    public String getNodeId() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = ManagementFactory.getRuntimeMXBean().getName();
+        }
+        return nodeId;
+    }
+
+    private void renew(SchedulerLease lease) {
+        boolean renewed;
+        try {
+            Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + lease.getName()),
+                    lease.getToken(), String.valueOf(ttlMillis));
+            renewed = result != null && result == 1L;
+        } catch (Exception e) {
+            log.error("스케줄러 lease 연장 오류 - lease: {}, 사유: {}", lease.getName(), e.getMessage());
+            renewed = false;
+        }
+        if (!renewed) {
+            log.error("스케줄러 lease 상실 - lease: {}, 노드: {}", lease.getName(), getNodeId());
+            lease.lost();
+            cancelHeartbeat(lease);
+        }
+    }
+
+    private void release(SchedulerLease lease) {
+        cancelHeartbeat(lease);
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + lease.getName()), lease.getToken());
+            log.debug("스케줄러 lease 반납 - lease: {}", lease.getName());
+        } catch (Exception e) {
+            // 반납하지 못해도 ttl 이 지나면 풀림
+            log.error("스케줄러 lease 반납 실패 - lease: {}, 사유: {}", lease.getName(), e.getMessage());
+        }
+    }
+
+    private void cancelHeartbeat(SchedulerLease lease) {
+        ScheduledFuture<?> future = heartbeats.remove(lease);
+        if (future != null) {
+            future.cancel(false);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+    }
+}
@@ -0,0 +1,190 @@
+package com.hbbank.backend.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.hbbank.backend.util.BloomFilter;
+import com.hbbank.backend.util.JwtUtil;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 폐기된 액세스 토큰 목록 (로그아웃, 리프레시 토큰 재사용 감지, 전체 세션 폐기)
+ * - 토큰 ID(jti) 또는 토큰 family(fid, 세션의 모든 액세스 토큰) 단위로 폐기
+ * - Redis: token:denylist ZSET (member: jti:<id> / fid:<id>, score: 폐기 항목 만료 시각)
+ *   액세스 토큰이 만료되면 폐기 항목도 필요 없으므로 만료 시각이 지난 항목은 재구성 때 정리
+ * - 노드 로컬 Bloom filter: 요청마다 Redis 를 조회하지 않도록 Bloom filter 에 없으면 바로 통과,
+ *   있다고 나올 때(실제 폐기 또는 오탐)만 Redis 에서 확인
+ * - 폐기 시 pub/sub 채널로 발행해 모든 노드의 Bloom filter 에 바로 추가,
+ *   메시지를 놓친 노드와 만료 항목 정리를 위해 주기적으로 Redis 에서 새로 만들어 교체
+ * 기동 중 Redis 장애로 Bloom filter 를 만들지 못하면 기동은 그대로 진행하고, 요청 처리 중 backoff 간격으로 다시 만든다.
+ * 필터가 없는 동안은 모든 요청을 Redis 에서 확인한다.
+ * Redis 확인이 실패하면 폐기 여부를 알 수 없으므로 폐기되지 않은 것으로 보고 JWT 서명/만료 검증 결과만 따른다
+ * (Redis 장애가 전체 사용자 인증 실패로 번지지 않도록 함).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenDenylistService implements MessageListener {
+
+    public static final String REVOKED_CHANNEL = "token:revoked";
+    private static final String DENYLIST_KEY = "token:denylist";
+    private static final String JTI_PREFIX = "jti:";
+    private static final String FAMILY_PREFIX = "fid:";
+    private static final double FALSE_POSITIVE_RATE = 0.001;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // Bloom filter 예상 항목 수 (폐기 항목이 더 많으면 그 두 배로 만듦)
+    @Value("${token.denylist.expected-insertions:100000}")
+    private int expectedInsertions = 100000;
+
+    // Bloom filter 생성 실패 후 재시도 간격 (실패할 때마다 두 배, 최대값까지)
+    @Value("${token.denylist.retry-initial-ms:1000}")
+    private long retryInitialMillis = 1000;
+
+    @Value("${token.denylist.retry-max-ms:60000}")
+    private long retryMaxMillis = 60000;
+
+    private volatile BloomFilter bloomFilter;
+    // 재구성 중 들어온 폐기 항목을 새 필터에도 넣기 위해 보관
+    private volatile BloomFilter rebuilding;
+
+    // 재구성은 한 스레드만 (스케줄러와 요청 스레드의 지연 생성이 겹치지 않도록)
+    private final AtomicBoolean building = new AtomicBoolean();
+    private volatile long nextRetryAt;
+    private long retryDelay;
+
+    @PostConstruct
+    public void init() {
+        rebuild();
+    }
+
+    // 액세스 토큰 하나 폐기 (토큰 만료 시각까지 유지)
+    public void revokeAccessToken(String tokenId, Date expiration) {
+        if (tokenId == null || expiration == null) {
+            return;
+        }
+        revoke(JTI_PREFIX + tokenId, expiration.getTime());
+    }
+
+    // family(로그인 세션)로 발급된 모든 액세스 토큰 폐기, 폐기 시점에 발급된 액세스 토큰이 모두 만료될 때까지 유지
+    public void revokeFamily(String familyId) {
+        if (familyId == null) {
+            return;
+        }
+        revoke(FAMILY_PREFIX + familyId, System.currentTimeMillis() + JwtUtil.ACCESS_TOKEN_EXPIRE_TIME);
+    }
+
+    public boolean isRevoked(String tokenId, String familyId) {
+        return isRevokedEntry(JTI_PREFIX, tokenId) || isRevokedEntry(FAMILY_PREFIX, familyId);
+    }
+
+    // 다른 노드(또는 자신)가 발행한 폐기 항목 수신
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        addLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    // Redis 의 만료 항목 정리 후 남은 항목으로 Bloom filter 를 새로 만들어 교체
+    @Scheduled(fixedDelayString = "${token.denylist.rebuild-ms:60000}", initialDelayString = "${token.denylist.rebuild-ms:60000}")
+    public void rebuild() {
+        if (!building.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            build();
+        } finally {
+            building.set(false);
+        }
+    }
+
+    // 필터가 없으면(기동 중 Redis 장애) 재시도 시각이 지났을 때 요청 스레드 하나가 다시 만듦
+    private BloomFilter currentFilter() {
+        BloomFilter filter = bloomFilter;
+        if (filter == null && System.currentTimeMillis() >= nextRetryAt) {
+            rebuild();
+            filter = bloomFilter;
+        }
+        return filter;
+    }
+
+    private void build() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().removeRangeByScore(DENYLIST_KEY, Double.NEGATIVE_INFINITY, now);
+            Long size = redisTemplate.opsForZSet().zCard(DENYLIST_KEY);
+            long capacity = Math.max(expectedInsertions, size == null ? 0 : size * 2);
+            BloomFilter next = new BloomFilter((int) Math.min(capacity, Integer.MAX_VALUE), FALSE_POSITIVE_RATE);
+            rebuilding = next;
+            Set<String> entries = redisTemplate.opsForZSet().rangeByScore(DENYLIST_KEY, now, Double.POSITIVE_INFINITY);
+            if (entries != null) {
+                entries.forEach(next::add);
+            }
+            bloomFilter = next;
+            retryDelay = 0;
+            nextRetryAt = 0;
+            log.debug("토큰 폐기 목록 Bloom filter 재구성 완료 - 항목: {}건", entries == null ? 0 : entries.size());
+        } catch (Exception e) {
+            // 기존 필터를 계속 사용, 필터가 없으면 Redis 에서 직접 확인하고 backoff 후 다시 생성
+            retryDelay = retryDelay == 0 ? retryInitialMillis : Math.min(retryDelay * 2, retryMaxMillis);
+            nextRetryAt = System.currentTimeMillis() + retryDelay;
+            log.error("토큰 폐기 목록 Bloom filter 재구성 실패 - 다음 시도: {}ms 후, 사유: {}", retryDelay, e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private void revoke(String entry, long expiresAtMillis) {
+        // 발행보다 먼저 저장해야 재구성 중인 노드가 Redis 조회나 메시지 중 하나로 반드시 받음
+        redisTemplate.opsForZSet().add(DENYLIST_KEY, entry, expiresAtMillis);
+        addLocal(entry);
+        try {
+            redisTemplate.convertAndSend(REVOKED_CHANNEL, entry);
+        } catch (Exception e) {
+            // 다른 노드는 다음 재구성 때 반영
+            log.error("토큰 폐기 발행 실패 - 항목: {}, 사유: {}", entry, e.getMessage());
+        }
+        log.info("액세스 토큰 폐기 - 항목: {}", entry);
+    }
+
+    private boolean isRevokedEntry(String prefix, String id) {
+        if (id == null) {
+            return false;
+        }
+        String entry = prefix + id;
+        BloomFilter filter = currentFilter();
+        if (filter != null && !filter.mightContain(entry)) {
+            return false;
+        }
+        try {
+            Double expiresAt = redisTemplate.opsForZSet().score(DENYLIST_KEY, entry);
+            return expiresAt != null && expiresAt > System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("토큰 폐기 여부 확인 실패 - 서명/만료 검증 결과만 적용 (항목: {}, 사유: {})", entry, e.getMessage());
+            return false;
+        }
+    }
+
+    private void addLocal(String entry) {
+        BloomFilter filter = bloomFilter;
+        if (filter != null) {
+            filter.add(entry);
+        }
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.add(entry);
+        }
+    }
+}
@@ -1,97 +1,149 @@
 package com.hbbank.backend.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
 
 import com.hbbank.backend.dto.RefreshTokenDTO;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.hbbank.backend.domain.RefreshToken;
-import com.hbbank.backend.domain.User;
 import com.hbbank.backend.dto.TokenResponseDTO;
 import com.hbbank.backend.exception.token.InvalidTokenException;
+import com.hbbank.backend.exception.token.RefreshInProgressException;
 import com.hbbank.backend.repository.RefreshTokenRepository;
+import com.hbbank.backend.service.RefreshTokenStore.Rotation;
 import com.hbbank.backend.util.JwtUtil;
+import com.hbbank.backend.util.VerifiedTokenCache;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class TokenService {
 
     private final JwtUtil jwtUtil;
+    private final RefreshTokenStore refreshTokenStore;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylistService tokenDenylistService;
 
+    // refresh_token 테이블에 남아 있는 토큰을 기동 시 Redis 로 옮길지 여부 (전환 배포 때 한 번만 켬)
+    @Value("${token.refresh.migrate-from-db:false}")
+    private boolean migrateFromDb = false;
+
+    // 로그인마다 새 토큰 family(기기 세션) 생성, 다른 기기의 세션은 유지
     public TokenResponseDTO createTokens(Long userId) {
-        String accessToken = jwtUtil.createAccessToken(userId);
-        String refreshToken = jwtUtil.createRefreshToken(userId);
-        saveOrUpdateRefreshToken(userId, refreshToken);
+        String familyId = UUID.randomUUID().toString();
+        String accessToken = jwtUtil.createAccessToken(userId, familyId);
+        String refreshToken = jwtUtil.createRefreshToken(userId, familyId);
+        refreshTokenStore.createFamily(userId, familyId, refreshToken);
 
         log.info("새로운 토큰 발급 완료 - 사용자ID: {}", userId);
         return new TokenResponseDTO(accessToken, refreshToken);
     }
 
-    private void saveOrUpdateRefreshToken(Long userId, String refreshToken) {
-        RefreshToken refreshTokenEntity = RefreshToken.builder()
-                .user(User.builder().id(userId).build())
-                .token(refreshToken)
-                .expiryDate(LocalDateTime.now().plusDays(14))
-                .build();
-
-        RefreshToken existingToken = refreshTokenRepository.findByUser_Id(userId);
-        if (existingToken != null) {
-            refreshTokenRepository.updateRefreshToken(refreshTokenEntity);
-            log.info("리프레시 토큰 갱신 - 사용자ID: {}", userId);
-        } else {
-            refreshTokenRepository.save(refreshTokenEntity);
-            log.info("새로운 리프레시 토큰 저장 - 사용자ID: {}", userId);
-        }
-    }
-
+    // 리프레시 토큰은 1회용: 같은 family 로 새 리프레시 토큰을 발급하고 저장된 토큰을 원자적으로 교체
     public TokenResponseDTO refreshAccessToken(String refreshToken) {
-        validateRefreshTokenOrThrow(refreshToken);
-        Long userId = jwtUtil.getUserId(refreshToken);
-        String newAccessToken = jwtUtil.createAccessToken(userId);
+        Claims claims = parseRefreshTokenOrThrow(refreshToken);
+        Long userId = claims.get("userId", Long.class);
+        String familyId = claims.get(JwtUtil.FAMILY_ID, String.class);
 
-        log.info("액세스 토큰 재발급 완료 - 사용자ID: {}", userId);
-        return new TokenResponseDTO(newAccessToken, refreshToken);
-    }
+        if (familyId == null) {
+            return refreshLegacyToken(userId, refreshToken);
+        }
+
+        String newRefreshToken = jwtUtil.createRefreshToken(userId, familyId);
 
-    private void validateRefreshTokenOrThrow(String refreshToken) {
-        if (!jwtUtil.validateToken(refreshToken)) {
-            log.error("리프레시 토큰 검증 실패 - 유효하지 않은 토큰");
-            throw new InvalidTokenException("유효하지 않은 리프레시 토큰");
+        Rotation rotation = refreshTokenStore.rotate(userId, familyId, refreshToken, newRefreshToken);
+        if (rotation == Rotation.GRACE) {
+            // 동시에 들어온 갱신 요청 - 토큰은 먼저 교체한 요청의 응답으로만 전달하고 이 요청은 재시도하게 함
+            log.info("동시 갱신 요청 - 토큰 발급 없이 재시도 응답 (사용자ID: {}, family: {})", userId, familyId);
+            throw new RefreshInProgressException();
+        }
+        if (rotation == Rotation.REUSED) {
+            // 이미 교체된 토큰이 다시 사용됨 -> 탈취 가능성, family 전체 폐기
+            // 탈취한 쪽이 이미 받은 액세스 토큰도 쓰지 못하도록 family 의 액세스 토큰까지 폐기
+            log.warn("리프레시 토큰 재사용 감지 - family 폐기 (사용자ID: {}, family: {})", userId, familyId);
+            tokenDenylistService.revokeFamily(familyId);
+            throw new InvalidTokenException("이미 사용된 리프레시 토큰");
+        }
+        if (rotation == Rotation.NOT_FOUND) {
+            log.error("리프레시 토큰 검증 실패 - 만료/폐기된 세션 (사용자ID: {}, family: {})", userId, familyId);
+            throw new InvalidTokenException("저장된 리프레시 토큰과 불일치");
         }
 
-        Long userId = jwtUtil.getUserId(refreshToken);
-        RefreshToken savedToken = refreshTokenRepository.findByUser_Id(userId);
+        log.info("액세스 토큰 재발급 완료 - 사용자ID: {}", userId);
+        return new TokenResponseDTO(jwtUtil.createAccessToken(userId, familyId), newRefreshToken);
+    }
 
-        if (savedToken == null || !savedToken.getToken().equals(refreshToken)) {
+    // family 도입 전에 발급된 토큰: 저장된 토큰과 일치하면 소모하고 새 family 로 발급
+    private TokenResponseDTO refreshLegacyToken(Long userId, String refreshToken) {
+        if (!refreshTokenStore.consumeLegacy(userId, refreshToken)) {
             log.error("리프레시 토큰 검증 실패 - 저장된 토큰과 불일치 (사용자ID: {})", userId);
             throw new InvalidTokenException("저장된 리프레시 토큰과 불일치");
         }
+        log.info("이전 리프레시 토큰을 새 세션으로 전환 - 사용자ID: {}", userId);
+        return createTokens(userId);
+    }
+
+    // 서명/만료 검증, 리프레시 토큰인지 확인 (만료는 JWT 만료 시각과 Redis TTL 로 처리)
+    private Claims parseRefreshTokenOrThrow(String refreshToken) {
+        return jwtUtil.parseAndValidate(refreshToken)
+                .filter(claims -> "refresh".equals(claims.get("type")))
+                .orElseThrow(() -> {
+                    log.error("리프레시 토큰 검증 실패 - 유효하지 않은 토큰");
+                    return new InvalidTokenException("유효하지 않은 리프레시 토큰");
+                });
+    }
 
-        if (savedToken.getExpiryDate().isBefore(LocalDateTime.now())) {
-            log.error("리프레시 토큰 검증 실패 - 만료된 토큰 (사용자ID: {})", userId);
-            refreshTokenRepository.deleteByUser_Id(userId);
-            throw new InvalidTokenException("만료된 리프레시 토큰");
+    // 로그아웃: 액세스 토큰의 세션(family)만 폐기, family 정보가 없는 이전 토큰이면 모든 세션 폐기
+    // 리프레시 토큰뿐 아니라 이 토큰과 같은 세션에서 발급된 액세스 토큰도 만료 전까지 사용할 수 없도록 폐기 목록에 등록
+    public void logout(String accessToken) {
+        Claims claims = jwtUtil.parseAndValidate(accessToken)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 액세스 토큰"));
+        Long userId = claims.get("userId", Long.class);
+        String familyId = claims.get(JwtUtil.FAMILY_ID, String.class);
+        tokenDenylistService.revokeAccessToken(claims.getId(), claims.getExpiration());
+        if (familyId == null) {
+            revokeRefreshToken(userId);
+            return;
         }
+        verifiedTokenCache.invalidateUser(userId);
+        refreshTokenStore.revokeFamily(userId, familyId);
+        tokenDenylistService.revokeFamily(familyId);
+        log.info("리프레시 토큰 폐기 완료 - 사용자ID: {}, family: {}", userId, familyId);
     }
 
+    // 사용자의 모든 세션 폐기 (각 세션의 액세스 토큰 포함)
     public void revokeRefreshToken(Long userId) {
-        refreshTokenRepository.deleteByUser_Id(userId);
+        // 인증 필터가 캐시해 둔 이 사용자의 검증 결과도 제거
+        verifiedTokenCache.invalidateUser(userId);
+        refreshTokenStore.revokeAll(userId).forEach(tokenDenylistService::revokeFamily);
         log.info("리프레시 토큰 폐기 완료 - 사용자ID: {}", userId);
     }
 
+    // 사용 처리 없이 현재 유효한 리프레시 토큰인지만 확인
     public boolean validateRefreshToken(String refreshToken) {
         try {
-            validateRefreshTokenOrThrow(refreshToken);
+            Claims claims = parseRefreshTokenOrThrow(refreshToken);
+            Long userId = claims.get("userId", Long.class);
+            String familyId = claims.get(JwtUtil.FAMILY_ID, String.class);
+            boolean current = familyId == null
+                    ? refreshTokenStore.matchesLegacy(userId, refreshToken)
+                    : refreshTokenStore.isCurrent(userId, familyId, refreshToken);
+            if (!current) {
+                throw new InvalidTokenException("저장된 리프레시 토큰과 불일치");
+            }
             return true;
         } catch (InvalidTokenException e) {
             log.warn("리프레시 토큰 유효성 검사 실패 - 사유: {}", e.getMessage());
@@ -106,6 +158,26 @@ public class TokenService {
         return header.substring(7);
     }
 
+    // 만료되지 않은 토큰은 남은 유효기간을 TTL 로 옮기고, 테이블은 비움 (로그인/갱신은 더 이상 테이블을 쓰지 않음)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrateRefreshTokens() {
+        if (!migrateFromDb) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<RefreshToken> tokens = refreshTokenRepository.findAllByExpiryDateAfter(now);
+        int migrated = 0;
+        for (RefreshToken token : tokens) {
+            Duration remaining = Duration.between(now, token.getExpiryDate());
+            if (refreshTokenStore.saveLegacyIfAbsent(token.getUser().getId(), token.getToken(), remaining)) {
+                migrated++;
+            }
+        }
+        refreshTokenRepository.deleteAllInBatch();
+        log.info("리프레시 토큰 Redis 이전 완료 - 대상: {}건, 이전: {}건", tokens.size(), migrated);
+    }
+
     public void verifyRefreshToken(RefreshTokenDTO request){
         if (request.getRefreshToken() == null || request.getRefreshToken().isEmpty()) {
             throw new InvalidTokenException("리프레시 토큰이 필요합니다.");
@@ -0,0 +1,128 @@
+package com.hbbank.backend.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hbbank.backend.domain.enums.ExportFormat;
+import com.hbbank.backend.dto.TransactionResponseDTO;
+import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.repository.TransactionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 거래내역 내보내기 (CSV / NDJSON)
+ * 거래내역을 List 로 모으지 않고 DB 커서에서 한 행씩 읽어 응답 스트림에 바로 기록하므로
+ * 천만 건 계좌도 버퍼 크기 이상의 메모리를 사용하지 않는다.
+ * 계좌 검증과 기간 검증은 요청 스레드에서 먼저 수행해 오류가 일반 예외 응답으로 나가도록 하고,
+ * 실제 조회/기록은 반환한 StreamingResponseBody 가 비동기 스레드에서 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionExportService {
+
+    private static final String CSV_HEADER =
+            "id,accountId,transactionDateTime,transactionType,sender,receiver,withdrawalAmount,depositAmount,balance";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final TransactionRepository transactionRepository;
+    private final AccountService accountService;
+    private final ObjectMapper objectMapper;
+
+    public StreamingResponseBody export(Long accountId, ExportFormat format, LocalDate startDate, LocalDate endDate) {
+        accountService.verifyAccount(accountId);
+
+        LocalDateTime from = startDate == null ? null : startDate.atStartOfDay();
+        LocalDateTime to = endDate == null ? null : endDate.plusDays(1).atStartOfDay();
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidDateRangeException("종료일이 시작일보다 앞설 수 없습니다.");
+        }
+
+        return out -> write(accountId, format, from, to, out);
+    }
+
+    private void write(Long accountId, ExportFormat format, LocalDateTime from, LocalDateTime to, OutputStream out)
+            throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        long[] count = {0};
+        if (format == ExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try {
+            transactionRepository.streamByAccountId(accountId, from, to, t -> {
+                try {
+                    if (format == ExportFormat.CSV) {
+                        writeCsv(writer, t);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(t));
+                        writer.write('\n');
+                    }
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // 클라이언트가 다운로드를 중단한 경우 등
+            log.warn("거래내역 내보내기 중단 - 계좌ID: {}, 기록 건수: {}, 사유: {}", accountId, count[0], e.getMessage());
+            throw e.getCause();
+        }
+        writer.flush();
+        log.info("거래내역 내보내기 완료 - 계좌ID: {}, 형식: {}, 기록 건수: {}", accountId, format, count[0]);
+    }
+
+    private void writeCsv(Writer writer, TransactionResponseDTO t) throws IOException {
+        writer.write(String.valueOf(t.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(t.getAccountId()));
+        writer.write(',');
+        writer.write(t.getTransactionDateTime().toString());
+        writer.write(',');
+        writer.write(csvText(t.getTransactionType()));
+        writer.write(',');
+        writer.write(csvText(t.getSender()));
+        writer.write(',');
+        writer.write(csvText(t.getReceiver()));
+        writer.write(',');
+        writer.write(plain(t.getWithdrawalAmount()));
+        writer.write(',');
+        writer.write(plain(t.getDepositAmount()));
+        writer.write(',');
+        writer.write(plain(t.getBalance()));
+        writer.write('\n');
+    }
+
+    // 구분자/따옴표/줄바꿈은 따옴표로 감싸고, 수식으로 해석될 수 있는 값(=,+,-,@ 시작)은 ' 를 붙여 무력화
+    private String csvText(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String text = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    private String plain(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+}
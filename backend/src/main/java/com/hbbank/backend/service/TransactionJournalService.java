@@ -0,0 +1,348 @@
+package com.hbbank.backend.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.TransactionJournalCommitRepository;
+import com.hbbank.backend.repository.TransactionRepository;
+import com.hbbank.backend.util.WriteAheadLog;
+import com.hbbank.backend.util.WriteAheadLog.Entry;
+import com.hbbank.backend.util.WriteAheadLog.RecordType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 거래내역 지연 기록(write-behind) 저널
+ * transaction.journal.mode=wal 일 때 이체 트랜잭션은 계좌 잔액 UPDATE 만 DB 에 쓰고,
+ * 거래내역은 로컬 WAL 파일에 기록한 뒤 백그라운드에서 transaction 테이블로 대량 삽입한다.
+ *
+ * 1. PREPARE + COMMIT 레코드 공간을 한 번에 예약 (부족하면 거래내역을 DB 에 직접 기록)
+ * 2. 이체 트랜잭션 안에서 커밋 표시 행(transaction_journal_commit, WAL 키)을 INSERT
+ * 3. beforeCommit: PREPARE 레코드(거래내역 전체)를 예약 공간에 기록하고 디스크 반영(group commit)
+ * 4. DB 커밋
+ * 5. afterCompletion: 커밋이면 COMMIT, 롤백이면 ABORT 레코드 기록 (디스크 반영 없음 - 유실되면 커밋 표시로 판단)
+ * 6. drain: checkpoint 부터 COMMIT 된 PREPARE 만 모아 INSERT IGNORE 로 배치 삽입, 커밋 표시 삭제,
+ *    DB 커밋 후에 checkpoint 이동 (커밋 실패/중단 시 같은 구간을 다시 삽입)
+ *    (거래내역 ID 는 미리 발급되어 있으므로 재시작 후 다시 삽입해도 중복되지 않음)
+ *    완료 레코드가 없는 PREPARE 는 이체가 끝났거나 resolve-timeout 이 지나면 커밋 표시 행으로 판단
+ * 7. 기동 시 복구: COMMIT/ABORT 가 없는 PREPARE(in-doubt)는 커밋 표시 행이 있으면 DB 에 커밋된 것이므로 COMMIT,
+ *    없으면 이체 트랜잭션이 롤백된 것이므로 ABORT 처리
+ *
+ * WAL 에 쓴 거래내역은 drain 주기(기본 200ms)만큼 늦게 조회된다.
+ * 락 보유 시간은 sync 모드(배치 INSERT)와 비교 측정 중이므로 기본값은 sync 이다. (TransactionJournalLockHoldBenchmarkTest)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TransactionJournalService {
+
+    private final TransactionRepository transactionRepository;
+    private final AccountRepository accountRepository;
+    private final TransactionJournalCommitRepository journalCommitRepository;
+
+    @Value("${transaction.journal.mode:sync}")
+    private String mode = "sync";
+
+    @Value("${transaction.journal.wal-path:./data/transaction-journal.wal}")
+    private String walPath;
+
+    @Value("${transaction.journal.wal-capacity-mb:64}")
+    private int walCapacityMb = 64;
+
+    @Value("${transaction.journal.drain-batch-size:5000}")
+    private int drainBatchSize = 5000;
+
+    @Value("${transaction.journal.resolve-timeout-ms:10000}")
+    private long resolveTimeoutMillis = 10000;
+
+    private WriteAheadLog wal;
+
+    // 이 노드에서 진행 중인 이체의 WAL 키 -> append 시각 (afterCompletion 에서 제거)
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() throws IOException {
+        if (!"wal".equalsIgnoreCase(mode)) {
+            return;
+        }
+        wal = new WriteAheadLog(Path.of(walPath), walCapacityMb * 1024 * 1024);
+        recover();
+        log.info("거래내역 WAL 저널 활성화 - 경로: {}, 미처리 용량: {} bytes", walPath, wal.usedBytes());
+    }
+
+    /*
+     * 현재 트랜잭션의 거래내역을 WAL 에 기록하도록 예약
+     * WAL 모드가 아니거나 트랜잭션 밖에서 호출된 경우 false 를 반환하며, 호출자는 거래내역을 직접 저장해야 함
+     */
+    public boolean append(List<Transaction> transactions) {
+        if (wal == null || transactions.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+        long key = transactions.get(0).getId();
+        byte[] payload = serialize(transactions);
+        // PREPARE 와 완료 레코드 공간을 함께 예약해 커밋 직전/직후에 공간 부족으로 실패하지 않게 함
+        int reservation = WriteAheadLog.recordSize(payload.length) + WriteAheadLog.recordSize(0);
+        if (!wal.reserve(reservation)) {
+            log.warn("WAL 용량 부족 - 거래내역을 DB 에 직접 기록합니다. (사용량: {} bytes, 예약: {} bytes)",
+                    wal.usedBytes(), wal.reservedBytes());
+            return false;
+        }
+
+        // 커밋 표시 INSERT 가 실패해도 롤백 시 예약이 반환되도록 먼저 등록
+        inFlight.put(key, System.currentTimeMillis());
+        TransactionSynchronizationManager.registerSynchronization(new JournalSynchronization(key, payload, reservation));
+        // 이체와 같은 트랜잭션으로 커밋되므로 완료 레코드가 없을 때 커밋 여부 판단 근거가 됨
+        journalCommitRepository.insertMarker(key, LocalDateTime.now());
+        return true;
+    }
+
+    // COMMIT 된 거래내역을 transaction 테이블로 대량 삽입
+    @Scheduled(fixedDelayString = "${transaction.journal.drain-interval-ms:200}")
+    @Transactional
+    public void drain() {
+        if (wal == null || wal.isEmpty()) {
+            return;
+        }
+        List<Entry> entries = wal.readFromCheckpoint(drainBatchSize);
+        Map<Long, Boolean> outcomes = new HashMap<>();
+        for (Entry e : entries) {
+            if (e.type() != RecordType.PREPARE) {
+                outcomes.put(e.key(), e.type() == RecordType.COMMIT);
+            }
+        }
+        outcomes.putAll(resolveUnfinished(entries, outcomes));
+
+        // 아직 커밋 중인 PREPARE 를 만나면 그 앞까지만 처리 (순서 보장)
+        List<byte[]> payloads = new ArrayList<>();
+        List<Long> keys = new ArrayList<>();
+        long checkpoint = -1;
+        for (Entry e : entries) {
+            if (e.type() == RecordType.PREPARE && !outcomes.containsKey(e.key())) {
+                break;
+            }
+            if (e.type() == RecordType.PREPARE && outcomes.get(e.key())) {
+                payloads.add(e.payload());
+                keys.add(e.key());
+            }
+            checkpoint = e.nextPosition();
+        }
+        if (checkpoint < 0) {
+            return;
+        }
+
+        List<Transaction> transactions = payloads.stream()
+                .flatMap(p -> deserialize(p).stream())
+                .toList();
+        if (!transactions.isEmpty()) {
+            transactionRepository.batchInsertIgnoringDuplicates(transactions);
+            journalCommitRepository.deleteAllByIdInBatch(keys);
+        }
+        advanceCheckpointAfterCommit(checkpoint);
+        log.debug("거래내역 WAL drain - {}건 삽입", transactions.size());
+    }
+
+    /*
+     * 완료 레코드가 없는 PREPARE 의 커밋 여부를 커밋 표시 행으로 판단
+     * - 이 노드에서 이체가 끝났는데 완료 레코드가 없음(기록 실패, 또는 조회 이후 기록됨): 바로 판단
+     * - 이체가 resolve-timeout 이상 진행 중: 커밋 표시가 있으면 DB 커밋은 끝난 것이므로 커밋으로 판단
+     * 커밋 표시가 없는데 아직 진행 중이면 DB 커밋이 끝나지 않았을 수 있으므로 판단하지 않음 (대기)
+     * 커밋으로 판단한 뒤 뒤늦게 기록된 완료 레코드는 PREPARE 가 이미 처리되었으므로 무시됨
+     */
+    private Map<Long, Boolean> resolveUnfinished(List<Entry> entries, Map<Long, Boolean> outcomes) {
+        long now = System.currentTimeMillis();
+        Set<Long> candidates = entries.stream()
+                .filter(e -> e.type() == RecordType.PREPARE && !outcomes.containsKey(e.key()))
+                .map(Entry::key)
+                .filter(key -> {
+                    Long startedAt = inFlight.get(key);
+                    return startedAt == null || now - startedAt >= resolveTimeoutMillis;
+                })
+                .collect(Collectors.toSet());
+        if (candidates.isEmpty()) {
+            return Map.of();
+        }
+
+        // 진행 여부를 먼저 확인한 뒤 조회해야, 끝난 이체의 커밋 표시를 놓치지 않음
+        Set<Long> marked = new HashSet<>(journalCommitRepository.findExistingIds(candidates));
+        Map<Long, Boolean> decided = new HashMap<>();
+        for (Long key : candidates) {
+            if (marked.contains(key)) {
+                decided.put(key, true);
+            } else if (!inFlight.containsKey(key)) {
+                decided.put(key, false);
+            }
+        }
+        log.warn("WAL 완료 레코드 없는 거래내역 판단 - 대상: {}건, 커밋: {}건, 롤백: {}건",
+                candidates.size(), marked.size(), decided.size() - marked.size());
+        return decided;
+    }
+
+    // 삽입이 DB 에 커밋된 뒤에만 checkpoint 이동 (커밋 전에 옮기면 실패 시 해당 구간이 유실됨)
+    private void advanceCheckpointAfterCommit(long checkpoint) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    wal.advanceCheckpoint(checkpoint);
+                }
+            });
+            return;
+        }
+        wal.advanceCheckpoint(checkpoint);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (wal != null) {
+            wal.close();
+        }
+    }
+
+    // 기동 시 in-doubt 레코드 정리: 커밋 표시가 DB 에 있으면 COMMIT(이후 drain 에서 삽입), 없으면 ABORT
+    private void recover() {
+        List<Entry> entries = wal.readFromCheckpoint(Integer.MAX_VALUE);
+        Set<Long> resolved = entries.stream()
+                .filter(e -> e.type() != RecordType.PREPARE)
+                .map(Entry::key)
+                .collect(Collectors.toSet());
+        Map<Long, Entry> inDoubt = entries.stream()
+                .filter(e -> e.type() == RecordType.PREPARE && !resolved.contains(e.key()))
+                .collect(Collectors.toMap(Entry::key, Function.identity()));
+
+        Set<Long> committed = inDoubt.isEmpty()
+                ? Set.of()
+                : new HashSet<>(journalCommitRepository.findExistingIds(inDoubt.keySet()));
+        for (Entry e : inDoubt.values()) {
+            if (committed.contains(e.key())) {
+                log.warn("WAL in-doubt 거래내역 - DB 커밋 확인, 삽입 대상으로 복구 (key: {})", e.key());
+                wal.append(RecordType.COMMIT, e.key(), new byte[0]);
+            } else {
+                log.info("WAL in-doubt 거래내역 - DB 커밋 표시 없음(롤백), 폐기 (key: {})", e.key());
+                wal.append(RecordType.ABORT, e.key(), new byte[0]);
+            }
+        }
+        wal.force();
+        log.info("거래내역 WAL 복구 - 미처리 레코드: {}건, in-doubt: {}건 (커밋 확인: {}건)",
+                entries.size(), inDoubt.size(), committed.size());
+    }
+
+    // 이체 트랜잭션 하나의 WAL 기록 (예약한 공간은 완료 레코드 기록 또는 반환으로 모두 정리)
+    private class JournalSynchronization implements TransactionSynchronization {
+
+        private final long key;
+        private final byte[] payload;
+        private final int reservation;
+        private boolean prepared;
+
+        JournalSynchronization(long key, byte[] payload, int reservation) {
+            this.key = key;
+            this.payload = payload;
+            this.reservation = reservation;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            // 실패 시 예외가 전파되어 DB 트랜잭션도 롤백됨
+            long end = wal.appendReserved(RecordType.PREPARE, key, payload);
+            prepared = true;
+            // 동시에 커밋하는 이체가 이미 이 위치까지 반영했으면 fsync 없이 반환
+            wal.force(end);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            int unused = prepared ? WriteAheadLog.recordSize(0) : reservation;
+            try {
+                if (prepared) {
+                    wal.appendReserved(status == STATUS_COMMITTED ? RecordType.COMMIT : RecordType.ABORT, key, new byte[0]);
+                    unused = 0;
+                }
+            } catch (RuntimeException e) {
+                log.error("WAL 완료 레코드 기록 실패 - key: {}, 상태: {}, 사유: {}", key, status, e.getMessage());
+            } finally {
+                if (unused > 0) {
+                    wal.release(unused);
+                }
+                inFlight.remove(key);
+            }
+        }
+    }
+
+    private byte[] serialize(List<Transaction> transactions) {
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+             DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(transactions.size());
+            for (Transaction t : transactions) {
+                out.writeLong(t.getId());
+                out.writeLong(t.getAccount().getId());
+                out.writeUTF(t.getTransactionDateTime().toString());
+                out.writeUTF(t.getTransactionType());
+                out.writeUTF(t.getSender());
+                out.writeUTF(t.getReceiver());
+                out.writeUTF(t.getWithdrawalAmount().toPlainString());
+                out.writeUTF(t.getDepositAmount().toPlainString());
+                out.writeUTF(t.getBalance() == null ? "" : t.getBalance().toPlainString());
+            }
+            out.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<Transaction> deserialize(byte[] payload) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            int size = in.readInt();
+            List<Transaction> transactions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                transactions.add(Transaction.builder()
+                        .id(in.readLong())
+                        .account(accountRepository.getReferenceById(in.readLong()))
+                        .transactionDateTime(LocalDateTime.parse(in.readUTF()))
+                        .transactionType(in.readUTF())
+                        .sender(in.readUTF())
+                        .receiver(in.readUTF())
+                        .withdrawalAmount(new BigDecimal(in.readUTF()))
+                        .depositAmount(new BigDecimal(in.readUTF()))
+                        .balance(decimalOrNull(in.readUTF()))
+                        .build());
+            }
+            return transactions;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // 잔액 미기록(핫 계좌 입금)은 빈 문자열로 기록
+    private static BigDecimal decimalOrNull(String value) {
+        return value.isEmpty() ? null : new BigDecimal(value);
+    }
+}
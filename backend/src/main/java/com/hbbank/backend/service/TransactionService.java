@@ -3,21 +3,27 @@ package com.hbbank.backend.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.time.format.DateTimeParseException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import com.hbbank.backend.domain.enums.TransferType;
 import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.exception.transaction.InvalidPageException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.dto.TransactionCursor;
+import com.hbbank.backend.dto.TransactionPageResponseDTO;
 import com.hbbank.backend.dto.TransactionSearchDTO;
+import com.hbbank.backend.dto.TransactionSearchPageResponseDTO;
 import com.hbbank.backend.repository.TransactionRepository;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,58 +35,68 @@ public class TransactionService {
 
     private final TransactionRepository transactionRepository;
     private final AccountService accountService;
+    private final TransactionJournalService transactionJournalService;
+    private final AccountDailySnapshotService accountDailySnapshotService;
 
+    @Value("${transaction.page.default-size:20}")
+    private int defaultPageSize = 20;
+
+    @Value("${transaction.page.max-size:100}")
+    private int maxPageSize = 100;
+
+    @Value("${transaction.search.page-size:500}")
+    private int searchPageSize = 500;
+
+    @Transactional(readOnly = true)
     public List<Transaction> findByAccountAndTransactionType(Account account, String type) {
         return transactionRepository.findByAccountAndTransactionType(account, type)
                 .orElse(Collections.emptyList());
     }
 
-    public List<Transaction> createTransaction(Account fromAccount, Account toAccount, BigDecimal amount) {
-        List<Transaction> list = new ArrayList<>();
-        list.add(createWithdrawTransaction(fromAccount, toAccount, amount));
-        list.add(createDepositTransaction(fromAccount, toAccount, amount));
-        return list;
+    /*
+     * 이체 거래내역 생성
+     * 출금/입금 두 건을 한 번의 JDBC 배치로 저장 (계좌 락을 쥔 상태에서 호출되므로 DB 왕복을 최소화)
+     * 기존에는 건마다 saveAndFlush 를 호출해 IDENTITY 값을 받아오느라 이체 1건당 INSERT + flush 가 두 번 발생했음
+     * 보낸분/받는분 이름(sender, receiver)은 락 획득 전에 조회한 값을 받음
+     */
+    public List<Transaction> createTransaction(Account fromAccount, Account toAccount, String sender, String receiver,
+                                               BigDecimal amount) {
+        return createTransaction(fromAccount, toAccount, sender, receiver, amount, toAccount.getBalance());
     }
 
-    /* 출금 거래내역 생성 */
-    public Transaction createWithdrawTransaction(Account fromAccount, Account toAccount, BigDecimal amount) {
-        log.info("출금 거래내역 생성 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 잔액: {}",
-                fromAccount.getId(), toAccount.getId(), amount, fromAccount.getBalance());
-
-        Transaction withdraw = Transaction.builder()
-                .account(fromAccount)
-                .transactionDateTime(LocalDateTime.now())
-                .transactionType("출금")
-                .sender(fromAccount.getUser().getName())
-                .receiver(toAccount.getUser().getName())
-                .withdrawalAmount(amount)
-                .depositAmount(BigDecimal.ZERO)
-                .balance(fromAccount.getBalance())
-                .build();
-
-        return transactionRepository.saveAndFlush(withdraw);
+    /* 핫 계좌 입금: 입금 후 잔액을 정확히 알 수 없으므로 toBalance 는 null (입금 거래내역 잔액 미기록) */
+    public List<Transaction> createTransaction(Account fromAccount, Account toAccount, String sender, String receiver,
+                                               BigDecimal amount, BigDecimal toBalance) {
+        log.info("이체 거래내역 생성 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 출금계좌 잔액: {}, 입금계좌 잔액: {}",
+                fromAccount.getId(), toAccount.getId(), amount, fromAccount.getBalance(), toBalance);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> list = List.of(
+                Transaction.withdrawal(fromAccount, sender, receiver, amount, fromAccount.getBalance(), now),
+                Transaction.deposit(toAccount, sender, receiver, amount, toBalance, now));
+
+        // WAL 모드면 커밋 시 WAL 에만 기록하고 DB 삽입은 백그라운드 drain 으로 미룸
+        if (!transactionJournalService.append(list)) {
+            transactionRepository.batchInsert(list);
+        }
+        accountDailySnapshotService.accumulate(list);
+        return list;
     }
 
-    /* 입금 거래내역 생성 */
-    public Transaction createDepositTransaction(Account fromAccount, Account toAccount, BigDecimal amount) {
-        log.info("입금 거래내역 생성 - 출금계좌: {}, 입금계좌: {}, 금액: {}, 잔액: {}",
-                fromAccount.getId(), toAccount.getId(), amount, toAccount.getBalance());
-
-        Transaction deposit = Transaction.builder()
-                .account(toAccount)
-                .transactionDateTime(LocalDateTime.now())
-                .transactionType("입금")
-                .sender(fromAccount.getUser().getName())
-                .receiver(toAccount.getUser().getName())
-                .withdrawalAmount(BigDecimal.ZERO)
-                .depositAmount(amount)
-                .balance(toAccount.getBalance())
-                .build();
-
-        return transactionRepository.saveAndFlush(deposit);
+    /* 대량 이체 거래내역 일괄 저장 (JDBC batch insert, 영속성 컨텍스트를 거치지 않음) */
+    public void createTransactionsInBatch(List<Transaction> transactions) {
+        if (transactions.isEmpty()) {
+            return;
+        }
+        if (!transactionJournalService.append(transactions)) {
+            transactionRepository.batchInsert(transactions);
+        }
+        accountDailySnapshotService.accumulate(transactions);
+        log.info("거래내역 일괄 생성 - {} 건", transactions.size());
     }
 
     /* 계좌 ID에 따라 거래내역을 모두 가져오고 거래 일시를 기준으로 내림차순 정렬 */
+    @Transactional(readOnly = true)
     public List<Transaction> findAllByAccount_IdOrderByTransactionDateTimeDesc(Long accountId) {
         accountService.verifyAccount(accountId);
 
@@ -93,21 +109,70 @@ public class TransactionService {
         return transactions;
     }
 
-    /* 거래내역을 특정 조건에 따라 조회 */
-    public List<Transaction> findAllByCondition(TransactionSearchDTO dto) {
+    /*
+     * 계좌 거래내역 keyset 페이지 조회 (최신순)
+     * OFFSET 방식은 뒤 페이지로 갈수록 앞의 행을 모두 읽고 버려야 하지만,
+     * keyset 방식은 커서(마지막 거래일시, ID) 이후부터 인덱스를 바로 탐색하므로 이력 길이와 무관하게 일정한 비용
+     * 다음 페이지 존재 여부는 size + 1 건을 조회해 판단
+     */
+    @Transactional(readOnly = true)
+    public TransactionPageResponseDTO findPageByAccountId(Long accountId, String cursor, Integer size) {
+        accountService.verifyAccount(accountId);
+
+        int pageSize = size == null ? defaultPageSize : Math.max(1, Math.min(size, maxPageSize));
+        Limit limit = Limit.of(pageSize + 1);
+        List<Transaction> transactions;
+        if (cursor == null || cursor.isBlank()) {
+            transactions = transactionRepository.findFirstPageByAccountId(accountId, limit);
+        } else {
+            TransactionCursor c = TransactionCursor.decode(cursor);
+            transactions = transactionRepository.findPageByAccountIdBefore(accountId, c.transactionDateTime(), c.id(), limit);
+        }
+
+        boolean hasNext = transactions.size() > pageSize;
+        List<Transaction> page = hasNext ? transactions.subList(0, pageSize) : transactions;
+        log.info("계좌 거래내역 페이지 조회 - 계좌ID: {}, 페이지 크기: {}, 조회결과: {} 건, 다음 페이지: {}",
+                accountId, pageSize, page.size(), hasNext);
+
+        return TransactionPageResponseDTO.of(page, hasNext);
+    }
+
+    /*
+     * 거래내역을 특정 조건에 따라 조회 (dto.page 번째 페이지, 페이지 크기는 transaction.search.page-size)
+     * 다음 페이지 존재 여부는 페이지 크기 + 1 건을 조회해 판단하므로, 호출자는 hasNext 가 false 일 때까지 이어서 요청
+     */
+    @Transactional(readOnly = true)
+    public TransactionSearchPageResponseDTO findAllByCondition(TransactionSearchDTO dto) {
+        int page = dto.getPage() == null ? 0 : dto.getPage();
+        long offset = (long) page * searchPageSize;
+        if (page < 0 || offset > Integer.MAX_VALUE) {
+            throw new InvalidPageException("페이지 번호가 올바르지 않습니다: " + page);
+        }
         if (dto.getAccountId() != null && dto.getAccountId() > 0) {
             accountService.verifyAccount(dto.getAccountId());
         }
-        if (LocalDate.parse(dto.getStartDate()).isAfter(LocalDate.parse(dto.getEndDate()))) {
+        if (parseDate(dto.getStartDate()).isAfter(parseDate(dto.getEndDate()))) {
             throw new InvalidDateRangeException("종료일이 시작일보다 앞설 수 없습니다.");
         }
-        List<Transaction> transactions = transactionRepository
-                .findAllByCondition(dto)
-                .orElse(Collections.emptyList());
+        List<Transaction> transactions = transactionRepository.search(dto, offset, searchPageSize + 1);
 
-        log.info("거래내역 조건 조회 - 조회조건: {}, 조회결과: {} 건", dto, transactions.size());
+        boolean hasNext = transactions.size() > searchPageSize;
+        List<Transaction> rows = hasNext ? transactions.subList(0, searchPageSize) : transactions;
+        log.info("거래내역 조건 조회 - 조회조건: {}, 조회결과: {} 건, 다음 페이지: {}", dto, rows.size(), hasNext);
 
-        return transactions;
+        return TransactionSearchPageResponseDTO.of(rows, page, hasNext);
+    }
+
+    // 조회 기간 (yyyy-MM-dd), 없거나 형식이 틀리면 400
+    private static LocalDate parseDate(String date) {
+        if (date == null) {
+            throw new InvalidDateRangeException("조회 기간을 입력해 주세요.");
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            throw new InvalidDateRangeException("날짜 형식이 올바르지 않습니다 (yyyy-MM-dd): " + date);
+        }
     }
 
 }
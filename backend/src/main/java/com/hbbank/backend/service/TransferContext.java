@@ -0,0 +1,53 @@
+package com.hbbank.backend.service;
+
+import java.math.BigDecimal;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.dto.TransferRequestDTO;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 이체 1건의 실행 상태를 담는 불변 컨텍스트
+ * TransferService는 싱글톤 빈이므로 요청별 상태(락을 획득한 계좌 등)를 필드에 두면
+ * 동시에 들어온 요청들이 서로의 계좌를 덮어쓰게 된다.
+ * 각 단계(resolve -> lock -> validate -> post -> journal)는 이 컨텍스트를 주고받으며,
+ * 상태가 바뀌는 단계는 기존 객체를 수정하지 않고 새 컨텍스트를 반환한다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TransferContext {
+
+    private final TransferRequestDTO request;
+    private final String fromAccountNumber;
+    private final String toAccountNumber;
+    // 거래내역의 보낸분/받는분 이름 (락 획득 전에 조회)
+    private final String senderName;
+    private final String receiverName;
+    private final Account fromAccount;
+    private final Account toAccount;
+    // 입금 계좌가 핫 계좌라 계좌 행 대신 잔액 버킷에 입금하는 경우
+    private final boolean hotCredit;
+
+    public static TransferContext of(TransferRequestDTO request, String fromAccountNumber,
+                                     String senderName, String receiverName) {
+        return new TransferContext(request, fromAccountNumber, request.getToAccountNumber(),
+                senderName, receiverName, null, null, false);
+    }
+
+    public TransferContext withLockedAccounts(Account fromAccount, Account toAccount) {
+        return new TransferContext(request, fromAccountNumber, toAccountNumber,
+                senderName, receiverName, fromAccount, toAccount, false);
+    }
+
+    public TransferContext withHotCredit(Account fromAccount, Account toAccount) {
+        return new TransferContext(request, fromAccountNumber, toAccountNumber,
+                senderName, receiverName, fromAccount, toAccount, true);
+    }
+
+    public BigDecimal getAmount() {
+        return request.getAmount();
+    }
+}
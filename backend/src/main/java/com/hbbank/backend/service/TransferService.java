@@ -1,15 +1,33 @@
 package com.hbbank.backend.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 import com.hbbank.backend.exception.account.InvalidAccountPasswordException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.Transaction;
 import com.hbbank.backend.domain.enums.TransferType;
+import com.hbbank.backend.dto.BatchTransferResultDTO;
 import com.hbbank.backend.dto.TransferRequestDTO;
 import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.UserRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,8 +42,13 @@ public class TransferService {
     private final TransactionService transactionService;
     private final AccountService accountService;
     private final PasswordEncoder passwordEncoder;
+    private final HotAccountService hotAccountService;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    private Account fromAccount, toAccount;
+    // 대량 이체 한 트랜잭션(락 유지 구간)에서 처리할 최대 건수
+    @Value("${transfer.batch.chunk-size:500}")
+    private int batchChunkSize = 500;
 
     /*
      * 이체 시나리오 1.
@@ -78,77 +101,302 @@ public class TransferService {
      * => 시나리오 2, 3 문제점 해결 후 통과
      *
      *
+     * 이체 시나리오 5.
+     * 서로 다른 계좌 쌍에 대한 동시 이체 (A->B, C->D ... 동시 요청)
+     * 기존에는 락을 획득한 계좌를 싱글톤 빈의 필드(fromAccount, toAccount)에 저장했기 때문에
+     * 동시에 들어온 요청이 서로의 계좌를 덮어써서 엉뚱한 계좌에서 출금/입금되는 문제 발생
+     * => 요청별 불변 컨텍스트(TransferContext)를 단계별로 전달하는 파이프라인으로 변경
+     * => resolve(계좌번호 조회) -> lock(정렬된 락 획득) -> validate(상태/비밀번호 검증) -> post(잔액 반영) -> journal(거래내역 기록)
+     *
+     *
+     * 이체 시나리오 6.
+     * 핫 계좌 다중 입금 (B,C,D... -> A, A는 급여/가맹점 계좌)
+     * 시나리오 2의 비관적 락 때문에 A로 들어오는 모든 이체가 A 계좌 행 락 하나에서 직렬화됨
+     * => A를 핫 계좌로 지정하면 입금은 A 계좌 행을 잠그지 않고 출금 계좌 ID로 고른 잔액 버킷 하나에만 더함
+     * => 출금 계좌 행 락 -> 버킷 행 락 순서이므로 시나리오 3의 락 순서 규칙은 그대로 유지됨
+     * => A에서 출금할 때는 A 계좌 행 락을 잡은 뒤 버킷을 합산하고 출금 (HotAccountService 참고)
+     *
+     *
+     * 이체 시나리오 7.
+     * 충돌이 거의 없는 일반 이체 (대부분의 트래픽)
+     * 동시에 같은 계좌를 건드리는 경우가 드문데도 항상 비관적 락을 잡아 락 대기/유지 비용이 발생
+     * => transferOptimistic: 락 없이 조회하고 커밋 시점에 version 컬럼으로 충돌 감지
+     * => 충돌 시 재시도/비관적 락 전환은 트랜잭션 밖에서 AdaptiveTransferService 가 담당
+     *
+     *
+     * 이체 시나리오 8.
+     * 대량 이체 (급여 지급: A -> B,C,D... 수천 건)
+     * 건마다 이체 API를 호출하면 A 계좌 락을 수천 번 획득/해제하고 거래내역도 건마다 INSERT + flush
+     * => transferBatch: chunk-size 단위로 나누어 chunk 마다 한 트랜잭션에서
+     *    관련 계좌 전체를 계좌번호 오름차순으로 한 번에 잠그고(시나리오 3의 락 순서 규칙 유지)
+     *    메모리에서 모든 잔액을 반영한 뒤 거래내역은 JDBC batch insert 로 한 번에 저장
+     * => chunk 단위로 커밋하므로 대량 요청 하나가 락을 오래 쥐고 있지 않음
+     * => 건별 검증 실패는 해당 건만 실패 처리하고 나머지는 계속 진행 (건별 결과 반환)
      */
     public boolean transfer(TransferRequestDTO dto) {
-        String fromAccountNumber = accountRepository.findById(dto.getFromAccountId())
-                .orElseThrow(() -> {
-                    log.error("출금계좌 조회 실패 - 계좌ID: {}", dto.getFromAccountId());
-                    return new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
-                })
-                .getAccountNumber();
-        String toAccountNumber = dto.getToAccountNumber();
+        TransferContext ctx = resolve(dto);
+        ctx = lock(ctx);
+        validate(ctx);
+        post(ctx);
+        journal(ctx);
+        return true;
+    }
+
+    // 낙관적 락 이체: 재시도마다 새 트랜잭션에서 실행되어야 하므로 REQUIRES_NEW
+    // 충돌 시 saveAndFlush 에서 OptimisticLockingFailureException 발생
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean transferOptimistic(TransferRequestDTO dto) {
+        TransferContext ctx = resolve(dto);
+        ctx = read(ctx);
+        validate(ctx);
+        post(ctx);
+        journal(ctx);
+        return true;
+    }
+
+    // 대량 이체: 요청 목록을 chunk 로 나누어 chunk 마다 별도 트랜잭션에서 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<BatchTransferResultDTO> transferBatch(List<TransferRequestDTO> requests) {
+        log.info("대량 이체 시작 - 총 {}건, chunk 크기: {}", requests.size(), batchChunkSize);
+        List<BatchTransferResultDTO> results = new ArrayList<>(requests.size());
+        // 같은 출금 계좌/비밀번호 조합은 한 번만 검증 (BCrypt 비교 비용 절감)
+        Map<String, Boolean> passwordChecks = new HashMap<>();
 
-        // 계좌번호 오름차순으로 락 획득
-        getLock(dto, fromAccountNumber, toAccountNumber);
+        for (int offset = 0; offset < requests.size(); offset += batchChunkSize) {
+            int start = offset;
+            List<TransferRequestDTO> chunk = requests.subList(start, Math.min(start + batchChunkSize, requests.size()));
+            try {
+                results.addAll(transactionTemplate.execute(status -> transferChunk(chunk, start, passwordChecks)));
+            } catch (RuntimeException e) {
+                log.error("대량 이체 chunk 실패 - 시작 순번: {}, 건수: {}, 사유: {}", start, chunk.size(), e.getMessage());
+                for (int i = 0; i < chunk.size(); i++) {
+                    results.add(BatchTransferResultDTO.fail(start + i, chunk.get(i), "이체 처리 중 오류가 발생했습니다"));
+                }
+            }
+        }
 
-        // 계좌 검증
-        accountService.verifyAccount(fromAccount.getId());
-        accountService.verifyAccount(toAccount.getId());
+        long successCount = results.stream().filter(BatchTransferResultDTO::isSuccess).count();
+        log.info("대량 이체 완료 - 총 {}건 중 성공: {}건, 실패: {}건",
+                results.size(), successCount, results.size() - successCount);
+        return results;
+    }
 
-        // 비밀번호 검증
-        checkPassword(dto);
+    private List<BatchTransferResultDTO> transferChunk(List<TransferRequestDTO> chunk, int offset,
+                                                       Map<String, Boolean> passwordChecks) {
+        // 1. 출금 계좌번호 조회
+        List<String> fromNumbers = new ArrayList<>(chunk.size());
+        for (TransferRequestDTO dto : chunk) {
+            String fromNumber = null;
+            try {
+                fromNumber = accountService.getAccountNumber(dto.getFromAccountId());
+            } catch (AccountNotFoundException e) {
+                log.warn("대량 이체 출금계좌 조회 실패 - 계좌ID: {}", dto.getFromAccountId());
+            }
+            fromNumbers.add(fromNumber);
+        }
 
-        // 이체 실행
-        executeTransfer(dto);
+        // 2. chunk 에 등장하는 모든 계좌를 한 번의 쿼리로 계좌번호 오름차순 락 획득
+        Set<String> numbers = new TreeSet<>();
+        fromNumbers.stream().filter(n -> n != null).forEach(numbers::add);
+        chunk.forEach(dto -> numbers.add(dto.getToAccountNumber()));
+        Map<String, Account> accounts = accountRepository.findAllByAccountNumberInWithLock(numbers).stream()
+                .collect(Collectors.toMap(Account::getAccountNumber, Function.identity()));
+        // 거래내역의 보낸분/받는분 이름 조회 시 계좌마다 사용자를 조회하지 않도록 한 번에 로딩
+        userRepository.findAllById(accounts.values().stream()
+                .map(a -> a.getUser().getId())
+                .collect(Collectors.toSet()));
 
-        // 거래내역 생성
-        transactionService.createTransaction(fromAccount, toAccount, dto.getAmount());
+        // 3. 건별 검증 및 잔액 반영 (검증 실패 시 잔액 변경 없이 해당 건만 실패)
+        List<BatchTransferResultDTO> results = new ArrayList<>(chunk.size());
+        List<Transaction> journal = new ArrayList<>(chunk.size() * 2);
+        Set<String> consolidated = new HashSet<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < chunk.size(); i++) {
+            TransferRequestDTO dto = chunk.get(i);
+            Account fromAccount = fromNumbers.get(i) == null ? null : accounts.get(fromNumbers.get(i));
+            Account toAccount = accounts.get(dto.getToAccountNumber());
+            try {
+                if (fromAccount == null) {
+                    throw new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
+                }
+                if (toAccount == null) {
+                    throw new AccountNotFoundException("입금 계좌를 찾을 수 없습니다");
+                }
+                if (fromAccount.isHot() && consolidated.add(fromAccount.getAccountNumber())) {
+                    hotAccountService.consolidate(fromAccount);
+                }
+                // 입금 계좌도 계좌 행 락을 잡았으므로 버킷을 합산해 두어야 거래내역 잔액이 정확함
+                if (toAccount.isHot() && consolidated.add(toAccount.getAccountNumber())) {
+                    hotAccountService.consolidate(toAccount);
+                }
+                toAccount.validateDeposit();
+                checkPassword(dto, fromAccount, passwordChecks);
 
-        // 변경사항 저장
-        accountRepository.saveAndFlush(fromAccount);
-        accountRepository.saveAndFlush(toAccount);
+                fromAccount.withdraw(dto.getAmount());
+                toAccount.deposit(dto.getAmount());
 
-        return true;
+                String sender = fromAccount.getUser().getName();
+                String receiver = toAccount.getUser().getName();
+                journal.add(Transaction.withdrawal(fromAccount, sender, receiver, dto.getAmount(), fromAccount.getBalance(), now));
+                journal.add(Transaction.deposit(toAccount, sender, receiver, dto.getAmount(), toAccount.getBalance(), now));
+                results.add(BatchTransferResultDTO.success(offset + i, dto));
+            } catch (RuntimeException e) {
+                log.warn("대량 이체 건 실패 - 순번: {}, 출금계좌ID: {}, 입금계좌: {}, 사유: {}",
+                        offset + i, dto.getFromAccountId(), dto.getToAccountNumber(), e.getMessage());
+                results.add(BatchTransferResultDTO.fail(offset + i, dto, e.getMessage()));
+            }
+        }
+
+        // 4. 거래내역 일괄 저장 (계좌 변경사항은 커밋 시 dirty checking 으로 계좌당 한 번씩 UPDATE)
+        transactionService.createTransactionsInBatch(journal);
+        return results;
     }
 
-    private void getLock(TransferRequestDTO dto, String fromAccountNumber, String toAccountNumber) {
-        if (fromAccountNumber.compareTo(toAccountNumber) < 0) {
-            fromAccount = accountRepository.findByIdWithLock(dto.getFromAccountId())
-                    .orElseThrow(() -> {
-                        log.error("출금계좌 락 획득 실패 - 계좌ID: {}", dto.getFromAccountId());
-                        return new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
-                    });
-            toAccount = accountRepository.findByAccountNumberWithLock(toAccountNumber)
-                    .orElseThrow(() -> {
-                        log.error("입금계좌 락 획득 실패 - 계좌번호: {}", toAccountNumber);
-                        return new AccountNotFoundException("입금 계좌를 찾을 수 없습니다");
-                    });
-        } else {
-            toAccount = accountRepository.findByAccountNumberWithLock(toAccountNumber)
-                    .orElseThrow(() -> {
-                        log.error("입금계좌 락 획득 실패 - 계좌번호: {}", toAccountNumber);
-                        return new AccountNotFoundException("입금 계좌를 찾을 수 없습니다");
-                    });
-            fromAccount = accountRepository.findByIdWithLock(dto.getFromAccountId())
-                    .orElseThrow(() -> {
-                        log.error("출금계좌 락 획득 실패 - 계좌ID: {}", dto.getFromAccountId());
-                        return new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
-                    });
+    private void checkPassword(TransferRequestDTO dto, Account fromAccount, Map<String, Boolean> passwordChecks) {
+        if (dto.getType() != TransferType.INSTANT) {
+            return;
+        }
+        boolean matched = passwordChecks.computeIfAbsent(fromAccount.getAccountNumber() + ":" + dto.getPassword(),
+                k -> dto.getPassword() != null && passwordEncoder.matches(dto.getPassword(), fromAccount.getPassword()));
+        if (!matched) {
+            throw new InvalidAccountPasswordException("계좌 비밀번호가 일치하지 않습니다");
+        }
+    }
+
+    // 1. 출금 계좌번호(락 획득 순서 결정용)와 보낸분/받는분 이름 조회
+    // 계좌번호는 변하지 않으므로 캐시된 값을 사용하고, 캐시 미스일 때만 계좌번호 컬럼 하나를 조회
+    // 이름은 락 획득 전에 캐시(미스면 이름 projection)에서 읽어, 락을 쥔 채 사용자를 지연 로딩하지 않음
+    // 입금 계좌가 없으면 이름도 없고, 계좌 없음은 2단계 락 획득에서 판단
+    private TransferContext resolve(TransferRequestDTO dto) {
+        String fromAccountNumber = accountService.getAccountNumber(dto.getFromAccountId());
+        Map<String, String> ownerNames = accountService.getOwnerNames(List.of(fromAccountNumber, dto.getToAccountNumber()));
+        return TransferContext.of(dto, fromAccountNumber,
+                ownerNames.get(fromAccountNumber), ownerNames.get(dto.getToAccountNumber()));
+    }
+
+    // 2. 출금/입금 계좌를 한 번의 쿼리로 계좌번호 오름차순 락 획득
+    // 입금 계좌가 핫 계좌라면 출금 계좌만 잠그고 입금 계좌는 락 없이 조회
+    private TransferContext lock(TransferContext ctx) {
+        if (hotAccountService.isHot(ctx.getToAccountNumber())
+                && !ctx.getToAccountNumber().equals(ctx.getFromAccountNumber())) {
+            return lockForHotCredit(ctx);
+        }
+        return lockBoth(ctx);
+    }
+
+    private TransferContext lockBoth(TransferContext ctx) {
+        List<Account> locked = accountRepository.findAllByAccountNumberInWithLock(
+                List.of(ctx.getFromAccountNumber(), ctx.getToAccountNumber()));
+
+        Account fromAccount = findLocked(locked, ctx.getFromAccountNumber())
+                .orElseThrow(() -> {
+                    log.error("출금계좌 락 획득 실패 - 계좌ID: {}", ctx.getRequest().getFromAccountId());
+                    return new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
+                });
+        Account toAccount = findLocked(locked, ctx.getToAccountNumber())
+                .orElseThrow(() -> {
+                    log.error("입금계좌 락 획득 실패 - 계좌번호: {}", ctx.getToAccountNumber());
+                    return new AccountNotFoundException("입금 계좌를 찾을 수 없습니다");
+                });
+        return ctx.withLockedAccounts(fromAccount, toAccount);
+    }
+
+    // 입금 계좌를 먼저 락 없이 조회해 핫 계좌 여부를 확정한 뒤 락을 잡으므로,
+    // 목록 갱신 전에 핫 계좌가 해제된 경우에도 정렬된 락 순서가 깨지지 않음
+    private TransferContext lockForHotCredit(TransferContext ctx) {
+        Account toAccount = accountRepository.findByAccountNumber(ctx.getToAccountNumber())
+                .orElseThrow(() -> {
+                    log.error("입금계좌 조회 실패 - 계좌번호: {}", ctx.getToAccountNumber());
+                    return new AccountNotFoundException("입금 계좌를 찾을 수 없습니다");
+                });
+        if (!toAccount.isHot()) {
+            return lockBoth(ctx);
         }
+
+        Account fromAccount = findLocked(
+                accountRepository.findAllByAccountNumberInWithLock(List.of(ctx.getFromAccountNumber())),
+                ctx.getFromAccountNumber())
+                .orElseThrow(() -> {
+                    log.error("출금계좌 락 획득 실패 - 계좌ID: {}", ctx.getRequest().getFromAccountId());
+                    return new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
+                });
+        return ctx.withHotCredit(fromAccount, toAccount);
+    }
+
+    // 2'. 낙관적 락 이체용: 락 없이 두 계좌 조회
+    private TransferContext read(TransferContext ctx) {
+        List<Account> accounts = accountRepository.findAllByAccountNumberIn(
+                List.of(ctx.getFromAccountNumber(), ctx.getToAccountNumber()));
+
+        Account fromAccount = findLocked(accounts, ctx.getFromAccountNumber())
+                .orElseThrow(() -> {
+                    log.error("출금계좌 조회 실패 - 계좌ID: {}", ctx.getRequest().getFromAccountId());
+                    return new AccountNotFoundException("출금 계좌를 찾을 수 없습니다");
+                });
+        Account toAccount = findLocked(accounts, ctx.getToAccountNumber())
+                .orElseThrow(() -> {
+                    log.error("입금계좌 조회 실패 - 계좌번호: {}", ctx.getToAccountNumber());
+                    return new AccountNotFoundException("입금 계좌를 찾을 수 없습니다");
+                });
+        return ctx.withLockedAccounts(fromAccount, toAccount);
+    }
+
+    private Optional<Account> findLocked(List<Account> locked, String accountNumber) {
+        return locked.stream()
+                .filter(a -> a.getAccountNumber().equals(accountNumber))
+                .findFirst();
+    }
+
+    // 3. 계좌 상태 및 비밀번호 검증
+    // 2단계에서 락을 잡고(또는 조회해) 가져온 계좌 엔티티로 검증하므로 계좌/사용자를 다시 조회하지 않음
+    private void validate(TransferContext ctx) {
+        ctx.getFromAccount().validateAccountStatus();
+        ctx.getToAccount().validateAccountStatus();
+
+        checkPassword(ctx);
     }
 
-    private void checkPassword(TransferRequestDTO dto) {
-        if (dto.getType() == TransferType.INSTANT && !passwordEncoder.matches(dto.getPassword(), fromAccount.getPassword())) {
+    private void checkPassword(TransferContext ctx) {
+        TransferRequestDTO dto = ctx.getRequest();
+        if (dto.getType() == TransferType.INSTANT && !passwordEncoder.matches(dto.getPassword(), ctx.getFromAccount().getPassword())) {
             log.error("이체 실패 - 비밀번호 불일치 (출금계좌: {})", dto.getFromAccountId());
             throw new InvalidAccountPasswordException("계좌 비밀번호가 일치하지 않습니다");
         }
     }
 
-    private void executeTransfer(TransferRequestDTO dto) {
+    // 4. 잔액 반영
+    // 핫 계좌에서 출금할 때는 버킷에 쌓인 입금액을 먼저 합산해야 잔액 검증이 정확함
+    private void post(TransferContext ctx) {
+        Account fromAccount = ctx.getFromAccount();
+        Account toAccount = ctx.getToAccount();
         log.info("이체 실행 - 출금계좌: {}, 입금계좌: {}, 금액: {}",
-                fromAccount.getAccountNumber(), toAccount.getAccountNumber(), dto.getAmount());
-        fromAccount.withdraw(dto.getAmount());
-        toAccount.deposit(dto.getAmount());
+                fromAccount.getAccountNumber(), toAccount.getAccountNumber(), ctx.getAmount());
+        if (fromAccount.isHot()) {
+            hotAccountService.consolidate(fromAccount);
+        }
+        fromAccount.withdraw(ctx.getAmount());
+        if (ctx.isHotCredit()) {
+            hotAccountService.credit(fromAccount, toAccount, ctx.getAmount());
+        } else {
+            toAccount.deposit(ctx.getAmount());
+        }
+    }
+
+    // 5. 거래내역 생성 및 변경사항 저장
+    // 핫 계좌 입금은 계좌 행을 수정하지 않으므로 입금 계좌는 저장하지 않음
+    // 핫 계좌 입금 후 잔액은 다른 버킷이 동시에 바뀌는 중이라 정확히 알 수 없으므로 기록하지 않음(null)
+    private void journal(TransferContext ctx) {
+        if (ctx.isHotCredit()) {
+            transactionService.createTransaction(ctx.getFromAccount(), ctx.getToAccount(),
+                    ctx.getSenderName(), ctx.getReceiverName(), ctx.getAmount(), null);
+            accountRepository.saveAndFlush(ctx.getFromAccount());
+            return;
+        }
+        transactionService.createTransaction(ctx.getFromAccount(), ctx.getToAccount(),
+                ctx.getSenderName(), ctx.getReceiverName(), ctx.getAmount());
+
+        accountRepository.saveAndFlush(ctx.getFromAccount());
+        accountRepository.saveAndFlush(ctx.getToAccount());
     }
 
 }
@@ -0,0 +1,76 @@
+package com.hbbank.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * 문자열 Bloom filter
+ * 넣은 값은 항상 mightContain == true (false negative 없음), 넣지 않은 값은 약 fpp 확률로 true.
+ * 예상 개수 n, 오탐률 p 로 비트 수 m = -n ln p / (ln 2)^2, 해시 수 k = m / n * ln 2 를 정하고
+ * 64비트 해시 두 개(h1 + i * h2)로 k 개 비트 위치를 만든다.
+ * - 삭제는 지원하지 않음 (필요하면 새로 만들어 교체)
+ * - 여러 스레드에서 동시에 add/mightContain 가능 (비트 단위 CAS)
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    public BloomFilter(int expectedInsertions, double fpp) {
+        if (expectedInsertions < 1 || fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("예상 개수는 1 이상, 오탐률은 0 과 1 사이여야 합니다.");
+        }
+        long m = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+        this.bitSize = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * Math.log(2)));
+    }
+
+    public void add(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0
+                    && !bits.compareAndSet(word, current, current | mask)) {
+                // 다른 스레드가 같은 word 를 바꿨으면 다시 시도
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // FNV-1a 64 후 비트 섞기
+    private static long hash(String value) {
+        long h = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001B3L;
+        }
+        return mix(h);
+    }
+
+    // MurmurHash3 fmix64
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
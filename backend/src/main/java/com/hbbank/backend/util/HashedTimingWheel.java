@@ -0,0 +1,104 @@
+package com.hbbank.backend.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/*
+ * 해시 타이밍 휠
+ * 실행 시각을 tickMillis 단위 칸(tick)으로 나누고, tick 번호를 휠 크기로 나눈 나머지 버킷에 등록한다.
+ * advance(now) 는 마지막으로 처리한 tick 부터 now 의 tick 까지 버킷만 확인하므로
+ * 등록/취소는 O(1), 한 tick 처리 비용은 해당 버킷 크기에 비례한다.
+ * 휠 한 바퀴보다 먼 항목은 같은 버킷에 남아 있다가 목표 tick 이 된 바퀴에서 꺼내진다.
+ *
+ * - 같은 key 를 다시 등록하면 이전 등록은 취소 (수정 시 실행 시각 변경)
+ * - 이미 지난 시각으로 등록하면 다음 advance 에서 바로 꺼내짐
+ * - 여러 스레드에서 사용 가능 (메서드 단위 동기화)
+ */
+public class HashedTimingWheel<K> {
+
+    private record Entry<K>(K key, long deadlineMillis, long tick) {
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final List<Map<K, Entry<K>>> buckets;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long lastTick;
+
+    public HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 1) {
+            throw new IllegalArgumentException("tick 간격과 휠 크기는 1 이상이어야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new HashMap<>());
+        }
+        this.lastTick = tickOf(startMillis);
+    }
+
+    // deadlineMillis 에 꺼내지도록 등록 (같은 key 가 있으면 교체)
+    public synchronized void schedule(K key, long deadlineMillis) {
+        cancel(key);
+        // 올림: deadline 이전에 꺼내지지 않도록 deadline 을 포함하는 tick 의 다음 경계에서 처리
+        long tick = Math.max(Math.floorDiv(deadlineMillis - startMillis + tickMillis - 1, tickMillis), lastTick + 1);
+        Entry<K> entry = new Entry<>(key, deadlineMillis, tick);
+        entries.put(key, entry);
+        bucketOf(tick).put(key, entry);
+    }
+
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        bucketOf(entry.tick()).remove(key);
+        return true;
+    }
+
+    public synchronized boolean contains(K key) {
+        return entries.containsKey(key);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // nowMillis 까지 실행 시각이 된 key 를 실행 시각 순으로 꺼냄
+    public synchronized List<K> advance(long nowMillis) {
+        long nowTick = tickOf(nowMillis);
+        if (nowTick <= lastTick) {
+            return List.of();
+        }
+        List<Entry<K>> expired = new ArrayList<>();
+        // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인
+        long ticks = Math.min(nowTick - lastTick, buckets.size());
+        for (long t = nowTick - ticks + 1; t <= nowTick; t++) {
+            Iterator<Entry<K>> it = bucketOf(t).values().iterator();
+            while (it.hasNext()) {
+                Entry<K> entry = it.next();
+                if (entry.tick() <= nowTick) {
+                    it.remove();
+                    entries.remove(entry.key());
+                    expired.add(entry);
+                }
+            }
+        }
+        lastTick = nowTick;
+        expired.sort(Comparator.comparingLong(Entry::deadlineMillis));
+        return expired.stream().map(Entry::key).toList();
+    }
+
+    private long tickOf(long millis) {
+        return Math.floorDiv(millis - startMillis, tickMillis);
+    }
+
+    private Map<K, Entry<K>> bucketOf(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+}
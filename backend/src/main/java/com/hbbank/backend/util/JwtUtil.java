@@ -4,53 +4,74 @@ import java.security.Key;
 import java.security.SecureRandom;
 import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+/*
+ * 서명 키와 파서는 생성 시 한 번만 만들어 재사용한다.
+ * (JwtParser 는 build 후 불변이라 여러 요청 스레드가 같이 써도 안전)
+ * 토큰 검증은 parseAndValidate 로 한 번만 파싱/서명 검증하고, 검증된 Claims 에서 필요한 값을 꺼낸다.
+ */
 @Component
 public class JwtUtil {
 
-    private final String secretKey;
+    // 토큰 family(로그인 세션) ID claim
+    public static final String FAMILY_ID = "fid";
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final Key signingKey;
+    private final JwtParser parser;
 
     public JwtUtil(@Value("${jwt.secret}") String secretKey) {
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         if (keyBytes.length < 32) {
             throw new IllegalArgumentException("Secret key must be at least 256 bits long");
         }
-        this.secretKey = secretKey;
+        this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
     }
 
-    private final long accessTokenExpireTime = 1000 * 60 * 30; // 30분
+    public static final long ACCESS_TOKEN_EXPIRE_TIME = 1000 * 60 * 30; // 30분
     private final long refreshTokenExpireTime = 1000 * 60 * 60 * 24 * 14; // 2주
 
-    // 액세스 토큰 생성
-    public String createAccessToken(Long userId) {
+    // 액세스 토큰 생성 (familyId: 같은 로그인 세션에서 발급된 리프레시 토큰 family, 로그아웃 시 해당 세션만 폐기)
+    public String createAccessToken(Long userId, String familyId) {
         Claims claims = Jwts.claims();
         claims.put("userId", userId);
         claims.put("type", "access");
+        claims.put(FAMILY_ID, familyId);
         claims.put("timestamp", System.currentTimeMillis()); // 생성 시간 추가
 
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject("access_token")
+                .setId(UUID.randomUUID().toString()) // 토큰 ID (jti), 로그아웃 시 폐기 목록에 등록
                 .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpireTime))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRE_TIME))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
-    // 리프레시 토큰 생성
-    public String createRefreshToken(Long userId) {
+    // 리프레시 토큰 생성 (로그인마다 새 family, 갱신 시에는 같은 family 로 재발급)
+    public String createRefreshToken(Long userId, String familyId) {
         Claims claims = Jwts.claims();
         claims.put("userId", userId);
         claims.put("type", "refresh");
+        claims.put(FAMILY_ID, familyId);
         claims.put("timestamp", System.currentTimeMillis()); // 생성 시간 추가
         claims.put("random", generateRandomString()); // 랜덤 문자열 추가
 
@@ -59,58 +80,40 @@ public class JwtUtil {
                 .setSubject("refresh_token")
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpireTime))
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     // 랜덤 문자열 생성 메서드 추가
     private String generateRandomString() {
         byte[] array = new byte[7]; // 랜덤 바이트 배열 생성
-        new SecureRandom().nextBytes(array);
+        RANDOM.nextBytes(array);
         return Base64.getEncoder().encodeToString(array);
     }
 
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    // 서명/만료 검증 후 Claims 반환, 위조/만료/형식 오류면 empty (만료는 parseClaimsJws 가 검사)
+    public Optional<Claims> parseAndValidate(String token) {
+        try {
+            return Optional.of(parser.parseClaimsJws(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
     }
 
     public Long getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .get("userId", Long.class);
     }
 
     public boolean validateToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-                    
-            Date expiration = claims.getExpiration();
-            return !expiration.before(new Date());  // 만료 시간 검증
-        } catch (Exception e) {
-            return false;
-        }
+        return parseAndValidate(token).isPresent();
     }
 
     // 토큰 타입 검증 메서드 추가
     public boolean isRefreshToken(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(getSigningKey())
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            
-            return "refresh".equals(claims.get("type"));
-        } catch (Exception e) {
-            return false;
-        }
+        return parseAndValidate(token)
+                .map(claims -> "refresh".equals(claims.get("type")))
+                .orElse(false);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.hbbank.backend.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+// 엔티티 ID 를 TimeOrderedIdGenerator 로 발급 (@GeneratedValue 대신 사용)
+@IdGeneratorType(TimeOrderedIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
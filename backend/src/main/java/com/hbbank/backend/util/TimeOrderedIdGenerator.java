@@ -0,0 +1,86 @@
+package com.hbbank.backend.util;
+
+import java.util.OptionalLong;
+import java.util.function.BooleanSupplier;
+
+/*
+ * 시간 순 정렬 가능한 64비트 ID 생성기 (Snowflake 방식)
+ * [1비트 부호(0)][41비트 타임스탬프(ms, 2024-01-01 기준)][10비트 노드 ID][12비트 시퀀스]
+ * DB 왕복 없이 애플리케이션에서 ID를 발급하므로 IDENTITY 전략과 달리 INSERT 를 JDBC 배치로 묶을 수 있고,
+ * ID 가 시간 순으로 증가하므로 기존 AUTO_INCREMENT 값보다 항상 크고 정렬/페이징 기준으로도 쓸 수 있다.
+ * 노드 ID 가 같은 두 인스턴스는 같은 ID 를 발급하므로, 노드 ID 는 hbbank.node-id 시스템 속성(HBBANK_NODE_ID 환경변수)으로
+ * 고정하거나 기동 시 IdNodeService 가 Redis lease 로 배정한다. 어느 쪽도 없으면 발급하지 않고 예외를 던진다.
+ */
+public final class TimeOrderedIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 노드 ID 가 정해지기 전에는 null
+    private static volatile TimeOrderedIdGenerator instance = configuredNodeId().stream()
+            .mapToObj(TimeOrderedIdGenerator::new)
+            .findFirst()
+            .orElse(null);
+
+    private final long nodeId;
+    // 노드 ID 보유 여부, lease 로 배정받은 노드 ID 는 lease 를 잃으면 false (다른 노드가 같은 ID 를 받았을 수 있음)
+    private final BooleanSupplier held;
+    private long lastTimestamp = -1L;
+    private long sequence = 0L;
+
+    public TimeOrderedIdGenerator(long nodeId) {
+        this(nodeId, () -> true);
+    }
+
+    public TimeOrderedIdGenerator(long nodeId, BooleanSupplier held) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 이상 " + MAX_NODE_ID + " 이하여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.held = held;
+    }
+
+    public static long next() {
+        TimeOrderedIdGenerator generator = instance;
+        if (generator == null) {
+            throw new IllegalStateException("ID 생성기 노드 ID가 지정되지 않았습니다. (hbbank.node-id 또는 Redis 배정 필요)");
+        }
+        return generator.nextId();
+    }
+
+    // 기동 시 배정받은 노드 ID 로 발급 (held 가 false 가 되면 발급 중단)
+    public static void assign(long nodeId, BooleanSupplier held) {
+        instance = new TimeOrderedIdGenerator(nodeId, held);
+    }
+
+    // hbbank.node-id 시스템 속성 또는 HBBANK_NODE_ID 환경변수로 고정한 노드 ID
+    public static OptionalLong configuredNodeId() {
+        String value = System.getProperty("hbbank.node-id", System.getenv("HBBANK_NODE_ID"));
+        return value == null || value.isBlank() ? OptionalLong.empty() : OptionalLong.of(Long.parseLong(value.trim()));
+    }
+
+    public synchronized long nextId() {
+        if (!held.getAsBoolean()) {
+            throw new IllegalStateException("노드 ID " + nodeId + " 의 보유가 끝나 ID를 발급할 수 없습니다.");
+        }
+        long timestamp = System.currentTimeMillis();
+        // 시계가 뒤로 가면 마지막 타임스탬프를 계속 사용해 ID 역전을 막음
+        if (timestamp < lastTimestamp) {
+            timestamp = lastTimestamp;
+        }
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                // 같은 ms 에 4096개를 모두 사용하면 다음 ms 로 넘어감
+                timestamp = lastTimestamp + 1;
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastTimestamp = timestamp;
+        return ((timestamp - EPOCH) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+}
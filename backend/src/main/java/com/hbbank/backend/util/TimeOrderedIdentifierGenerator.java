@@ -0,0 +1,18 @@
+package com.hbbank.backend.util;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+// Hibernate 영속화 시 ID 발급 (이미 ID 가 할당된 엔티티는 그대로 사용)
+public class TimeOrderedIdentifierGenerator implements IdentifierGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return TimeOrderedIdGenerator.next();
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,28 @@
+package com.hbbank.backend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+// 토큰 원문 대신 저장/비교에 쓰는 SHA-256 해시 (Base64, 44자)
+public final class TokenHasher {
+
+    // MessageDigest 는 스레드 안전하지 않으므로 스레드별로 재사용
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 은 모든 JVM 에 포함되어 있음
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private TokenHasher() {
+    }
+
+    public static String sha256(String token) {
+        byte[] digest = SHA256.get().digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+}
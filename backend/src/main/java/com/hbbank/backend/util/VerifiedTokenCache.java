@@ -0,0 +1,80 @@
+package com.hbbank.backend.util;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+
+/*
+ * 서명 검증을 마친 액세스 토큰 캐시 (토큰 SHA-256 해시 -> 사용자 ID, 토큰 ID, family ID, 만료 시각)
+ * 같은 토큰으로 반복 요청하면 HMAC 검증/Claims 파싱 없이 해시 계산과 조회만 한다.
+ * - 원문 토큰은 보관하지 않고 해시만 키로 사용
+ * - 항목은 토큰 만료 시각에 맞춰 제거되며, 조회 시에도 만료 시각을 한 번 더 확인
+ * - 사용자 토큰 폐기(TokenService.revokeRefreshToken) 시 해당 사용자의 항목을 모두 제거해 다음 요청에서 다시 검증
+ * - 폐기 목록(TokenDenylistService) 확인은 캐시 적중 여부와 관계없이 매 요청 인증 필터에서 수행
+ */
+@Component
+public class VerifiedTokenCache {
+
+    public record VerifiedToken(Long userId, String tokenId, String familyId, long expiresAtMillis) {
+
+        public static VerifiedToken from(Claims claims) {
+            Date expiration = claims.getExpiration();
+            return new VerifiedToken(claims.get("userId", Long.class), claims.getId(),
+                    claims.get(JwtUtil.FAMILY_ID, String.class), expiration == null ? 0 : expiration.getTime());
+        }
+    }
+
+    private final Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfter(new Expiry<String, VerifiedToken>() {
+                @Override
+                public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return remainingNanos(value);
+                }
+
+                @Override
+                public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 캐시에 있고 만료되지 않았으면 검증 결과
+    public Optional<VerifiedToken> get(String token) {
+        VerifiedToken verified = cache.getIfPresent(TokenHasher.sha256(token));
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            return Optional.empty();
+        }
+        return Optional.of(verified);
+    }
+
+    // 서명/만료 검증을 통과한 토큰만 저장
+    public void put(String token, VerifiedToken verified) {
+        if (verified.userId() == null || verified.expiresAtMillis() <= 0) {
+            return;
+        }
+        cache.put(TokenHasher.sha256(token), verified);
+    }
+
+    // 사용자의 캐시 항목 전체 제거 (폐기는 드물게 일어나므로 전체 순회)
+    public void invalidateUser(Long userId) {
+        cache.asMap().values().removeIf(verified -> verified.userId().equals(userId));
+    }
+
+    private static long remainingNanos(VerifiedToken value) {
+        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+        return Math.max(0, remainingMillis) * 1_000_000;
+    }
+}
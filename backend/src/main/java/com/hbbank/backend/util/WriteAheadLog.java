@@ -0,0 +1,289 @@
+package com.hbbank.backend.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/*
+ * 메모리 맵 파일 기반 원형(ring) 로그 (Write-Ahead Log)
+ *
+ * 파일 구조
+ * [헤더 32바이트: magic(8) | checkpoint(8) | 예약(16)]
+ * [데이터 영역: 레코드가 끝에 닿으면 처음으로 이어서 기록]
+ * 레코드: length(4) | position(8) | type(1) | key(8) | payloadLength(4) | payload | crc32(4)
+ *
+ * - 위치(position)는 파일 안의 오프셋이 아니라 계속 증가하는 논리 위치이며, 데이터 영역 크기로 나눈 나머지에 기록한다.
+ * - checkpoint: 이 위치 이전의 레코드는 모두 처리(drain) 완료, 그 영역은 다음 바퀴에서 다시 사용
+ * - 레코드에 자신의 논리 위치를 함께 기록하므로, 이전 바퀴에서 남은 레코드는 위치가 맞지 않아 읽히지 않음
+ * - 복구 시 checkpoint 부터 읽다가 위치/CRC 가 맞지 않는 레코드(기록 중 중단된 레코드)에서 멈춤
+ *
+ * 공간 예약: reserve 로 확보한 만큼만 appendReserved 로 기록할 수 있으며, 예약한 공간은 다른 기록에 쓰이지 않는다.
+ * 디스크 반영: force(position) 은 아직 반영되지 않은 구간 전체를 한 번에 반영하므로,
+ * 동시에 기록한 여러 레코드가 fsync 한 번을 나눠 쓴다(group commit). 반영 구간은 항상 앞에서부터 이어지므로
+ * 반영된 레코드 앞의 레코드도 모두 반영되어 있다.
+ */
+public class WriteAheadLog implements Closeable {
+
+    public enum RecordType {
+        PREPARE, COMMIT, ABORT;
+
+        static RecordType of(byte code) {
+            return values()[code];
+        }
+    }
+
+    public record Entry(long position, long nextPosition, RecordType type, long key, byte[] payload) {
+    }
+
+    private static final long MAGIC = 0x4842_5741_4C30_3032L; // "HBWAL002"
+    private static final int HEADER_SIZE = 32;
+    private static final int CHECKPOINT_OFFSET = 8;
+    // length(4) + position(8) + type(1) + key(8) + payloadLength(4) + crc(4)
+    private static final int RECORD_OVERHEAD = 29;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int dataSize;
+    private final Object forceLock = new Object();
+    private long checkpoint;
+    private long writePosition;
+    private long reserved;
+    // 이 위치 이전은 디스크에 반영됨 (forceLock 으로 보호)
+    private long forcedPosition;
+
+    public WriteAheadLog(Path path, int capacity) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.dataSize = capacity - HEADER_SIZE;
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+
+        long magic = buffer.getLong(0);
+        if (magic == 0L) {
+            buffer.putLong(0, MAGIC);
+            buffer.putLong(CHECKPOINT_OFFSET, 0L);
+            buffer.force(0, HEADER_SIZE);
+        } else if (magic != MAGIC) {
+            channel.close();
+            throw new IllegalStateException("WAL 파일 형식이 다릅니다: " + path);
+        }
+        this.checkpoint = buffer.getLong(CHECKPOINT_OFFSET);
+        this.writePosition = scanEnd(checkpoint);
+        this.forcedPosition = writePosition;
+    }
+
+    // payload 크기의 레코드가 차지하는 공간
+    public static int recordSize(int payloadLength) {
+        return RECORD_OVERHEAD + payloadLength;
+    }
+
+    // bytes 만큼 공간 예약, 남은 공간(처리 대기 레코드와 다른 예약 제외)이 부족하면 false
+    public synchronized boolean reserve(int bytes) {
+        if (freeBytes() < bytes) {
+            return false;
+        }
+        reserved += bytes;
+        return true;
+    }
+
+    // 쓰지 않은 예약 반환
+    public synchronized void release(int bytes) {
+        reserved -= Math.min(bytes, reserved);
+    }
+
+    // 예약한 공간에 레코드 추가 후 레코드 끝 위치 반환
+    public synchronized long appendReserved(RecordType type, long key, byte[] payload) {
+        int length = recordSize(payload.length);
+        if (reserved < length) {
+            throw new IllegalStateException("예약하지 않은 WAL 공간입니다. (예약: " + reserved + ", 필요: " + length + ")");
+        }
+        long end = write(type, key, payload);
+        reserved -= length;
+        return end;
+    }
+
+    // 예약 없이 레코드 추가 (복구용), 예약된 공간은 사용하지 않음
+    public synchronized long append(RecordType type, long key, byte[] payload) {
+        if (freeBytes() < recordSize(payload.length)) {
+            throw new IllegalStateException("WAL 용량이 부족합니다. (capacity: " + (dataSize + HEADER_SIZE) + ")");
+        }
+        return write(type, key, payload);
+    }
+
+    // position 까지 디스크 반영, 다른 스레드가 이미 반영했으면 바로 반환
+    public void force(long position) {
+        synchronized (forceLock) {
+            if (forcedPosition >= position) {
+                return;
+            }
+            long end;
+            synchronized (this) {
+                end = writePosition;
+            }
+            forceRange(forcedPosition, end);
+            forcedPosition = end;
+        }
+    }
+
+    public void force() {
+        long end;
+        synchronized (this) {
+            end = writePosition;
+        }
+        force(end);
+    }
+
+    // checkpoint 부터 최대 maxEntries 개의 레코드 조회
+    public synchronized List<Entry> readFromCheckpoint(int maxEntries) {
+        List<Entry> entries = new ArrayList<>();
+        long position = checkpoint;
+        while (position < writePosition && entries.size() < maxEntries) {
+            Entry entry = read(position);
+            if (entry == null) {
+                break;
+            }
+            entries.add(entry);
+            position = entry.nextPosition();
+        }
+        return entries;
+    }
+
+    // position 이전의 레코드를 처리 완료로 표시, 해당 영역은 다음 바퀴에서 다시 사용
+    public synchronized void advanceCheckpoint(long position) {
+        if (position < checkpoint || position > writePosition) {
+            throw new IllegalArgumentException("잘못된 checkpoint 위치입니다: " + position);
+        }
+        checkpoint = position;
+        buffer.putLong(CHECKPOINT_OFFSET, checkpoint);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    public synchronized boolean isEmpty() {
+        return checkpoint == writePosition;
+    }
+
+    // 처리 대기 중인 레코드 크기 (예약 제외)
+    public synchronized long usedBytes() {
+        return writePosition - checkpoint;
+    }
+
+    public synchronized long reservedBytes() {
+        return reserved;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private long freeBytes() {
+        return dataSize - (writePosition - checkpoint) - reserved;
+    }
+
+    private long write(RecordType type, long key, byte[] payload) {
+        int length = recordSize(payload.length);
+        long position = writePosition;
+        ByteBuffer record = ByteBuffer.allocate(length)
+                .putInt(length)
+                .putLong(position)
+                .put((byte) type.ordinal())
+                .putLong(key)
+                .putInt(payload.length)
+                .put(payload);
+        record.putInt(crc(record.array(), 4, 21 + payload.length));
+
+        // length 를 마지막에 기록해 중간에 중단된 레코드는 복구 시 보이지 않게 함
+        put(position + 4, record.array(), 4, length - 4);
+        put(position, record.array(), 0, 4);
+        writePosition = position + length;
+        return writePosition;
+    }
+
+    private Entry read(long position) {
+        if (position + RECORD_OVERHEAD - checkpoint > dataSize) {
+            return null;
+        }
+        int length = ByteBuffer.wrap(get(position, 4)).getInt();
+        if (length < RECORD_OVERHEAD || position + length - checkpoint > dataSize) {
+            return null;
+        }
+        ByteBuffer record = ByteBuffer.wrap(get(position, length));
+        record.position(4);
+        long stamp = record.getLong();
+        byte type = record.get();
+        long key = record.getLong();
+        int payloadLength = record.getInt();
+        if (stamp != position || payloadLength != length - RECORD_OVERHEAD || type < 0 || type >= RecordType.values().length
+                || record.getInt(25 + payloadLength) != crc(record.array(), 4, 21 + payloadLength)) {
+            return null;
+        }
+        byte[] payload = new byte[payloadLength];
+        record.get(payload);
+        return new Entry(position, position + length, RecordType.of(type), key, payload);
+    }
+
+    private long scanEnd(long from) {
+        long position = from;
+        Entry entry;
+        while ((entry = read(position)) != null) {
+            position = entry.nextPosition();
+        }
+        return position;
+    }
+
+    // 논리 위치에 기록, 데이터 영역 끝을 넘으면 처음으로 이어서 기록
+    private void put(long position, byte[] src, int offset, int length) {
+        int start = offsetOf(position);
+        int head = Math.min(length, dataSize - (start - HEADER_SIZE));
+        buffer.put(start, src, offset, head);
+        if (head < length) {
+            buffer.put(HEADER_SIZE, src, offset + head, length - head);
+        }
+    }
+
+    private byte[] get(long position, int length) {
+        byte[] dst = new byte[length];
+        int start = offsetOf(position);
+        int head = Math.min(length, dataSize - (start - HEADER_SIZE));
+        buffer.get(start, dst, 0, head);
+        if (head < length) {
+            buffer.get(HEADER_SIZE, dst, head, length - head);
+        }
+        return dst;
+    }
+
+    private void forceRange(long from, long to) {
+        if (to - from >= dataSize) {
+            buffer.force();
+            return;
+        }
+        int start = offsetOf(from);
+        int length = (int) (to - from);
+        int head = Math.min(length, dataSize - (start - HEADER_SIZE));
+        buffer.force(start, head);
+        if (head < length) {
+            buffer.force(HEADER_SIZE, length - head);
+        }
+    }
+
+    private int offsetOf(long position) {
+        return HEADER_SIZE + (int) (position % dataSize);
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+}
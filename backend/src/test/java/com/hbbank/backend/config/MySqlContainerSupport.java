@@ -0,0 +1,33 @@
+package com.hbbank.backend.config;
+
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/*
+ * 실제 MySQL(Testcontainers) 로 실행하는 테스트의 공통 설정
+ * - 행 락 / SKIP LOCKED 처럼 H2·Mock 으로 확인할 수 없는 동작 검증용
+ * - Docker 가 없는 환경에서는 테스트를 건너뜀
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+public abstract class MySqlContainerSupport {
+
+    @Container
+    protected static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("hbbank_test")
+            // 운영 설정과 같이 JDBC batch 를 다중 행 INSERT 로 묶음
+            .withUrlParam("rewriteBatchedStatements", "true");
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.hikari.jdbc-url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.datasource.hikari.maximum-pool-size", () -> "32");
+    }
+}
@@ -0,0 +1,194 @@
+package com.hbbank.backend.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.config.MySqlContainerSupport;
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountType;
+import com.hbbank.backend.domain.ReserveTransfer;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.domain.enums.TransferStatus;
+import com.hbbank.backend.dto.TransferRequestDTO;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.AccountTypeRepository;
+import com.hbbank.backend.repository.ReserveTransferRepository;
+import com.hbbank.backend.repository.UserRepository;
+import com.hbbank.backend.service.ReserveTransferService;
+import com.hbbank.backend.service.TransferService;
+
+/*
+ * 예약이체 선점 동시성 테스트 (MySQL, Docker 필요)
+ * 여러 워커가 동시에 claimDue 를 호출해 lockDueForClaim(FOR UPDATE SKIP LOCKED)으로 선점할 때
+ * 한 예약이체는 한 워커만 선점하고, 선점한 건을 실행하면 이체가 정확히 한 번씩만 일어나야 한다.
+ * 이체 자체(TransferService)는 이 테스트의 대상이 아니므로 Mock 으로 대체한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReserveTransferClaimConcurrencyTest extends MySqlContainerSupport {
+
+    private static final int DUE_COUNT = 200;
+    private static final int WORKER_COUNT = 8;
+    private static final int CLAIM_BATCH_SIZE = 10;
+
+    @Autowired
+    private ReserveTransferRepository reserveTransferRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountTypeRepository accountTypeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final TransferService transferService = mock(TransferService.class);
+    private ReserveTransferService reserveTransferService;
+
+    @BeforeEach
+    void setUp() {
+        reserveTransferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        accountTypeRepository.deleteAllInBatch();
+
+        reserveTransferService = new ReserveTransferService(reserveTransferRepository, accountRepository,
+                transferService, mock(PasswordEncoder.class), new TransactionTemplate(transactionManager), event -> { });
+        when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
+
+        AccountType accountType = accountTypeRepository.save(AccountType.builder()
+                .code("TEST")
+                .name("테스트계좌")
+                .description("테스트용 계좌")
+                .interestRate(1.0)
+                .minimumBalance(0L)
+                .defaultTransferLimit(new BigDecimal("1000000"))
+                .defaultDailyTransferLimit(new BigDecimal("5000000"))
+                .build());
+        User user = userRepository.save(User.builder()
+                .name("테스트유저")
+                .email("claim@test.com")
+                .password("1234")
+                .phone("010-1234-5678")
+                .address("서울시 강남구 역삼동")
+                .birth(LocalDate.of(1990, 1, 1))
+                .username("claimuser")
+                .emailVerified(true)
+                .build());
+        Account account = accountRepository.save(Account.builder()
+                .accountNumber("000000000000001")
+                .accountName("출금계좌")
+                .accountType(accountType)
+                .user(user)
+                .balance(new BigDecimal("100000000"))
+                .interestRate(0.0)
+                .password("1234")
+                .build());
+
+        LocalDateTime reservedAt = LocalDateTime.now().minusMinutes(1);
+        List<ReserveTransfer> due = new ArrayList<>();
+        for (int i = 0; i < DUE_COUNT; i++) {
+            due.add(ReserveTransfer.builder()
+                    .user(user)
+                    .fromAccount(account)
+                    .toAccountNumber("123456789012345")
+                    .amount(new BigDecimal("10000"))
+                    .status(TransferStatus.ACTIVE)
+                    .reservedAt(reservedAt)
+                    .nextAttemptAt(reservedAt)
+                    .failureCount(0)
+                    .build());
+        }
+        reserveTransferRepository.saveAll(due);
+    }
+
+    @Test
+    @DisplayName("동시 선점 - 여러 워커가 겹치지 않게 나눠 가져가고 모든 예약이체가 한 번씩 선점됨")
+    void claimDue_Concurrent_NoOverlap() throws Exception {
+        //given
+        Queue<Long> claimed = new ConcurrentLinkedQueue<>();
+
+        //when
+        runWorkers((claimToken, ids) -> claimed.addAll(ids));
+
+        //then
+        assertEquals(DUE_COUNT, claimed.size());
+        assertEquals(DUE_COUNT, new HashSet<>(claimed).size());
+        List<ReserveTransfer> rows = reserveTransferRepository.findAll();
+        assertTrue(rows.stream().allMatch(rt -> rt.getStatus() == TransferStatus.IN_PROGRESS && rt.getClaimedBy() != null));
+    }
+
+    @Test
+    @DisplayName("동시 선점 후 실행 - 예약이체마다 이체는 정확히 한 번, 모두 완료")
+    void claimAndExecute_Concurrent_ExactlyOnce() throws Exception {
+        //when
+        runWorkers((claimToken, ids) -> ids.forEach(id -> reserveTransferService.executeClaimed(id, claimToken)));
+
+        //then
+        verify(transferService, times(DUE_COUNT)).transfer(any(TransferRequestDTO.class));
+        List<ReserveTransfer> rows = reserveTransferRepository.findAll();
+        assertTrue(rows.stream().allMatch(rt -> rt.getStatus() == TransferStatus.COMPLETED && rt.getClaimedBy() == null));
+    }
+
+    private interface ClaimHandler {
+        void handle(String claimToken, List<Long> ids);
+    }
+
+    // 각 워커가 선점할 건이 없을 때까지 선점 -> 처리 반복
+    private void runWorkers(ClaimHandler handler) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(WORKER_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < WORKER_COUNT; w++) {
+                String claimToken = "node-1:worker-" + w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids;
+                    while (!(ids = reserveTransferService.claimDue(claimToken, CLAIM_BATCH_SIZE)).isEmpty()) {
+                        handler.handle(claimToken, ids);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.hbbank.backend.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.config.MySqlContainerSupport;
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountBalanceBucket;
+import com.hbbank.backend.domain.AccountType;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.repository.AccountBalanceBucketRepository;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.AccountTypeRepository;
+import com.hbbank.backend.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 핫 계좌 입금 처리량 벤치마크 (perf 태그, 기본 test 태스크에서 제외 - ./gradlew perfTest 로 실행)
+ * 한 계좌에 여러 스레드가 동시에 입금할 때
+ * - 버킷 0개: 계좌 행 락(SELECT ... FOR UPDATE) 후 잔액 갱신 (일반 계좌 경로)
+ * - 버킷 N개: 임의 버킷 하나에 단일 UPDATE (핫 계좌 경로, HotAccountService.credit)
+ * 의 초당 입금 건수를 로그로 남긴다. 수치는 환경마다 다르므로 검증은 입금 합계의 정확성만 한다.
+ */
+@Slf4j
+@Tag("perf")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HotAccountCreditBenchmarkTest extends MySqlContainerSupport {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int CREDITS_PER_THREAD = 200;
+    private static final BigDecimal AMOUNT = new BigDecimal("100");
+
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountBalanceBucketRepository bucketRepository;
+    @Autowired
+    private AccountTypeRepository accountTypeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private AccountType accountType;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        bucketRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        accountTypeRepository.deleteAllInBatch();
+
+        accountType = accountTypeRepository.save(AccountType.builder()
+                .code("TEST")
+                .name("테스트계좌")
+                .description("테스트용 계좌")
+                .interestRate(1.0)
+                .minimumBalance(0L)
+                .defaultTransferLimit(new BigDecimal("1000000"))
+                .defaultDailyTransferLimit(new BigDecimal("5000000"))
+                .build());
+        user = userRepository.save(User.builder()
+                .name("테스트유저")
+                .email("perf@test.com")
+                .password("1234")
+                .phone("010-1234-5678")
+                .address("서울시 강남구 역삼동")
+                .birth(LocalDate.of(1990, 1, 1))
+                .username("perfuser")
+                .emailVerified(true)
+                .build());
+    }
+
+    @ParameterizedTest(name = "버킷 {0}개")
+    @ValueSource(ints = {0, 4, 16, 64})
+    @DisplayName("한 계좌 동시 입금 처리량: 계좌 행 락 vs 잔액 버킷")
+    void credit_Throughput(int bucketCount) throws Exception {
+        //given
+        Account account = accountRepository.save(Account.builder()
+                .accountNumber(String.format("%015d", bucketCount + 1))
+                .accountName("핫계좌")
+                .accountType(accountType)
+                .user(user)
+                .balance(BigDecimal.ZERO)
+                .interestRate(0.0)
+                .password("1234")
+                .build());
+        if (bucketCount > 0) {
+            bucketRepository.saveAll(IntStream.range(0, bucketCount)
+                    .mapToObj(n -> AccountBalanceBucket.builder()
+                            .account(account)
+                            .bucketNo(n)
+                            .balance(BigDecimal.ZERO)
+                            .build())
+                    .toList());
+        }
+        Runnable credit = bucketCount > 0
+                ? () -> bucketRepository.addToBucket(account.getId(),
+                        ThreadLocalRandom.current().nextInt(bucketCount), AMOUNT)
+                : () -> accountRepository.findByIdWithLock(account.getId()).orElseThrow().deposit(AMOUNT);
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CREDITS_PER_THREAD; i++) {
+                    transactionTemplate.executeWithoutResult(status -> credit.run());
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        //then
+        int total = THREAD_COUNT * CREDITS_PER_THREAD;
+        log.info("핫 계좌 입금 벤치마크 - 버킷: {}, 스레드: {}, 입금: {} 건, 소요: {} ms, 처리량: {} 건/초",
+                bucketCount, THREAD_COUNT, total, TimeUnit.NANOSECONDS.toMillis(elapsed),
+                total * 1_000_000_000L / Math.max(elapsed, 1));
+
+        BigDecimal balance = accountRepository.findById(account.getId()).orElseThrow().getBalance()
+                .add(bucketRepository.sumBalanceByAccountId(account.getId()));
+        assertEquals(0, AMOUNT.multiply(BigDecimal.valueOf(total)).compareTo(balance));
+    }
+}
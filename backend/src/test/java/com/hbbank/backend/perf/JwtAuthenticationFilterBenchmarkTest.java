@@ -0,0 +1,141 @@
+package com.hbbank.backend.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.hbbank.backend.config.JwtAuthenticationFilter;
+import com.hbbank.backend.service.TokenDenylistService;
+import com.hbbank.backend.util.JwtUtil;
+import com.hbbank.backend.util.VerifiedTokenCache;
+import com.hbbank.backend.util.VerifiedTokenCache.VerifiedToken;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 인증 필터 요청당 비용 벤치마크 (perf 태그, 기본 test 태스크에서 제외 - ./gradlew perfTest 로 실행)
+ * 기존 방식(요청마다 키/파서를 새로 만들고 validateToken, getUserId 로 두 번 파싱)과
+ * 캐시된 파서로 한 번만 파싱하는 parseAndValidate, 검증된 토큰 캐시 조회, 필터 전체 비용을 같은 토큰으로 반복 실행해 로그로 남긴다.
+ * 수치는 환경마다 다르므로 검증하지 않는다.
+ */
+@Slf4j
+@Tag("perf")
+class JwtAuthenticationFilterBenchmarkTest {
+
+    private static final String SECRET = "aGJiYW5rMjAyNHNlY3VyaXR5dG9rZW5rZXlzZWNyZXR2YWx1ZWZvcmp3dGF1dGhlbnRpY2F0aW9u";
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 20_000;
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        jwtUtil = new JwtUtil(SECRET);
+        verifiedTokenCache = new VerifiedTokenCache();
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of());
+        TokenDenylistService tokenDenylistService = new TokenDenylistService(redisTemplate);
+        tokenDenylistService.init();
+        filter = new JwtAuthenticationFilter(jwtUtil, verifiedTokenCache, tokenDenylistService);
+    }
+
+    @Test
+    @DisplayName("요청당 비용 - 기존 2회 파싱 / parseAndValidate / 검증 캐시 조회 / 필터 전체")
+    void parseCost() throws Exception {
+        //given
+        String token = jwtUtil.createAccessToken(1L, "family-1");
+
+        //when
+        long legacyNanos = measure(() -> legacyValidateAndGetUserId(token));
+        long singleNanos = measure(() -> jwtUtil.parseAndValidate(token)
+                .map(claims -> claims.get("userId", Long.class))
+                .orElseThrow());
+        verifiedTokenCache.put(token, VerifiedToken.from(jwtUtil.parseAndValidate(token).orElseThrow()));
+        long cachedNanos = measure(() -> verifiedTokenCache.get(token).orElseThrow().userId());
+        long filterNanos = measureFilter(token);
+
+        //then
+        log.info("인증 필터 벤치마크 - 기존(2회 파싱): {}ns/op, parseAndValidate: {}ns/op, "
+                + "검증 캐시 조회: {}ns/op, 필터 전체(캐시 적중 + 폐기 목록 Bloom filter): {}ns/op",
+                legacyNanos, singleNanos, cachedNanos, filterNanos);
+    }
+
+    // 변경 전 JwtUtil 의 validateToken + getUserId 와 같은 작업
+    private static Long legacyValidateAndGetUserId(String token) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        if (claims.getExpiration().before(new Date())) {
+            throw new IllegalStateException("만료");
+        }
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody()
+                .get("userId", Long.class);
+    }
+
+    // 워밍업 후 ITERATIONS 회 실행한 1회 평균(ns), 결과를 합산해 JIT 가 호출을 없애지 못하게 함
+    private static long measure(Supplier<Long> op) {
+        long sink = 0;
+        for (int i = 0; i < WARMUP; i++) {
+            sink += op.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += op.get();
+        }
+        long elapsed = System.nanoTime() - startedAt;
+        assertEquals((long) WARMUP + ITERATIONS, sink);
+        return elapsed / ITERATIONS;
+    }
+
+    private long measureFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/account/list");
+        request.addHeader("Authorization", "Bearer " + token);
+        for (int i = 0; i < WARMUP; i++) {
+            filterOnce(request);
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            filterOnce(request);
+        }
+        return (System.nanoTime() - startedAt) / ITERATIONS;
+    }
+
+    private void filterOnce(MockHttpServletRequest request) throws Exception {
+        // OncePerRequestFilter 가 같은 요청을 건너뛰지 않도록 처리 표시 제거
+        request.clearAttributes();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,176 @@
+package com.hbbank.backend.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.config.MySqlContainerSupport;
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountType;
+import com.hbbank.backend.domain.ReserveTransfer;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.domain.enums.TransferStatus;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.AccountTypeRepository;
+import com.hbbank.backend.repository.ReserveTransferRepository;
+import com.hbbank.backend.repository.UserRepository;
+import com.hbbank.backend.service.ReserveTransferService;
+import com.hbbank.backend.service.TransferService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 예약이체 선점 처리량 벤치마크 (perf 태그, 기본 test 태스크에서 제외 - ./gradlew perfTest 로 실행)
+ * 실행 시각이 된 예약이체를 워커 1/2/4/8/16 개가 claimDue(FOR UPDATE SKIP LOCKED)로 나눠 선점할 때
+ * 초당 선점 건수를 로그로 남긴다. 워커를 늘려도 처리량이 늘지 않으면 선점 쿼리/인덱스가 병목이다.
+ * 수치는 환경마다 다르므로 검증은 모든 예약이체가 정확히 한 번씩 선점되었는지만 한다.
+ */
+@Slf4j
+@Tag("perf")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReserveTransferClaimBenchmarkTest extends MySqlContainerSupport {
+
+    private static final int DUE_COUNT = 5000;
+    private static final int CLAIM_BATCH_SIZE = 10;
+
+    @Autowired
+    private ReserveTransferRepository reserveTransferRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountTypeRepository accountTypeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ReserveTransferService reserveTransferService;
+
+    @BeforeEach
+    void setUp() {
+        reserveTransferRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        accountTypeRepository.deleteAllInBatch();
+
+        reserveTransferService = new ReserveTransferService(reserveTransferRepository, accountRepository,
+                mock(TransferService.class), mock(PasswordEncoder.class), new TransactionTemplate(transactionManager),
+                event -> { });
+
+        AccountType accountType = accountTypeRepository.save(AccountType.builder()
+                .code("TEST")
+                .name("테스트계좌")
+                .description("테스트용 계좌")
+                .interestRate(1.0)
+                .minimumBalance(0L)
+                .defaultTransferLimit(new BigDecimal("1000000"))
+                .defaultDailyTransferLimit(new BigDecimal("5000000"))
+                .build());
+        User user = userRepository.save(User.builder()
+                .name("테스트유저")
+                .email("claim-perf@test.com")
+                .password("1234")
+                .phone("010-1234-5678")
+                .address("서울시 강남구 역삼동")
+                .birth(LocalDate.of(1990, 1, 1))
+                .username("claimperfuser")
+                .emailVerified(true)
+                .build());
+        Account account = accountRepository.save(Account.builder()
+                .accountNumber("000000000000001")
+                .accountName("출금계좌")
+                .accountType(accountType)
+                .user(user)
+                .balance(new BigDecimal("100000000"))
+                .interestRate(0.0)
+                .password("1234")
+                .build());
+
+        LocalDateTime reservedAt = LocalDateTime.now().minusMinutes(1);
+        List<ReserveTransfer> due = new ArrayList<>();
+        for (int i = 0; i < DUE_COUNT; i++) {
+            due.add(ReserveTransfer.builder()
+                    .user(user)
+                    .fromAccount(account)
+                    .toAccountNumber("123456789012345")
+                    .amount(new BigDecimal("10000"))
+                    .status(TransferStatus.ACTIVE)
+                    .reservedAt(reservedAt)
+                    .nextAttemptAt(reservedAt)
+                    .failureCount(0)
+                    .build());
+        }
+        reserveTransferRepository.saveAll(due);
+    }
+
+    @ParameterizedTest(name = "workers={0}")
+    @ValueSource(ints = {1, 2, 4, 8, 16})
+    @DisplayName("워커 수별 예약이체 선점 처리량")
+    void claimDue_Throughput(int workers) throws Exception {
+        //given
+        Queue<Long> claimed = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        //when
+        long elapsed;
+        try {
+            for (int w = 0; w < workers; w++) {
+                String claimToken = "node-1:worker-" + w;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids;
+                    while (!(ids = reserveTransferService.claimDue(claimToken, CLAIM_BATCH_SIZE)).isEmpty()) {
+                        claimed.addAll(ids);
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            elapsed = System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        log.info("예약이체 선점 벤치마크 - 워커: {}, 선점: {} 건, 소요: {} ms, 처리량: {} 건/초",
+                workers, claimed.size(), TimeUnit.NANOSECONDS.toMillis(elapsed),
+                claimed.size() * 1_000_000_000L / Math.max(elapsed, 1));
+        assertEquals(DUE_COUNT, claimed.size());
+        assertEquals(DUE_COUNT, new HashSet<>(claimed).size());
+    }
+}
@@ -0,0 +1,226 @@
+package com.hbbank.backend.perf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.config.MySqlContainerSupport;
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountType;
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.AccountTypeRepository;
+import com.hbbank.backend.repository.TransactionJournalCommitRepository;
+import com.hbbank.backend.repository.TransactionRepository;
+import com.hbbank.backend.repository.UserRepository;
+import com.hbbank.backend.service.TransactionJournalService;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * 이체 거래내역 기록 방식별 계좌 락 유지 시간 벤치마크 (perf 태그, 기본 test 태스크에서 제외 - ./gradlew perfTest 로 실행)
+ * 여러 스레드가 같은 두 계좌 사이에서 이체할 때, 두 계좌 행 락을 잡은 시점부터 커밋(락 해제)까지의 시간을
+ * - saveAndFlush: 출금/입금 거래내역을 건마다 INSERT + flush (변경 전 방식)
+ * - batchInsert: 두 건을 한 번의 JDBC batch 로 INSERT (TransactionRepository.batchInsert)
+ * - wal: 커밋 표시 1건만 INSERT 하고 거래내역은 WAL 에 기록 (TransactionJournalService, 커밋 직전 fsync 포함)
+ * 로 비교해 평균/p99 락 유지 시간과 초당 이체 건수를 로그로 남긴다.
+ * 수치는 환경마다 다르므로 검증은 잔액 합계와 거래내역 건수의 정확성만 한다.
+ */
+@Slf4j
+@Tag("perf")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TransactionJournalLockHoldBenchmarkTest extends MySqlContainerSupport {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int TRANSFERS_PER_THREAD = 200;
+    private static final BigDecimal AMOUNT = BigDecimal.ONE;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000");
+
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private TransactionRepository transactionRepository;
+    @Autowired
+    private AccountTypeRepository accountTypeRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private TransactionJournalCommitRepository journalCommitRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path tempDir;
+
+    private TransactionTemplate transactionTemplate;
+    private Account from, to;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionRepository.deleteAllInBatch();
+        journalCommitRepository.deleteAllInBatch();
+        accountRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+        accountTypeRepository.deleteAllInBatch();
+
+        AccountType accountType = accountTypeRepository.save(AccountType.builder()
+                .code("TEST")
+                .name("테스트계좌")
+                .description("테스트용 계좌")
+                .interestRate(1.0)
+                .minimumBalance(0L)
+                .defaultTransferLimit(new BigDecimal("1000000"))
+                .defaultDailyTransferLimit(new BigDecimal("1000000000"))
+                .build());
+        User user = userRepository.save(User.builder()
+                .name("테스트유저")
+                .email("perf@test.com")
+                .password("1234")
+                .phone("010-1234-5678")
+                .address("서울시 강남구 역삼동")
+                .birth(LocalDate.of(1990, 1, 1))
+                .username("perfuser")
+                .emailVerified(true)
+                .build());
+        from = accountRepository.save(account("000000000000001", accountType, user));
+        to = accountRepository.save(account("000000000000002", accountType, user));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"saveAndFlush", "batchInsert", "wal"})
+    @DisplayName("같은 두 계좌 동시 이체의 락 유지 시간: 거래내역 건별 INSERT vs JDBC batch vs WAL")
+    void journal_LockHold(String mode) throws Exception {
+        //given
+        Queue<Long> lockHoldNanos = new ConcurrentLinkedQueue<>();
+        TransactionJournalService journalService = new TransactionJournalService(
+                transactionRepository, accountRepository, journalCommitRepository);
+        ReflectionTestUtils.setField(journalService, "mode", mode);
+        ReflectionTestUtils.setField(journalService, "walPath", tempDir.resolve("journal.wal").toString());
+        journalService.init();
+
+        //when
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    transactionTemplate.executeWithoutResult(status -> transfer(mode, journalService, lockHoldNanos));
+                }
+                return null;
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> f : futures) {
+            f.get();
+        }
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        int total = THREAD_COUNT * TRANSFERS_PER_THREAD;
+        // WAL 에 남은 거래내역 반영 (락 유지 시간에는 포함되지 않음)
+        for (int i = 0; i < 10 && transactionRepository.count() < 2L * total; i++) {
+            transactionTemplate.executeWithoutResult(status -> journalService.drain());
+        }
+        journalService.close();
+
+        //then
+        List<Long> sorted = lockHoldNanos.stream().sorted().toList();
+        log.info("거래내역 락 유지 시간 벤치마크 - 방식: {}, 스레드: {}, 이체: {} 건, 평균 락 유지: {} us, p99: {} us, 처리량: {} 건/초",
+                mode, THREAD_COUNT, total,
+                TimeUnit.NANOSECONDS.toMicros(sorted.stream().mapToLong(Long::longValue).sum() / sorted.size()),
+                TimeUnit.NANOSECONDS.toMicros(sorted.get((int) (sorted.size() * 0.99))),
+                total * 1_000_000_000L / Math.max(elapsed, 1));
+
+        BigDecimal moved = AMOUNT.multiply(BigDecimal.valueOf(total));
+        assertEquals(0, INITIAL_BALANCE.subtract(moved)
+                .compareTo(accountRepository.findById(from.getId()).orElseThrow().getBalance()));
+        assertEquals(0, INITIAL_BALANCE.add(moved)
+                .compareTo(accountRepository.findById(to.getId()).orElseThrow().getBalance()));
+        assertEquals(2L * total, transactionRepository.count());
+    }
+
+    // 두 계좌 락 -> 잔액 반영 -> 거래내역 기록 -> 커밋, 락 획득부터 커밋 완료(락 해제)까지의 시간 기록
+    private void transfer(String mode, TransactionJournalService journalService, Queue<Long> lockHoldNanos) {
+        List<Account> locked = accountRepository.findAllByAccountNumberInWithLock(
+                List.of(from.getAccountNumber(), to.getAccountNumber()));
+        long lockedAt = System.nanoTime();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lockHoldNanos.add(System.nanoTime() - lockedAt);
+            }
+        });
+
+        Account fromAccount = locked.get(0);
+        Account toAccount = locked.get(1);
+        fromAccount.withdraw(AMOUNT);
+        toAccount.deposit(AMOUNT);
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> legs = List.of(
+                Transaction.withdrawal(fromAccount, "보낸사람", "받는사람", AMOUNT, fromAccount.getBalance(), now),
+                Transaction.deposit(toAccount, "보낸사람", "받는사람", AMOUNT, toAccount.getBalance(), now));
+
+        if ("saveAndFlush".equals(mode)) {
+            // 변경 전 방식: 건마다 INSERT 후 flush (DB 왕복 2회)
+            for (Transaction leg : legs) {
+                entityManager.persist(leg);
+                entityManager.flush();
+            }
+        } else if (!"wal".equals(mode) || !journalService.append(legs)) {
+            transactionRepository.batchInsert(legs);
+        }
+        accountRepository.saveAndFlush(fromAccount);
+        accountRepository.saveAndFlush(toAccount);
+    }
+
+    private Account account(String accountNumber, AccountType accountType, User user) {
+        return Account.builder()
+                .accountNumber(accountNumber)
+                .accountName("벤치마크계좌")
+                .accountType(accountType)
+                .user(user)
+                .balance(INITIAL_BALANCE)
+                .interestRate(0.0)
+                .password("1234")
+                .build();
+    }
+}
@@ -0,0 +1,227 @@
+package com.hbbank.backend.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.MockedStatic;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hbbank.backend.config.JwtAuthenticationFilter;
+import com.hbbank.backend.service.TokenDenylistService;
+import com.hbbank.backend.util.JwtUtil;
+import com.hbbank.backend.util.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/*
+ * 인증 필터 단위 테스트 (실제 JwtUtil, 비어 있는 폐기 목록)
+ * 요청당 비용 측정은 perf 태그의 JwtAuthenticationFilterBenchmarkTest 에서 한다.
+ */
+class JwtAuthenticationFilterTest {
+
+    private static final String SECRET = "aGJiYW5rMjAyNHNlY3VyaXR5dG9rZW5rZXlzZWNyZXR2YWx1ZWZvcmp3dGF1dGhlbnRpY2F0aW9u";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache verifiedTokenCache;
+    private ZSetOperations<String, String> zSetOperations;
+    private TokenDenylistService tokenDenylistService;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        jwtUtil = spy(new JwtUtil(SECRET));
+        verifiedTokenCache = new VerifiedTokenCache();
+        zSetOperations = mock(ZSetOperations.class);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(anyString(), anyDouble(), anyDouble())).thenReturn(Set.of());
+        tokenDenylistService = new TokenDenylistService(redisTemplate);
+        tokenDenylistService.init();
+        filter = new JwtAuthenticationFilter(jwtUtil, verifiedTokenCache, tokenDenylistService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - 한 번 파싱한 Claims 의 유저 ID 로 인증 정보 설정")
+    void doFilter_ValidToken() throws Exception {
+        //given
+        MockHttpServletRequest request = apiRequest(jwtUtil.createAccessToken(1L, "family-1"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(request, response, chain);
+
+        //then
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals(1L, authentication.getPrincipal());
+        assertNotNull(chain.getRequest());
+        assertEquals(1L, verifiedTokenCache.get(request.getHeader("Authorization").substring(7)).orElseThrow().userId());
+        verify(zSetOperations, never()).score(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("위조/만료 토큰 - 401 응답, 다음 필터로 넘기지 않음")
+    void doFilter_InvalidToken() throws Exception {
+        //given
+        Key otherKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET.substring(4) + "ZXhh"));
+        String forged = Jwts.builder().claim("userId", 1L)
+                .signWith(otherKey, SignatureAlgorithm.HS256).compact();
+        String expired = Jwts.builder().claim("userId", 1L)
+                .setExpiration(new Date(System.currentTimeMillis() - 1000))
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)), SignatureAlgorithm.HS256).compact();
+
+        for (String token : new String[] {forged, expired, "not-a-jwt"}) {
+            MockHttpServletResponse response = new MockHttpServletResponse();
+            MockFilterChain chain = new MockFilterChain();
+
+            //when
+            filter.doFilter(apiRequest(token), response, chain);
+
+            //then
+            assertEquals(401, response.getStatus());
+            assertNull(chain.getRequest());
+            assertNull(SecurityContextHolder.getContext().getAuthentication());
+        }
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰을 Bearer 로 사용 - 401 응답, 검증 캐시에 넣지 않음")
+    void doFilter_RefreshTokenRejected() throws Exception {
+        //given
+        String refreshToken = jwtUtil.createRefreshToken(1L, "family-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(apiRequest(refreshToken), response, chain);
+
+        //then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertTrue(verifiedTokenCache.get(refreshToken).isEmpty());
+    }
+
+    @Test
+    @DisplayName("로그아웃으로 폐기된 토큰 - 캐시에 검증 결과가 있어도 401")
+    void doFilter_RevokedToken() throws Exception {
+        //given
+        String token = jwtUtil.createAccessToken(1L, "family-1");
+        filter.doFilter(apiRequest(token), new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+        Claims claims = jwtUtil.parseAndValidate(token).orElseThrow();
+        when(zSetOperations.score(anyString(), eq("jti:" + claims.getId())))
+                .thenReturn((double) claims.getExpiration().getTime());
+        tokenDenylistService.revokeAccessToken(claims.getId(), claims.getExpiration());
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        //when
+        filter.doFilter(apiRequest(token), response, chain);
+
+        //then
+        assertEquals(401, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("검증 캐시 적중 - 같은 토큰의 두 번째 요청부터는 파싱하지 않음")
+    void doFilter_CacheHitSkipsParse() throws Exception {
+        //given
+        String token = jwtUtil.createAccessToken(1L, "family-1");
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            filter.doFilter(apiRequest(token), new MockHttpServletResponse(), new MockFilterChain());
+            SecurityContextHolder.clearContext();
+        }
+
+        //then
+        verify(jwtUtil, times(1)).parseAndValidate(token);
+    }
+
+    @Test
+    @DisplayName("서명 키 - JwtUtil 생성 시 한 번만 만들고 토큰 생성/검증마다 다시 만들지 않음")
+    void jwtUtil_KeyParsedOnce() {
+        try (MockedStatic<Keys> keys = mockStatic(Keys.class, CALLS_REAL_METHODS)) {
+            //given
+            JwtUtil util = new JwtUtil(SECRET);
+
+            //when
+            for (int i = 0; i < 3; i++) {
+                String token = util.createAccessToken(1L, "family-1");
+                assertTrue(util.parseAndValidate(token).isPresent());
+            }
+
+            //then
+            keys.verify(() -> Keys.hmacShaKeyFor(any()), times(1));
+        }
+    }
+
+    @Test
+    @DisplayName("관리자 ID 로 설정된 사용자 - ROLE_ADMIN 권한 부여, 그 외 사용자는 권한 없음")
+    void doFilter_AdminRole() throws Exception {
+        //given
+        ReflectionTestUtils.setField(filter, "adminUserIds", Set.of(1L));
+
+        //when
+        filter.doFilter(apiRequest(jwtUtil.createAccessToken(1L, "family-1")), new MockHttpServletResponse(), new MockFilterChain());
+        Authentication admin = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        filter.doFilter(apiRequest(jwtUtil.createAccessToken(2L, "family-2")), new MockHttpServletResponse(), new MockFilterChain());
+        Authentication user = SecurityContextHolder.getContext().getAuthentication();
+
+        //then
+        assertEquals(Set.of("ROLE_ADMIN"), admin.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).collect(Collectors.toSet()));
+        assertTrue(user.getAuthorities().isEmpty());
+    }
+
+    private static MockHttpServletRequest apiRequest(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/account/list");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+}
@@ -0,0 +1,163 @@
+package com.hbbank.backend.unit.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hbbank.backend.config.ReplicaRoutingDataSource;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void init() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (routingDataSource != null) {
+            routingDataSource.close();
+        }
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 복제 지연이 허용치 이내면 복제본에서 읽음")
+    void readOnly_RoutedToReplica() throws SQLException {
+        //given
+        replicaLag(2L);
+        start();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when & then
+        assertSame(replicaConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 - 항상 primary")
+    void readWrite_RoutedToPrimary() throws SQLException {
+        //given
+        replicaLag(0L);
+        start();
+
+        //when & then
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 복제 지연이 허용치를 넘으면 primary 로 전환")
+    void readOnly_LagExceeded_FallbackToPrimary() throws SQLException {
+        //given
+        replicaLag(30L);
+        start();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when & then
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션 - 복제 지연 확인 실패 시 primary 로 전환")
+    void readOnly_ReplicaDown_FallbackToPrimary() throws SQLException {
+        //given
+        when(replica.getConnection()).thenThrow(new SQLException("연결 실패"));
+        start();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when & then
+        assertSame(primaryConnection, routingDataSource.getConnection());
+    }
+
+    @Test
+    @DisplayName("트랜잭션의 라우팅 결과 보관 - 복제본으로 간 트랜잭션만 isRoutedToReplica, 종료 시 해제")
+    void routedToReplica_BoundToTransaction() throws SQLException {
+        //given
+        replicaLag(2L);
+        start();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when
+        routingDataSource.getConnection();
+
+        //then
+        assertTrue(ReplicaRoutingDataSource.isRoutedToReplica());
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+        assertFalse(ReplicaRoutingDataSource.isRoutedToReplica());
+    }
+
+    @Test
+    @DisplayName("트랜잭션의 라우팅 결과 보관 - 읽기 전용이어도 primary 로 갔으면 복제본 아님")
+    void routedToPrimary_NotReplica() throws SQLException {
+        //given
+        replicaLag(30L);
+        start();
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //when
+        routingDataSource.getConnection();
+
+        //then
+        assertFalse(ReplicaRoutingDataSource.isRoutedToReplica());
+    }
+
+    private void start() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", replica);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, 5, 60_000);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    private void replicaLag(long seconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet rs = mock(ResultSet.class);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(rs);
+        when(rs.next()).thenReturn(true);
+        when(rs.getLong("Seconds_Behind_Source")).thenReturn(seconds);
+        when(rs.wasNull()).thenReturn(false);
+    }
+}
@@ -0,0 +1,257 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountDailySnapshot;
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.dto.AccountRangeSummaryDTO;
+import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.repository.AccountDailySnapshotRepository;
+import com.hbbank.backend.repository.AccountDailySnapshotRepository.TransactionTotals;
+import com.hbbank.backend.service.AccountDailySnapshotService;
+import com.hbbank.backend.service.AccountService;
+import com.hbbank.backend.service.BatchStepContext;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDailySnapshotServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+
+    @Mock
+    private AccountDailySnapshotRepository snapshotRepository;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AccountDailySnapshotService snapshotService;
+
+    private final Account from = account(2L, false);
+    private final Account to = account(1L, false);
+
+    @BeforeEach
+    void init() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("누적 - 계좌/일자별로 합쳐 계좌 ID 순으로 한 번씩 upsert, 기초 잔액은 첫 거래 직전 잔액")
+    void accumulate_GroupedPerAccountAndDay() {
+        //given
+        LocalDateTime at = DAY.atTime(10, 0);
+        List<Transaction> transactions = List.of(
+                Transaction.withdrawal(from, "보낸사람", "받는사람", new BigDecimal("1000"), new BigDecimal("9000"), at),
+                Transaction.deposit(to, "보낸사람", "받는사람", new BigDecimal("1000"), new BigDecimal("6000"), at),
+                Transaction.withdrawal(from, "보낸사람", "받는사람", new BigDecimal("500"), new BigDecimal("8500"), at.plusSeconds(1)),
+                Transaction.deposit(to, "보낸사람", "받는사람", new BigDecimal("500"), new BigDecimal("6500"), at.plusSeconds(1)));
+
+        //when
+        snapshotService.accumulate(transactions);
+
+        //then
+        InOrder inOrder = inOrder(snapshotRepository);
+        inOrder.verify(snapshotRepository).accumulate(1L, DAY, new BigDecimal("5000"), new BigDecimal("6500"),
+                new BigDecimal("1500"), BigDecimal.ZERO, 2L, 0L);
+        inOrder.verify(snapshotRepository).accumulate(2L, DAY, new BigDecimal("10000"), new BigDecimal("8500"),
+                BigDecimal.ZERO, new BigDecimal("1500"), 0L, 2L);
+    }
+
+    @Test
+    @DisplayName("누적 - 핫 계좌 입금은 누적하지 않음 (자정 재계산에서 반영)")
+    void accumulate_SkipHotCredit() {
+        //given
+        Account hot = account(3L, true);
+        Transaction deposit = Transaction.deposit(hot, "보낸사람", "받는사람", new BigDecimal("1000"), new BigDecimal("1000"), DAY.atTime(9, 0));
+
+        //when
+        snapshotService.accumulate(List.of(deposit));
+
+        //then
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    @Test
+    @DisplayName("재계산 - 전날 하루 범위와 담당 파티션으로 재계산")
+    void compact_Partition() {
+        //given
+        BatchStepContext context = new BatchStepContext(null, 2, 4, (checkpoint, processed) -> { });
+
+        //when
+        snapshotService.compact(DAY, context);
+
+        //then
+        verify(snapshotRepository).compact(DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), 4, 2);
+    }
+
+    @Test
+    @DisplayName("기간 요약 - 스냅샷 행으로 합계와 기초/기말 잔액 계산")
+    void summarize_FromSnapshots() {
+        //given
+        when(snapshotRepository.findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(1L, DAY, DAY.plusDays(30)))
+                .thenReturn(List.of(
+                        snapshot(DAY.plusDays(1), "1000", "3000", "2500", "500", 2, 1),
+                        snapshot(DAY.plusDays(7), "3000", "1000", "0", "2000", 0, 3)));
+
+        //when
+        AccountRangeSummaryDTO summary = snapshotService.summarize(1L, DAY, DAY.plusDays(30));
+
+        //then
+        verify(accountService).verifyAccount(1L);
+        verify(snapshotRepository, never()).findFirstByAccountIdAndSnapshotDateBeforeOrderBySnapshotDateDesc(anyLong(), any());
+        assertEquals(new BigDecimal("1000"), summary.getOpeningBalance());
+        assertEquals(new BigDecimal("1000"), summary.getClosingBalance());
+        assertEquals(new BigDecimal("2500"), summary.getDepositTotal());
+        assertEquals(new BigDecimal("2500"), summary.getWithdrawalTotal());
+        assertEquals(2, summary.getDepositCount());
+        assertEquals(4, summary.getWithdrawalCount());
+        assertEquals(2, summary.getActiveDays());
+    }
+
+    @Test
+    @DisplayName("기간 요약 - 기간 안에 거래가 없으면 직전 거래일 마감 잔액")
+    void summarize_NoActivity() {
+        //given
+        when(snapshotRepository.findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(1L, DAY, DAY))
+                .thenReturn(List.of());
+        when(snapshotRepository.findFirstByAccountIdAndSnapshotDateBeforeOrderBySnapshotDateDesc(eq(1L), eq(DAY)))
+                .thenReturn(Optional.of(snapshot(DAY.minusDays(3), "0", "7000", "7000", "0", 1, 0)));
+
+        //when
+        AccountRangeSummaryDTO summary = snapshotService.summarize(1L, DAY, DAY);
+
+        //then
+        assertEquals(new BigDecimal("7000"), summary.getOpeningBalance());
+        assertEquals(new BigDecimal("7000"), summary.getClosingBalance());
+        assertEquals(BigDecimal.ZERO, summary.getDepositTotal());
+        assertEquals(0, summary.getActiveDays());
+    }
+
+    @Test
+    @DisplayName("백필 - 가장 오래된 거래일부터 종료일까지 하루씩 재계산하고 날짜를 checkpoint 로 기록")
+    void backfill_FromFirstTransactionDay() {
+        //given
+        List<String> checkpoints = new ArrayList<>();
+        BatchStepContext context = new BatchStepContext(null, 1, 4, (checkpoint, processed) -> checkpoints.add(checkpoint));
+        when(snapshotRepository.findFirstTransactionDateTime()).thenReturn(DAY.minusDays(2).atTime(15, 30));
+
+        //when
+        snapshotService.backfill(DAY, context);
+
+        //then
+        InOrder inOrder = inOrder(snapshotRepository);
+        for (LocalDate d = DAY.minusDays(2); !d.isAfter(DAY); d = d.plusDays(1)) {
+            inOrder.verify(snapshotRepository).compact(d, d.atStartOfDay(), d.plusDays(1).atStartOfDay(), 4, 1);
+        }
+        assertEquals(List.of(DAY.minusDays(2).toString(), DAY.minusDays(1).toString(), DAY.toString()), checkpoints);
+    }
+
+    @Test
+    @DisplayName("백필 - 재시작 시 checkpoint 다음 날부터 이어서 실행")
+    void backfill_ResumeFromCheckpoint() {
+        //given
+        BatchStepContext context = new BatchStepContext(DAY.minusDays(1).toString(), 0, 1, (checkpoint, processed) -> { });
+
+        //when
+        snapshotService.backfill(DAY, context);
+
+        //then
+        verify(snapshotRepository, never()).findFirstTransactionDateTime();
+        verify(snapshotRepository).compact(DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay(), 1, 0);
+        verify(snapshotRepository, never()).compact(eq(DAY.minusDays(1)), any(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("기간 요약 - 전날/당일은 거래내역을 직접 합산해 스냅샷에 없는 핫 계좌 입금까지 반영")
+    void summarize_RecentDaysFromTransactions() {
+        //given
+        LocalDate today = LocalDate.now();
+        when(snapshotRepository.findAllByAccountIdAndSnapshotDateBetweenOrderBySnapshotDate(1L, today.minusDays(10), today.minusDays(2)))
+                .thenReturn(List.of(snapshot(today.minusDays(5), "1000", "3000", "2000", "0", 1, 0)));
+        when(snapshotRepository.sumTransactions(1L, today.minusDays(1).atStartOfDay(), today.plusDays(1).atStartOfDay()))
+                .thenReturn(totals(null, "500", "0", 2, 0, 1));
+
+        //when
+        AccountRangeSummaryDTO summary = snapshotService.summarize(1L, today.minusDays(10), today);
+
+        //then
+        assertEquals(new BigDecimal("1000"), summary.getOpeningBalance());
+        assertEquals(new BigDecimal("3500"), summary.getClosingBalance());
+        assertEquals(new BigDecimal("2500"), summary.getDepositTotal());
+        assertEquals(3, summary.getDepositCount());
+        assertEquals(2, summary.getActiveDays());
+    }
+
+    @Test
+    @DisplayName("기간 요약 실패 - 종료일이 시작일보다 앞섬")
+    void summarize_InvalidRange() {
+        assertThrows(InvalidDateRangeException.class, () -> snapshotService.summarize(1L, DAY, DAY.minusDays(1)));
+        verifyNoInteractions(snapshotRepository);
+    }
+
+    private Account account(Long id, boolean hot) {
+        return Account.builder()
+                .id(id)
+                .user(User.builder().id(id).name("사용자" + id).build())
+                .hot(hot)
+                .build();
+    }
+
+    private TransactionTotals totals(String opening, String deposits, String withdrawals,
+                                     long depositCount, long withdrawalCount, long activeDays) {
+        return new TransactionTotals() {
+            public BigDecimal getOpeningBalance() { return opening == null ? null : new BigDecimal(opening); }
+            public BigDecimal getDepositTotal() { return new BigDecimal(deposits); }
+            public BigDecimal getWithdrawalTotal() { return new BigDecimal(withdrawals); }
+            public Long getDepositCount() { return depositCount; }
+            public Long getWithdrawalCount() { return withdrawalCount; }
+            public Long getActiveDays() { return activeDays; }
+        };
+    }
+
+    private AccountDailySnapshot snapshot(LocalDate date, String opening, String closing,
+                                          String deposits, String withdrawals, long depositCount, long withdrawalCount) {
+        return AccountDailySnapshot.builder()
+                .accountId(1L)
+                .snapshotDate(date)
+                .openingBalance(new BigDecimal(opening))
+                .closingBalance(new BigDecimal(closing))
+                .depositTotal(new BigDecimal(deposits))
+                .withdrawalTotal(new BigDecimal(withdrawals))
+                .depositCount(depositCount)
+                .withdrawalCount(withdrawalCount)
+                .build();
+    }
+}
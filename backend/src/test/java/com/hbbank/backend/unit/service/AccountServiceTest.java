@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -12,6 +14,7 @@ import static org.mockito.Mockito.when;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import com.hbbank.backend.exception.account.*;
@@ -23,6 +26,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.AccountType;
@@ -247,6 +251,68 @@ class AccountServiceTest {
         verify(accountRepository).findByIdWithUser(accountId);
     }
 
+    @Test
+    @DisplayName("계좌 검증 성공 - 두 번째 검증부터는 캐시된 메타데이터 사용")
+    void verifyAccount_Cached() {
+        // given
+        when(accountRepository.findByIdWithUser(1L)).thenReturn(Optional.of(account(AccountStatus.ACTIVE)));
+
+        // when
+        accountService.verifyAccount(1L);
+        accountService.verifyAccount(1L);
+
+        // then
+        verify(accountRepository, times(1)).findByIdWithUser(1L);
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("계좌 검증 실패 - 유효하지 않은 계좌 상태")
+    void verifyAccount_InvalidStatus() {
+        // given
+        when(accountRepository.findByIdWithUser(1L)).thenReturn(Optional.of(account(AccountStatus.BLOCKED)));
+
+        // when & then
+        assertThrows(InvalidAccountStatusException.class, () -> accountService.verifyAccount(1L));
+    }
+
+    @Test
+    @DisplayName("계좌 메타데이터 - 복제본 라우팅을 쓰지 않는 읽기 전용 트랜잭션에서도 캐시")
+    void getMetadata_ReadOnlyWithoutReplica_Cached() {
+        // given
+        when(accountRepository.findByIdWithUser(1L)).thenReturn(Optional.of(account(AccountStatus.ACTIVE)));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        try {
+            accountService.getMetadata(1L);
+            accountService.getMetadata(1L);
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        }
+
+        // then
+        verify(accountRepository, times(1)).findByIdWithUser(1L);
+    }
+
+    @Test
+    @DisplayName("소유자 이름 조회 - 캐시 미스인 계좌만 projection 으로 조회")
+    void getOwnerNames_LoadsMissesOnly() {
+        // given
+        when(accountRepository.findOwnerNamesByAccountNumberIn(any()))
+                .thenReturn(List.<Object[]>of(new Object[]{"111", "보낸사람"}))
+                .thenReturn(List.<Object[]>of(new Object[]{"222", "받는사람"}));
+        accountService.getOwnerNames(List.of("111"));
+
+        // when
+        Map<String, String> names = accountService.getOwnerNames(List.of("111", "222"));
+
+        // then
+        assertEquals(Map.of("111", "보낸사람", "222", "받는사람"), names);
+        verify(accountRepository).findOwnerNamesByAccountNumberIn(List.of("222"));
+        verify(accountRepository, never()).findByIdWithUser(any());
+    }
+
     @Test
     @DisplayName("일일 이체 한도 초기화 성공")
     void resetDailyTransferAmount_Success() {
@@ -423,4 +489,43 @@ class AccountServiceTest {
             account.withdraw(new BigDecimal("10000"));
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("계좌번호 조회 성공 - 두 번째 조회부터는 캐시 사용")
+    void getAccountNumber_Success_Cached() {
+        // given
+        when(accountRepository.findAccountNumberById(1L)).thenReturn(Optional.of("793001010000011"));
+
+        // when
+        String first = accountService.getAccountNumber(1L);
+        String second = accountService.getAccountNumber(1L);
+
+        // then
+        assertEquals("793001010000011", first);
+        assertEquals(first, second);
+        verify(accountRepository, times(1)).findAccountNumberById(1L);
+    }
+
+    @Test
+    @DisplayName("계좌번호 조회 실패 - 존재하지 않는 계좌는 캐시하지 않음")
+    void getAccountNumber_Fail_AccountNotFound() {
+        // given
+        when(accountRepository.findAccountNumberById(999L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThrows(AccountNotFoundException.class, () -> accountService.getAccountNumber(999L));
+        assertThrows(AccountNotFoundException.class, () -> accountService.getAccountNumber(999L));
+        verify(accountRepository, times(2)).findAccountNumberById(999L);
+    }
+
+    private Account account(AccountStatus status) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("123456789012345")
+                .user(User.builder().id(1L).build())
+                .status(status)
+                .transferLimit(new BigDecimal("1000000"))
+                .dailyTransferLimit(new BigDecimal("5000000"))
+                .build();
+    }
+}
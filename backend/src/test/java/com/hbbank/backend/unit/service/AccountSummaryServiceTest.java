@@ -0,0 +1,150 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountType;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.domain.enums.AccountStatus;
+import com.hbbank.backend.dto.AccountSummaryDTO;
+import com.hbbank.backend.exception.account.AccountNotFoundException;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.service.AccountSummaryService;
+
+@ExtendWith(MockitoExtension.class)
+class AccountSummaryServiceTest {
+
+    private static final String ACCOUNT_NUMBER = "123456789012345";
+    private static final String KEY = "account:summary:" + ACCOUNT_NUMBER;
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AccountSummaryService accountSummaryService;
+
+    @BeforeEach
+    void init() {
+        accountSummaryService = new AccountSummaryService(accountRepository, redisTemplate, objectMapper);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("계좌 요약 조회 - 두 캐시 모두 미스면 DB 조회 후 Redis 저장, 이후 로컬 캐시에서 응답")
+    void getSummary_LoadFromDatabase() {
+        //given
+        when(accountRepository.findByAccountNumberWithUserAndType(ACCOUNT_NUMBER)).thenReturn(Optional.of(account()));
+
+        //when
+        AccountSummaryDTO first = accountSummaryService.getSummary(ACCOUNT_NUMBER);
+        AccountSummaryDTO second = accountSummaryService.getSummary(ACCOUNT_NUMBER);
+
+        //then
+        assertEquals("홍길동", first.getOwnerName());
+        assertEquals("입출금통장", first.getAccountTypeName());
+        assertEquals(AccountStatus.ACTIVE, first.getStatus());
+        assertEquals(first, second);
+        verify(accountRepository, times(1)).findByAccountNumberWithUserAndType(ACCOUNT_NUMBER);
+        verify(valueOperations, times(1)).get(KEY);
+        verify(valueOperations).set(eq(KEY), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("계좌 요약 조회 - 다른 노드가 Redis 에 저장한 값 재사용")
+    void getSummary_LoadFromRedis() throws Exception {
+        //given
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(AccountSummaryDTO.from(account())));
+
+        //when
+        AccountSummaryDTO summary = accountSummaryService.getSummary(ACCOUNT_NUMBER);
+
+        //then
+        assertEquals("홍길동", summary.getOwnerName());
+        assertEquals(ACCOUNT_NUMBER, summary.getAccountNumber());
+        verify(accountRepository, never()).findByAccountNumberWithUserAndType(anyString());
+    }
+
+    @Test
+    @DisplayName("계좌 요약 조회 - Redis 장애 시 DB 조회")
+    void getSummary_RedisDown() {
+        //given
+        when(valueOperations.get(KEY)).thenThrow(new RedisConnectionFailureException("연결 실패"));
+        when(accountRepository.findByAccountNumberWithUserAndType(ACCOUNT_NUMBER)).thenReturn(Optional.of(account()));
+
+        //when
+        AccountSummaryDTO summary = accountSummaryService.getSummary(ACCOUNT_NUMBER);
+
+        //then
+        assertEquals("홍길동", summary.getOwnerName());
+    }
+
+    @Test
+    @DisplayName("계좌 요약 조회 실패 - 존재하지 않는 계좌")
+    void getSummary_NotFound() {
+        //given
+        when(accountRepository.findByAccountNumberWithUserAndType(ACCOUNT_NUMBER)).thenReturn(Optional.empty());
+
+        //when & then
+        assertThrows(AccountNotFoundException.class, () -> accountSummaryService.getSummary(ACCOUNT_NUMBER));
+        verify(valueOperations, never()).set(anyString(), anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("무효화 - Redis 키 삭제 후 채널 발행, 메시지를 받은 노드는 로컬 캐시에서 제거")
+    void evict_PublishAndInvalidate() {
+        //given
+        when(accountRepository.findByAccountNumberWithUserAndType(ACCOUNT_NUMBER)).thenReturn(Optional.of(account()));
+        accountSummaryService.getSummary(ACCOUNT_NUMBER);
+
+        //when
+        accountSummaryService.evict(ACCOUNT_NUMBER);
+        accountSummaryService.onMessage(new DefaultMessage(
+                AccountSummaryService.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ACCOUNT_NUMBER.getBytes(StandardCharsets.UTF_8)), null);
+        accountSummaryService.getSummary(ACCOUNT_NUMBER);
+
+        //then
+        verify(redisTemplate).delete(KEY);
+        verify(redisTemplate).convertAndSend(AccountSummaryService.INVALIDATION_CHANNEL, ACCOUNT_NUMBER);
+        verify(accountRepository, times(2)).findByAccountNumberWithUserAndType(ACCOUNT_NUMBER);
+    }
+
+    private Account account() {
+        return Account.builder()
+                .id(1L)
+                .accountNumber(ACCOUNT_NUMBER)
+                .user(User.builder().id(1L).name("홍길동").build())
+                .accountType(AccountType.builder().code("01").name("입출금통장").build())
+                .status(AccountStatus.ACTIVE)
+                .build();
+    }
+}
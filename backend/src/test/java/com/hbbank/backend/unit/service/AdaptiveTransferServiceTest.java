@@ -0,0 +1,165 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.enums.TransferType;
+import com.hbbank.backend.dto.TransferLockStatsDTO;
+import com.hbbank.backend.dto.TransferRequestDTO;
+import com.hbbank.backend.service.AccountService;
+import com.hbbank.backend.service.AdaptiveTransferService;
+import com.hbbank.backend.service.HotAccountService;
+import com.hbbank.backend.service.TransferService;
+
+// AdaptiveTransferService 단위 테스트
+@ExtendWith(MockitoExtension.class)
+class AdaptiveTransferServiceTest {
+
+    @Mock
+    private TransferService transferService;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private HotAccountService hotAccountService;
+
+    @InjectMocks
+    private AdaptiveTransferService adaptiveTransferService;
+
+    private TransferRequestDTO dto;
+
+    @BeforeEach
+    @DisplayName("낙관적 락 모드 활성화 및 이체 요청 생성")
+    void init() {
+        ReflectionTestUtils.setField(adaptiveTransferService, "optimisticEnabled", true);
+        ReflectionTestUtils.setField(adaptiveTransferService, "backoffMillis", 0L);
+
+        dto = TransferRequestDTO.builder()
+                .type(TransferType.AUTO)
+                .fromAccountId(1L)
+                .toAccountNumber("2222222222")
+                .amount(new BigDecimal("1000"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("낙관적 락 모드 비활성화 - 비관적 락 이체")
+    void transfer_OptimisticDisabled() {
+        //given
+        ReflectionTestUtils.setField(adaptiveTransferService, "optimisticEnabled", false);
+        when(transferService.transfer(dto)).thenReturn(true);
+
+        //when
+        boolean result = adaptiveTransferService.transfer(dto);
+
+        //then
+        assertTrue(result);
+        verify(transferService, never()).transferOptimistic(dto);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 이체 성공 - 충돌 후 재시도")
+    void transfer_Success_RetryAfterConflict() {
+        //given
+        when(accountService.getAccountNumber(1L)).thenReturn("1111111111");
+        when(transferService.transferOptimistic(dto))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L))
+                .thenReturn(true);
+
+        //when
+        boolean result = adaptiveTransferService.transfer(dto);
+
+        //then
+        TransferLockStatsDTO stats = adaptiveTransferService.getStats();
+        assertAll(
+                () -> assertTrue(result),
+                () -> assertEquals(1, stats.getConflictCount()),
+                () -> assertEquals(1, stats.getRetryCount()),
+                () -> assertEquals(0, stats.getFallbackCount())
+        );
+        verify(transferService, times(2)).transferOptimistic(dto);
+        verify(transferService, never()).transfer(dto);
+    }
+
+    @Test
+    @DisplayName("재시도 소진 - 비관적 락 이체로 전환 후 해당 계좌는 계속 비관적 락 사용")
+    void transfer_Fallback_AfterRepeatedConflicts() {
+        //given
+        when(accountService.getAccountNumber(1L)).thenReturn("1111111111");
+        when(transferService.transferOptimistic(dto))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L));
+        when(transferService.transfer(dto)).thenReturn(true);
+
+        //when
+        boolean first = adaptiveTransferService.transfer(dto);
+        boolean second = adaptiveTransferService.transfer(dto);
+
+        //then
+        TransferLockStatsDTO stats = adaptiveTransferService.getStats();
+        assertAll(
+                () -> assertTrue(first),
+                () -> assertTrue(second),
+                () -> assertEquals(3, stats.getConflictCount()),
+                () -> assertEquals(2, stats.getRetryCount()),
+                () -> assertEquals(1, stats.getFallbackCount()),
+                () -> assertEquals(2, stats.getPessimisticAccountCount())
+        );
+        verify(transferService, times(3)).transferOptimistic(dto);
+        verify(transferService, times(2)).transfer(dto);
+    }
+
+    @Test
+    @DisplayName("충돌 이력 만료 - 충돌 창과 비관적 락 유지 시간이 지난 계좌는 이력에서 제거")
+    @SuppressWarnings("unchecked")
+    void transfer_ContentionExpires() {
+        //given
+        ReflectionTestUtils.setField(adaptiveTransferService, "contentionWindowMillis", 0L);
+        when(accountService.getAccountNumber(1L)).thenReturn("1111111111");
+        when(transferService.transferOptimistic(dto))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Account.class, 1L))
+                .thenReturn(true);
+
+        //when
+        adaptiveTransferService.transfer(dto);
+
+        //then
+        Cache<String, ?> contentions = (Cache<String, ?>) ReflectionTestUtils.getField(adaptiveTransferService, "contentions");
+        assertNull(contentions.getIfPresent("1111111111"));
+        assertEquals(0, adaptiveTransferService.getStats().getPessimisticAccountCount());
+    }
+
+    @Test
+    @DisplayName("핫 계좌 입금 - 비관적 락 이체")
+    void transfer_HotAccount() {
+        //given
+        when(accountService.getAccountNumber(1L)).thenReturn("1111111111");
+        when(hotAccountService.isHot("2222222222")).thenReturn(true);
+        when(transferService.transfer(dto)).thenReturn(true);
+
+        //when
+        boolean result = adaptiveTransferService.transfer(dto);
+
+        //then
+        assertTrue(result);
+        verify(transferService, never()).transferOptimistic(dto);
+    }
+}
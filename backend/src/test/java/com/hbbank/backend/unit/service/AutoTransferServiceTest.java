@@ -3,15 +3,19 @@ package com.hbbank.backend.unit.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 import com.hbbank.backend.exception.autoTransfer.AutoTransferNotFoundException;
 import com.hbbank.backend.exception.autoTransfer.InvalidAutoTransferPasswordException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,23 +24,30 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.AutoTransfer;
 import com.hbbank.backend.domain.User;
 import com.hbbank.backend.domain.enums.TransferStatus;
 import com.hbbank.backend.dto.AutoTransferRequestDTO;
+import com.hbbank.backend.dto.AutoTransferRunStatsDTO;
 import com.hbbank.backend.dto.TransferRequestDTO;
 import com.hbbank.backend.exception.account.OutofBalanceException;
 import com.hbbank.backend.repository.AccountRepository;
 import com.hbbank.backend.repository.AutoTransferRepository;
+import com.hbbank.backend.service.BatchStepContext;
 
 // AutoTransferService 단위 테스트
 @ExtendWith(MockitoExtension.class)
@@ -52,10 +63,20 @@ class AutoTransferServiceTest {
     private TransferService transferService;
     @Mock
     private PasswordEncoder encoder;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private AutoTransferService autoTransferService;
 
+    @BeforeEach
+    @DisplayName("자동이체 1건 단위 트랜잭션은 콜백을 바로 실행, 기준일 실행 선점은 성공")
+    void init() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        lenient().when(autoTransferRepository.claimExecution(anyLong(), any())).thenReturn(1);
+    }
+
     @Test
     @DisplayName("자동이체 등록 성공")
     void register_Success() {
@@ -239,15 +260,15 @@ class AutoTransferServiceTest {
 
         List<AutoTransfer> autoTransfers = Collections.singletonList(autoTransfer);
 
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
-                .thenReturn(Optional.of(autoTransfers));
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
 
         // when
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(autoTransfer);
     }
@@ -274,15 +295,15 @@ class AutoTransferServiceTest {
 
         List<AutoTransfer> autoTransfers = Collections.singletonList(autoTransfer);
 
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
-                .thenReturn(Optional.of(autoTransfers));
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
 
         // when
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(autoTransfer);
 
@@ -309,9 +330,9 @@ class AutoTransferServiceTest {
                 .build();
 
         // any(LocalDate.class)를 사용하여 날짜 매칭을 느슨하게 함
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(
-                any(LocalDate.class), eq(TransferStatus.ACTIVE)))
-                .thenReturn(Optional.of(List.of(autoTransfer)));
+        when(autoTransferRepository.findFirstDueChunk(
+                any(LocalDate.class), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(List.of(autoTransfer));
 
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
 
@@ -319,8 +340,8 @@ class AutoTransferServiceTest {
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(
-                any(LocalDate.class), eq(TransferStatus.ACTIVE));
+        verify(autoTransferRepository).findFirstDueChunk(
+                any(LocalDate.class), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(any(AutoTransfer.class));
     }
@@ -348,15 +369,15 @@ class AutoTransferServiceTest {
 
         List<AutoTransfer> autoTransfers = Collections.singletonList(autoTransfer);
 
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
-                .thenReturn(Optional.of(autoTransfers));
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(false);
 
         // when
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(autoTransfer);
         assertEquals(TransferStatus.ACTIVE, autoTransfer.getStatus());
@@ -386,15 +407,15 @@ class AutoTransferServiceTest {
 
         List<AutoTransfer> autoTransfers = Collections.singletonList(autoTransfer);
 
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
-                .thenReturn(Optional.of(autoTransfers));
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(false);
 
         // when
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(autoTransfer);
         assertEquals(TransferStatus.PAUSED, autoTransfer.getStatus()); // PAUSED 상태로 변경되었는지 확인
@@ -424,15 +445,15 @@ class AutoTransferServiceTest {
 
         List<AutoTransfer> autoTransfers = Collections.singletonList(autoTransfer);
 
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
-                .thenReturn(Optional.of(autoTransfers));
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
         when(transferService.transfer(any(TransferRequestDTO.class))).thenThrow(new RuntimeException("이체 실패"));
 
         // when
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(autoTransfer);
         assertEquals(1, autoTransfer.getFailureCount());
@@ -461,20 +482,197 @@ class AutoTransferServiceTest {
 
         List<AutoTransfer> autoTransfers = Collections.singletonList(autoTransfer);
 
-        when(autoTransferRepository.findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
-                .thenReturn(Optional.of(autoTransfers));
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
         when(transferService.transfer(any(TransferRequestDTO.class))).thenThrow(new OutofBalanceException("잔액이 부족합니다"));
 
         // when
         autoTransferService.executeAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByNextTransferDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(autoTransferRepository).save(autoTransfer);
         assertEquals(1, autoTransfer.getFailureCount());
     }
 
+    @Test
+    @DisplayName("자동이체 병렬 실행 - 같은 출금 계좌는 순서대로, 실행 결과 집계")
+    void executeAutoTransfer_Partitioned() {
+        // given
+        ReflectionTestUtils.setField(autoTransferService, "workers", 4);
+        LocalDate today = LocalDate.now();
+        List<AutoTransfer> autoTransfers = new ArrayList<>();
+        for (long i = 1; i <= 40; i++) {
+            autoTransfers.add(AutoTransfer.builder()
+                    .id(i)
+                    .fromAccount(Account.builder().id(i % 8).build())
+                    .toAccountNumber("0987654321")
+                    .amount(BigDecimal.valueOf(i))
+                    .transferDay(today.getDayOfMonth())
+                    .nextTransferDate(today)
+                    .status(TransferStatus.ACTIVE)
+                    .build());
+        }
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(autoTransfers);
+
+        Map<Long, List<Long>> executedByAccount = new ConcurrentHashMap<>();
+        when(transferService.transfer(any(TransferRequestDTO.class))).thenAnswer(inv -> {
+            TransferRequestDTO dto = inv.getArgument(0);
+            executedByAccount.computeIfAbsent(dto.getFromAccountId(), k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(dto.getAmount().longValue());
+            // 출금 계좌 0 은 잔액 부족으로 실패
+            return dto.getFromAccountId() != 0L;
+        });
+
+        // when
+        autoTransferService.executeAutoTransfer();
+
+        // then
+        verify(transferService, times(40)).transfer(any(TransferRequestDTO.class));
+        executedByAccount.values().forEach(ids -> {
+            for (int i = 1; i < ids.size(); i++) {
+                assertTrue(ids.get(i - 1) < ids.get(i));
+            }
+        });
+        AutoTransferRunStatsDTO stats = autoTransferService.getLastRunStats();
+        assertEquals(40, stats.getTotalCount());
+        assertEquals(35, stats.getSuccessCount());
+        assertEquals(5, stats.getFailCount());
+        assertEquals(0, stats.getErrorCount());
+        assertEquals(4, stats.getWorkerCount());
+    }
+
+    @Test
+    @DisplayName("자동이체 청크 실행 - 마지막 (이체 예정일, ID) 이후부터 다음 청크 조회")
+    void executeAutoTransfer_Chunked() {
+        // given
+        ReflectionTestUtils.setField(autoTransferService, "chunkSize", 2);
+        LocalDate today = LocalDate.now();
+        List<AutoTransfer> autoTransfers = new ArrayList<>();
+        for (long i = 1; i <= 3; i++) {
+            autoTransfers.add(AutoTransfer.builder()
+                    .id(i)
+                    .fromAccount(Account.builder().id(i).build())
+                    .toAccountNumber("0987654321")
+                    .amount(new BigDecimal("10000"))
+                    .transferDay(today.getDayOfMonth())
+                    .nextTransferDate(today)
+                    .status(TransferStatus.ACTIVE)
+                    .build());
+        }
+        when(autoTransferRepository.findFirstDueChunk(today, TransferStatus.ACTIVE, 1, 0, Limit.of(2)))
+                .thenReturn(autoTransfers.subList(0, 2));
+        when(autoTransferRepository.findDueChunkAfter(today, TransferStatus.ACTIVE, 1, 0, today, 2L, Limit.of(2)))
+                .thenReturn(autoTransfers.subList(2, 3));
+        when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
+
+        // when
+        autoTransferService.executeAutoTransfer();
+
+        // then
+        verify(transferService, times(3)).transfer(any(TransferRequestDTO.class));
+        verify(autoTransferRepository, times(3)).save(any(AutoTransfer.class));
+        assertEquals(3, autoTransferService.getLastRunStats().getTotalCount());
+        assertEquals(3, autoTransferService.getLastRunStats().getSuccessCount());
+    }
+
+    @Test
+    @DisplayName("자동이체 재시작 - 파티션의 checkpoint 이후부터 조회, 이미 실행한 건은 건너뛰고 청크마다 checkpoint 기록")
+    void executeAutoTransfer_ResumeFromCheckpoint() {
+        // given
+        LocalDate today = LocalDate.now();
+        AutoTransfer executedAlready = AutoTransfer.builder()
+                .id(11L)
+                .fromAccount(Account.builder().id(1L).build())
+                .toAccountNumber("0987654321")
+                .amount(new BigDecimal("10000"))
+                .nextTransferDate(today)
+                .lastExecutedDate(today)
+                .status(TransferStatus.ACTIVE)
+                .build();
+        AutoTransfer pending = AutoTransfer.builder()
+                .id(12L)
+                .fromAccount(Account.builder().id(2L).build())
+                .toAccountNumber("0987654321")
+                .amount(new BigDecimal("10000"))
+                .transferDay(today.getDayOfMonth())
+                .nextTransferDate(today)
+                .status(TransferStatus.ACTIVE)
+                .build();
+        when(autoTransferRepository.findDueChunkAfter(eq(today), eq(TransferStatus.ACTIVE), eq(4), eq(3),
+                eq(today), eq(10L), any(Limit.class)))
+                .thenReturn(List.of(executedAlready, pending));
+        when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
+        List<String> checkpoints = new ArrayList<>();
+
+        // when
+        autoTransferService.executeAutoTransfer(new BatchStepContext(today + ":10", 3, 4,
+                (checkpoint, processed) -> checkpoints.add(checkpoint + "/" + processed)));
+
+        // then
+        verify(autoTransferRepository, times(0)).findFirstDueChunk(any(), any(), anyInt(), anyInt(), any());
+        verify(transferService, times(1)).transfer(any(TransferRequestDTO.class));
+        verify(autoTransferRepository).save(pending);
+        assertEquals(today, pending.getLastExecutedDate());
+        assertEquals(List.of(today + ":12/2"), checkpoints);
+        assertEquals(1, autoTransferService.getLastRunStats().getSkippedCount());
+        assertEquals(3, autoTransferService.getLastRunStats().getPartition());
+    }
+
+    @Test
+    @DisplayName("자동이체 실행 - 다른 노드가 먼저 선점한 건은 이체하지 않고 건너뜀")
+    void executeAutoTransfer_ClaimedByOtherNode() {
+        // given
+        LocalDate today = LocalDate.now();
+        AutoTransfer autoTransfer = AutoTransfer.builder()
+                .id(1L)
+                .fromAccount(Account.builder().id(1L).build())
+                .toAccountNumber("0987654321")
+                .amount(new BigDecimal("10000"))
+                .transferDay(today.getDayOfMonth())
+                .nextTransferDate(today)
+                .status(TransferStatus.ACTIVE)
+                .build();
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(List.of(autoTransfer));
+        when(autoTransferRepository.claimExecution(1L, today)).thenReturn(0);
+
+        // when
+        autoTransferService.executeAutoTransfer();
+
+        // then
+        verifyNoInteractions(transferService);
+        verify(autoTransferRepository, times(0)).save(any(AutoTransfer.class));
+        assertEquals(1, autoTransferService.getLastRunStats().getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("자동이체 실행 - 파티션 lease 를 잃으면 남은 건은 실행하지 않음")
+    void executeAutoTransfer_LeaseLost() {
+        // given
+        LocalDate today = LocalDate.now();
+        AutoTransfer autoTransfer = AutoTransfer.builder()
+                .id(1L)
+                .fromAccount(Account.builder().id(1L).build())
+                .toAccountNumber("0987654321")
+                .amount(new BigDecimal("10000"))
+                .transferDay(today.getDayOfMonth())
+                .nextTransferDate(today)
+                .status(TransferStatus.ACTIVE)
+                .build();
+        when(autoTransferRepository.findFirstDueChunk(eq(today), eq(TransferStatus.ACTIVE), eq(1), eq(0), any(Limit.class)))
+                .thenReturn(List.of(autoTransfer));
+
+        // when
+        autoTransferService.executeAutoTransfer(new BatchStepContext(null, 0, 1, (checkpoint, processed) -> { }, () -> false));
+
+        // then
+        verifyNoInteractions(transferService);
+        verify(autoTransferRepository, times(0)).claimExecution(anyLong(), any());
+    }
+
     @Test
     @DisplayName("자동이체 만료 처리 성공")
     void finishAutoTransfer_Success() {
@@ -500,14 +698,14 @@ class AutoTransferServiceTest {
                         .build()
         );
 
-        when(autoTransferRepository.findAllByEndDateAndStatus(today, TransferStatus.ACTIVE))
+        when(autoTransferRepository.findAllByEndDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
                 .thenReturn(Optional.of(autoTransfers));
 
         // when
         autoTransferService.finishAutoTransfer();
 
         // then
-        verify(autoTransferRepository).findAllByEndDateAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findAllByEndDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
         verify(autoTransferRepository, times(2)).save(any(AutoTransfer.class));
 
         autoTransfers.forEach(at
@@ -519,12 +717,12 @@ class AutoTransferServiceTest {
     void finishAutoTransfer_Fail_Exception() {
         // given
         LocalDate today = LocalDate.now();
-        when(autoTransferRepository.findAllByEndDateAndStatus(today, TransferStatus.ACTIVE))
+        when(autoTransferRepository.findAllByEndDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE))
                 .thenThrow(new IllegalArgumentException("리스트를 찾을 수 없습니다."));
 
         // when & then
         assertThrows(IllegalArgumentException.class, () -> autoTransferService.finishAutoTransfer());
-        verify(autoTransferRepository).findAllByEndDateAndStatus(today, TransferStatus.ACTIVE);
+        verify(autoTransferRepository).findAllByEndDateLessThanEqualAndStatus(today, TransferStatus.ACTIVE);
     }
 
     @Test
@@ -0,0 +1,235 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.domain.BatchJobExecution;
+import com.hbbank.backend.domain.BatchStepExecution;
+import com.hbbank.backend.domain.enums.BatchStatus;
+import com.hbbank.backend.repository.BatchJobExecutionRepository;
+import com.hbbank.backend.repository.BatchStepExecutionRepository;
+import com.hbbank.backend.service.BatchJobService;
+import com.hbbank.backend.service.BatchStep;
+import com.hbbank.backend.service.SchedulerLease;
+import com.hbbank.backend.service.SchedulerLeaseService;
+
+/*
+ * BatchJobService 단위 테스트
+ * 저장소는 메모리 맵으로 흉내내 실행 이력이 재실행 사이에 유지되도록 한다.
+ * 실행 이력 키는 단계 이름(파티션 단계는 "단계#파티션")
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchJobServiceTest {
+
+    @Mock
+    private BatchJobExecutionRepository jobExecutionRepository;
+    @Mock
+    private BatchStepExecutionRepository stepExecutionRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private SchedulerLeaseService leaseService;
+
+    @InjectMocks
+    private BatchJobService batchJobService;
+
+    private final LocalDate runDate = LocalDate.of(2025, 1, 25);
+    private final Map<String, BatchStepExecution> stepExecutions = new HashMap<>();
+    private final List<String> executed = new ArrayList<>();
+
+    @BeforeEach
+    @DisplayName("트랜잭션 콜백 즉시 실행, lease 항상 획득, 단계 실행 이력 저장소 흉내")
+    void init() {
+        ReflectionTestUtils.setField(batchJobService, "pollIntervalMillis", 1L);
+        lenient().when(leaseService.tryAcquire(anyString()))
+                .thenAnswer(inv -> Optional.of(new SchedulerLease(inv.getArgument(0), "token", lease -> { })));
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        BatchJobExecution job = BatchJobExecution.builder().id(1L).jobName("daily").runDate(runDate)
+                .status(BatchStatus.STARTED).build();
+        lenient().when(jobExecutionRepository.findByJobNameAndRunDate("daily", runDate)).thenReturn(Optional.of(job));
+        lenient().when(stepExecutionRepository.findByJobExecutionIdAndStepNameAndPartitionNo(anyLong(), anyString(), anyInt()))
+                .thenAnswer(inv -> Optional.ofNullable(stepExecutions.get(
+                        key(inv.getArgument(1), inv.getArgument(2)))));
+        lenient().when(stepExecutionRepository.findAllByJobExecutionIdAndStepName(anyLong(), anyString()))
+                .thenAnswer(inv -> stepExecutions.values().stream()
+                        .filter(e -> e.getStepName().equals(inv.getArgument(1)))
+                        .toList());
+        lenient().when(stepExecutionRepository.save(any(BatchStepExecution.class)))
+                .thenAnswer(inv -> {
+                    BatchStepExecution e = inv.getArgument(0);
+                    stepExecutions.put(key(e.getStepName(), e.getPartitionNo()), e);
+                    return e;
+                });
+    }
+
+    private static String key(String stepName, int partitionNo) {
+        return partitionNo == 0 ? stepName : stepName + "#" + partitionNo;
+    }
+
+    @Test
+    @DisplayName("선언 순서와 무관하게 선행 단계부터 실행")
+    void run_DependencyOrder() {
+        //given
+        List<BatchStep> steps = List.of(
+                BatchStep.of("finish", List.of("transfer"), c -> executed.add("finish")),
+                BatchStep.of("transfer", List.of("reset"), c -> executed.add("transfer")),
+                BatchStep.of("reset", c -> executed.add("reset")));
+
+        //when
+        BatchStatus result = batchJobService.run("daily", runDate, steps);
+
+        //then
+        assertAll(
+                () -> assertEquals(BatchStatus.COMPLETED, result),
+                () -> assertEquals(List.of("reset", "transfer", "finish"), executed),
+                () -> assertEquals(BatchStatus.COMPLETED, stepExecutions.get("finish").getStatus())
+        );
+    }
+
+    @Test
+    @DisplayName("단계 실패 시 후속 단계는 SKIPPED, 재실행하면 완료된 단계는 건너뛰고 checkpoint 부터 이어서 실행")
+    void run_FailThenResumeFromCheckpoint() {
+        //given
+        List<String> restartCheckpoints = new ArrayList<>();
+        boolean[] crash = {true};
+        List<BatchStep> steps = List.of(
+                BatchStep.of("reset", c -> executed.add("reset")),
+                BatchStep.of("transfer", List.of("reset"), c -> {
+                    restartCheckpoints.add(c.getRestartCheckpoint());
+                    c.checkpoint("2025-01-25:100", 100);
+                    if (crash[0]) {
+                        throw new IllegalStateException("DB 연결 끊김");
+                    }
+                    c.checkpoint("2025-01-25:150", 50);
+                }),
+                BatchStep.of("finish", List.of("transfer"), c -> executed.add("finish")));
+
+        //when
+        BatchStatus first = batchJobService.run("daily", runDate, steps);
+        BatchStatus skipped = stepExecutions.get("finish").getStatus();
+        crash[0] = false;
+        BatchStatus second = batchJobService.run("daily", runDate, steps);
+
+        //then
+        BatchStepExecution transfer = stepExecutions.get("transfer");
+        assertAll(
+                () -> assertEquals(BatchStatus.FAILED, first),
+                () -> assertEquals(BatchStatus.SKIPPED, skipped),
+                () -> assertEquals(BatchStatus.COMPLETED, second),
+                () -> assertEquals(List.of("reset", "finish"), executed),
+                () -> assertNull(restartCheckpoints.get(0)),
+                () -> assertEquals("2025-01-25:100", restartCheckpoints.get(1)),
+                () -> assertEquals("2025-01-25:150", transfer.getCheckpoint()),
+                () -> assertEquals(250, transfer.getProcessedCount())
+        );
+    }
+
+    @Test
+    @DisplayName("이미 완료된 작업은 다시 실행하지 않음")
+    void run_AlreadyCompleted() {
+        //given
+        BatchJobExecution completed = BatchJobExecution.builder().id(2L).jobName("done").runDate(runDate)
+                .status(BatchStatus.COMPLETED).build();
+        when(jobExecutionRepository.findByJobNameAndRunDate("done", runDate)).thenReturn(Optional.of(completed));
+
+        //when
+        BatchStatus result = batchJobService.run("done", runDate,
+                List.of(BatchStep.of("reset", c -> executed.add("reset"))));
+
+        //then
+        assertEquals(BatchStatus.COMPLETED, result);
+        assertEquals(List.of(), executed);
+        verify(jobExecutionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("파티션 단계 - 다른 노드가 lease 를 보유한 파티션은 실행하지 않고 완료될 때까지 대기")
+    void run_PartitionOwnedByOtherNode() {
+        //given
+        when(leaseService.tryAcquire("batch:daily:" + runDate + ":transfer:1")).thenAnswer(inv -> {
+            // 다른 노드가 실행을 마친 상태를 흉내
+            BatchStepExecution done = BatchStepExecution.of(1L, "transfer", 1);
+            done.finish(0, BatchStatus.COMPLETED, null);
+            stepExecutions.put(key("transfer", 1), done);
+            return Optional.empty();
+        });
+        List<BatchStep> steps = List.of(
+                BatchStep.partitioned("transfer", List.of(), 3, c -> executed.add("transfer#" + c.getPartition())));
+
+        //when
+        BatchStatus result = batchJobService.run("daily", runDate, steps);
+
+        //then
+        assertAll(
+                () -> assertEquals(BatchStatus.COMPLETED, result),
+                () -> assertEquals(List.of("transfer#0", "transfer#2"), executed.stream().sorted().toList()),
+                () -> assertEquals(3, stepExecutions.size())
+        );
+    }
+
+    @Test
+    @DisplayName("다른 노드의 단계를 기다리다 포기하면 후속 단계와 작업 결과를 기록하지 않음")
+    void run_WaitTimeoutLeavesStateToOwner() {
+        //given
+        ReflectionTestUtils.setField(batchJobService, "maxWaitMillis", 0L);
+        when(leaseService.tryAcquire("batch:daily:" + runDate + ":transfer:0")).thenReturn(Optional.empty());
+        List<BatchStep> steps = List.of(
+                BatchStep.of("transfer", c -> executed.add("transfer")),
+                BatchStep.of("finish", List.of("transfer"), c -> executed.add("finish")));
+
+        //when
+        BatchStatus result = batchJobService.run("daily", runDate, steps);
+
+        //then
+        assertAll(
+                () -> assertEquals(BatchStatus.STARTED, result),
+                () -> assertEquals(List.of(), executed),
+                () -> assertNull(stepExecutions.get("finish")),
+                () -> assertNull(stepExecutions.get("transfer"))
+        );
+        verify(jobExecutionRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 선행 단계 또는 순환 의존 시 예외")
+    void run_InvalidDependency() {
+        //given
+        List<BatchStep> unknown = List.of(BatchStep.of("transfer", List.of("reset"), c -> { }));
+        List<BatchStep> cycle = List.of(
+                BatchStep.of("a", List.of("b"), c -> { }),
+                BatchStep.of("b", List.of("a"), c -> { }));
+
+        //when & then
+        assertThrows(IllegalStateException.class, () -> batchJobService.run("daily", runDate, unknown));
+        assertThrows(IllegalStateException.class, () -> batchJobService.run("daily", runDate, cycle));
+    }
+}
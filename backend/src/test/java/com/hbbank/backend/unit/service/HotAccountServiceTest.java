@@ -0,0 +1,203 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.AccountBalanceBucket;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.domain.enums.AccountStatus;
+import com.hbbank.backend.exception.account.InvalidAccountStatusException;
+import com.hbbank.backend.exception.account.InvalidBucketCountException;
+import com.hbbank.backend.repository.AccountBalanceBucketRepository;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.service.HotAccountService;
+
+// HotAccountService 단위 테스트
+@ExtendWith(MockitoExtension.class)
+class HotAccountServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private AccountBalanceBucketRepository bucketRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private HotAccountService hotAccountService;
+
+    private Account from, hot;
+
+    @BeforeEach
+    @DisplayName("출금 계좌, 핫 계좌 생성")
+    void init() {
+        from = Account.builder()
+                .id(1L)
+                .status(AccountStatus.ACTIVE)
+                .accountNumber("1111111111")
+                .balance(new BigDecimal("5000"))
+                .user(User.builder().id(1L).build())
+                .build();
+        hot = Account.builder()
+                .id(2L)
+                .status(AccountStatus.ACTIVE)
+                .accountNumber("2222222222")
+                .balance(new BigDecimal("1000"))
+                .user(User.builder().id(2L).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("핫 계좌 지정 성공")
+    void enable_Success() {
+        //given
+        when(accountRepository.findByIdWithLock(hot.getId())).thenReturn(Optional.of(hot));
+
+        //when
+        Account result = hotAccountService.enable(hot.getId(), 8);
+
+        //then
+        assertAll(
+                () -> assertTrue(result.isHot()),
+                () -> assertEquals(8, result.getBalanceBucketCount()),
+                () -> assertTrue(hotAccountService.isHot(hot.getAccountNumber()))
+        );
+        verify(bucketRepository).saveAll(any());
+        verify(bucketRepository, never()).deleteAllByAccountId(anyLong());
+    }
+
+    @Test
+    @DisplayName("핫 계좌 지정 실패 - 버킷 수 범위 초과")
+    void enable_Fail_InvalidBucketCount() {
+        //when & then
+        assertThrows(InvalidBucketCountException.class, () -> hotAccountService.enable(hot.getId(), 1));
+        verify(accountRepository, never()).findByIdWithLock(anyLong());
+    }
+
+    @Test
+    @DisplayName("핫 계좌 해제 성공 - 버킷 잔액 합산 후 버킷 삭제")
+    void disable_Success() {
+        //given
+        hot.enableHotMode(2);
+        when(accountRepository.findByIdWithLock(hot.getId())).thenReturn(Optional.of(hot));
+        when(bucketRepository.findAllByAccountIdWithLock(hot.getId())).thenReturn(List.of(
+                bucket(0, "300"), bucket(1, "200")));
+
+        //when
+        Account result = hotAccountService.disable(hot.getId());
+
+        //then
+        assertAll(
+                () -> assertFalse(result.isHot()),
+                () -> assertEquals(new BigDecimal("1500"), result.getBalance()),
+                () -> assertFalse(hotAccountService.isHot(hot.getAccountNumber()))
+        );
+        verify(bucketRepository).deleteAllByAccountId(hot.getId());
+    }
+
+    @Test
+    @DisplayName("버킷 입금 성공 - 출금 계좌 ID로 버킷 선택")
+    void credit_Success() {
+        //given
+        hot.enableHotMode(4);
+        when(bucketRepository.addToBucket(hot.getId(), 1, new BigDecimal("100"))).thenReturn(1);
+
+        //when
+        hotAccountService.credit(from, hot, new BigDecimal("100"));
+
+        //then
+        assertEquals(new BigDecimal("1000"), hot.getBalance());
+        verify(bucketRepository).addToBucket(hot.getId(), 1, new BigDecimal("100"));
+    }
+
+    @Test
+    @DisplayName("버킷 입금 실패 - 비활성 계좌")
+    void credit_Fail_InvalidStatus() {
+        //given
+        Account closed = Account.builder()
+                .id(3L)
+                .status(AccountStatus.CLOSED)
+                .accountNumber("3333333333")
+                .balanceBucketCount(4)
+                .build();
+
+        //when & then
+        assertThrows(InvalidAccountStatusException.class,
+                () -> hotAccountService.credit(from, closed, new BigDecimal("100")));
+        verify(bucketRepository, never()).addToBucket(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("잔액 조회 - 핫 계좌는 버킷 잔액 포함")
+    void getBalance_HotAccount() {
+        //given
+        hot.enableHotMode(4);
+        when(bucketRepository.sumBalanceByAccountId(hot.getId())).thenReturn(new BigDecimal("700"));
+
+        //when
+        BigDecimal balance = hotAccountService.getBalance(hot);
+
+        //then
+        assertEquals(new BigDecimal("1700"), balance);
+    }
+
+    @Test
+    @DisplayName("계좌 목록 잔액 조회 - 핫 계좌 버킷 합계는 쿼리 한 번, 일반 계좌는 계좌 잔액 그대로")
+    void getBalances_SingleBucketQuery() {
+        //given
+        hot.enableHotMode(4);
+        Account otherHot = Account.builder()
+                .id(3L)
+                .accountNumber("3333333333")
+                .balance(new BigDecimal("500"))
+                .build();
+        otherHot.enableHotMode(2);
+        when(bucketRepository.sumBalanceByAccountIdIn(List.of(hot.getId(), otherHot.getId())))
+                .thenReturn(List.<Object[]>of(new Object[] {hot.getId(), new BigDecimal("700")}));
+
+        //when
+        Map<Long, BigDecimal> balances = hotAccountService.getBalances(List.of(from, hot, otherHot));
+
+        //then
+        assertAll(
+                () -> assertEquals(from.getBalance(), balances.get(from.getId())),
+                () -> assertEquals(new BigDecimal("1700"), balances.get(hot.getId())),
+                () -> assertEquals(new BigDecimal("500"), balances.get(otherHot.getId()))
+        );
+        verify(bucketRepository, times(1)).sumBalanceByAccountIdIn(any());
+        verify(bucketRepository, never()).sumBalanceByAccountId(anyLong());
+    }
+
+    private AccountBalanceBucket bucket(int bucketNo, String balance) {
+        return AccountBalanceBucket.builder()
+                .account(hot)
+                .bucketNo(bucketNo)
+                .balance(new BigDecimal(balance))
+                .build();
+    }
+}
@@ -0,0 +1,122 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.hbbank.backend.service.IdNodeService;
+import com.hbbank.backend.service.SchedulerLease;
+import com.hbbank.backend.service.SchedulerLeaseService;
+import com.hbbank.backend.util.TimeOrderedIdGenerator;
+
+/*
+ * IdNodeService 단위 테스트
+ * 테스트 JVM 은 hbbank.node-id 로 노드 ID 를 고정하므로, lease 배정을 확인할 때는 속성을 지웠다가 되돌린다.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdNodeServiceTest {
+
+    @Mock
+    private SchedulerLeaseService leaseService;
+
+    @InjectMocks
+    private IdNodeService idNodeService;
+
+    private String configuredNodeId;
+
+    @BeforeEach
+    @DisplayName("고정 노드 ID 해제")
+    void init() {
+        configuredNodeId = System.clearProperty("hbbank.node-id");
+        lenient().when(leaseService.tryAcquire(anyString())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (configuredNodeId != null) {
+            System.setProperty("hbbank.node-id", configuredNodeId);
+        }
+        TimeOrderedIdGenerator.assign(0, () -> true);
+    }
+
+    @Test
+    @DisplayName("노드 ID 배정 - 다른 노드가 쓰는 번호는 건너뛰고 처음 획득한 lease 번호 사용")
+    void assign_FirstFreeNode() {
+        //given
+        when(leaseService.tryAcquire("id-node:1")).thenReturn(Optional.of(lease("id-node:1")));
+
+        //when
+        idNodeService.assign();
+
+        //then
+        assertEquals(1L, nodeIdOf(TimeOrderedIdGenerator.next()));
+        verify(leaseService).tryAcquire("id-node:0");
+        verify(leaseService, never()).tryAcquire("id-node:2");
+    }
+
+    @Test
+    @DisplayName("노드 ID 배정 실패 - 획득할 수 있는 lease 가 없으면 기동 실패")
+    void assign_Fail_NoneAvailable() {
+        //when & then
+        assertThrows(IllegalStateException.class, () -> idNodeService.assign());
+        verify(leaseService, times((int) TimeOrderedIdGenerator.MAX_NODE_ID + 1)).tryAcquire(anyString());
+    }
+
+    @Test
+    @DisplayName("노드 ID 고정 - 설정값이 있으면 lease 를 잡지 않음")
+    void assign_Configured() {
+        //given
+        System.setProperty("hbbank.node-id", "7");
+
+        //when
+        idNodeService.assign();
+
+        //then
+        verify(leaseService, never()).tryAcquire(anyString());
+    }
+
+    @Test
+    @DisplayName("lease 상실 - 즉시 발급을 멈추고 다음 점검에서 새 노드 ID 배정")
+    void checkLease_Reassign() {
+        //given
+        SchedulerLease first = lease("id-node:0");
+        when(leaseService.tryAcquire("id-node:0")).thenReturn(Optional.of(first)).thenReturn(Optional.empty());
+        when(leaseService.tryAcquire("id-node:1")).thenReturn(Optional.of(lease("id-node:1")));
+        idNodeService.assign();
+        TimeOrderedIdGenerator.next();
+
+        //when
+        first.close();
+        assertThrows(IllegalStateException.class, TimeOrderedIdGenerator::next);
+        idNodeService.checkLease();
+
+        //then
+        assertEquals(1L, nodeIdOf(TimeOrderedIdGenerator.next()));
+    }
+
+    private SchedulerLease lease(String name) {
+        return new SchedulerLease(name, "node-1:" + name, l -> {
+        });
+    }
+
+    // [41비트 타임스탬프][10비트 노드 ID][12비트 시퀀스]
+    private long nodeIdOf(long id) {
+        return (id >> 12) & TimeOrderedIdGenerator.MAX_NODE_ID;
+    }
+}
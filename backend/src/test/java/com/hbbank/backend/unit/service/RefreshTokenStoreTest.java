@@ -0,0 +1,120 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import com.hbbank.backend.service.RefreshTokenStore;
+import com.hbbank.backend.service.RefreshTokenStore.Rotation;
+import com.hbbank.backend.util.TokenHasher;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenStoreTest {
+
+    private static final String FAMILY_KEY = "refresh-family:{1}:family-1";
+    private static final String SESSIONS_KEY = "refresh-sessions:{1}";
+    private static final String GRACE_KEY = "refresh-grace:{1}:family-1";
+    private static final String TTL = String.valueOf(Duration.ofDays(14).toMillis());
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private RefreshTokenStore refreshTokenStore;
+
+    @BeforeEach
+    void init() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("family 생성 - 원문 대신 해시를 14일 TTL 로 저장하고 세션 목록에 추가 (같은 해시 슬롯)")
+    void createFamily() {
+        // when
+        refreshTokenStore.createFamily(1L, "family-1", "refresh.token");
+
+        // then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(FAMILY_KEY, SESSIONS_KEY)),
+                eq(TokenHasher.sha256("refresh.token")), eq(TTL), eq("family-1"), eq("refresh-family:{1}:"));
+    }
+
+    @Test
+    @DisplayName("현재 토큰 확인 - family 에 저장된 해시와 비교")
+    void isCurrent() {
+        // given
+        when(valueOperations.get(FAMILY_KEY)).thenReturn(TokenHasher.sha256("refresh.token"));
+
+        // when & then
+        assertTrue(refreshTokenStore.isCurrent(1L, "family-1", "refresh.token"));
+        assertFalse(refreshTokenStore.isCurrent(1L, "family-1", "used.token"));
+    }
+
+    @Test
+    @DisplayName("교체 - 스크립트 결과를 교체 성공/동시 갱신 유예/재사용 감지/family 없음으로 변환 (유예 키도 같은 해시 슬롯, 토큰 원문은 전달하지 않음)")
+    void rotate() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(FAMILY_KEY, SESSIONS_KEY, GRACE_KEY)),
+                eq(TokenHasher.sha256("old.token")), eq(TokenHasher.sha256("new.token")), eq(TTL), eq("family-1"),
+                eq("10000")))
+                .thenReturn("ROTATED")
+                .thenReturn("GRACE")
+                .thenReturn("REUSED")
+                .thenReturn(null);
+
+        // when & then
+        assertEquals(Rotation.ROTATED, refreshTokenStore.rotate(1L, "family-1", "old.token", "new.token"));
+        assertEquals(Rotation.GRACE, refreshTokenStore.rotate(1L, "family-1", "old.token", "new.token"));
+        assertEquals(Rotation.REUSED, refreshTokenStore.rotate(1L, "family-1", "old.token", "new.token"));
+        assertEquals(Rotation.NOT_FOUND, refreshTokenStore.rotate(1L, "family-1", "old.token", "new.token"));
+    }
+
+    @Test
+    @DisplayName("전체 폐기 - 세션 목록의 family 전부와 이전 방식 키 삭제, 폐기한 family 반환")
+    void revokeAll() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(SESSIONS_KEY)), eq("refresh-family:{1}:")))
+                .thenReturn(List.of("family-1", "family-2"));
+
+        // when
+        List<String> familyIds = refreshTokenStore.revokeAll(1L);
+
+        // then
+        assertEquals(List.of("family-1", "family-2"), familyIds);
+        verify(redisTemplate).delete("refresh-token:1");
+    }
+
+    @Test
+    @DisplayName("이전 방식 토큰 소모 - 일치하면 삭제 후 true")
+    void consumeLegacy() {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("refresh-token:1")),
+                eq(TokenHasher.sha256("legacy.token"))))
+                .thenReturn(1L)
+                .thenReturn(0L);
+
+        // when & then
+        assertTrue(refreshTokenStore.consumeLegacy(1L, "legacy.token"));
+        assertFalse(refreshTokenStore.consumeLegacy(1L, "legacy.token"));
+    }
+}
@@ -0,0 +1,148 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.ReserveTransfer;
+import com.hbbank.backend.domain.enums.TransferStatus;
+import com.hbbank.backend.repository.ReserveTransferRepository;
+import com.hbbank.backend.service.ReserveTransferChangedEvent;
+import com.hbbank.backend.service.ReserveTransferDispatcher;
+import com.hbbank.backend.service.ReserveTransferService;
+import com.hbbank.backend.service.SchedulerLease;
+import com.hbbank.backend.service.SchedulerLeaseService;
+import com.hbbank.backend.util.HashedTimingWheel;
+
+@ExtendWith(MockitoExtension.class)
+class ReserveTransferDispatcherTest {
+
+    @Mock
+    private ReserveTransferRepository reserveTransferRepository;
+    @Mock
+    private ReserveTransferService reserveTransferService;
+    @Mock
+    private SchedulerLeaseService leaseService;
+
+    @InjectMocks
+    private ReserveTransferDispatcher dispatcher;
+
+    @BeforeEach
+    @DisplayName("10ms tick 으로 디스패처 시작, 파티션 2개")
+    void init() {
+        ReflectionTestUtils.setField(dispatcher, "tickMillis", 10L);
+        ReflectionTestUtils.setField(dispatcher, "partitions", 2);
+        lenient().when(leaseService.getNodeId()).thenReturn("node-1");
+        lenient().when(reserveTransferService.claimDue(anyString(), anyInt())).thenReturn(List.of());
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("재조정 - 선점 만료 복구, lease 를 획득한 파티션만 조회해 실행 시각에 워커가 선점 시작")
+    void reconcile_OwnedPartitionsOnly() {
+        //given
+        when(leaseService.tryAcquire(anyString())).thenAnswer(inv -> "reserve-transfer:1".equals(inv.getArgument(0))
+                ? Optional.of(new SchedulerLease(inv.getArgument(0), "token", lease -> { }))
+                : Optional.empty());
+        when(reserveTransferRepository.findAllDueUntil(any(LocalDateTime.class), eq(2), eq(1)))
+                .thenReturn(List.of(reserveTransfer(7L, LocalDateTime.now().plusNanos(200_000_000))));
+
+        //when
+        dispatcher.reconcile();
+
+        //then
+        verify(reserveTransferService).releaseExpiredClaims();
+        verify(reserveTransferRepository, never()).findAllDueUntil(any(LocalDateTime.class), eq(2), eq(0));
+        verify(reserveTransferService, after(100).never()).claimDue(anyString(), anyInt());
+        verify(reserveTransferService, timeout(2000).atLeastOnce()).claimDue(startsWith("node-1:"), eq(50));
+    }
+
+    @Test
+    @DisplayName("등록/수정 이벤트는 휠에 바로 반영, 삭제 이벤트는 휠에서 제거")
+    void onChanged_ScheduleAndCancel() {
+        //given
+        LocalDateTime dueAt = LocalDateTime.now().plusNanos(300_000_000);
+
+        //when
+        dispatcher.onChanged(new ReserveTransferChangedEvent(1L, 1L, LocalDateTime.now(), true));
+        dispatcher.onChanged(new ReserveTransferChangedEvent(2L, 1L, dueAt, true));
+        dispatcher.onChanged(ReserveTransferChangedEvent.removed(2L, 1L));
+
+        //then
+        verify(reserveTransferService, timeout(2000).atLeastOnce()).claimDue(anyString(), anyInt());
+        assertFalse(wheel().contains(2L));
+        verify(reserveTransferRepository, never()).findAllDueUntil(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("워커 - 선점할 건이 없을 때까지 같은 선점 토큰으로 실행, 실패 건은 재시도 일시로 휠에 재등록")
+    void requestDrain_ExecuteClaimed() {
+        //given
+        LocalDateTime retryAt = LocalDateTime.now().plusMinutes(1);
+        ReflectionTestUtils.setField(dispatcher, "workers", 1);
+        when(reserveTransferService.claimDue(anyString(), anyInt()))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of());
+        when(reserveTransferService.executeClaimed(eq(1L), anyString())).thenReturn(Optional.empty());
+        when(reserveTransferService.executeClaimed(eq(2L), anyString())).thenReturn(Optional.of(retryAt));
+
+        //when
+        dispatcher.requestDrain();
+
+        //then
+        ArgumentCaptor<String> tokens = ArgumentCaptor.forClass(String.class);
+        verify(reserveTransferService, timeout(2000)).executeClaimed(eq(1L), tokens.capture());
+        verify(reserveTransferService, timeout(2000)).executeClaimed(eq(2L), tokens.capture());
+        verify(reserveTransferService, timeout(2000).times(2)).claimDue(anyString(), anyInt());
+        assertEquals(tokens.getAllValues().get(0), tokens.getAllValues().get(1));
+        assertTrue(wheel().contains(2L));
+        assertFalse(wheel().contains(1L));
+    }
+
+    @SuppressWarnings("unchecked")
+    private HashedTimingWheel<Long> wheel() {
+        return (HashedTimingWheel<Long>) ReflectionTestUtils.getField(dispatcher, "wheel");
+    }
+
+    private ReserveTransfer reserveTransfer(Long id, LocalDateTime reservedAt) {
+        return ReserveTransfer.builder()
+                .id(id)
+                .fromAccount(Account.builder().id(1L).build())
+                .status(TransferStatus.ACTIVE)
+                .reservedAt(reservedAt)
+                .nextAttemptAt(reservedAt)
+                .build();
+    }
+}
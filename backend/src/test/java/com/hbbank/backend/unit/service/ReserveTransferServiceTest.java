@@ -12,7 +12,9 @@ import java.util.Optional;
 
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 import com.hbbank.backend.exception.reserveTransfer.InvalidReserveTransferPasswordException;
+import com.hbbank.backend.exception.reserveTransfer.InvalidReserveTransferStatusException;
 import com.hbbank.backend.exception.reserveTransfer.ReserveTransferNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,6 +22,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.ReserveTransfer;
@@ -42,10 +47,21 @@ class ReserveTransferServiceTest {
     private TransferService transferService;
     @Mock
     private PasswordEncoder encoder;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private ReserveTransferService reserveTransferService;
 
+    @BeforeEach
+    @DisplayName("트랜잭션 콜백 즉시 실행")
+    void init() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
     @DisplayName("예약이체 등록 성공")
     void register_Success() {
@@ -204,7 +220,7 @@ class ReserveTransferServiceTest {
                 .reservedAt(LocalDateTime.now().plusDays(1))
                 .build();
 
-        when(reserveTransferRepository.findById(id)).thenReturn(Optional.of(existingTransfer));
+        when(reserveTransferRepository.findByIdForUpdate(id)).thenReturn(Optional.of(existingTransfer));
         when(accountRepository.findByIdWithUser(1L)).thenReturn(Optional.of(fromAccount));
         when(encoder.matches(dto.getPassword(), fromAccount.getPassword())).thenReturn(true);
         when(reserveTransferRepository.save(any(ReserveTransfer.class))).thenReturn(existingTransfer);
@@ -219,7 +235,7 @@ class ReserveTransferServiceTest {
                 () -> assertEquals(dto.getDescription(), result.getDescription()),
                 () -> assertEquals(dto.getReservedAt(), result.getReservedAt())
         );
-        verify(reserveTransferRepository).findById(id);
+        verify(reserveTransferRepository).findByIdForUpdate(id);
         verify(accountRepository).findByIdWithUser(1L);
         verify(encoder).matches(dto.getPassword(), fromAccount.getPassword());
         verify(reserveTransferRepository).save(any(ReserveTransfer.class));
@@ -240,11 +256,11 @@ class ReserveTransferServiceTest {
                 .password("1234")
                 .build();
 
-        when(reserveTransferRepository.findById(id)).thenReturn(Optional.empty());
+        when(reserveTransferRepository.findByIdForUpdate(id)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(ReserveTransferNotFoundException.class, () -> reserveTransferService.update(id, dto));
-        verify(reserveTransferRepository).findById(id);
+        verify(reserveTransferRepository).findByIdForUpdate(id);
         verifyNoInteractions(accountRepository, encoder);
     }
 
@@ -278,17 +294,53 @@ class ReserveTransferServiceTest {
                 .status(TransferStatus.ACTIVE)
                 .build();
 
-        when(reserveTransferRepository.findById(id)).thenReturn(Optional.of(existingTransfer));
+        when(reserveTransferRepository.findByIdForUpdate(id)).thenReturn(Optional.of(existingTransfer));
         when(accountRepository.findByIdWithUser(1L)).thenReturn(Optional.of(fromAccount));
         when(encoder.matches(dto.getPassword(), fromAccount.getPassword())).thenReturn(false);
 
         // when & then
         assertThrows(InvalidReserveTransferPasswordException.class, () -> reserveTransferService.update(id, dto));
-        verify(reserveTransferRepository).findById(id);
+        verify(reserveTransferRepository).findByIdForUpdate(id);
         verify(accountRepository).findByIdWithUser(1L);
         verify(encoder).matches(dto.getPassword(), fromAccount.getPassword());
     }
 
+    @Test
+    @DisplayName("예약이체 수정 실패 - 완료된 예약이체는 ACTIVE 로 되돌리지 않음")
+    void update_Fail_Completed() {
+        // given
+        ReserveTransfer completed = reserveTransfer(0, LocalDateTime.now().minusMinutes(1));
+        completed.updateStatus(true);
+        ReserveTransferRequestDTO dto = ReserveTransferRequestDTO.builder()
+                .userId(1L)
+                .fromAccountId(1L)
+                .toAccountNumber("123456789012345")
+                .amount(new BigDecimal("20000"))
+                .reservedAt(LocalDateTime.now().plusDays(1))
+                .password("1234")
+                .build();
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(completed));
+
+        // when & then
+        assertThrows(InvalidReserveTransferStatusException.class, () -> reserveTransferService.update(1L, dto));
+        assertEquals(TransferStatus.COMPLETED, completed.getStatus());
+        verify(reserveTransferRepository, never()).save(any());
+        verifyNoInteractions(accountRepository, encoder, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("예약이체 삭제 실패 - 워커가 실행 중인 예약이체")
+    void delete_Fail_InProgress() {
+        // given
+        ReserveTransfer inProgress = claimed(0);
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(inProgress));
+
+        // when & then
+        assertThrows(InvalidReserveTransferStatusException.class, () -> reserveTransferService.delete(1L));
+        verify(reserveTransferRepository, never()).delete(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
     @Test
     @DisplayName("예약이체 조회 성공")
     void findById_Success() {
@@ -385,164 +437,168 @@ class ReserveTransferServiceTest {
     }
 
     @Test
-    @DisplayName("예약이체 실행 성공")
-    void executeReserveTransfers_Success() {
+    @DisplayName("예약이체 선점 - SKIP LOCKED 로 잠근 행을 IN_PROGRESS 로 바꾸고 선점 만료 일시 기록")
+    void claimDue_Success() {
         // given
-        LocalDateTime now = LocalDateTime.now();
-        Account account = Account.builder()
-                .id(1L)
-                .accountNumber("987654321012345")
-                .balance(new BigDecimal("50000"))
-                .user(User.builder().id(1L).build())
-                .build();
+        ReserveTransfer transfer1 = reserveTransfer(0, LocalDateTime.now().minusSeconds(2));
+        ReserveTransfer transfer2 = reserveTransfer(0, LocalDateTime.now().minusSeconds(1)).toBuilder().id(2L).build();
+        when(reserveTransferRepository.lockDueForClaim(any(LocalDateTime.class), eq(10)))
+                .thenReturn(List.of(transfer1, transfer2));
 
-        ReserveTransfer transfer1 = ReserveTransfer.builder()
-                .id(1L)
-                .fromAccount(account)
-                .toAccountNumber("123456789012345")
-                .amount(new BigDecimal("10000"))
-                .description("첫번째 이체")
-                .status(TransferStatus.ACTIVE)
-                .reservedAt(now.minusMinutes(1))
-                .build();
+        // when
+        List<Long> claimed = reserveTransferService.claimDue("node-1:token", 10);
 
-        ReserveTransfer transfer2 = ReserveTransfer.builder()
-                .id(2L)
-                .fromAccount(account)
-                .toAccountNumber("987654321012345")
-                .amount(new BigDecimal("20000"))
-                .description("두번째 이체")
-                .status(TransferStatus.ACTIVE)
-                .reservedAt(now.minusMinutes(2))
-                .build();
+        // then
+        verify(reserveTransferRepository).saveAll(List.of(transfer1, transfer2));
+        assertEquals(List.of(1L, 2L), claimed);
+        assertEquals(TransferStatus.IN_PROGRESS, transfer1.getStatus());
+        assertTrue(transfer2.isClaimedBy("node-1:token"));
+        assertTrue(transfer1.getLeaseExpiresAt().isAfter(LocalDateTime.now()));
+    }
 
-        when(reserveTransferRepository.findAllPendingTransfers(any(LocalDateTime.class)))
-                .thenReturn(Optional.of(Arrays.asList(transfer1, transfer2)));
+    @Test
+    @DisplayName("예약이체 실행 성공 - 선점 해제 후 완료, 다음 실행 없음")
+    void executeClaimed_Success() {
+        // given
+        ReserveTransfer transfer = claimed(0);
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(true);
 
         // when
-        reserveTransferService.executeReserveTransfers();
+        Optional<LocalDateTime> next = reserveTransferService.executeClaimed(1L, "token");
 
         // then
-        verify(reserveTransferRepository).findAllPendingTransfers(any(LocalDateTime.class));
-        verify(transferService, times(2)).transfer(any(TransferRequestDTO.class));
-        verify(reserveTransferRepository, times(2)).save(any(ReserveTransfer.class));
-        assertEquals(TransferStatus.COMPLETED, transfer1.getStatus());
-        assertEquals(TransferStatus.COMPLETED, transfer2.getStatus());
+        verify(transferService).transfer(any(TransferRequestDTO.class));
+        verify(reserveTransferRepository).save(transfer);
+        assertEquals(TransferStatus.COMPLETED, transfer.getStatus());
+        assertNotNull(transfer.getCompletedAt());
+        assertNull(transfer.getClaimedBy());
+        assertTrue(next.isEmpty());
     }
 
     @Test
     @DisplayName("예약이체 실행 실패 - 3회 실패 시 일시정지")
-    void executeReserveTransfers_FailThreeTimes() {
+    void executeClaimed_FailThreeTimes() {
         // given
-        LocalDateTime now = LocalDateTime.now();
-        Account account = Account.builder()
-                .id(1L)
-                .accountNumber("987654321012345")
-                .balance(new BigDecimal("50000"))
-                .user(User.builder().id(1L).build())
-                .build();
-
-        ReserveTransfer transfer = ReserveTransfer.builder()
-                .id(1L)
-                .fromAccount(account)
-                .toAccountNumber("123456789012345")
-                .amount(new BigDecimal("10000"))
-                .description("실패하는 이체")
-                .status(TransferStatus.ACTIVE)
-                .reservedAt(now.minusMinutes(1))
-                .failureCount(2)
-                .build();
-
-        when(reserveTransferRepository.findAllPendingTransfers(any(LocalDateTime.class)))
-                .thenReturn(Optional.of(List.of(transfer)));
+        ReserveTransfer transfer = claimed(2);
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
         when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(false);
 
         // when
-        reserveTransferService.executeReserveTransfers();
+        Optional<LocalDateTime> next = reserveTransferService.executeClaimed(1L, "token");
 
         // then
-        verify(reserveTransferRepository).findAllPendingTransfers(any(LocalDateTime.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(reserveTransferRepository).save(transfer);
         assertEquals(TransferStatus.PAUSED, transfer.getStatus());
         assertEquals(3, transfer.getFailureCount());
+        assertTrue(next.isEmpty());
     }
 
     @Test
-    @DisplayName("예약이체 실행 실패 - 예외 발생")
-    void executeReserveTransfers_Exception() {
+    @DisplayName("예약이체 실행 실패 - 예외 발생 시 별도 트랜잭션으로 실패 횟수 기록 후 선점 해제, 재시도 일시 지정")
+    void executeClaimed_Exception() {
         // given
-        LocalDateTime now = LocalDateTime.now();
-        Account account = Account.builder()
-                .id(1L)
-                .accountNumber("987654321012345")
-                .balance(new BigDecimal("50000"))
-                .user(User.builder().id(1L).build())
-                .build();
-
-        ReserveTransfer transfer = ReserveTransfer.builder()
-                .id(1L)
-                .fromAccount(account)
-                .toAccountNumber("123456789012345")
-                .amount(new BigDecimal("10000"))
-                .description("예외 발생 이체")
-                .status(TransferStatus.ACTIVE)
-                .reservedAt(now.minusMinutes(1))
-                .failureCount(0)
-                .build();
-
-        when(reserveTransferRepository.findAllPendingTransfers(any(LocalDateTime.class)))
-                .thenReturn(Optional.of(List.of(transfer)));
+        ReserveTransfer transfer = claimed(0);
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
         when(transferService.transfer(any(TransferRequestDTO.class)))
                 .thenThrow(new RuntimeException("이체 실행 중 오류 발생"));
 
         // when
-        reserveTransferService.executeReserveTransfers();
+        Optional<LocalDateTime> next = reserveTransferService.executeClaimed(1L, "token");
 
         // then
-        verify(reserveTransferRepository).findAllPendingTransfers(any(LocalDateTime.class));
         verify(transferService).transfer(any(TransferRequestDTO.class));
         verify(reserveTransferRepository).save(transfer);
         assertEquals(1, transfer.getFailureCount());
         assertEquals(TransferStatus.ACTIVE, transfer.getStatus());
+        assertTrue(next.isPresent());
+        assertTrue(next.get().isAfter(LocalDateTime.now().plusSeconds(50)));
+    }
+
+    @Test
+    @DisplayName("예약이체 실행 실패 - 잔액 부족 시 재시도 간격 뒤로 다음 실행 일시 지정")
+    void executeClaimed_InsufficientBalance() {
+        // given
+        ReserveTransfer transfer = claimed(0);
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+        when(transferService.transfer(any(TransferRequestDTO.class))).thenReturn(false);
+
+        // when
+        Optional<LocalDateTime> next = reserveTransferService.executeClaimed(1L, "token");
+
+        // then
+        verify(reserveTransferRepository).save(transfer);
+        assertEquals(TransferStatus.ACTIVE, transfer.getStatus());
+        assertEquals(transfer.getNextAttemptAt(), next.orElseThrow());
+        assertTrue(transfer.getNextAttemptAt().isAfter(transfer.getReservedAt()));
+    }
+
+    @Test
+    @DisplayName("예약이체 실행 건너뜀 - 선점 만료 후 다른 워커가 다시 선점")
+    void executeClaimed_ClaimLost() {
+        // given
+        ReserveTransfer transfer = claimed(0);
+        transfer.claim("other-token", LocalDateTime.now().plusMinutes(5));
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+
+        // when
+        Optional<LocalDateTime> next = reserveTransferService.executeClaimed(1L, "token");
+
+        // then
+        verifyNoInteractions(transferService);
+        verify(reserveTransferRepository, never()).save(any(ReserveTransfer.class));
+        assertTrue(next.isEmpty());
+    }
+
+    @Test
+    @DisplayName("예약이체 선점 만료 복구")
+    void releaseExpiredClaims_Success() {
+        // given
+        when(reserveTransferRepository.releaseExpiredClaims(any(LocalDateTime.class),
+                eq(TransferStatus.ACTIVE), eq(TransferStatus.IN_PROGRESS))).thenReturn(3);
+
+        // when & then
+        assertEquals(3, reserveTransferService.releaseExpiredClaims());
     }
 
     @Test
-    @DisplayName("예약이체 실행 실패 - 잔액 부족")
-    void executeReserveTransfers_InsufficientBalance() {
+    @DisplayName("예약이체 등록/삭제 시 디스패처에 변경 이벤트 발행")
+    void register_Delete_PublishEvent() {
         // given
-        LocalDateTime now = LocalDateTime.now();
+        ReserveTransfer transfer = reserveTransfer(0, LocalDateTime.now().plusMinutes(1));
+        when(reserveTransferRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(transfer));
+
+        // when
+        reserveTransferService.delete(1L);
+
+        // then
+        verify(eventPublisher).publishEvent(ReserveTransferChangedEvent.removed(1L, 1L));
+    }
+
+    private ReserveTransfer claimed(int failureCount) {
+        ReserveTransfer transfer = reserveTransfer(failureCount, LocalDateTime.now().minusSeconds(1));
+        transfer.claim("token", LocalDateTime.now().plusMinutes(5));
+        return transfer;
+    }
+
+    private ReserveTransfer reserveTransfer(int failureCount, LocalDateTime dueAt) {
         Account account = Account.builder()
                 .id(1L)
                 .accountNumber("987654321012345")
-                .balance(new BigDecimal("5000"))
+                .balance(new BigDecimal("50000"))
                 .user(User.builder().id(1L).build())
                 .build();
-
-        ReserveTransfer transfer = ReserveTransfer.builder()
+        return ReserveTransfer.builder()
                 .id(1L)
                 .fromAccount(account)
                 .toAccountNumber("123456789012345")
                 .amount(new BigDecimal("10000"))
-                .description("잔액 부족 이체")
+                .description("예약 이체")
                 .status(TransferStatus.ACTIVE)
-                .reservedAt(now.minusMinutes(1))
-                .failureCount(0)
+                .reservedAt(dueAt)
+                .nextAttemptAt(dueAt)
+                .failureCount(failureCount)
                 .build();
-
-        when(reserveTransferRepository.findAllPendingTransfers(any(LocalDateTime.class)))
-                .thenReturn(Optional.of(List.of(transfer)));
-        when(transferService.transfer(any(TransferRequestDTO.class)))
-                .thenReturn(false);
-
-        // when
-        reserveTransferService.executeReserveTransfers();
-
-        // then
-        verify(reserveTransferRepository).findAllPendingTransfers(any(LocalDateTime.class));
-        verify(transferService).transfer(any(TransferRequestDTO.class));
-        verify(reserveTransferRepository).save(transfer);
-        assertEquals(TransferStatus.ACTIVE, transfer.getStatus());
     }
 }
@@ -0,0 +1,95 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hbbank.backend.service.SchedulerLease;
+import com.hbbank.backend.service.SchedulerLeaseService;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaseServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private SchedulerLeaseService leaseService;
+
+    @BeforeEach
+    @DisplayName("노드 ID 고정")
+    void init() {
+        ReflectionTestUtils.setField(leaseService, "nodeId", "node-1");
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @AfterEach
+    void tearDown() {
+        leaseService.shutdown();
+    }
+
+    @Test
+    @DisplayName("lease 획득 성공 - 노드 ID 가 포함된 토큰으로 저장, 반납 시 토큰 비교 후 삭제")
+    void tryAcquire_Success() {
+        //given
+        when(valueOperations.setIfAbsent(eq("scheduler:lease:batch:daily"), anyString(), any(Duration.class)))
+                .thenReturn(true);
+
+        //when
+        Optional<SchedulerLease> lease = leaseService.tryAcquire("batch:daily");
+        lease.ifPresent(SchedulerLease::close);
+
+        //then
+        assertTrue(lease.isPresent());
+        assertTrue(lease.get().getToken().startsWith("node-1:"));
+        assertFalse(lease.get().isHeld());
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("scheduler:lease:batch:daily")),
+                eq(lease.get().getToken()));
+    }
+
+    @Test
+    @DisplayName("lease 획득 실패 - 다른 노드가 보유 중")
+    void tryAcquire_Fail_HeldByOtherNode() {
+        //given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        //when & then
+        assertTrue(leaseService.tryAcquire("batch:daily").isEmpty());
+    }
+
+    @Test
+    @DisplayName("lease 획득 실패 - Redis 장애 시 실행하지 않도록 empty")
+    void tryAcquire_Fail_RedisDown() {
+        //given
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        //when & then
+        assertTrue(leaseService.tryAcquire("batch:daily").isEmpty());
+    }
+}
@@ -0,0 +1,186 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.doubleThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.hbbank.backend.service.TokenDenylistService;
+import com.hbbank.backend.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+class TokenDenylistServiceTest {
+
+    private static final String DENYLIST_KEY = "token:denylist";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private TokenDenylistService tokenDenylistService;
+
+    @BeforeEach
+    @DisplayName("Redis 폐기 목록이 비어 있는 상태로 Bloom filter 생성")
+    void init() {
+        lenient().when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(zSetOperations.zCard(DENYLIST_KEY)).thenReturn(0L);
+        lenient().when(zSetOperations.rangeByScore(eq(DENYLIST_KEY), anyDouble(), anyDouble())).thenReturn(Set.of());
+        tokenDenylistService.init();
+    }
+
+    @Test
+    @DisplayName("폐기되지 않은 토큰 - Bloom filter 에 없으므로 Redis 조회 없이 통과")
+    void isRevoked_BloomNegative_NoRedisLookup() {
+        //when & then
+        assertFalse(tokenDenylistService.isRevoked("jti-1", "family-1"));
+        verify(zSetOperations, never()).score(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 폐기 - 만료 시각을 score 로 저장, 발행, 이후 요청은 Redis 확인 후 거부")
+    void revokeAccessToken() {
+        //given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        when(zSetOperations.score(DENYLIST_KEY, "jti:jti-1")).thenReturn((double) expiration.getTime());
+
+        //when
+        tokenDenylistService.revokeAccessToken("jti-1", expiration);
+
+        //then
+        verify(zSetOperations).add(DENYLIST_KEY, "jti:jti-1", expiration.getTime());
+        verify(redisTemplate).convertAndSend(TokenDenylistService.REVOKED_CHANNEL, "jti:jti-1");
+        assertTrue(tokenDenylistService.isRevoked("jti-1", null));
+    }
+
+    @Test
+    @DisplayName("family 폐기 - 액세스 토큰 유효기간 동안 유지, 같은 family 의 모든 토큰 거부")
+    void revokeFamily() {
+        //given
+        long now = System.currentTimeMillis();
+        when(zSetOperations.score(DENYLIST_KEY, "fid:family-1")).thenReturn((double) now + 60_000);
+
+        //when
+        tokenDenylistService.revokeFamily("family-1");
+
+        //then
+        verify(zSetOperations).add(eq(DENYLIST_KEY), eq("fid:family-1"),
+                doubleThat(score -> score >= now + JwtUtil.ACCESS_TOKEN_EXPIRE_TIME));
+        assertTrue(tokenDenylistService.isRevoked("other-jti", "family-1"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 메시지 수신 - Bloom filter 에 추가되어 Redis 확인 대상이 됨")
+    void onMessage_AddToBloomFilter() {
+        //given
+        when(zSetOperations.score(DENYLIST_KEY, "jti:jti-2")).thenReturn((double) System.currentTimeMillis() + 60_000);
+
+        //when
+        tokenDenylistService.onMessage(new DefaultMessage(TokenDenylistService.REVOKED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti:jti-2".getBytes(StandardCharsets.UTF_8)), null);
+
+        //then
+        assertTrue(tokenDenylistService.isRevoked("jti-2", null));
+    }
+
+    @Test
+    @DisplayName("재구성 - 만료 항목 정리 후 남은 항목으로 Bloom filter 생성, 만료 score 는 폐기 아님")
+    void rebuild_LoadsEntries() {
+        //given
+        long now = System.currentTimeMillis();
+        when(zSetOperations.rangeByScore(eq(DENYLIST_KEY), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("jti:jti-3", "fid:family-3"));
+        when(zSetOperations.score(DENYLIST_KEY, "jti:jti-3")).thenReturn((double) now + 60_000);
+        when(zSetOperations.score(DENYLIST_KEY, "fid:family-3")).thenReturn((double) now - 1);
+
+        //when
+        tokenDenylistService.rebuild();
+
+        //then
+        verify(zSetOperations, atLeastOnce())
+                .removeRangeByScore(eq(DENYLIST_KEY), eq(Double.NEGATIVE_INFINITY), doubleThat(max -> max >= now));
+        assertTrue(tokenDenylistService.isRevoked("jti-3", null));
+        assertFalse(tokenDenylistService.isRevoked(null, "family-3"));
+    }
+
+    @Test
+    @DisplayName("Bloom filter 양성인데 Redis 확인 실패 - 폐기 여부를 알 수 없으므로 서명/만료 검증 결과만 따름")
+    void isRevoked_RedisDown_FallBackToSignature() {
+        //given
+        tokenDenylistService.onMessage(new DefaultMessage(TokenDenylistService.REVOKED_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "jti:jti-4".getBytes(StandardCharsets.UTF_8)), null);
+        when(zSetOperations.score(DENYLIST_KEY, "jti:jti-4")).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        //when & then
+        assertFalse(tokenDenylistService.isRevoked("jti-4", null));
+    }
+
+    @Test
+    @DisplayName("기동 중 Redis 장애 - 필터 없이 기동, 요청은 거부하지 않고 backoff 후 요청 처리 중 필터 생성")
+    void init_RedisDown_BuildsLazilyWithBackoff() {
+        //given
+        TokenDenylistService service = new TokenDenylistService(redisTemplate);
+        ReflectionTestUtils.setField(service, "retryInitialMillis", 60_000L);
+        when(zSetOperations.zCard(DENYLIST_KEY))
+                .thenThrow(new RedisConnectionFailureException("연결 실패"))
+                .thenReturn(0L);
+        when(zSetOperations.score(DENYLIST_KEY, "jti:jti-5")).thenThrow(new RedisConnectionFailureException("연결 실패"));
+        service.init();
+
+        //when & then: 재시도 시각 전에는 필터 없이 Redis 확인, 실패해도 거부하지 않음
+        assertFalse(service.isRevoked("jti-5", null));
+        assertNull(ReflectionTestUtils.getField(service, "bloomFilter"));
+
+        //when & then: 재시도 시각이 지나면 요청 처리 중 필터 생성, 이후 Redis 조회 없이 통과
+        ReflectionTestUtils.setField(service, "nextRetryAt", 0L);
+        assertFalse(service.isRevoked("jti-6", null));
+        assertNotNull(ReflectionTestUtils.getField(service, "bloomFilter"));
+        verify(zSetOperations, never()).score(DENYLIST_KEY, "jti:jti-6");
+    }
+
+    @Test
+    @DisplayName("Bloom filter 생성 재시도 - 실패할 때마다 대기 시간을 두 배로 늘려 최대값까지만")
+    void rebuild_BackoffDoubles() {
+        //given
+        TokenDenylistService service = new TokenDenylistService(redisTemplate);
+        ReflectionTestUtils.setField(service, "retryInitialMillis", 1000L);
+        ReflectionTestUtils.setField(service, "retryMaxMillis", 3000L);
+        when(zSetOperations.zCard(DENYLIST_KEY)).thenThrow(new RedisConnectionFailureException("연결 실패"));
+
+        //when & then
+        service.rebuild();
+        assertEquals(1000L, ReflectionTestUtils.getField(service, "retryDelay"));
+        service.rebuild();
+        assertEquals(2000L, ReflectionTestUtils.getField(service, "retryDelay"));
+        service.rebuild();
+        assertEquals(3000L, ReflectionTestUtils.getField(service, "retryDelay"));
+    }
+}
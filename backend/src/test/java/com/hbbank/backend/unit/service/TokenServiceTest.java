@@ -6,484 +6,461 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.hbbank.backend.domain.RefreshToken;
 import com.hbbank.backend.domain.User;
 import com.hbbank.backend.dto.TokenResponseDTO;
 import com.hbbank.backend.exception.token.InvalidTokenException;
+import com.hbbank.backend.exception.token.RefreshInProgressException;
 import com.hbbank.backend.repository.RefreshTokenRepository;
+import com.hbbank.backend.service.RefreshTokenStore;
+import com.hbbank.backend.service.RefreshTokenStore.Rotation;
+import com.hbbank.backend.service.TokenDenylistService;
+import com.hbbank.backend.service.TokenService;
 import com.hbbank.backend.util.JwtUtil;
+import com.hbbank.backend.util.VerifiedTokenCache;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 
 @ExtendWith(MockitoExtension.class)
 class TokenServiceTest {
 
+    private static final Long USER_ID = 1L;
+    private static final String FAMILY_ID = "family-1";
+
     @Mock
     private JwtUtil jwtUtil;
 
+    @Mock
+    private RefreshTokenStore refreshTokenStore;
+
     @Mock
     private RefreshTokenRepository refreshTokenRepository;
 
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenDenylistService tokenDenylistService;
+
     @InjectMocks
     private TokenService tokenService;
 
     // 토큰 생성 테스트
     @Test
-    @DisplayName("토큰 생성 성공 - 신규 사용자")
-    void createTokens_Success_NewUser() {
+    @DisplayName("토큰 생성 성공 - 로그인마다 새 family 로 발급해 Redis 에 등록, DB 는 사용하지 않음")
+    void createTokens_Success() {
         // given
-        Long userId = 1L;
-        String accessToken = "test.access.token";
-        String refreshToken = "test.refresh.token";
-
-        when(jwtUtil.createAccessToken(userId)).thenReturn(accessToken);
-        when(jwtUtil.createRefreshToken(userId)).thenReturn(refreshToken);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(null);
+        when(jwtUtil.createAccessToken(eq(USER_ID), anyString())).thenReturn("test.access.token");
+        when(jwtUtil.createRefreshToken(eq(USER_ID), anyString())).thenReturn("test.refresh.token");
 
         // when
-        TokenResponseDTO result = tokenService.createTokens(userId);
+        TokenResponseDTO result = tokenService.createTokens(USER_ID);
 
         // then
         assertNotNull(result);
-        assertEquals(accessToken, result.getAccessToken());
-        assertEquals(refreshToken, result.getRefreshToken());
-        verify(refreshTokenRepository).save(any(RefreshToken.class));
+        assertEquals("test.access.token", result.getAccessToken());
+        assertEquals("test.refresh.token", result.getRefreshToken());
+        ArgumentCaptor<String> familyId = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenStore).createFamily(eq(USER_ID), familyId.capture(), eq("test.refresh.token"));
+        verify(jwtUtil).createAccessToken(USER_ID, familyId.getValue());
+        verify(jwtUtil).createRefreshToken(USER_ID, familyId.getValue());
+        verifyNoInteractions(refreshTokenRepository);
     }
 
     @Test
-    @DisplayName("토큰 생성 성공 - 기존 사용자 토큰 갱신")
-    void createTokens_Success_ExistingUser() {
+    @DisplayName("토큰 생성 - 로그인할 때마다 다른 family (기기별 세션)")
+    void createTokens_NewFamilyPerLogin() {
         // given
-        Long userId = 1L;
-        String accessToken = "test.access.token";
-        String refreshToken = "test.refresh.token";
-
-        RefreshToken existingToken = RefreshToken.builder()
-                .user(User.builder().id(userId).build())
-                .token("old.refresh.token")
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
-
-        when(jwtUtil.createAccessToken(userId)).thenReturn(accessToken);
-        when(jwtUtil.createRefreshToken(userId)).thenReturn(refreshToken);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(existingToken);
+        when(jwtUtil.createAccessToken(eq(USER_ID), anyString())).thenReturn("test.access.token");
+        when(jwtUtil.createRefreshToken(eq(USER_ID), anyString())).thenReturn("test.refresh.token");
 
         // when
-        TokenResponseDTO result = tokenService.createTokens(userId);
+        tokenService.createTokens(USER_ID);
+        tokenService.createTokens(USER_ID);
 
         // then
-        assertNotNull(result);
-        assertEquals(accessToken, result.getAccessToken());
-        assertEquals(refreshToken, result.getRefreshToken());
-        verify(refreshTokenRepository).updateRefreshToken(any(RefreshToken.class));
+        ArgumentCaptor<String> familyIds = ArgumentCaptor.forClass(String.class);
+        verify(refreshTokenStore, times(2))
+                .createFamily(eq(USER_ID), familyIds.capture(), anyString());
+        assertEquals(2, familyIds.getAllValues().stream().distinct().count());
     }
 
     @Test
     @DisplayName("토큰 생성 실패 - JwtUtil 예외 발생")
     void createTokens_Failure_JwtException() {
         // given
-        Long userId = 1L;
-        when(jwtUtil.createAccessToken(userId)).thenThrow(new RuntimeException("토큰 생성 실패"));
+        when(jwtUtil.createAccessToken(eq(USER_ID), anyString())).thenThrow(new RuntimeException("토큰 생성 실패"));
 
         // when & then
         assertThrows(RuntimeException.class, ()
-                -> tokenService.createTokens(userId)
+                -> tokenService.createTokens(USER_ID)
         );
-        verifyNoInteractions(refreshTokenRepository);
+        verifyNoInteractions(refreshTokenStore);
     }
 
     @Test
-    @DisplayName("토큰 생성 실패 - 리포지토리 예외")
-    void createTokens_Failure_RepositoryException() {
+    @DisplayName("토큰 생성 실패 - Redis 저장 오류")
+    void createTokens_Failure_StoreException() {
         // given
-        Long userId = 1L;
-        String accessToken = "test.access.token";
-        String refreshToken = "test.refresh.token";
-
-        when(jwtUtil.createAccessToken(userId)).thenReturn(accessToken);
-        when(jwtUtil.createRefreshToken(userId)).thenReturn(refreshToken);
-        when(refreshTokenRepository.findByUser_Id(userId))
-                .thenThrow(new RuntimeException("DB 연결 오류"));
+        when(jwtUtil.createAccessToken(eq(USER_ID), anyString())).thenReturn("test.access.token");
+        when(jwtUtil.createRefreshToken(eq(USER_ID), anyString())).thenReturn("test.refresh.token");
+        doThrow(new RedisConnectionFailureException("연결 실패"))
+                .when(refreshTokenStore).createFamily(eq(USER_ID), anyString(), eq("test.refresh.token"));
 
         // when & then
-        assertThrows(RuntimeException.class, ()
-                -> tokenService.createTokens(userId)
+        assertThrows(RedisConnectionFailureException.class, ()
+                -> tokenService.createTokens(USER_ID)
         );
-        verify(jwtUtil).createAccessToken(userId);
-        verify(jwtUtil).createRefreshToken(userId);
-        verify(refreshTokenRepository).findByUser_Id(userId);
     }
 
+
+    // 액세스 토큰 갱신 테스트
     @Test
-    @DisplayName("리프레시 토큰 저장 실패")
-    void createTokens_Failure_SaveError() {
+    @DisplayName("액세스 토큰 갱신 성공 - 같은 family 로 리프레시 토큰도 교체")
+    void refreshAccessToken_Success() {
         // given
-        Long userId = 1L;
-        String accessToken = "test.access.token";
         String refreshToken = "test.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", FAMILY_ID)));
+        when(jwtUtil.createAccessToken(USER_ID, FAMILY_ID)).thenReturn("new.access.token");
+        when(jwtUtil.createRefreshToken(USER_ID, FAMILY_ID)).thenReturn("new.refresh.token");
+        when(refreshTokenStore.rotate(USER_ID, FAMILY_ID, refreshToken, "new.refresh.token"))
+                .thenReturn(Rotation.ROTATED);
 
-        when(jwtUtil.createAccessToken(userId)).thenReturn(accessToken);
-        when(jwtUtil.createRefreshToken(userId)).thenReturn(refreshToken);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(null);
-        when(refreshTokenRepository.save(any(RefreshToken.class)))
-                .thenThrow(new RuntimeException("DB 저장 실패"));
+        // when
+        TokenResponseDTO result = tokenService.refreshAccessToken(refreshToken);
 
-        // when & then
-        assertThrows(RuntimeException.class, ()
-                -> tokenService.createTokens(userId)
-        );
+        // then
+        assertEquals("new.access.token", result.getAccessToken());
+        assertEquals("new.refresh.token", result.getRefreshToken());
     }
 
     @Test
-    @DisplayName("리프레시 토큰 갱신 실패 - 리포지토리 업데이트 오류")
-    void createTokens_Failure_UpdateError() {
+    @DisplayName("액세스 토큰 갱신 - 유예 시간 안의 동시 갱신은 토큰 발급 없이 재시도 요청 (family 유지)")
+    void refreshAccessToken_ConcurrentWithinGrace() {
         // given
-        Long userId = 1L;
-        String accessToken = "test.access.token";
         String refreshToken = "test.refresh.token";
-
-        RefreshToken existingToken = RefreshToken.builder()
-                .user(User.builder().id(userId).build())
-                .token("old.refresh.token")
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
-
-        when(jwtUtil.createAccessToken(userId)).thenReturn(accessToken);
-        when(jwtUtil.createRefreshToken(userId)).thenReturn(refreshToken);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(existingToken);
-        doThrow(new RuntimeException("DB 업데이트 실패"))
-                .when(refreshTokenRepository).updateRefreshToken(any(RefreshToken.class));
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", FAMILY_ID)));
+        when(jwtUtil.createRefreshToken(USER_ID, FAMILY_ID)).thenReturn("second.refresh.token");
+        when(refreshTokenStore.rotate(USER_ID, FAMILY_ID, refreshToken, "second.refresh.token"))
+                .thenReturn(Rotation.GRACE);
 
         // when & then
-        assertThrows(RuntimeException.class, ()
-                -> tokenService.createTokens(userId)
+        assertThrows(RefreshInProgressException.class, ()
+                -> tokenService.refreshAccessToken(refreshToken)
         );
-    }
-
-
-    // 액세스 토큰 갱신 테스트
-    @Test
-    @DisplayName("액세스 토큰 갱신 성공")
-    void refreshAccessToken_Success() {
-        // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-        String newAccessToken = "new.access.token";
-
-        RefreshToken savedToken = RefreshToken.builder()
-                .token(refreshToken)
-                .user(User.builder().id(userId).build())
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(jwtUtil.createAccessToken(userId)).thenReturn(newAccessToken);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(savedToken);
-
-        // when
-        TokenResponseDTO result = tokenService.refreshAccessToken(refreshToken);
-
-        // then
-        assertNotNull(result);
-        assertEquals(newAccessToken, result.getAccessToken());
-        assertEquals(refreshToken, result.getRefreshToken());
-        verify(jwtUtil).createAccessToken(userId);
+        verify(jwtUtil, never()).createAccessToken(any(), any());
+        verifyNoInteractions(tokenDenylistService);
     }
 
     @Test
-    @DisplayName("액세스 토큰 갱신 실패 - 유효하지 않은 리프레시 토큰")
+    @DisplayName("액세스 토큰 갱신 실패 - 유효하지 않은(만료 포함) 리프레시 토큰")
     void refreshAccessToken_Failure_InvalidToken() {
         // given
         String refreshToken = "invalid.refresh.token";
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(false);
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.empty());
 
         // when & then
         assertThrows(InvalidTokenException.class, ()
                 -> tokenService.refreshAccessToken(refreshToken)
         );
-        verify(jwtUtil).validateToken(refreshToken);
-        verifyNoInteractions(refreshTokenRepository);
+        verifyNoInteractions(refreshTokenStore);
     }
 
     @Test
-    @DisplayName("액세스 토큰 갱신 실패 - DB에 저장된 토큰 없음")
-    void refreshAccessToken_Failure_TokenNotFound() {
+    @DisplayName("액세스 토큰 갱신 실패 - 액세스 토큰으로 갱신 시도 (family 는 건드리지 않음)")
+    void refreshAccessToken_Failure_AccessToken() {
         // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(null);
+        String accessToken = "test.access.token";
+        when(jwtUtil.parseAndValidate(accessToken)).thenReturn(Optional.of(claims("access", FAMILY_ID)));
 
         // when & then
         assertThrows(InvalidTokenException.class, ()
-                -> tokenService.refreshAccessToken(refreshToken)
+                -> tokenService.refreshAccessToken(accessToken)
         );
-        verify(refreshTokenRepository).findByUser_Id(userId);
+        verifyNoInteractions(refreshTokenStore);
     }
 
     @Test
-    @DisplayName("액세스 토큰 갱신 실패 - 토큰 불일치")
-    void refreshAccessToken_Failure_TokenMismatch() {
+    @DisplayName("액세스 토큰 갱신 실패 - 이미 사용된 토큰 재사용 (family 와 family 의 액세스 토큰 폐기)")
+    void refreshAccessToken_Failure_Reused() {
         // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-
-        RefreshToken savedToken = RefreshToken.builder()
-                .token("different.refresh.token")
-                .user(User.builder().id(userId).build())
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
+        String refreshToken = "used.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", FAMILY_ID)));
+        when(jwtUtil.createRefreshToken(USER_ID, FAMILY_ID)).thenReturn("new.refresh.token");
+        when(refreshTokenStore.rotate(USER_ID, FAMILY_ID, refreshToken, "new.refresh.token"))
+                .thenReturn(Rotation.REUSED);
 
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(savedToken);
-
-        // when & then
-        assertThrows(InvalidTokenException.class, ()
+        // when
+        InvalidTokenException e = assertThrows(InvalidTokenException.class, ()
                 -> tokenService.refreshAccessToken(refreshToken)
         );
+
+        // then
+        assertEquals("이미 사용된 리프레시 토큰", e.getMessage());
+        verify(tokenDenylistService).revokeFamily(FAMILY_ID);
     }
 
     @Test
-    @DisplayName("액세스 토큰 갱신 실패 - 만료된 리프레시 토큰")
-    void refreshAccessToken_Failure_ExpiredToken() {
+    @DisplayName("액세스 토큰 갱신 실패 - 만료/로그아웃/재사용으로 폐기된 family")
+    void refreshAccessToken_Failure_FamilyNotFound() {
         // given
         String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-
-        RefreshToken savedToken = RefreshToken.builder()
-                .token(refreshToken)
-                .user(User.builder().id(userId).build())
-                .expiryDate(LocalDateTime.now().minusDays(1)) // 만료된 토큰
-                .build();
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(savedToken);
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", FAMILY_ID)));
+        when(jwtUtil.createRefreshToken(USER_ID, FAMILY_ID)).thenReturn("new.refresh.token");
+        when(refreshTokenStore.rotate(USER_ID, FAMILY_ID, refreshToken, "new.refresh.token"))
+                .thenReturn(Rotation.NOT_FOUND);
 
         // when & then
         assertThrows(InvalidTokenException.class, ()
                 -> tokenService.refreshAccessToken(refreshToken)
         );
-        verify(refreshTokenRepository).deleteByUser_Id(userId);  // 만료된 토큰은 삭제되어야 함
     }
 
-
-    // 리프레시 토큰 폐기 테스트
     @Test
-    @DisplayName("리프레시 토큰 폐기 성공")
-    void revokeRefreshToken_Success() {
+    @DisplayName("액세스 토큰 갱신 - family 도입 전 토큰은 한 번 소모 후 새 family 로 발급")
+    void refreshAccessToken_LegacyToken() {
         // given
-        Long userId = 1L;
+        String refreshToken = "legacy.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", null)));
+        when(refreshTokenStore.consumeLegacy(USER_ID, refreshToken)).thenReturn(true);
+        when(jwtUtil.createAccessToken(eq(USER_ID), anyString())).thenReturn("new.access.token");
+        when(jwtUtil.createRefreshToken(eq(USER_ID), anyString())).thenReturn("new.refresh.token");
 
         // when
-        tokenService.revokeRefreshToken(userId);
+        TokenResponseDTO result = tokenService.refreshAccessToken(refreshToken);
 
         // then
-        verify(refreshTokenRepository).deleteByUser_Id(userId);
-    }
-
-    @Test
-    @DisplayName("리프레시 토큰 폐기 실패")
-    void revokeRefreshToken_Failure() {
-        // given
-        Long userId = 1L;
-        doThrow(new RuntimeException("DB 삭제 실패"))
-                .when(refreshTokenRepository).deleteByUser_Id(userId);
-
-        // when & then
-        assertThrows(RuntimeException.class, ()
-                -> tokenService.revokeRefreshToken(userId)
-        );
-        verify(refreshTokenRepository).deleteByUser_Id(userId);
+        assertEquals("new.refresh.token", result.getRefreshToken());
+        verify(refreshTokenStore).createFamily(eq(USER_ID), anyString(), eq("new.refresh.token"));
+        verify(refreshTokenStore, never()).rotate(anyLong(), anyString(), anyString(), anyString());
     }
 
     @Test
-    @DisplayName("리프레시 토큰 폐기 실패 - 리포지토리 예외")
-    void revokeRefreshToken_Failure_RepositoryException() {
+    @DisplayName("액세스 토큰 갱신 실패 - family 도입 전 토큰이 저장된 토큰과 불일치")
+    void refreshAccessToken_Failure_LegacyMismatch() {
         // given
-        Long userId = 1L;
-        doThrow(new RuntimeException("DB 연결 오류"))
-                .when(refreshTokenRepository).deleteByUser_Id(userId);
+        String refreshToken = "legacy.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", null)));
+        when(refreshTokenStore.consumeLegacy(USER_ID, refreshToken)).thenReturn(false);
 
         // when & then
-        assertThrows(RuntimeException.class, ()
-                -> tokenService.revokeRefreshToken(userId)
+        assertThrows(InvalidTokenException.class, ()
+                -> tokenService.refreshAccessToken(refreshToken)
         );
-        verify(refreshTokenRepository).deleteByUser_Id(userId);
+        verify(refreshTokenStore, never()).createFamily(anyLong(), anyString(), anyString());
     }
 
 
-    // 리프레시 토큰 유효성 검사 테스트
+    // 로그아웃/폐기 테스트
     @Test
-    @DisplayName("리프레시 토큰 유효성 검사 성공")
-    void validateRefreshToken_Success() {
+    @DisplayName("로그아웃 - 액세스 토큰(jti)과 현재 기기 세션(family)의 리프레시/액세스 토큰 폐기")
+    void logout_RevokeFamily() {
         // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-
-        RefreshToken savedToken = RefreshToken.builder()
-                .token(refreshToken)
-                .user(User.builder().id(userId).build())
-                .expiryDate(LocalDateTime.now().plusDays(7))
-                .build();
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(savedToken);
+        String accessToken = "test.access.token";
+        Claims claims = claims("access", FAMILY_ID);
+        // JWT 만료 시각은 초 단위로 저장됨
+        Date expiration = new Date((System.currentTimeMillis() / 1000 + 60) * 1000);
+        claims.setId("jti-1");
+        claims.setExpiration(expiration);
+        when(jwtUtil.parseAndValidate(accessToken)).thenReturn(Optional.of(claims));
 
         // when
-        boolean result = tokenService.validateRefreshToken(refreshToken);
+        tokenService.logout(accessToken);
 
         // then
-        assertTrue(result);
+        verify(tokenDenylistService).revokeAccessToken("jti-1", expiration);
+        verify(tokenDenylistService).revokeFamily(FAMILY_ID);
+        verify(verifiedTokenCache).invalidateUser(USER_ID);
+        verify(refreshTokenStore).revokeFamily(USER_ID, FAMILY_ID);
+        verify(refreshTokenStore, never()).revokeAll(anyLong());
     }
 
     @Test
-    @DisplayName("리프레시 토큰 유효성 검사 실패")
-    void validateRefreshToken_Failure() {
+    @DisplayName("로그아웃 - family 정보가 없는 이전 토큰이면 모든 세션 폐기")
+    void logout_LegacyToken_RevokeAll() {
         // given
-        String refreshToken = "invalid.refresh.token";
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(false);
+        String accessToken = "legacy.access.token";
+        when(jwtUtil.parseAndValidate(accessToken)).thenReturn(Optional.of(claims("access", null)));
 
         // when
-        boolean result = tokenService.validateRefreshToken(refreshToken);
+        tokenService.logout(accessToken);
 
         // then
-        assertFalse(result);
+        verify(refreshTokenStore).revokeAll(USER_ID);
     }
 
     @Test
-    @DisplayName("리프레시 토큰 검증 실패 - userId 추출 실패")
-    void validateRefreshToken_Failure_InvalidUserId() {
+    @DisplayName("로그아웃 실패 - 유효하지 않은 액세스 토큰")
+    void logout_Failure_InvalidToken() {
         // given
-        String refreshToken = "invalid.user.token";
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenThrow(new InvalidTokenException("유효하지 않은 userId"));
+        when(jwtUtil.parseAndValidate("invalid")).thenReturn(Optional.empty());
 
         // when & then
-        assertFalse(tokenService.validateRefreshToken(refreshToken));
-        verify(jwtUtil).validateToken(refreshToken);
-        verify(jwtUtil).getUserId(refreshToken);
-        verifyNoInteractions(refreshTokenRepository);
+        assertThrows(InvalidTokenException.class, () -> tokenService.logout("invalid"));
+        verifyNoInteractions(refreshTokenStore, tokenDenylistService);
     }
 
     @Test
-    @DisplayName("리프레시 토큰 검증 실패 - 토큰 형식 오류")
-    void validateRefreshToken_Failure_MalformedToken() {
+    @DisplayName("리프레시 토큰 전체 폐기 성공 - 모든 세션의 액세스 토큰도 폐기")
+    void revokeRefreshToken_Success() {
         // given
-        String refreshToken = "malformed.token";
-        when(jwtUtil.validateToken(refreshToken))
-                .thenThrow(new InvalidTokenException("잘못된 토큰 형식"));
+        when(refreshTokenStore.revokeAll(USER_ID)).thenReturn(List.of("family-1", "family-2"));
 
         // when
-        boolean result = tokenService.validateRefreshToken(refreshToken);
+        tokenService.revokeRefreshToken(USER_ID);
 
         // then
-        assertFalse(result);
-        verify(jwtUtil).validateToken(refreshToken);
-        verifyNoInteractions(refreshTokenRepository);
+        verify(verifiedTokenCache).invalidateUser(USER_ID);
+        verify(tokenDenylistService).revokeFamily("family-1");
+        verify(tokenDenylistService).revokeFamily("family-2");
     }
 
     @Test
-    @DisplayName("리프레시 토큰 검증 실패 - 예기치 않은 예외")
-    void validateRefreshToken_Failure_UnexpectedException() {
+    @DisplayName("리프레시 토큰 폐기 실패 - Redis 오류")
+    void revokeRefreshToken_Failure() {
+        // given
+        doThrow(new RedisConnectionFailureException("연결 실패"))
+                .when(refreshTokenStore).revokeAll(USER_ID);
+
+        // when & then
+        assertThrows(RedisConnectionFailureException.class, ()
+                -> tokenService.revokeRefreshToken(USER_ID)
+        );
+    }
+
+
+    // 리프레시 토큰 유효성 검사 테스트
+    @Test
+    @DisplayName("리프레시 토큰 유효성 검사 성공 - family 의 현재 토큰 (사용 처리하지 않음)")
+    void validateRefreshToken_Success() {
         // given
         String refreshToken = "test.refresh.token";
-        when(jwtUtil.validateToken(refreshToken))
-                .thenThrow(new InvalidTokenException("예기치 않은 오류"));
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", FAMILY_ID)));
+        when(refreshTokenStore.isCurrent(USER_ID, FAMILY_ID, refreshToken)).thenReturn(true);
 
         // when
         boolean result = tokenService.validateRefreshToken(refreshToken);
 
         // then
-        assertFalse(result);
-        verify(jwtUtil).validateToken(refreshToken);
-        verifyNoInteractions(refreshTokenRepository);
+        assertTrue(result);
+        verify(refreshTokenStore, never()).rotate(anyLong(), anyString(), anyString(), anyString());
     }
 
     @Test
-    @DisplayName("리프레시 토큰 검증 실패 - DB 조회 오류")
-    void validateRefreshToken_Failure_DatabaseError() {
+    @DisplayName("리프레시 토큰 유효성 검사 실패 - 유효하지 않은 토큰")
+    void validateRefreshToken_Failure() {
         // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId))
-                .thenThrow(new InvalidTokenException("DB 조회 오류"));
+        String refreshToken = "invalid.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.empty());
 
         // when
         boolean result = tokenService.validateRefreshToken(refreshToken);
 
         // then
         assertFalse(result);
-        verify(jwtUtil).validateToken(refreshToken);
-        verify(jwtUtil).getUserId(refreshToken);
-        verify(refreshTokenRepository).findByUser_Id(userId);
+        verifyNoInteractions(refreshTokenStore);
     }
 
     @Test
-    @DisplayName("리프레시 토큰 검증 실패 - 토큰 불일치")
-    void validateRefreshToken_Failure_TokenMismatch() {
+    @DisplayName("리프레시 토큰 유효성 검사 실패 - 이미 교체된 토큰")
+    void validateRefreshToken_Failure_NotCurrent() {
         // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-        
-        RefreshToken savedToken = RefreshToken.builder()
-            .token("different.refresh.token")
-            .user(User.builder().id(userId).build())
-            .expiryDate(LocalDateTime.now().plusDays(7))
-            .build();
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(savedToken);
+        String refreshToken = "used.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", FAMILY_ID)));
+        when(refreshTokenStore.isCurrent(USER_ID, FAMILY_ID, refreshToken)).thenReturn(false);
+
+        // when & then
+        assertFalse(tokenService.validateRefreshToken(refreshToken));
+    }
 
+    @Test
+    @DisplayName("리프레시 토큰 유효성 검사 - family 도입 전 토큰은 이전 저장 값과 비교")
+    void validateRefreshToken_LegacyToken() {
+        // given
+        String refreshToken = "legacy.refresh.token";
+        when(jwtUtil.parseAndValidate(refreshToken)).thenReturn(Optional.of(claims("refresh", null)));
+        when(refreshTokenStore.matchesLegacy(USER_ID, refreshToken)).thenReturn(true);
+
+        // when & then
+        assertTrue(tokenService.validateRefreshToken(refreshToken));
+    }
+
+
+    // 기존 테이블 -> Redis 이전 테스트
+    @Test
+    @DisplayName("리프레시 토큰 이전 - 설정이 꺼져 있으면 테이블을 읽지 않음")
+    void migrateRefreshTokens_Disabled() {
         // when
-        boolean result = tokenService.validateRefreshToken(refreshToken);
+        tokenService.migrateRefreshTokens();
 
         // then
-        assertFalse(result);
-        verify(jwtUtil).validateToken(refreshToken);
-        verify(jwtUtil).getUserId(refreshToken);
-        verify(refreshTokenRepository).findByUser_Id(userId);
+        verifyNoInteractions(refreshTokenRepository, refreshTokenStore);
     }
 
     @Test
-    @DisplayName("리프레시 토큰 검증 실패 - 토큰 조회 결과 없음")
-    void validateRefreshToken_Failure_TokenNotFound() {
+    @DisplayName("리프레시 토큰 이전 - 만료 전 토큰을 남은 기간 TTL 로 옮기고 테이블 비움")
+    void migrateRefreshTokens_Enabled() {
         // given
-        String refreshToken = "test.refresh.token";
-        Long userId = 1L;
-
-        when(jwtUtil.validateToken(refreshToken)).thenReturn(true);
-        when(jwtUtil.getUserId(refreshToken)).thenReturn(userId);
-        when(refreshTokenRepository.findByUser_Id(userId)).thenReturn(null);
+        ReflectionTestUtils.setField(tokenService, "migrateFromDb", true);
+        RefreshToken token1 = RefreshToken.builder()
+                .user(User.builder().id(1L).build())
+                .token("refresh.token.1")
+                .expiryDate(LocalDateTime.now().plusDays(7))
+                .build();
+        RefreshToken token2 = RefreshToken.builder()
+                .user(User.builder().id(2L).build())
+                .token("refresh.token.2")
+                .expiryDate(LocalDateTime.now().plusDays(1))
+                .build();
+        when(refreshTokenRepository.findAllByExpiryDateAfter(any(LocalDateTime.class)))
+                .thenReturn(List.of(token1, token2));
+        when(refreshTokenStore.saveLegacyIfAbsent(eq(1L), eq("refresh.token.1"), any(Duration.class))).thenReturn(true);
+        when(refreshTokenStore.saveLegacyIfAbsent(eq(2L), eq("refresh.token.2"), any(Duration.class))).thenReturn(false);
 
         // when
-        boolean result = tokenService.validateRefreshToken(refreshToken);
+        tokenService.migrateRefreshTokens();
 
         // then
-        assertFalse(result);
-        verify(jwtUtil).validateToken(refreshToken);
-        verify(jwtUtil).getUserId(refreshToken);
-        verify(refreshTokenRepository).findByUser_Id(userId);
+        verify(refreshTokenStore).saveLegacyIfAbsent(eq(1L), eq("refresh.token.1"),
+                argThat(ttl -> ttl.compareTo(Duration.ofDays(6)) > 0 && ttl.compareTo(Duration.ofDays(7)) <= 0));
+        verify(refreshTokenRepository).deleteAllInBatch();
+    }
+
+    private static Claims claims(String type, String familyId) {
+        Claims claims = Jwts.claims();
+        claims.put("userId", USER_ID);
+        claims.put("type", type);
+        if (familyId != null) {
+            claims.put(JwtUtil.FAMILY_ID, familyId);
+        }
+        return claims;
     }
 }
@@ -0,0 +1,157 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.hbbank.backend.domain.enums.ExportFormat;
+import com.hbbank.backend.dto.TransactionResponseDTO;
+import com.hbbank.backend.exception.account.AccountNotFoundException;
+import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.exception.transaction.InvalidExportFormatException;
+import com.hbbank.backend.repository.TransactionRepository;
+import com.hbbank.backend.service.AccountService;
+import com.hbbank.backend.service.TransactionExportService;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionExportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private AccountService accountService;
+
+    private TransactionExportService exportService;
+
+    private TransactionResponseDTO deposit, withdraw;
+
+    @BeforeEach
+    @DisplayName("내보내기 서비스 및 거래내역 생성")
+    void init() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportService = new TransactionExportService(transactionRepository, accountService, objectMapper);
+
+        deposit = TransactionResponseDTO.builder()
+                .id(1L).accountId(1L)
+                .transactionDateTime(LocalDateTime.of(2024, 12, 1, 9, 30))
+                .transactionType("입금").sender("홍길동").receiver("김철수")
+                .withdrawalAmount(BigDecimal.ZERO).depositAmount(new BigDecimal("1000"))
+                .balance(new BigDecimal("5000"))
+                .build();
+        withdraw = TransactionResponseDTO.builder()
+                .id(2L).accountId(1L)
+                .transactionDateTime(LocalDateTime.of(2024, 12, 2, 10, 0))
+                .transactionType("출금").sender("김철수").receiver("=HYPERLINK(\"x\",\"y\")")
+                .withdrawalAmount(new BigDecimal("500")).depositAmount(BigDecimal.ZERO)
+                .balance(new BigDecimal("4500"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 성공 - 헤더, 이스케이프, 수식 무력화")
+    void export_Csv() throws Exception {
+        //given
+        stream(deposit, withdraw);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.export(1L, ExportFormat.CSV, null, null).writeTo(out);
+
+        //then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertAll(
+                () -> assertEquals(3, lines.length),
+                () -> assertEquals('\uFEFF', lines[0].charAt(0)),
+                () -> assertEquals("1,1,2024-12-01T09:30,입금,홍길동,김철수,0,1000,5000", lines[1]),
+                () -> assertEquals("2,1,2024-12-02T10:00,출금,김철수,\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\",500,0,4500", lines[2])
+        );
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 성공 - 기간을 반열림 구간으로 전달")
+    void export_Ndjson() throws Exception {
+        //given
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionResponseDTO>>getArgument(3).accept(deposit);
+            return null;
+        }).when(transactionRepository).streamByAccountId(eq(1L),
+                eq(LocalDateTime.of(2024, 12, 1, 0, 0)), eq(LocalDateTime.of(2025, 1, 1, 0, 0)), any());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        //when
+        exportService.export(1L, ExportFormat.NDJSON, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31)).writeTo(out);
+
+        //then
+        String body = out.toString(StandardCharsets.UTF_8);
+        assertAll(
+                () -> assertEquals(1, body.split("\n").length),
+                () -> assertTrue(body.startsWith("{\"id\":1,\"accountId\":1,\"transactionDateTime\":\"2024-12-01T09:30:00\"")),
+                () -> assertTrue(body.endsWith("}\n"))
+        );
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 존재하지 않는 계좌는 스트리밍 전에 예외")
+    void export_Fail_AccountNotFound() {
+        //given
+        doThrow(AccountNotFoundException.class).when(accountService).verifyAccount(anyLong());
+
+        //when & then
+        assertThrows(AccountNotFoundException.class,
+                () -> exportService.export(1L, ExportFormat.CSV, null, null));
+        verify(transactionRepository, never()).streamByAccountId(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 종료일이 시작일보다 앞섬")
+    void export_Fail_InvalidDateRange() {
+        //when & then
+        assertThrows(InvalidDateRangeException.class,
+                () -> exportService.export(1L, ExportFormat.CSV, LocalDate.of(2024, 12, 31), LocalDate.of(2024, 12, 1)));
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 지원하지 않는 형식")
+    void export_Fail_InvalidFormat() {
+        //when & then
+        assertThrows(InvalidExportFormatException.class, () -> ExportFormat.from("xlsx"));
+    }
+
+    private void stream(TransactionResponseDTO... rows) {
+        doAnswer(inv -> {
+            Consumer<TransactionResponseDTO> action = inv.getArgument(3);
+            for (TransactionResponseDTO row : rows) {
+                action.accept(row);
+            }
+            return null;
+        }).when(transactionRepository).streamByAccountId(eq(1L), isNull(), isNull(), any());
+    }
+}
@@ -0,0 +1,309 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.Transaction;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.repository.TransactionJournalCommitRepository;
+import com.hbbank.backend.repository.TransactionRepository;
+import com.hbbank.backend.service.TransactionJournalService;
+
+/*
+ * TransactionJournalService 단위 테스트
+ * 실제 임시 파일에 WAL 을 만들고, 트랜잭션 동기화 콜백은 직접 호출해 커밋/롤백을 흉내낸다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionJournalServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private TransactionJournalCommitRepository journalCommitRepository;
+
+    @InjectMocks
+    private TransactionJournalService journalService;
+
+    @TempDir
+    private Path tempDir;
+
+    private Account fa, ta;
+
+    @BeforeEach
+    @DisplayName("WAL 모드 활성화 및 계좌 생성")
+    void init() throws Exception {
+        ReflectionTestUtils.setField(journalService, "mode", "wal");
+        ReflectionTestUtils.setField(journalService, "walPath", tempDir.resolve("journal.wal").toString());
+        ReflectionTestUtils.setField(journalService, "walCapacityMb", 1);
+        journalService.init();
+
+        fa = Account.builder().id(1L).balance(new BigDecimal("4000"))
+                .user(User.builder().id(1L).name("보낸사람").build()).build();
+        ta = Account.builder().id(2L).balance(new BigDecimal("2000"))
+                .user(User.builder().id(2L).name("받는사람").build()).build();
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        journalService.close();
+    }
+
+    @Test
+    @DisplayName("커밋된 거래내역만 drain 시 배치 삽입")
+    void drain_CommittedOnly() {
+        //given
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).build());
+        List<Transaction> committed = legs();
+        List<Transaction> rolledBack = legs();
+
+        assertTrue(journalService.append(committed));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(journalService.append(rolledBack));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        //when
+        journalService.drain();
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).batchInsertIgnoringDuplicates(captor.capture());
+        List<Transaction> inserted = captor.getValue();
+        assertAll(
+                () -> assertEquals(2, inserted.size()),
+                () -> assertEquals(committed.get(0).getId(), inserted.get(0).getId()),
+                () -> assertEquals(committed.get(1).getId(), inserted.get(1).getId()),
+                () -> assertEquals(new BigDecimal("4000"), inserted.get(0).getBalance()),
+                () -> assertEquals("받는사람", inserted.get(1).getReceiver())
+        );
+    }
+
+    @Test
+    @DisplayName("커밋 진행 중인 거래내역이 있으면 그 앞까지만 drain")
+    void drain_StopsAtInFlight() {
+        //given
+        List<Transaction> inFlight = legs();
+        assertTrue(journalService.append(inFlight));
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+
+        //when
+        journalService.drain();
+
+        //then
+        verify(transactionRepository, never()).batchInsertIgnoringDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("drain 트랜잭션이 롤백되면 checkpoint 를 옮기지 않고 다음 drain 에서 재삽입")
+    void drain_CheckpointAfterCommit() {
+        //given
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).build());
+        assertTrue(journalService.append(legs()));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        //when
+        TransactionSynchronizationManager.initSynchronization();
+        journalService.drain();
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        journalService.drain();
+        journalService.drain();
+
+        //then
+        verify(transactionRepository, times(2)).batchInsertIgnoringDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("재시작 복구 - 커밋 표시 없는 in-doubt 는 ABORT 처리, 커밋된 거래내역은 drain")
+    void recover_AfterRestart() throws Exception {
+        //given
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).build());
+        when(journalCommitRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+        assertTrue(journalService.append(legs()));
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(journalService.append(legs()));
+        // PREPARE 만 기록된 상태에서 종료 (커밋 여부 불명)
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        TransactionSynchronizationManager.clearSynchronization();
+        journalService.close();
+
+        //when
+        journalService.init();
+        journalService.drain();
+        journalService.drain();
+
+        //then
+        verify(transactionRepository, times(1)).batchInsertIgnoringDuplicates(any());
+    }
+
+    @Test
+    @DisplayName("재시작 복구 - 커밋 표시가 있는 in-doubt 는 COMMIT 처리 후 삽입")
+    void recover_InDoubtCommitted() throws Exception {
+        //given
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).build());
+        List<Transaction> inDoubt = legs();
+        Long key = inDoubt.get(0).getId();
+        when(journalCommitRepository.findExistingIds(anyCollection())).thenReturn(List.of(key));
+        assertTrue(journalService.append(inDoubt));
+        // DB 커밋 직후, COMMIT 레코드 기록 전에 종료
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        TransactionSynchronizationManager.clearSynchronization();
+        journalService.close();
+
+        //when
+        journalService.init();
+        journalService.drain();
+
+        //then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Transaction>> captor = ArgumentCaptor.forClass(List.class);
+        verify(transactionRepository).batchInsertIgnoringDuplicates(captor.capture());
+        assertAll(
+                () -> assertEquals(2, captor.getValue().size()),
+                () -> assertEquals(key, captor.getValue().get(0).getId())
+        );
+        verify(journalCommitRepository).insertMarker(any(), any());
+        verify(journalCommitRepository).deleteAllByIdInBatch(List.of(key));
+    }
+
+    @Test
+    @DisplayName("resolve-timeout 이 지난 PREPARE 는 커밋 표시가 있으면 삽입")
+    void drain_ResolvesStaleByMarker() {
+        //given
+        ReflectionTestUtils.setField(journalService, "resolveTimeoutMillis", 0L);
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).build());
+        List<Transaction> stale = legs();
+        Long key = stale.get(0).getId();
+        when(journalCommitRepository.findExistingIds(anyCollection())).thenReturn(List.of(key));
+        assertTrue(journalService.append(stale));
+        // DB 커밋은 끝났지만 완료 레코드가 기록되지 않은 상태
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+
+        //when
+        journalService.drain();
+
+        //then
+        verify(transactionRepository).batchInsertIgnoringDuplicates(any());
+        verify(journalCommitRepository).deleteAllByIdInBatch(List.of(key));
+    }
+
+    @Test
+    @DisplayName("커밋 표시 없이 진행 중인 PREPARE 는 대기, 롤백 후 건너뜀")
+    void drain_WaitsForUnmarkedInFlight() {
+        //given
+        ReflectionTestUtils.setField(journalService, "resolveTimeoutMillis", 0L);
+        when(journalCommitRepository.findExistingIds(anyCollection())).thenReturn(List.of());
+        assertTrue(journalService.append(legs()));
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        journalService.drain();
+
+        //when
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        journalService.drain();
+        journalService.drain();
+
+        //then
+        verify(transactionRepository, never()).batchInsertIgnoringDuplicates(any());
+        verify(journalCommitRepository, times(1)).findExistingIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("용량이 차면 예약 실패로 직접 기록하고, 예약된 이체는 모두 커밋, drain 후 공간 재사용")
+    void append_ReservesUntilFull() {
+        //given
+        when(accountRepository.getReferenceById(anyLong()))
+                .thenAnswer(inv -> Account.builder().id(inv.getArgument(0)).build());
+        List<List<TransactionSynchronization>> pending = new ArrayList<>();
+        while (journalService.append(legs())) {
+            pending.add(TransactionSynchronizationManager.getSynchronizations());
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.initSynchronization();
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+
+        //when
+        assertDoesNotThrow(() -> pending.forEach(list -> list.forEach(s -> s.beforeCommit(false))));
+        pending.forEach(list -> list.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED)));
+        for (int i = 0; i < 10; i++) {
+            journalService.drain();
+        }
+
+        //then
+        TransactionSynchronizationManager.initSynchronization();
+        assertTrue(pending.size() > 100);
+        assertTrue(journalService.append(legs()));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 호출 시 WAL 에 기록하지 않음")
+    void append_NoTransaction() {
+        //given
+        TransactionSynchronizationManager.clearSynchronization();
+
+        //when & then
+        assertFalse(journalService.append(legs()));
+    }
+
+    private List<Transaction> legs() {
+        LocalDateTime now = LocalDateTime.now();
+        BigDecimal amount = new BigDecimal("1000");
+        return List.of(
+                Transaction.withdrawal(fa, "보낸사람", "받는사람", amount, fa.getBalance(), now),
+                Transaction.deposit(ta, "보낸사람", "받는사람", amount, ta.getBalance(), now));
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(s -> s.beforeCommit(false));
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}
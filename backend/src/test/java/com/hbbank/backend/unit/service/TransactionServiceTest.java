@@ -13,6 +13,7 @@ import static org.mockito.Mockito.*;
 import com.hbbank.backend.exception.account.InvalidAccountStatusException;
 
 import com.hbbank.backend.exception.transaction.InvalidDateRangeException;
+import com.hbbank.backend.exception.transaction.InvalidPageException;
 import com.hbbank.backend.exception.user.UserNotFoundException;
 import com.hbbank.backend.repository.AccountRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.hbbank.backend.domain.Account;
 import com.hbbank.backend.domain.Transaction;
@@ -32,7 +34,13 @@ import com.hbbank.backend.repository.TransactionRepository;
 
 import org.springframework.transaction.TransactionSystemException;
 
+import com.hbbank.backend.dto.TransactionCursor;
+import com.hbbank.backend.dto.TransactionPageResponseDTO;
+import com.hbbank.backend.dto.TransactionResponseDTO;
 import com.hbbank.backend.dto.TransactionSearchDTO;
+import com.hbbank.backend.dto.TransactionSearchPageResponseDTO;
+import com.hbbank.backend.exception.transaction.InvalidCursorException;
+import org.springframework.data.domain.Limit;
 
 import com.hbbank.backend.exception.account.AccountNotFoundException;
 
@@ -54,6 +62,10 @@ class TransactionServiceTest {
     @Mock
     private AccountService accountService;
     @Mock
+    private TransactionJournalService transactionJournalService;
+    @Mock
+    private AccountDailySnapshotService accountDailySnapshotService;
+    @Mock
     private PasswordEncoder encoder;
 
     @InjectMocks
@@ -122,18 +134,22 @@ class TransactionServiceTest {
         LocalDateTime now = LocalDateTime.now();
         tlist = List.of(
                 Transaction.builder()
+                        .account(fa)
                         .transactionDateTime(now)
                         .transactionType("출금")
                         .build(),
                 Transaction.builder()
+                        .account(fa)
                         .transactionDateTime(now.minusMinutes(1))
                         .transactionType("입금")
                         .build(),
                 Transaction.builder()
+                        .account(fa)
                         .transactionDateTime(now.minusMinutes(2))
                         .transactionType("출금")
                         .build(),
                 Transaction.builder()
+                        .account(fa)
                         .transactionDateTime(now.minusMinutes(3))
                         .transactionType("입금")
                         .build()
@@ -142,16 +158,14 @@ class TransactionServiceTest {
     }
 
     @Test
-    @DisplayName("거래내역 생성 성공")
+    @DisplayName("거래내역 생성 성공 - 출금/입금 거래내역을 한 번의 배치로 저장")
     void createTransaction_Success() {
         //given
-        when(transactionRepository.saveAndFlush(any(Transaction.class)))
-                .thenAnswer(i -> i.getArgument(0));
-
-        //when
         fa.withdraw(amount);
         ta.deposit(amount);
-        List<Transaction> list = transactionService.createTransaction(fa, ta, amount);
+
+        //when
+        List<Transaction> list = transactionService.createTransaction(fa, ta, "보낸사람", "받는사람", amount);
 
         //then
         Transaction withdraw = list.get(0);
@@ -160,62 +174,42 @@ class TransactionServiceTest {
         assertAll(
                 () -> assertNotNull(withdraw),
                 () -> assertNotNull(deposit),
+                () -> assertNotNull(withdraw.getId()),
+                () -> assertTrue(withdraw.getId() < deposit.getId()),
                 () -> assertEquals("출금", withdraw.getTransactionType()),
                 () -> assertEquals("입금", deposit.getTransactionType()),
                 () -> assertEquals(new BigDecimal("1000"), withdraw.getWithdrawalAmount()),
                 () -> assertEquals(new BigDecimal("1000"), deposit.getDepositAmount()),
                 () -> assertEquals(new BigDecimal("4000"), withdraw.getBalance()),
-                () -> assertEquals(new BigDecimal("2000"), deposit.getBalance())
+                () -> assertEquals(new BigDecimal("2000"), deposit.getBalance()),
+                () -> assertEquals("보낸사람", deposit.getSender()),
+                () -> assertEquals("받는사람", withdraw.getReceiver())
         );
-        verify(transactionRepository, times(2)).saveAndFlush(any(Transaction.class));
+        verify(transactionRepository, times(1)).batchInsert(list);
+        verify(accountDailySnapshotService).accumulate(list);
+        verify(transactionRepository, never()).saveAndFlush(any(Transaction.class));
     }
 
     @Test
     @DisplayName("거래내역 생성 실패 - 저장 실패 예외 발생 확인")
     void createTransaction_Fail_DbConnectionFail() {
         //given
-        when(transactionRepository.saveAndFlush(any(Transaction.class)))
-                .thenThrow(RuntimeException.class);
+        doThrow(RuntimeException.class).when(transactionRepository).batchInsert(any());
 
         //when & then
-        assertThrows(RuntimeException.class, () -> transactionService.createTransaction(fa, ta, amount));
-        verify(transactionRepository, times(1)).saveAndFlush(any(Transaction.class));
+        assertThrows(RuntimeException.class, () -> transactionService.createTransaction(fa, ta, "보낸사람", "받는사람", amount));
+        verify(transactionRepository, times(1)).batchInsert(any());
     }
 
     @Test
     @DisplayName("거래내역 생성 실패 - 트랜잭션 충돌 예외 발생 확인")
     void createTransaction_Fail_TransactionalCrash() {
         //given
-        when(transactionRepository.saveAndFlush(any(Transaction.class)))
-                .thenThrow(TransactionSystemException.class);
-
-        //when & then
-        assertThrows(TransactionSystemException.class, () -> transactionService.createTransaction(fa, ta, amount));
-        verify(transactionRepository, times(1)).saveAndFlush(any(Transaction.class));
-    }
-
-    @Test
-    @DisplayName("거래내역 생성 실패 - 출금 거래내역 생성 실패")
-    void createTransaction_Fail_WithdrawTransaction() {
-        //given
-        when(transactionRepository.saveAndFlush(argThat(t -> t.getTransactionType().equals("출금"))))
-                .thenThrow(RuntimeException.class);
+        doThrow(TransactionSystemException.class).when(transactionRepository).batchInsert(any());
 
         //when & then
-        assertThrows(RuntimeException.class, () -> transactionService.createTransaction(fa, ta, amount));
-        verify(transactionRepository, times(1)).saveAndFlush(any(Transaction.class));
-    }
-
-    @Test
-    @DisplayName("거래내역 생성 실패 - 입금 거래내역 생성 실패")
-    void createTransaction_Fail_DepositTransaction() {
-        //given
-        when(transactionRepository.saveAndFlush(argThat(t -> t.getTransactionType().equals("입금"))))
-                .thenThrow(RuntimeException.class);
-
-        //when & then
-        assertThrows(RuntimeException.class, () -> transactionService.createTransaction(fa, ta, amount));
-        verify(transactionRepository, times(1)).saveAndFlush(any(Transaction.class));
+        assertThrows(TransactionSystemException.class, () -> transactionService.createTransaction(fa, ta, "보낸사람", "받는사람", amount));
+        verify(transactionRepository, times(1)).batchInsert(any());
     }
 
     @Test
@@ -281,12 +275,12 @@ class TransactionServiceTest {
         doNothing()
                 .when(accountService)
                 .verifyAccount(anyLong());
-        when(transactionRepository.findAllByCondition(any(TransactionSearchDTO.class)))
-                .thenReturn(Optional.of(tlist));
+        when(transactionRepository.search(any(TransactionSearchDTO.class), anyLong(), anyInt()))
+                .thenReturn(tlist);
 
         // when
-        List<Transaction> result = transactionService
-                .findAllByCondition(allDto);
+        List<TransactionResponseDTO> result = transactionService
+                .findAllByCondition(allDto).getTransactions();
 
         // then
         for (int i = 0; i < result.size() - 1; i++) {
@@ -297,7 +291,7 @@ class TransactionServiceTest {
         }
         assertNotNull(result.get(result.size() - 1));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository).findAllByCondition(any(TransactionSearchDTO.class));
+        verify(transactionRepository).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -307,12 +301,12 @@ class TransactionServiceTest {
         doNothing()
                 .when(accountService)
                 .verifyAccount(anyLong());
-        when(transactionRepository.findAllByCondition(any(TransactionSearchDTO.class)))
-                .thenReturn(Optional.of(tlist));
+        when(transactionRepository.search(any(TransactionSearchDTO.class), anyLong(), anyInt()))
+                .thenReturn(tlist);
 
         // when
-        List<Transaction> result = transactionService
-                .findAllByCondition(depositDto);
+        List<TransactionResponseDTO> result = transactionService
+                .findAllByCondition(depositDto).getTransactions();
 
         // then
         for (int i = 0; i < result.size() - 1; i++) {
@@ -323,7 +317,7 @@ class TransactionServiceTest {
         }
         assertNotNull(result.get(result.size() - 1));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository).findAllByCondition(any(TransactionSearchDTO.class));
+        verify(transactionRepository).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -333,12 +327,12 @@ class TransactionServiceTest {
         doNothing()
                 .when(accountService)
                 .verifyAccount(anyLong());
-        when(transactionRepository.findAllByCondition(any(TransactionSearchDTO.class)))
-                .thenReturn(Optional.of(tlist));
+        when(transactionRepository.search(any(TransactionSearchDTO.class), anyLong(), anyInt()))
+                .thenReturn(tlist);
 
         // when
-        List<Transaction> result = transactionService
-                .findAllByCondition(withdrawDto);
+        List<TransactionResponseDTO> result = transactionService
+                .findAllByCondition(withdrawDto).getTransactions();
 
         // then
         for (int i = 0; i < result.size() - 1; i++) {
@@ -349,7 +343,7 @@ class TransactionServiceTest {
         }
         assertNotNull(result.get(result.size() - 1));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository).findAllByCondition(any(TransactionSearchDTO.class));
+        verify(transactionRepository).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -359,17 +353,81 @@ class TransactionServiceTest {
         doNothing()
                 .when(accountService)
                 .verifyAccount(anyLong());
-        when(transactionRepository.findAllByCondition(any(TransactionSearchDTO.class)))
-                .thenReturn(Optional.of(List.of()));
+        when(transactionRepository.search(any(TransactionSearchDTO.class), anyLong(), anyInt()))
+                .thenReturn(List.of());
 
         //when
-        List<Transaction> result = transactionService
-                .findAllByCondition(allDto);
+        List<TransactionResponseDTO> result = transactionService
+                .findAllByCondition(allDto).getTransactions();
 
         //then
         assertTrue(result.isEmpty());
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository).findAllByCondition(allDto);
+        verify(transactionRepository).search(eq(allDto), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("특정 조건으로 거래내역 조회 성공 - 페이지 크기 + 1 건으로 다음 페이지 판단, offset 은 page * 페이지 크기")
+    void findAllByCondition_Success_PageSize() {
+        //given
+        ReflectionTestUtils.setField(transactionService, "searchPageSize", 2);
+        doNothing()
+                .when(accountService)
+                .verifyAccount(anyLong());
+        TransactionSearchDTO secondPage = TransactionSearchDTO.builder()
+                .userId(1L)
+                .accountId(1L)
+                .startDate("2020-12-20")
+                .endDate("2024-12-29")
+                .transactionType(0)
+                .page(1)
+                .build();
+        when(transactionRepository.search(secondPage, 2L, 3))
+                .thenReturn(tlist.subList(0, 3));
+
+        //when
+        TransactionSearchPageResponseDTO result = transactionService.findAllByCondition(secondPage);
+
+        //then
+        assertEquals(2, result.getTransactions().size());
+        assertEquals(1, result.getPage());
+        assertTrue(result.isHasNext());
+        verify(transactionRepository).search(secondPage, 2L, 3);
+    }
+
+    @Test
+    @DisplayName("특정 조건으로 거래내역 조회 실패 - 음수 페이지 번호")
+    void findAllByCondition_Fail_NegativePage() {
+        //given
+        TransactionSearchDTO negative = TransactionSearchDTO.builder()
+                .userId(1L)
+                .accountId(1L)
+                .startDate("2020-12-20")
+                .endDate("2024-12-29")
+                .transactionType(0)
+                .page(-1)
+                .build();
+
+        //when & then
+        assertThrows(InvalidPageException.class, () -> transactionService.findAllByCondition(negative));
+        verify(transactionRepository, times(0)).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("특정 조건으로 거래내역 조회 실패 - 날짜 형식 오류는 조회 기간 오류(400)")
+    void findAllByCondition_Fail_MalformedDate() {
+        //given
+        TransactionSearchDTO malformed = TransactionSearchDTO.builder()
+                .userId(1L)
+                .accountId(1L)
+                .startDate("2020-13-45")
+                .endDate("2024-12-29")
+                .transactionType(0)
+                .build();
+
+        //when & then
+        assertThrows(InvalidDateRangeException.class, () -> transactionService.findAllByCondition(malformed));
+        verify(transactionRepository, times(0)).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -383,7 +441,7 @@ class TransactionServiceTest {
         //when&given
         assertThrows(AccountNotFoundException.class, () -> transactionService.findAllByCondition(allDto));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository, times(0)).findAllByCondition(allDto);
+        verify(transactionRepository, times(0)).search(eq(allDto), anyLong(), anyInt());
     }
 
     @Test
@@ -397,7 +455,7 @@ class TransactionServiceTest {
         //when & then
         assertThrows(InvalidAccountStatusException.class, () -> transactionService.findAllByCondition(allDto));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository, times(0)).findAllByCondition(any(TransactionSearchDTO.class));
+        verify(transactionRepository, times(0)).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -412,12 +470,12 @@ class TransactionServiceTest {
         ArrayList<Transaction> temp = new ArrayList<>(tlist);
         temp.sort((a, b) -> a.getTransactionDateTime().compareTo(b.getTransactionDateTime()));
 
-        when(transactionRepository.findAllByCondition(any(TransactionSearchDTO.class)))
-                .thenReturn(Optional.of(temp));
+        when(transactionRepository.search(any(TransactionSearchDTO.class), anyLong(), anyInt()))
+                .thenReturn(temp);
 
         //when
-        List<Transaction> result = transactionService
-                .findAllByCondition(allDto);
+        List<TransactionResponseDTO> result = transactionService
+                .findAllByCondition(allDto).getTransactions();
 
         //then
         for (int i = 0; i < result.size() - 1; i++) {
@@ -428,7 +486,7 @@ class TransactionServiceTest {
         }
         assertNotNull(result.get(result.size() - 1));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository).findAllByCondition(any(TransactionSearchDTO.class));
+        verify(transactionRepository).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -448,7 +506,7 @@ class TransactionServiceTest {
         assertThrows(InvalidDateRangeException.class,
                 () -> transactionService.findAllByCondition(wrong));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository, times(0)).findAllByCondition(any(TransactionSearchDTO.class));
+        verify(transactionRepository, times(0)).search(any(TransactionSearchDTO.class), anyLong(), anyInt());
     }
 
     @Test
@@ -462,7 +520,71 @@ class TransactionServiceTest {
         //when&then
         assertThrows(UserNotFoundException.class, () -> transactionService.findAllByCondition(allDto));
         verify(accountService).verifyAccount(anyLong());
-        verify(transactionRepository, times(0)).findAllByCondition(allDto);
+        verify(transactionRepository, times(0)).search(eq(allDto), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("거래내역 페이지 조회 성공 - 첫 페이지, 다음 페이지 커서 발급")
+    void findPageByAccountId_Success_FirstPage() {
+        //given
+        List<Transaction> rows = pageRows(3);
+        when(transactionRepository.findFirstPageByAccountId(1L, Limit.of(3))).thenReturn(rows);
+
+        //when
+        TransactionPageResponseDTO page = transactionService.findPageByAccountId(1L, null, 2);
+
+        //then
+        TransactionCursor next = TransactionCursor.decode(page.getNextCursor());
+        assertAll(
+                () -> assertTrue(page.isHasNext()),
+                () -> assertEquals(2, page.getTransactions().size()),
+                () -> assertEquals(rows.get(1).getId(), next.id()),
+                () -> assertEquals(rows.get(1).getTransactionDateTime(), next.transactionDateTime())
+        );
+        verify(accountService).verifyAccount(1L);
+    }
+
+    @Test
+    @DisplayName("거래내역 페이지 조회 성공 - 커서 이후 마지막 페이지")
+    void findPageByAccountId_Success_LastPage() {
+        //given
+        List<Transaction> rows = pageRows(1);
+        TransactionCursor cursor = new TransactionCursor(LocalDateTime.of(2024, 12, 1, 10, 0), 100L);
+        when(transactionRepository.findPageByAccountIdBefore(1L, cursor.transactionDateTime(), 100L, Limit.of(3)))
+                .thenReturn(rows);
+
+        //when
+        TransactionPageResponseDTO page = transactionService.findPageByAccountId(1L, cursor.encode(), 2);
+
+        //then
+        assertAll(
+                () -> assertFalse(page.isHasNext()),
+                () -> assertNull(page.getNextCursor()),
+                () -> assertEquals(1, page.getTransactions().size())
+        );
+        verify(transactionRepository, never()).findFirstPageByAccountId(anyLong(), any());
     }
 
+    @Test
+    @DisplayName("거래내역 페이지 조회 실패 - 잘못된 커서")
+    void findPageByAccountId_Fail_InvalidCursor() {
+        //when & then
+        assertThrows(InvalidCursorException.class,
+                () -> transactionService.findPageByAccountId(1L, "not-a-cursor", 2));
+        verify(transactionRepository, never()).findPageByAccountIdBefore(anyLong(), any(), anyLong(), any());
+    }
+
+    private List<Transaction> pageRows(int count) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transaction> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(Transaction.builder()
+                    .id(100L - i)
+                    .account(fa)
+                    .transactionDateTime(now.minusMinutes(i))
+                    .transactionType("출금")
+                    .build());
+        }
+        return rows;
+    }
 }
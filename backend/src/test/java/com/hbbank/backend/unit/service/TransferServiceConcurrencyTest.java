@@ -0,0 +1,152 @@
+package com.hbbank.backend.unit.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.hbbank.backend.domain.Account;
+import com.hbbank.backend.domain.User;
+import com.hbbank.backend.domain.enums.AccountStatus;
+import com.hbbank.backend.domain.enums.TransferType;
+import com.hbbank.backend.dto.TransferRequestDTO;
+import com.hbbank.backend.repository.AccountRepository;
+import com.hbbank.backend.service.AccountService;
+import com.hbbank.backend.service.HotAccountService;
+import com.hbbank.backend.service.TransactionService;
+import com.hbbank.backend.service.TransferService;
+
+/*
+ * TransferService 동시성 스트레스 테스트
+ * 서로 겹치지 않는 계좌 쌍(A->B, C->D ...)에 대해 여러 스레드가 동시에 이체를 실행한다.
+ * 각 쌍은 한 스레드만 사용하므로 DB 락 없이도 결과가 결정적이어야 하며,
+ * 요청별 상태가 공유되면(싱글톤 필드 등) 다른 스레드의 계좌에서 출금/입금되어 잔액이 어긋난다.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransferServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int TRANSFERS_PER_THREAD = 500;
+    private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000");
+    private static final BigDecimal AMOUNT = new BigDecimal("100");
+
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private PasswordEncoder encoder;
+    @Mock
+    private HotAccountService hotAccountService;
+
+    @InjectMocks
+    private TransferService transferService;
+
+    private final Map<Long, Account> accountsById = new HashMap<>();
+    private final Map<String, Account> accountsByNumber = new HashMap<>();
+
+    @BeforeEach
+    @DisplayName("스레드별 출금/입금 계좌 쌍 생성")
+    void init() {
+        for (long i = 1; i <= THREAD_COUNT * 2; i++) {
+            Account account = Account.builder()
+                    .id(i)
+                    .status(AccountStatus.ACTIVE)
+                    .accountNumber(String.format("%015d", i))
+                    .balance(INITIAL_BALANCE)
+                    .user(User.builder().id(i).build())
+                    .transferLimit(new BigDecimal("1000000"))
+                    .dailyTransferLimit(new BigDecimal("100000000"))
+                    .dailyTransferredAmount(BigDecimal.ZERO)
+                    .build();
+            accountsById.put(account.getId(), account);
+            accountsByNumber.put(account.getAccountNumber(), account);
+        }
+
+        when(accountService.getAccountNumber(anyLong()))
+                .thenAnswer(inv -> accountsById.get(inv.<Long>getArgument(0)).getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(anyCollection()))
+                .thenAnswer(inv -> inv.<Collection<String>>getArgument(0).stream()
+                        .sorted()
+                        .map(accountsByNumber::get)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("서로 다른 계좌 쌍 동시 이체 - 모든 잔액 정확")
+    void transfer_Concurrent_DisjointPairs() throws Exception {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            // 홀수 스레드는 계좌번호가 큰 쪽에서 작은 쪽으로 보내 두 락 순서를 모두 사용
+            long from = t % 2 == 0 ? 2L * t + 1 : 2L * t + 2;
+            long to = t % 2 == 0 ? 2L * t + 2 : 2L * t + 1;
+            TransferRequestDTO dto = TransferRequestDTO.builder()
+                    .type(TransferType.AUTO)
+                    .fromAccountId(from)
+                    .toAccountNumber(accountsById.get(to).getAccountNumber())
+                    .amount(AMOUNT)
+                    .build();
+
+            futures.add(executor.submit(() -> {
+                start.await();
+                int success = 0;
+                for (int i = 0; i < TRANSFERS_PER_THREAD; i++) {
+                    if (transferService.transfer(dto)) {
+                        success++;
+                    }
+                }
+                return success;
+            }));
+        }
+
+        //when
+        long startedAt = System.nanoTime();
+        start.countDown();
+        int total = 0;
+        for (Future<Integer> future : futures) {
+            total += future.get(30, TimeUnit.SECONDS);
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        executor.shutdown();
+
+        //then
+        BigDecimal moved = AMOUNT.multiply(BigDecimal.valueOf(TRANSFERS_PER_THREAD));
+        assertEquals(THREAD_COUNT * TRANSFERS_PER_THREAD, total);
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            long from = t % 2 == 0 ? 2L * t + 1 : 2L * t + 2;
+            long to = t % 2 == 0 ? 2L * t + 2 : 2L * t + 1;
+            assertEquals(INITIAL_BALANCE.subtract(moved), accountsById.get(from).getBalance());
+            assertEquals(INITIAL_BALANCE.add(moved), accountsById.get(to).getBalance());
+            assertEquals(moved, accountsById.get(from).getDailyTransferredAmount());
+        }
+        assertTrue(elapsedMillis < 30_000);
+    }
+}
@@ -13,6 +13,8 @@ import com.hbbank.backend.dto.TransferRequestDTO;
 import com.hbbank.backend.exception.account.*;
 import com.hbbank.backend.repository.AccountRepository;
 import com.hbbank.backend.repository.TransactionRepository;
+import com.hbbank.backend.repository.UserRepository;
+import com.hbbank.backend.dto.BatchTransferResultDTO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -22,10 +24,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeSet;
 
 /*
  * TransferService 단위 테스트
@@ -42,6 +50,12 @@ class TransferServiceTest {
     private AccountService accountService;
     @Mock
     private PasswordEncoder encoder;
+    @Mock
+    private HotAccountService hotAccountService;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private TransferService transferService;
@@ -100,12 +114,13 @@ class TransferServiceTest {
     @DisplayName("이체 성공")
     void executeTransfer_Success() {
         //given
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountService.getOwnerNames(List.of(fa.getAccountNumber(), ta.getAccountNumber())))
+                .thenReturn(Map.of(fa.getAccountNumber(), "보낸사람", ta.getAccountNumber(), "받는사람"));
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
         when(encoder.matches(any(), any())).thenReturn(true);
         when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(new Account());
-        when(transactionService.createTransaction(fa, ta, amount)).thenReturn(new ArrayList<>());
+        when(transactionService.createTransaction(fa, ta, "보낸사람", "받는사람", amount)).thenReturn(new ArrayList<>());
 
         //when
         // 이체 실행
@@ -117,19 +132,145 @@ class TransferServiceTest {
                 () -> assertEquals(new BigDecimal("4000"), fa.getBalance()),
                 () -> assertEquals(new BigDecimal("2000"), ta.getBalance())
         );
-        verify(accountRepository).findById(any());
-        verify(accountRepository).findByIdWithLock(any());
-        verify(accountRepository).findByAccountNumberWithLock(any());
+        verify(accountService).getAccountNumber(fa.getId());
+        verify(accountRepository).findAllByAccountNumberInWithLock(List.of(fa.getAccountNumber(), ta.getAccountNumber()));
+        verify(accountRepository, times(2)).saveAndFlush(any());
+        // 락을 잡은 계좌 엔티티로 검증하므로 계좌를 다시 조회하지 않음
+        verify(accountService, never()).verifyAccount(any());
+        // 거래내역 이름은 락 획득 전에 조회
+        InOrder order = inOrder(accountService, accountRepository);
+        order.verify(accountService).getOwnerNames(any());
+        order.verify(accountRepository).findAllByAccountNumberInWithLock(any());
+    }
+
+    @Test
+    @DisplayName("이체 성공 - 핫 계좌 입금은 출금 계좌만 잠그고 잔액 버킷에 입금")
+    void executeTransfer_Success_HotCredit() {
+        //given
+        ta.enableHotMode(4);
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(hotAccountService.isHot(ta.getAccountNumber())).thenReturn(true);
+        when(accountRepository.findByAccountNumber(ta.getAccountNumber())).thenReturn(Optional.of(ta));
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(fa));
+        when(encoder.matches(any(), any())).thenReturn(true);
+
+        //when
+        boolean result = transferService.transfer(dto1);
+
+        //then
+        assertAll(
+                () -> assertTrue(result),
+                () -> assertEquals(new BigDecimal("4000"), fa.getBalance()),
+                () -> assertEquals(new BigDecimal("1000"), ta.getBalance())
+        );
+        verify(accountRepository).findAllByAccountNumberInWithLock(List.of(fa.getAccountNumber()));
+        verify(hotAccountService).credit(fa, ta, amount);
+        verify(transactionService).createTransaction(fa, ta, null, null, amount, null);
+        verify(accountRepository).saveAndFlush(fa);
+        verify(accountRepository, never()).saveAndFlush(ta);
+    }
+
+    @Test
+    @DisplayName("낙관적 락 이체 성공 - 락 없이 조회")
+    void transferOptimistic_Success() {
+        //given
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberIn(any())).thenReturn(List.of(ta, fa));
+        when(encoder.matches(any(), any())).thenReturn(true);
+
+        //when
+        boolean result = transferService.transferOptimistic(dto1);
+
+        //then
+        assertAll(
+                () -> assertTrue(result),
+                () -> assertEquals(new BigDecimal("4000"), fa.getBalance()),
+                () -> assertEquals(new BigDecimal("2000"), ta.getBalance())
+        );
+        verify(accountRepository, never()).findAllByAccountNumberInWithLock(any());
         verify(accountRepository, times(2)).saveAndFlush(any());
     }
 
     @Test
-    @DisplayName("계좌 락 획득 성공 - 출금 계좌 -> 입금 계좌")
+    @DisplayName("대량 이체 성공 - 관련 계좌를 한 번에 잠그고 거래내역 일괄 저장")
+    void transferBatch_Success() {
+        //given
+        stubTransactionTemplate();
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
+        when(encoder.matches(any(), any())).thenReturn(true);
+
+        //when
+        List<BatchTransferResultDTO> results = transferService.transferBatch(List.of(dto1, dto1, dto1));
+
+        //then
+        assertAll(
+                () -> assertEquals(3, results.size()),
+                () -> assertTrue(results.stream().allMatch(BatchTransferResultDTO::isSuccess)),
+                () -> assertEquals(new BigDecimal("2000"), fa.getBalance()),
+                () -> assertEquals(new BigDecimal("4000"), ta.getBalance())
+        );
+        verify(accountRepository).findAllByAccountNumberInWithLock(
+                new TreeSet<>(List.of(ta.getAccountNumber(), fa.getAccountNumber())));
+        verify(encoder, times(1)).matches(any(), any());
+        verify(transactionService).createTransactionsInBatch(argThat(list -> list.size() == 6));
+        verify(accountRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("대량 이체 부분 실패 - 잔액 부족 건만 실패하고 나머지는 반영")
+    void transferBatch_PartialFail_OutOfBalance() {
+        //given
+        stubTransactionTemplate();
+        TransferRequestDTO tooMuch = TransferRequestDTO.builder()
+                .type(TransferType.AUTO)
+                .fromAccountId(fa.getId())
+                .toAccountNumber(ta.getAccountNumber())
+                .amount(new BigDecimal("10000"))
+                .build();
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
+        when(encoder.matches(any(), any())).thenReturn(true);
+
+        //when
+        List<BatchTransferResultDTO> results = transferService.transferBatch(List.of(tooMuch, dto1));
+
+        //then
+        assertAll(
+                () -> assertFalse(results.get(0).isSuccess()),
+                () -> assertEquals("잔액이 부족합니다", results.get(0).getMessage()),
+                () -> assertTrue(results.get(1).isSuccess()),
+                () -> assertEquals(new BigDecimal("4000"), fa.getBalance()),
+                () -> assertEquals(new BigDecimal("2000"), ta.getBalance())
+        );
+        verify(transactionService).createTransactionsInBatch(argThat(list -> list.size() == 2));
+    }
+
+    @Test
+    @DisplayName("대량 이체 - chunk 크기마다 별도 트랜잭션에서 처리")
+    void transferBatch_Chunked() {
+        //given
+        ReflectionTestUtils.setField(transferService, "batchChunkSize", 2);
+        stubTransactionTemplate();
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
+        when(encoder.matches(any(), any())).thenReturn(true);
+
+        //when
+        List<BatchTransferResultDTO> results = transferService.transferBatch(List.of(dto1, dto1, dto1));
+
+        //then
+        assertEquals(List.of(0, 1, 2), results.stream().map(BatchTransferResultDTO::getIndex).toList());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(accountRepository, times(2)).findAllByAccountNumberInWithLock(any());
+    }
+
+    @Test
+    @DisplayName("계좌 락 획득 성공 - 출금 계좌번호가 더 작을 때 한 번의 쿼리로 두 계좌 락 획득")
     void getLock_Success_WithdrawLessThanDeposit() {
         //given
-        when(accountRepository.findById(ta.getId())).thenReturn(Optional.of(ta));
-        when(accountRepository.findByAccountNumberWithLock(fa.getAccountNumber())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByIdWithLock(ta.getId())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(ta.getId())).thenReturn(ta.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
         when(encoder.matches(any(), any())).thenReturn(true);
         when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(new Account());
 
@@ -137,19 +278,21 @@ class TransferServiceTest {
         boolean result = transferService.transfer(dto2);
 
         //then
-        InOrder order = inOrder(accountRepository);
-        order.verify(accountRepository).findByIdWithLock(ta.getId());
-        order.verify(accountRepository).findByAccountNumberWithLock(fa.getAccountNumber());
-        assertTrue(result);
+        verify(accountRepository).findAllByAccountNumberInWithLock(List.of(ta.getAccountNumber(), fa.getAccountNumber()));
+        verify(accountRepository, never()).findById(any());
+        assertAll(
+                () -> assertTrue(result),
+                () -> assertEquals(new BigDecimal("0"), ta.getBalance()),
+                () -> assertEquals(new BigDecimal("6000"), fa.getBalance())
+        );
     }
 
     @Test
-    @DisplayName("계좌 락 획득 성공 - 입금 계좌 -> 출금 계좌")
+    @DisplayName("계좌 락 획득 성공 - 입금 계좌번호가 더 작을 때 한 번의 쿼리로 두 계좌 락 획득")
     void getLock_Success_DepositLessThanWithdraw() {
         //given
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
         when(encoder.matches(any(), any())).thenReturn(true);
         when(accountRepository.saveAndFlush(any(Account.class))).thenReturn(null);
 
@@ -157,25 +300,24 @@ class TransferServiceTest {
         boolean result = transferService.transfer(dto1);
 
         //then
-        InOrder order = inOrder(accountRepository);
-        order.verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
-        order.verify(accountRepository).findByIdWithLock(fa.getId());
+        InOrder order = inOrder(accountService, accountRepository);
+        order.verify(accountService).getAccountNumber(fa.getId());
+        order.verify(accountRepository).findAllByAccountNumberInWithLock(List.of(fa.getAccountNumber(), ta.getAccountNumber()));
+        verify(accountRepository, never()).findById(any());
         assertTrue(result);
     }
 
-    // 계좌 락 획득 실패는 출금 계좌번호가 입금 계좌번호보다 작을 때를 가정함
     @Test
     @DisplayName("계좌 락 획득 실패 - 출금 계좌 없음")
     void getLock_Fail_WithdrawAccountNotFound() {
         //given
         Long accountId = dto1.getFromAccountId();
-        when(accountRepository.findById(accountId)).thenThrow(new AccountNotFoundException());
+        when(accountService.getAccountNumber(accountId)).thenThrow(new AccountNotFoundException());
 
         //when&then
         assertThrows(AccountNotFoundException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(accountId);
-        verify(accountRepository, times(0)).findByIdWithLock(accountId);
-        verify(accountRepository, times(0)).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(accountId);
+        verify(accountRepository, times(0)).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -185,13 +327,13 @@ class TransferServiceTest {
     void getLock_Fail_DepositAccountNotFound() {
         //given
         Long accountId = dto1.getFromAccountId();
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(fa));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenThrow(new AccountNotFoundException());
+        when(accountService.getAccountNumber(accountId)).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(fa));
 
         //when&then
         assertThrows(AccountNotFoundException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(accountId);
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(accountId);
+        verify(accountRepository).findAllByAccountNumberInWithLock(List.of(fa.getAccountNumber(), ta.getAccountNumber()));
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -200,16 +342,14 @@ class TransferServiceTest {
     @DisplayName("비밀번호 확인 실패 - 비밀번호 불일치")
     void checkPassword_Fail_InvalidPassword() {
         //given
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, fa));
         when(encoder.matches(any(), any())).thenReturn(false);
 
         //when &then
         assertThrows(InvalidAccountPasswordException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(fa.getId());
-        verify(accountRepository).findByIdWithLock(fa.getId());
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(fa.getId());
+        verify(accountRepository).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -225,16 +365,14 @@ class TransferServiceTest {
                 .status(AccountStatus.DORMANT)  // 휴면
                 .build();
 
-        when(accountRepository.findById(inactive.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByIdWithLock(inactive.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(ta));
-        when(encoder.matches(any(), any())).thenReturn(true);
+        when(accountService.getAccountNumber(inactive.getId())).thenReturn(inactive.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, inactive));
 
         //when & then
         assertThrows(InvalidAccountStatusException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(any());
-        verify(accountRepository).findByIdWithLock(any());
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(any());
+        verify(encoder, never()).matches(any(), any());
+        verify(accountRepository).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -250,16 +388,14 @@ class TransferServiceTest {
                 .status(AccountStatus.DORMANT)  // 휴면
                 .build();
 
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(fa));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(inactive));
-        when(encoder.matches(any(), any())).thenReturn(true);
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(fa.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(inactive, fa));
 
         //when & then
         assertThrows(InvalidAccountStatusException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(any());
-        verify(accountRepository).findByIdWithLock(any());
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(any());
+        verify(encoder, never()).matches(any(), any());
+        verify(accountRepository).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -276,16 +412,14 @@ class TransferServiceTest {
                 .transferLimit(new BigDecimal("0"))
                 .build();
 
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(inactive.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, inactive));
         when(encoder.matches(any(), any())).thenReturn(true);
 
         //when & then
         assertThrows(TransferLimitExceededException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(any());
-        verify(accountRepository).findByIdWithLock(any());
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(any());
+        verify(accountRepository).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -304,16 +438,14 @@ class TransferServiceTest {
                 .dailyTransferredAmount(new BigDecimal("0"))
                 .build();
 
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(inactive.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, inactive));
         when(encoder.matches(any(), any())).thenReturn(true);
 
         //when & then
         assertThrows(DailyTransferLimitExceededException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(any());
-        verify(accountRepository).findByIdWithLock(any());
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(any());
+        verify(accountRepository).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
@@ -332,18 +464,20 @@ class TransferServiceTest {
                 .dailyTransferredAmount(new BigDecimal("0"))
                 .build();
 
-        when(accountRepository.findById(fa.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByIdWithLock(fa.getId())).thenReturn(Optional.of(inactive));
-        when(accountRepository.findByAccountNumberWithLock(ta.getAccountNumber())).thenReturn(Optional.of(ta));
+        when(accountService.getAccountNumber(fa.getId())).thenReturn(inactive.getAccountNumber());
+        when(accountRepository.findAllByAccountNumberInWithLock(any())).thenReturn(List.of(ta, inactive));
         when(encoder.matches(any(), any())).thenReturn(true);
 
         //when & then
         assertThrows(OutofBalanceException.class, () -> transferService.transfer(dto1));
-        verify(accountRepository).findById(any());
-        verify(accountRepository).findByIdWithLock(any());
-        verify(accountRepository).findByAccountNumberWithLock(ta.getAccountNumber());
+        verify(accountService).getAccountNumber(any());
+        verify(accountRepository).findAllByAccountNumberInWithLock(any());
         verify(transactionRepository, times(0)).save(any(Transaction.class));
         verify(accountRepository, times(0)).saveAndFlush(any(Account.class));
     }
 
+    private void stubTransactionTemplate() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
 }
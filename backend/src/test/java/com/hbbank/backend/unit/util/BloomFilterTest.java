@@ -0,0 +1,81 @@
+package com.hbbank.backend.unit.util;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hbbank.backend.util.BloomFilter;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 포함, 넣지 않은 값의 오탐률은 설정값 근처")
+    void mightContain_NoFalseNegative() {
+        //given
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            added.add("jti:" + UUID.randomUUID());
+        }
+        added.forEach(filter::add);
+
+        //when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("jti:" + UUID.randomUUID())) {
+                falsePositives++;
+            }
+        }
+
+        //then
+        added.forEach(value -> assertTrue(filter.mightContain(value)));
+        assertTrue(falsePositives < 100_000 * 0.003, "오탐 " + falsePositives + "건");
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 추가해도 누락 없음")
+    void add_Concurrent() throws Exception {
+        //given
+        BloomFilter filter = new BloomFilter(40_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<List<String>>> futures = new ArrayList<>();
+
+        //when
+        try {
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    List<String> values = new ArrayList<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        String value = "fid:" + UUID.randomUUID();
+                        filter.add(value);
+                        values.add(value);
+                    }
+                    return values;
+                }));
+            }
+
+            //then
+            for (Future<List<String>> future : futures) {
+                future.get().forEach(value -> assertTrue(filter.mightContain(value)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 크기/오탐률 - 예외")
+    void create_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomFilter(100, 1));
+    }
+}
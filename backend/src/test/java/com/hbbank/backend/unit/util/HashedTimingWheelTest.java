@@ -0,0 +1,125 @@
+package com.hbbank.backend.unit.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hbbank.backend.util.HashedTimingWheel;
+
+class HashedTimingWheelTest {
+
+    // tick 100ms, 버킷 8개 -> 한 바퀴 800ms
+    private static final long TICK_MILLIS = 100;
+    private static final int WHEEL_SIZE = 8;
+
+    private HashedTimingWheel<String> wheel;
+
+    @BeforeEach
+    void init() {
+        wheel = new HashedTimingWheel<>(TICK_MILLIS, WHEEL_SIZE, 0);
+    }
+
+    @Test
+    @DisplayName("실행 시각은 다음 tick 경계로 올림 - 실행 시각 전에는 꺼내지지 않음")
+    void advance_RoundsUpToNextTick() {
+        //given
+        wheel.schedule("mid-tick", 150);
+        wheel.schedule("on-boundary", 300);
+
+        //when & then
+        assertEquals(List.of(), wheel.advance(150));
+        assertEquals(List.of(), wheel.advance(199));
+        assertEquals(List.of("mid-tick"), wheel.advance(200));
+        assertEquals(List.of("on-boundary"), wheel.advance(300));
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 tick 에서 꺼냄")
+    void schedule_PastDeadline() {
+        //given
+        wheel.advance(500);
+
+        //when
+        wheel.schedule("late", 50);
+
+        //then
+        assertEquals(List.of(), wheel.advance(599));
+        assertEquals(List.of("late"), wheel.advance(600));
+    }
+
+    @Test
+    @DisplayName("같은 key 재등록은 이전 등록을 교체, 취소한 key 는 꺼내지지 않음")
+    void schedule_ReplaceAndCancel() {
+        //given
+        wheel.schedule("moved", 500);
+        wheel.schedule("moved", 200);
+        wheel.schedule("cancelled", 300);
+
+        //when
+        boolean cancelled = wheel.cancel("cancelled");
+
+        //then
+        assertTrue(cancelled);
+        assertFalse(wheel.contains("cancelled"));
+        assertFalse(wheel.cancel("cancelled"));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("moved"), wheel.advance(200));
+        assertEquals(List.of(), wheel.advance(600));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("한 바퀴보다 먼 항목은 같은 버킷의 가까운 항목과 섞이지 않고 목표 바퀴에서 꺼냄")
+    void advance_BeyondOneRevolution() {
+        //given
+        // tick 3 과 tick 11 은 같은 버킷(3)
+        wheel.schedule("near", 300);
+        wheel.schedule("far", 1050);
+
+        //when & then
+        assertEquals(List.of("near"), wheel.advance(300));
+        assertTrue(wheel.contains("far"));
+        assertEquals(List.of(), wheel.advance(1000));
+        assertEquals(List.of("far"), wheel.advance(1100));
+    }
+
+    @Test
+    @DisplayName("한 바퀴 이상 멈췄다가 재개하면 밀린 항목을 모두 꺼내고 이후 항목은 남김")
+    void advance_CatchUpAfterStall() {
+        //given
+        wheel.schedule("a", 250);
+        wheel.schedule("b", 650);
+        wheel.schedule("c", 1650);
+        wheel.schedule("later", 2050);
+
+        //when
+        List<String> expired = wheel.advance(2000);
+
+        //then
+        assertEquals(List.of("a", "b", "c"), expired);
+        assertEquals(1, wheel.size());
+        assertEquals(List.of("later"), wheel.advance(2100));
+    }
+
+    @Test
+    @DisplayName("한 번에 꺼낸 항목은 버킷 순서가 아니라 실행 시각 순")
+    void advance_OrderedByDeadline() {
+        //given
+        wheel.schedule("c", 700);
+        wheel.schedule("b", 420);
+        wheel.schedule("a2", 110);
+        wheel.schedule("a1", 101);
+
+        //when
+        List<String> expired = wheel.advance(1000);
+
+        //then
+        assertEquals(List.of("a1", "a2", "b", "c"), expired);
+    }
+}
@@ -0,0 +1,65 @@
+package com.hbbank.backend.unit.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.hbbank.backend.util.VerifiedTokenCache;
+import com.hbbank.backend.util.VerifiedTokenCache.VerifiedToken;
+
+class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+
+    @Test
+    @DisplayName("검증된 토큰 저장 후 조회 - 같은 토큰이면 사용자 ID, 다른 토큰이면 empty")
+    void getUserId_Hit() {
+        //given
+        verifiedTokenCache.put("token-a", verified(1L, new Date(System.currentTimeMillis() + 60_000)));
+
+        //when & then
+        assertEquals(1L, verifiedTokenCache.get("token-a").orElseThrow().userId());
+        assertTrue(verifiedTokenCache.get("token-b").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 저장되어 있어도 조회되지 않음")
+    void getUserId_Expired() throws Exception {
+        //given
+        verifiedTokenCache.put("token-a", verified(1L, new Date(System.currentTimeMillis() + 20)));
+        verifiedTokenCache.put("token-b", verified(1L, new Date(System.currentTimeMillis() - 1000)));
+
+        //when
+        Thread.sleep(50);
+
+        //then
+        assertTrue(verifiedTokenCache.get("token-a").isEmpty());
+        assertTrue(verifiedTokenCache.get("token-b").isEmpty());
+    }
+
+    @Test
+    @DisplayName("사용자 폐기 - 해당 사용자의 토큰만 제거")
+    void invalidateUser() {
+        //given
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        verifiedTokenCache.put("token-a", verified(1L, expiration));
+        verifiedTokenCache.put("token-b", verified(1L, expiration));
+        verifiedTokenCache.put("token-c", verified(2L, expiration));
+
+        //when
+        verifiedTokenCache.invalidateUser(1L);
+
+        //then
+        assertTrue(verifiedTokenCache.get("token-a").isEmpty());
+        assertTrue(verifiedTokenCache.get("token-b").isEmpty());
+        assertEquals(2L, verifiedTokenCache.get("token-c").orElseThrow().userId());
+    }
+
+    private static VerifiedToken verified(Long userId, Date expiration) {
+        return new VerifiedToken(userId, "jti-" + userId, "family-" + userId, expiration.getTime());
+    }
+}
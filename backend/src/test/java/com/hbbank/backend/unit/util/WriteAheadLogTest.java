@@ -0,0 +1,104 @@
+package com.hbbank.backend.unit.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.hbbank.backend.util.WriteAheadLog;
+import com.hbbank.backend.util.WriteAheadLog.Entry;
+import com.hbbank.backend.util.WriteAheadLog.RecordType;
+
+class WriteAheadLogTest {
+
+    // 헤더 32바이트 + 데이터 영역 100바이트
+    private static final int CAPACITY = 132;
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    @DisplayName("checkpoint 뒤 공간을 다시 사용하고, 끝을 넘어 이어 쓴 레코드도 재시작 후 읽음")
+    void append_WrapsAround() throws Exception {
+        //given
+        Path path = tempDir.resolve("ring.wal");
+        byte[] payload = payload(40, (byte) 7);
+        try (WriteAheadLog wal = new WriteAheadLog(path, CAPACITY)) {
+            long end = wal.append(RecordType.PREPARE, 1L, payload);
+            wal.advanceCheckpoint(end);
+
+            //when
+            wal.append(RecordType.PREPARE, 2L, payload);
+            wal.force();
+        }
+
+        //then
+        try (WriteAheadLog reopened = new WriteAheadLog(path, CAPACITY)) {
+            List<Entry> entries = reopened.readFromCheckpoint(10);
+            assertAll(
+                    () -> assertEquals(1, entries.size()),
+                    () -> assertEquals(2L, entries.get(0).key()),
+                    () -> assertEquals(69L, entries.get(0).position()),
+                    () -> assertArrayEquals(payload, entries.get(0).payload())
+            );
+        }
+    }
+
+    @Test
+    @DisplayName("이전 바퀴에 기록된 레코드는 위치가 맞지 않아 읽지 않음")
+    void read_IgnoresPreviousLap() throws Exception {
+        //given
+        Path path = tempDir.resolve("lap.wal");
+        try (WriteAheadLog wal = new WriteAheadLog(path, CAPACITY)) {
+            wal.advanceCheckpoint(wal.append(RecordType.PREPARE, 1L, payload(30, (byte) 1)));
+
+            //when
+            // checkpoint 가 데이터 영역 크기(100)와 같아져 다음 위치가 첫 레코드 자리와 겹침
+            wal.advanceCheckpoint(wal.append(RecordType.PREPARE, 2L, payload(12, (byte) 2)));
+        }
+
+        //then
+        try (WriteAheadLog reopened = new WriteAheadLog(path, CAPACITY)) {
+            assertTrue(reopened.isEmpty());
+            assertTrue(reopened.readFromCheckpoint(10).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("예약한 공간은 다른 기록에 쓰이지 않고, 반환하면 다시 사용 가능")
+    void reserve_HoldsSpace() throws Exception {
+        try (WriteAheadLog wal = new WriteAheadLog(tempDir.resolve("reserve.wal"), CAPACITY)) {
+            //given
+            int size = WriteAheadLog.recordSize(40);
+            assertTrue(wal.reserve(size));
+
+            //when & then
+            assertFalse(wal.reserve(size));
+            assertThrows(IllegalStateException.class, () -> wal.append(RecordType.PREPARE, 1L, payload(40, (byte) 1)));
+            wal.appendReserved(RecordType.PREPARE, 2L, payload(40, (byte) 2));
+            assertEquals(0L, wal.reservedBytes());
+            assertThrows(IllegalStateException.class,
+                    () -> wal.appendReserved(RecordType.COMMIT, 2L, new byte[0]));
+
+            assertTrue(wal.reserve(WriteAheadLog.recordSize(0)));
+            wal.release(WriteAheadLog.recordSize(0));
+            assertEquals(0L, wal.reservedBytes());
+        }
+    }
+
+    private static byte[] payload(int length, byte value) {
+        byte[] payload = new byte[length];
+        Arrays.fill(payload, value);
+        return payload;
+    }
+}
@@ -38,19 +38,51 @@ export const handleLogout = async () => {
     }
 };
 
+// 동시에 여러 요청이 만료를 감지해도 갱신 요청은 한 번만 보내고 결과를 함께 사용
+// (리프레시 토큰은 1회용이라 같은 토큰으로 동시에 갱신하면 재사용으로 간주될 수 있음)
+let refreshing: Promise<string> | null = null;
+
+// 다른 탭 등에서 먼저 갱신한 경우 서버는 토큰 없이 409 를 응답하므로,
+// 먼저 갱신한 응답의 쿠키가 반영된 뒤 다시 요청 (최대 3회)
+const REFRESH_RETRY_LIMIT = 3;
+const REFRESH_RETRY_DELAY_MS = 1000;
+
+const requestRefresh = async (attempt = 1): Promise<string> => {
+    try {
+        const response = await axios.post(
+            `${import.meta.env.VITE_API_BASE_URL}/user/refresh`,
+            null,
+            { withCredentials: true }
+        );
+        return response.data.accessToken;
+    } catch (error) {
+        if (axios.isAxiosError(error) && error.response?.status === 409 && attempt < REFRESH_RETRY_LIMIT) {
+            await new Promise((resolve) => setTimeout(resolve, REFRESH_RETRY_DELAY_MS));
+            return requestRefresh(attempt + 1);
+        }
+        throw error;
+    }
+};
+
+const refreshAccessToken = () => {
+    if (!refreshing) {
+        refreshing = requestRefresh().then((newAccessToken) => {
+            sessionStorage.setItem('accessToken', newAccessToken);
+            return newAccessToken;
+        }).finally(() => {
+            refreshing = null;
+        });
+    }
+    return refreshing;
+};
+
 http.interceptors.request.use(
     async (config) => {
         const accessToken = sessionStorage.getItem('accessToken');
         
         if (accessToken && isTokenExpired(accessToken)) {
             try {
-                const response = await axios.post(
-                    `${import.meta.env.VITE_API_BASE_URL}/user/refresh`,
-                    null,
-                    { withCredentials: true }
-                );
-                const newAccessToken = response.data.accessToken;
-                sessionStorage.setItem('accessToken', newAccessToken);
+                const newAccessToken = await refreshAccessToken();
                 config.headers.Authorization = `Bearer ${newAccessToken}`;
             } catch {
                 handleLogout();
@@ -9,7 +9,7 @@ export interface Transaction {
     receiver: string;
     withdrawalAmount: number;
     depositAmount: number;
-    balance: number;
+    balance: number | null; // 핫 계좌 입금은 거래 후 잔액이 기록되지 않음
 }
 
 export interface TransactionSearchDTO {
@@ -21,6 +21,12 @@ export interface TransactionSearchDTO {
     page: number;
 }
 
+export interface TransactionSearchPage {
+    transactions: Transaction[];
+    page: number;
+    hasNext: boolean;
+}
+
 export const transactionState = atom<Transaction[]>({
     key: 'transactionState',
     default: []
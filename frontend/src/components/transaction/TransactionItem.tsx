@@ -39,7 +39,7 @@ const TransactionItem = ({ transaction }: { transaction: Transaction }) => {
                     }
                 </span>
                 <span className="mt-0.5 text-sm text-gray-500 group-hover:text-gray-900 transition-colors">
-                    {transaction.balance.toLocaleString('ko-KR')}원
+                    {transaction.balance === null ? '-' : `${transaction.balance.toLocaleString('ko-KR')}원`}
                 </span>
             </div>
         </div>
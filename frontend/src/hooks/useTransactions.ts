@@ -1,5 +1,5 @@
 import { useRecoilState } from 'recoil';
-import { transactionState, transactionSearchState } from '../atoms/transaction';
+import { Transaction, TransactionSearchPage, transactionState, transactionSearchState } from '../atoms/transaction';
 import http from '../api/http';
 
 export const useTransactions = () => {
@@ -10,12 +10,12 @@ export const useTransactions = () => {
     const searchTransactions = async () => {
         try {
             const updatedParams = { ...searchParams, userId: user.id };
-            const response = await http.post('/transaction/transactions/search', updatedParams, {
+            const response = await http.post<TransactionSearchPage>('/transaction/transactions/search', updatedParams, {
                 headers: {
                     Authorization: `Bearer ${sessionStorage.getItem('accessToken')}`
                 }
             });
-            setTransactions(response.data);
+            setTransactions(response.data.transactions);
         } catch (error) {
             console.error('거래내역 조회 실패:', error);
         }
@@ -34,26 +34,36 @@ export const useTransactions = () => {
         }
     };
 
+    // 검색 결과는 페이지 단위이므로 월 합계를 위해 hasNext 가 false 일 때까지 모든 페이지를 모음
     const fetchMonthlyTransactions = async () => {
         try {
-            const response = await http.post(`/transaction/transactions/search`,
-                {
-                    userId: user.id,
-                    accountId: 0,
-                    startDate: new Date(new Date().getFullYear(), new Date().getMonth(), 1).toISOString().split('T')[0],
-                    endDate: new Date(new Date().getFullYear(), new Date().getMonth() + 1, 0).toISOString().split('T')[0],
-                    transactionType: 2,
-                    page: 0,
-                },
-                {
-                    headers: {
-                        Authorization: `Bearer ${sessionStorage.getItem('accessToken')}`
+            const monthly: Transaction[] = [];
+            let page = 0;
+            let hasNext = true;
+            while (hasNext) {
+                const response = await http.post<TransactionSearchPage>(`/transaction/transactions/search`,
+                    {
+                        userId: user.id,
+                        accountId: 0,
+                        startDate: new Date(new Date().getFullYear(), new Date().getMonth(), 1).toISOString().split('T')[0],
+                        endDate: new Date(new Date().getFullYear(), new Date().getMonth() + 1, 0).toISOString().split('T')[0],
+                        transactionType: 2,
+                        page,
+                    },
+                    {
+                        headers: {
+                            Authorization: `Bearer ${sessionStorage.getItem('accessToken')}`
+                        }
                     }
-                }
-            );
-            return response.data;
+                );
+                monthly.push(...response.data.transactions);
+                hasNext = response.data.hasNext;
+                page++;
+            }
+            return monthly;
         } catch (error) {
             console.error('월별 거래내역 조회 실패:', error);
+            return [];
         }
     };
 